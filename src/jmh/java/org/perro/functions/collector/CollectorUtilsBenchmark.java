@@ -0,0 +1,54 @@
+package org.perro.functions.collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.collector.CollectorUtils.toPartitionedList;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CollectorUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"10", "1000"})
+    private int partitionSize;
+
+    private List<Integer> objects;
+
+    @Setup
+    public void setUp() {
+        objects = IntStream.range(0, size)
+                .boxed()
+                .collect(toList());
+    }
+
+    @Benchmark
+    public List<List<Integer>> toPartitionedListBenchmark() {
+        return objects.stream().collect(toPartitionedList(partitionSize));
+    }
+
+    @Benchmark
+    public List<List<Integer>> toPartitionedListParallelBenchmark() {
+        return objects.parallelStream().collect(toPartitionedList(partitionSize));
+    }
+}
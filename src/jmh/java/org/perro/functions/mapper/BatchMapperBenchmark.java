@@ -0,0 +1,80 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.mapper.MapperUtils.batchMapper;
+import static org.perro.functions.mapper.TransformUtils.transform;
+
+// The loader stands in for a remote source, with a fixed cost for each call, as for a round trip, on top of the cost
+// of looking up each key.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class BatchMapperBenchmark {
+
+    private static final long CALL_TOKENS = 2000L;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private List<Integer> keys;
+    private Map<Integer, String> source;
+    private Function<Integer, String> singleLoader;
+    private BatchMapper<Integer, String> batchLoader;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        keys = random.ints(size, 0, size / 2).boxed().collect(toList());
+        source = new HashMap<>();
+        keys.forEach(key -> source.put(key, String.valueOf(key)));
+        singleLoader = key -> {
+            Blackhole.consumeCPU(CALL_TOKENS);
+            return source.get(key);
+        };
+        batchLoader = batchMapper(this::loadAll, batchSize);
+    }
+
+    private Map<Integer, String> loadAll(Collection<Integer> batch) {
+        Blackhole.consumeCPU(CALL_TOKENS);
+        Map<Integer, String> values = new HashMap<>();
+        batch.forEach(key -> values.put(key, source.get(key)));
+        return values;
+    }
+
+    @Benchmark
+    public List<String> transformSingleLookupBenchmark() {
+        return transform(keys, singleLoader);
+    }
+
+    @Benchmark
+    public List<String> transformBatchMapperBenchmark() {
+        return transform(keys, batchLoader);
+    }
+}
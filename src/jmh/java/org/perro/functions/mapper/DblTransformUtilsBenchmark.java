@@ -0,0 +1,79 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.perro.functions.mapper.DblMapperUtils.dblKeyValueMapper;
+import static org.perro.functions.mapper.DblTransformUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DblTransformUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private double[] doubles;
+    private DoubleUnaryOperator halve;
+    private DoubleFunction<String> toText;
+    private DoubleFunction<double[]> pairUp;
+
+    @Setup
+    public void setUp() {
+        doubles = IntStream.range(0, size).asDoubleStream().toArray();
+        halve = d -> d / 2.0D;
+        toText = String::valueOf;
+        pairUp = d -> new double[]{d, -d};
+    }
+
+    @Benchmark
+    public double[] dblUnaryTransformBenchmark() {
+        return dblUnaryTransform(doubles, halve);
+    }
+
+    @Benchmark
+    public double[] dblUnaryTransformDistinctBenchmark() {
+        return dblUnaryTransformDistinct(doubles, halve);
+    }
+
+    @Benchmark
+    public List<String> dblTransformBenchmark() {
+        return dblTransform(doubles, toText);
+    }
+
+    @Benchmark
+    public Set<String> dblTransformToSetBenchmark() {
+        return dblTransformToSet(doubles, toText);
+    }
+
+    @Benchmark
+    public Map<Double, String> dblTransformToMapBenchmark() {
+        return dblTransformToMap(doubles, dblKeyValueMapper(Double::valueOf, toText));
+    }
+
+    @Benchmark
+    public double[] dblFlatMapBenchmark() {
+        return dblFlatMap(doubles, pairUp);
+    }
+}
@@ -0,0 +1,79 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toMap;
+import static org.perro.functions.collector.CollectorUtils.toIntKeyedMap;
+import static org.perro.functions.mapper.IntMapperUtils.intGetValue;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntObjectMapBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] ids;
+    private int[] lookups;
+    private Map<Integer, String> hashMap;
+    private IntObjectMap<String> intObjectMap;
+    private IntFunction<String> intObjectMapGetValue;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        ids = random.ints(size, 0, Integer.MAX_VALUE).distinct().toArray();
+        lookups = random.ints(size, 0, ids.length).map(i -> ids[i]).toArray();
+        hashMap = IntStream.of(ids).boxed().collect(toMap(i -> i, String::valueOf));
+        intObjectMap = IntStream.of(ids).boxed().collect(toIntKeyedMap(i -> i, String::valueOf));
+        intObjectMapGetValue = intGetValue(intObjectMap);
+    }
+
+    @Benchmark
+    public Map<Integer, String> hashMapBuildBenchmark() {
+        return IntStream.of(ids).boxed().collect(toMap(i -> i, String::valueOf));
+    }
+
+    @Benchmark
+    public IntObjectMap<String> intObjectMapBuildBenchmark() {
+        return IntStream.of(ids).boxed().collect(toIntKeyedMap(i -> i, String::valueOf));
+    }
+
+    @Benchmark
+    public int hashMapGetBenchmark() {
+        int found = 0;
+        for (int id : lookups) {
+            found += hashMap.get(id) == null ? 0 : 1;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int intObjectMapGetBenchmark() {
+        int found = 0;
+        for (int id : lookups) {
+            found += intObjectMapGetValue.apply(id) == null ? 0 : 1;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,84 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.perro.functions.mapper.IntMapperUtils.intKeyValueMapper;
+import static org.perro.functions.mapper.IntTransformUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntTransformUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private IntUnaryOperator halve;
+    private IntFunction<String> toText;
+    private IntFunction<int[]> pairUp;
+
+    @Setup
+    public void setUp() {
+        ints = IntStream.range(0, size).toArray();
+        halve = i -> i >> 1;
+        toText = String::valueOf;
+        pairUp = i -> new int[]{i, -i};
+    }
+
+    @Benchmark
+    public int[] intUnaryTransformBenchmark() {
+        return intUnaryTransform(ints, halve);
+    }
+
+    @Benchmark
+    public int[] intUnaryTransformDistinctBenchmark() {
+        return intUnaryTransformDistinct(ints, halve);
+    }
+
+    @Benchmark
+    public List<String> intTransformBenchmark() {
+        return intTransform(ints, toText);
+    }
+
+    @Benchmark
+    public Set<String> intTransformToSetBenchmark() {
+        return intTransformToSet(ints, toText);
+    }
+
+    @Benchmark
+    public Map<Integer, String> intTransformToMapBenchmark() {
+        return intTransformToMap(ints, intKeyValueMapper(Integer::valueOf, toText));
+    }
+
+    @Benchmark
+    public IntObjectMap<String> intTransformToIntKeyedMapBenchmark() {
+        return intTransformToIntKeyedMap(ints, toText);
+    }
+
+    @Benchmark
+    public int[] intFlatMapBenchmark() {
+        return intFlatMap(ints, pairUp);
+    }
+}
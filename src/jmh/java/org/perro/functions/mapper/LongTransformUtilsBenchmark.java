@@ -0,0 +1,84 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static org.perro.functions.mapper.LongMapperUtils.longKeyValueMapper;
+import static org.perro.functions.mapper.LongTransformUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LongTransformUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private long[] longs;
+    private LongUnaryOperator halve;
+    private LongFunction<String> toText;
+    private LongFunction<long[]> pairUp;
+
+    @Setup
+    public void setUp() {
+        longs = LongStream.range(0, size).toArray();
+        halve = l -> l >> 1;
+        toText = String::valueOf;
+        pairUp = l -> new long[]{l, -l};
+    }
+
+    @Benchmark
+    public long[] longUnaryTransformBenchmark() {
+        return longUnaryTransform(longs, halve);
+    }
+
+    @Benchmark
+    public long[] longUnaryTransformDistinctBenchmark() {
+        return longUnaryTransformDistinct(longs, halve);
+    }
+
+    @Benchmark
+    public List<String> longTransformBenchmark() {
+        return longTransform(longs, toText);
+    }
+
+    @Benchmark
+    public Set<String> longTransformToSetBenchmark() {
+        return longTransformToSet(longs, toText);
+    }
+
+    @Benchmark
+    public Map<Long, String> longTransformToMapBenchmark() {
+        return longTransformToMap(longs, longKeyValueMapper(Long::valueOf, toText));
+    }
+
+    @Benchmark
+    public LongObjectMap<String> longTransformToLongKeyedMapBenchmark() {
+        return longTransformToLongKeyedMap(longs, toText);
+    }
+
+    @Benchmark
+    public long[] longFlatMapBenchmark() {
+        return longFlatMap(longs, pairUp);
+    }
+}
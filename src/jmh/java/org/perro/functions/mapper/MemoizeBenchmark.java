@@ -0,0 +1,105 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.perro.functions.mapper.IntMapperUtils.intMemoize;
+import static org.perro.functions.mapper.MapperUtils.memoize;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class MemoizeBenchmark {
+
+    private static final int CALLS = 10000;
+
+    // The number of distinct keys, drawn with a skewed distribution so that a few keys make up most of the calls.
+    @Param({"100", "10000"})
+    private int keys;
+
+    private int[] ints;
+    private Integer[] boxed;
+    private Function<Integer, String> memoized;
+    private Function<Integer, String> bounded;
+    private IntFunction<String> intMemoized;
+    private Map<Integer, String> map;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        ints = new int[CALLS];
+        boxed = new Integer[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            double skewed = Math.pow(random.nextDouble(), 4.0D);
+            ints[i] = (int) (skewed * keys);
+            boxed[i] = ints[i];
+        }
+        memoized = memoize(MemoizeBenchmark::expensive);
+        bounded = memoize(MemoizeBenchmark::expensive, Math.max(16, keys / 10));
+        intMemoized = intMemoize(MemoizeBenchmark::expensive);
+        map = new ConcurrentHashMap<>();
+    }
+
+    private static String expensive(int key) {
+        long hash = key;
+        for (int i = 0; i < 200; i++) {
+            hash = hash * 31L + (hash >>> 7);
+        }
+        return Long.toHexString(hash);
+    }
+
+    @Benchmark
+    public void unmemoized(Blackhole blackhole) {
+        for (int i : ints) {
+            blackhole.consume(expensive(i));
+        }
+    }
+
+    @Benchmark
+    public void concurrentHashMap(Blackhole blackhole) {
+        for (Integer i : boxed) {
+            blackhole.consume(map.computeIfAbsent(i, MemoizeBenchmark::expensive));
+        }
+    }
+
+    @Benchmark
+    public void memoizeUnbounded(Blackhole blackhole) {
+        for (Integer i : boxed) {
+            blackhole.consume(memoized.apply(i));
+        }
+    }
+
+    @Benchmark
+    public void memoizeBounded(Blackhole blackhole) {
+        for (Integer i : boxed) {
+            blackhole.consume(bounded.apply(i));
+        }
+    }
+
+    @Benchmark
+    public void intMemoizeUnbounded(Blackhole blackhole) {
+        for (int i : ints) {
+            blackhole.consume(intMemoized.apply(i));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.perro.functions.internal.Pair;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.collector.CollectorUtils.toMapFromEntry;
+import static org.perro.functions.collector.CollectorUtils.toMapFromIntIntPair;
+import static org.perro.functions.mapper.IntMapperUtils.intIntPairOf;
+import static org.perro.functions.mapper.MapperUtils.pairOf;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PairBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private int[] ints;
+    private List<Integer> objects;
+    private Function<Integer, Pair<Integer, Integer>> boxedPairOf;
+    private IntFunction<IntIntPair> primitivePairOf;
+
+    @Setup
+    public void setUp() {
+        ints = IntStream.range(0, size).toArray();
+        objects = IntStream.range(0, size)
+                .boxed()
+                .collect(toList());
+        boxedPairOf = pairOf(i -> i * 2);
+        primitivePairOf = intIntPairOf(i -> i * 2);
+    }
+
+    @Benchmark
+    public long boxedPairSumBenchmark() {
+        return objects.stream()
+                .map(boxedPairOf)
+                .mapToLong(pair -> pair.getLeft() + pair.getRight())
+                .sum();
+    }
+
+    @Benchmark
+    public long primitivePairSumBenchmark() {
+        return IntStream.of(ints)
+                .mapToObj(primitivePairOf)
+                .mapToLong(pair -> pair.getLeft() + pair.getRight())
+                .sum();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> boxedPairToMapBenchmark() {
+        return objects.stream()
+                .map(boxedPairOf)
+                .collect(toMapFromEntry());
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> primitivePairToMapBenchmark() {
+        return IntStream.of(ints)
+                .mapToObj(primitivePairOf)
+                .collect(toMapFromIntIntPair());
+    }
+}
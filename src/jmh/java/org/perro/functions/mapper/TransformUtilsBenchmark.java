@@ -0,0 +1,81 @@
+package org.perro.functions.mapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.mapper.MapperUtils.keyValueMapper;
+import static org.perro.functions.mapper.TransformUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TransformUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> objects;
+    private Function<Integer, Integer> halve;
+    private Function<Integer, Collection<Integer>> pairUp;
+
+    @Setup
+    public void setUp() {
+        objects = IntStream.range(0, size)
+                .boxed()
+                .collect(toList());
+        halve = i -> i >> 1;
+        pairUp = i -> Arrays.asList(i, -i);
+    }
+
+    @Benchmark
+    public List<Integer> transformBenchmark() {
+        return transform(objects, halve);
+    }
+
+    @Benchmark
+    public Set<Integer> transformToSetBenchmark() {
+        return transformToSet(objects, halve);
+    }
+
+    @Benchmark
+    public List<Integer> transformDistinctBenchmark() {
+        return transformDistinct(objects, halve);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> transformToMapBenchmark() {
+        return transformToMap(objects, keyValueMapper(Function.identity(), halve));
+    }
+
+    @Benchmark
+    public List<Integer> flatMapBenchmark() {
+        return flatMap(objects, pairUp);
+    }
+
+    @Benchmark
+    public Set<Integer> flatMapToSetBenchmark() {
+        return flatMapToSet(objects, pairUp);
+    }
+}
@@ -0,0 +1,102 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.perro.functions.mapper.IntMapperUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CharSequenceEqualityBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    private String text;
+    private String textUpperCase;
+    private StringBuilder textBuilder;
+    private String suffix;
+    private Predicate<CharSequence> equalsIgnoreCase;
+    private Predicate<CharSequence> endsWithIgnoreCase;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append("abcde ");
+        }
+        builder.setLength(length);
+        text = builder.toString();
+        textUpperCase = text.toUpperCase();
+        textBuilder = new StringBuilder(text);
+        suffix = text.substring(length / 2);
+        equalsIgnoreCase = PredicateUtils.equalsIgnoreCase(Function.identity(), textUpperCase);
+        endsWithIgnoreCase = PredicateUtils.endsWithIgnoreCase(Function.identity(), suffix.toUpperCase());
+    }
+
+    @Benchmark
+    public boolean equalsIgnoreCaseStringBenchmark() {
+        return CharSequenceUtils.equalsIgnoreCase(text, textUpperCase);
+    }
+
+    @Benchmark
+    public boolean equalsIgnoreCaseStringBuilderBenchmark() {
+        return CharSequenceUtils.equalsIgnoreCase(textBuilder, textUpperCase);
+    }
+
+    @Benchmark
+    public boolean equalsIgnoreCaseCodePointStreamBenchmark() {
+        return codePointStreamEqualsIgnoreCase(textBuilder, textUpperCase);
+    }
+
+    @Benchmark
+    public boolean equalsIgnoreCasePredicateBenchmark() {
+        return equalsIgnoreCase.test(textBuilder);
+    }
+
+    @Benchmark
+    public boolean endsWithIgnoreCasePredicateBenchmark() {
+        return endsWithIgnoreCase.test(textBuilder);
+    }
+
+    @Benchmark
+    public boolean endsWithStringBuilderBenchmark() {
+        return CharSequenceUtils.endsWith(textBuilder, suffix);
+    }
+
+    @Benchmark
+    public boolean endsWithSubSequenceBenchmark() {
+        int len = textBuilder.length();
+        return codePointStreamEquals(textBuilder.subSequence(len - suffix.length(), len), suffix);
+    }
+
+    // The code point stream comparison CharSequenceUtils used before switching to region matching
+    private static boolean codePointStreamEquals(CharSequence left, CharSequence right) {
+        return left.length() == right.length() && left.codePoints()
+                .mapToObj(IntMapperUtils.intPairWithIndex())
+                .allMatch(pair -> pair.getIntValue() == right.charAt(pair.getIndex()));
+    }
+
+    private static boolean codePointStreamEqualsIgnoreCase(CharSequence left, CharSequence right) {
+        return left.length() == right.length() && left.codePoints()
+                .mapToObj(IntMapperUtils.intPairWithIndex())
+                .allMatch(pair -> Character.toUpperCase(pair.getIntValue()) ==
+                        Character.toUpperCase(right.charAt(pair.getIndex())));
+    }
+}
@@ -0,0 +1,129 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.PredicateUtils.allCharsMatch;
+import static org.perro.functions.predicate.PredicateUtils.containsAnySeq;
+import static org.perro.functions.predicate.PredicateUtils.containsSeq;
+import static org.perro.functions.predicate.PredicateUtils.containsSeqIgnoreCase;
+import static org.perro.functions.predicate.PredicateUtils.isAlphanumeric;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CharSequencePredicateBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    private String text;
+    private StringBuilder textBuilder;
+    private String alphanumeric;
+    private String identifier;
+    private Predicate<CharSequence> containsSeq;
+    private Predicate<CharSequence> containsSeqIgnoreCase;
+    private Predicate<CharSequence> containsAnySeq;
+    private Predicate<CharSequence> containsSeqOrChain;
+    private Predicate<CharSequence> isAlphanumeric;
+    private Predicate<CharSequence> allCharsMatch;
+    private Predicate<CharSequence> allCharsMatchCharClass;
+    private Predicate<CharSequence> allCharsMatchOrChain;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length - 6) {
+            builder.append("abcde ");
+        }
+        builder.setLength(Math.max(0, length - 6));
+        builder.append("needle");
+        text = builder.toString();
+        textBuilder = new StringBuilder(text);
+        alphanumeric = text.replace(' ', '0');
+        identifier = text.replace(' ', '_');
+        containsSeq = containsSeq(Function.identity(), "needle");
+        containsSeqIgnoreCase = containsSeqIgnoreCase(Function.identity(), "NEEDLE");
+        List<String> keywords = IntStream.range(0, 100)
+                .mapToObj(i -> "keyword" + i)
+                .collect(toList());
+        keywords.set(keywords.size() - 1, "needle");
+        containsAnySeq = containsAnySeq(Function.identity(), keywords);
+        containsSeqOrChain = keywords.stream()
+                .map(keyword -> containsSeq(Function.<CharSequence>identity(), keyword))
+                .reduce(Predicate::or)
+                .orElse(s -> false);
+        isAlphanumeric = isAlphanumeric(Function.identity());
+        allCharsMatch = allCharsMatch(Function.identity(), Character::isLetterOrDigit);
+        allCharsMatchCharClass = allCharsMatch(Function.identity(),
+                CharClass.LETTER_OR_DIGIT.union(CharClass.ofChars("_-.")));
+        IntPredicate identifierChar = Character::isLetterOrDigit;
+        allCharsMatchOrChain = allCharsMatch(Function.identity(),
+                identifierChar.or(c -> c == '_').or(c -> c == '-').or(c -> c == '.'));
+    }
+
+    @Benchmark
+    public boolean containsSeqStringBenchmark() {
+        return containsSeq.test(text);
+    }
+
+    @Benchmark
+    public boolean containsSeqStringBuilderBenchmark() {
+        return containsSeq.test(textBuilder);
+    }
+
+    @Benchmark
+    public boolean containsSeqIgnoreCaseBenchmark() {
+        return containsSeqIgnoreCase.test(text);
+    }
+
+    @Benchmark
+    public boolean containsAnySeqBenchmark() {
+        return containsAnySeq.test(text);
+    }
+
+    @Benchmark
+    public boolean containsSeqOrChainBenchmark() {
+        return containsSeqOrChain.test(text);
+    }
+
+    @Benchmark
+    public boolean isAlphanumericBenchmark() {
+        return isAlphanumeric.test(alphanumeric);
+    }
+
+    @Benchmark
+    public boolean allCharsMatchBenchmark() {
+        return allCharsMatch.test(alphanumeric);
+    }
+
+    @Benchmark
+    public boolean allCharsMatchCharClassBenchmark() {
+        return allCharsMatchCharClass.test(identifier);
+    }
+
+    @Benchmark
+    public boolean allCharsMatchOrChainBenchmark() {
+        return allCharsMatchOrChain.test(identifier);
+    }
+}
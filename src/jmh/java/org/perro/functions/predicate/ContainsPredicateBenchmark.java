@@ -0,0 +1,115 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.perro.functions.stream.IntStreamUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.IntPredicateUtils.isIntEqual;
+import static org.perro.functions.predicate.IntPredicateUtils.objToIntContains;
+import static org.perro.functions.predicate.PredicateUtils.contains;
+import static org.perro.functions.predicate.PredicateUtils.containsIndexed;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ContainsPredicateBenchmark {
+
+    @Param({"16", "1024", "16384"})
+    private int size;
+
+    @Param({"1", "1000"})
+    private int spacing;
+
+    private Integer[] probes;
+    private Predicate<Integer> contains;
+    private Predicate<Integer> containsIndexed;
+    private Predicate<String> containsString;
+    private Predicate<String> containsStringIndexed;
+    private String[] stringProbes;
+    private Predicate<Integer> objToIntContains;
+    private Predicate<Integer> intAnyMatch;
+
+    @Setup
+    public void setUp() {
+        List<Integer> ids = IntStream.range(0, size)
+                .mapToObj(i -> i * spacing)
+                .collect(toList());
+        List<String> stringIds = ids.stream()
+                .map(String::valueOf)
+                .collect(toList());
+        probes = IntStream.range(0, 64)
+                .mapToObj(i -> (i * size / 32) * spacing)
+                .toArray(Integer[]::new);
+        stringProbes = IntStream.range(0, 64)
+                .mapToObj(i -> String.valueOf(probes[i]))
+                .toArray(String[]::new);
+        contains = contains(ids, Function.identity());
+        containsIndexed = containsIndexed(ids, Function.identity());
+        containsString = contains(stringIds, Function.identity());
+        containsStringIndexed = containsIndexed(stringIds, Function.identity());
+        int[] ints = ids.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        objToIntContains = objToIntContains(ints, Integer::intValue);
+        intAnyMatch = i -> IntStreamUtils.intAnyMatch(ints, isIntEqual(i));
+    }
+
+    @Benchmark
+    public int containsListBenchmark() {
+        return count(contains, probes);
+    }
+
+    @Benchmark
+    public int containsIndexedBenchmark() {
+        return count(containsIndexed, probes);
+    }
+
+    @Benchmark
+    public int containsStringListBenchmark() {
+        return count(containsString, stringProbes);
+    }
+
+    @Benchmark
+    public int containsStringIndexedBenchmark() {
+        return count(containsStringIndexed, stringProbes);
+    }
+
+    @Benchmark
+    public int objToIntContainsBenchmark() {
+        return count(objToIntContains, probes);
+    }
+
+    @Benchmark
+    public int intAnyMatchBenchmark() {
+        return count(intAnyMatch, probes);
+    }
+
+    private static <T> int count(Predicate<T> predicate, T[] values) {
+        int count = 0;
+        for (T value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.DblFilterUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DblFilterUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private double[] doubles;
+    private double[] dst;
+    private int[] indices;
+    private DoublePredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        doubles = IntStream.range(0, size).asDoubleStream().toArray();
+        matchesHalf = d -> d % 2.0D == 0.0D;
+        dst = new double[size];
+        indices = new int[size];
+    }
+
+    @Benchmark
+    public double[] dblFilterBenchmark() {
+        return dblFilter(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public Set<Double> dblFilterToSetBenchmark() {
+        return dblFilterToSet(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public double[] dblFilterDistinctBenchmark() {
+        return dblFilterDistinct(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public List<Double> dblFilterAndThenBenchmark() {
+        return dblFilter(doubles, dblFilterAndThen(matchesHalf, toList()));
+    }
+
+    @Benchmark
+    public int dblFilterIntoBenchmark() {
+        return dblFilterInto(doubles, matchesHalf, dst);
+    }
+
+    @Benchmark
+    public double[] dblFilterTwoPassBenchmark() {
+        return dblFilterTwoPass(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public int[] dblFilterIndicesBenchmark() {
+        return dblFilterIndices(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public int dblFilterIndicesIntoBenchmark() {
+        return dblFilterIndicesInto(doubles, matchesHalf, indices);
+    }
+}
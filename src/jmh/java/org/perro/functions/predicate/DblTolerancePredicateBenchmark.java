@@ -0,0 +1,80 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+
+import static org.perro.functions.predicate.DblPredicateUtils.isDblEqual;
+import static org.perro.functions.predicate.DblPredicateUtils.isDblEqualWithinUlps;
+import static org.perro.functions.predicate.DblPredicateUtils.isDblRelativelyEqual;
+import static org.perro.functions.stream.DblStreamUtils.dblCount;
+import static org.perro.functions.stream.DblStreamUtils.dblCountWithinDelta;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DblTolerancePredicateBenchmark {
+
+    private static final double VALUE = 20.0D;
+    private static final double DELTA = 0.5D;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private double[] readings;
+    private DoublePredicate allocatingWithinDelta;
+    private DoublePredicate withinDelta;
+    private DoublePredicate withinUlps;
+    private DoublePredicate relativelyEqual;
+
+    // Readings scattered about the compared value, so that about half of them are within the delta, and the outcome of
+    // each comparison is unpredictable.
+    @Setup
+    public void setUp() {
+        readings = new Random(0L).doubles(size, VALUE - 1.0D, VALUE + 1.0D).toArray();
+        allocatingWithinDelta = d -> DoubleWithDelta.of(VALUE, DELTA).isEqualWithinDelta(d);
+        withinDelta = isDblEqual(VALUE, DELTA);
+        withinUlps = isDblEqualWithinUlps(VALUE, 1 << 30);
+        relativelyEqual = isDblRelativelyEqual(VALUE, 0.025D);
+    }
+
+    @Benchmark
+    public long allocatingWithinDeltaBenchmark() {
+        return dblCount(readings, allocatingWithinDelta);
+    }
+
+    @Benchmark
+    public long isDblEqualWithinDeltaBenchmark() {
+        return dblCount(readings, withinDelta);
+    }
+
+    @Benchmark
+    public long dblCountWithinDeltaBenchmark() {
+        return dblCountWithinDelta(readings, VALUE, DELTA);
+    }
+
+    @Benchmark
+    public long isDblEqualWithinUlpsBenchmark() {
+        return dblCount(readings, withinUlps);
+    }
+
+    @Benchmark
+    public long isDblRelativelyEqualBenchmark() {
+        return dblCount(readings, relativelyEqual);
+    }
+}
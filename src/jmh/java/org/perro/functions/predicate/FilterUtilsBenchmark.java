@@ -0,0 +1,67 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.FilterUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class FilterUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> objects;
+    private Predicate<Integer> matchesHalf;
+
+    @Setup
+    public void setUp() {
+        objects = IntStream.range(0, size)
+                .boxed()
+                .collect(toList());
+        matchesHalf = i -> (i & 1) == 0;
+    }
+
+    @Benchmark
+    public List<Integer> filterBenchmark() {
+        return filter(objects, matchesHalf);
+    }
+
+    @Benchmark
+    public Set<Integer> filterToSetBenchmark() {
+        return filterToSet(objects, matchesHalf);
+    }
+
+    @Benchmark
+    public List<Integer> filterDistinctBenchmark() {
+        return filterDistinct(objects, matchesHalf);
+    }
+
+    @Benchmark
+    public LinkedList<Integer> filterAndThenBenchmark() {
+        return filter(objects, filterAndThen(matchesHalf, toCollection(LinkedList::new)));
+    }
+}
@@ -0,0 +1,87 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.IntFilterUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntFilterUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private int[] dst;
+    private int[] indices;
+    private IntPredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        ints = IntStream.range(0, size).toArray();
+        matchesHalf = i -> (i & 1) == 0;
+        dst = new int[size];
+        indices = new int[size];
+    }
+
+    @Benchmark
+    public int[] intFilterBenchmark() {
+        return intFilter(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public Set<Integer> intFilterToSetBenchmark() {
+        return intFilterToSet(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public int[] intFilterDistinctBenchmark() {
+        return intFilterDistinct(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public List<Integer> intFilterAndThenBenchmark() {
+        return intFilter(ints, intFilterAndThen(matchesHalf, toList()));
+    }
+
+    @Benchmark
+    public int intFilterIntoBenchmark() {
+        return intFilterInto(ints, matchesHalf, dst);
+    }
+
+    @Benchmark
+    public int[] intFilterTwoPassBenchmark() {
+        return intFilterTwoPass(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public int[] intFilterIndicesBenchmark() {
+        return intFilterIndices(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public int intFilterIndicesIntoBenchmark() {
+        return intFilterIndicesInto(ints, matchesHalf, indices);
+    }
+}
@@ -0,0 +1,87 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.predicate.LongFilterUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LongFilterUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private long[] longs;
+    private long[] dst;
+    private int[] indices;
+    private LongPredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        longs = LongStream.range(0, size).toArray();
+        matchesHalf = i -> (i & 1L) == 0L;
+        dst = new long[size];
+        indices = new int[size];
+    }
+
+    @Benchmark
+    public long[] longFilterBenchmark() {
+        return longFilter(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public Set<Long> longFilterToSetBenchmark() {
+        return longFilterToSet(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public long[] longFilterDistinctBenchmark() {
+        return longFilterDistinct(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public List<Long> longFilterAndThenBenchmark() {
+        return longFilter(longs, longFilterAndThen(matchesHalf, toList()));
+    }
+
+    @Benchmark
+    public int longFilterIntoBenchmark() {
+        return longFilterInto(longs, matchesHalf, dst);
+    }
+
+    @Benchmark
+    public long[] longFilterTwoPassBenchmark() {
+        return longFilterTwoPass(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public int[] longFilterIndicesBenchmark() {
+        return longFilterIndices(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public int longFilterIndicesIntoBenchmark() {
+        return longFilterIndicesInto(longs, matchesHalf, indices);
+    }
+}
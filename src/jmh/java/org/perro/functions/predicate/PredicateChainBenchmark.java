@@ -0,0 +1,70 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PredicateChainBenchmark {
+
+    private String[] values;
+    private Predicate<String> writtenOrder;
+    private Predicate<String> bestOrder;
+    private Predicate<String> chain;
+
+    // The clauses are written with the expensive one, which nearly always passes, first, and the cheap one, which
+    // usually fails, last.
+    @Setup
+    public void setUp() {
+        values = IntStream.range(0, 1024)
+                .mapToObj(i -> "order-" + i + (i % 10 == 0 ? "-urgent" : "") + "-notes")
+                .toArray(String[]::new);
+        Predicate<String> expensive = Pattern.compile("^order-\\d+(-\\w+)*$").asPredicate();
+        Predicate<String> cheap = s -> s.length() > 20;
+        writtenOrder = expensive.and(cheap);
+        bestOrder = cheap.and(expensive);
+        chain = PredicateChain.allOf(expensive, cheap);
+    }
+
+    @Benchmark
+    public int writtenOrderBenchmark() {
+        return count(writtenOrder);
+    }
+
+    @Benchmark
+    public int bestOrderBenchmark() {
+        return count(bestOrder);
+    }
+
+    @Benchmark
+    public int predicateChainBenchmark() {
+        return count(chain);
+    }
+
+    private int count(Predicate<String> predicate) {
+        int count = 0;
+        for (String value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,188 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.perro.functions.predicate.PredicateExpression.allOf;
+import static org.perro.functions.predicate.PredicateExpression.anyOf;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PredicateExpressionBenchmark {
+
+    private Order[] orders;
+    private Predicate<Order> composed;
+    private Predicate<Order> interpreted;
+    private Predicate<Order> compiled;
+    private Predicate<Order> handWritten;
+
+    // Ten clauses, which most orders pass, so that nearly all of them are evaluated for each order.
+    @Setup
+    public void setUp() {
+        orders = IntStream.range(0, 1024)
+                .mapToObj(Order::of)
+                .toArray(Order[]::new);
+        composed = PredicateUtils.isEqual(Order::getStatus, "OPEN")
+                .and(PredicateUtils.gte(Order::getPriority, 2))
+                .and(PredicateUtils.lt(Order::getAmount, 10_000.0D))
+                .and(PredicateUtils.notNull(Order::getCustomer))
+                .and(PredicateUtils.mapAndFilter(Order::getCustomer,
+                        PredicateUtils.isNotEqual(Customer::getRegion, "APAC")))
+                .and(PredicateUtils.isNotEqual(Order::getChannel, "FAX"))
+                .and(PredicateUtils.gt(Order::getQuantity, 0))
+                .and(PredicateUtils.isNull(Order::getCancelledAt))
+                .and(PredicateUtils.isEqual(Order::getCurrency, "EUR")
+                        .or(PredicateUtils.isEqual(Order::getCurrency, "USD")))
+                .and(PredicateUtils.lte(Order::getDiscount, 0.5D));
+        interpreted = allOf(
+                PredicateExpression.isEqual(Order::getStatus, "OPEN"),
+                PredicateExpression.gte(Order::getPriority, 2),
+                PredicateExpression.lt(Order::getAmount, 10_000.0D),
+                PredicateExpression.notNull(Order::getCustomer),
+                PredicateExpression.mapAndFilter(Order::getCustomer,
+                        PredicateExpression.isNotEqual(Customer::getRegion, "APAC")),
+                PredicateExpression.isNotEqual(Order::getChannel, "FAX"),
+                PredicateExpression.gt(Order::getQuantity, 0),
+                PredicateExpression.isNull(Order::getCancelledAt),
+                anyOf(PredicateExpression.isEqual(Order::getCurrency, "EUR"),
+                        PredicateExpression.isEqual(Order::getCurrency, "USD")),
+                PredicateExpression.lte(Order::getDiscount, 0.5D));
+        compiled = ((PredicateExpression<Order>) interpreted).compile();
+        handWritten = order -> "OPEN".equals(order.getStatus())
+                && order.getPriority() >= 2
+                && order.getAmount() < 10_000.0D
+                && order.getCustomer() != null
+                && !"APAC".equals(order.getCustomer().getRegion())
+                && !"FAX".equals(order.getChannel())
+                && order.getQuantity() > 0
+                && order.getCancelledAt() == null
+                && ("EUR".equals(order.getCurrency()) || "USD".equals(order.getCurrency()))
+                && order.getDiscount() <= 0.5D;
+    }
+
+    @Benchmark
+    public int composedBenchmark() {
+        return count(composed);
+    }
+
+    @Benchmark
+    public int interpretedBenchmark() {
+        return count(interpreted);
+    }
+
+    @Benchmark
+    public int compiledBenchmark() {
+        return count(compiled);
+    }
+
+    @Benchmark
+    public int handWrittenBenchmark() {
+        return count(handWritten);
+    }
+
+    private int count(Predicate<Order> predicate) {
+        int count = 0;
+        for (Order order : orders) {
+            if (predicate.test(order)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static final class Customer {
+
+        private final String region;
+
+        private Customer(String region) {
+            this.region = region;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+    }
+
+    public static final class Order {
+
+        private static final String[] REGIONS = {"EMEA", "AMER", "LATAM", "APAC"};
+
+        private final String status;
+        private final Integer priority;
+        private final Double amount;
+        private final Customer customer;
+        private final String channel;
+        private final Integer quantity;
+        private final Long cancelledAt;
+        private final String currency;
+        private final Double discount;
+
+        private Order(int i) {
+            this.status = i % 17 == 0 ? "CLOSED" : "OPEN";
+            this.priority = 2 + i % 3;
+            this.amount = (double) (i * 7 % 12_000);
+            this.customer = new Customer(REGIONS[i % 13 == 0 ? 3 : i % 3]);
+            this.channel = i % 29 == 0 ? "FAX" : "WEB";
+            this.quantity = 1 + i % 5;
+            this.cancelledAt = i % 31 == 0 ? (long) i : null;
+            this.currency = i % 2 == 0 ? "EUR" : "USD";
+            this.discount = (i % 10) / 10.0D;
+        }
+
+        private static Order of(int i) {
+            return new Order(i);
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public Integer getPriority() {
+            return priority;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public Long getCancelledAt() {
+            return cancelledAt;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public Double getDiscount() {
+            return discount;
+        }
+    }
+}
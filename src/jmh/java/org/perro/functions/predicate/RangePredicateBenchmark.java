@@ -0,0 +1,72 @@
+package org.perro.functions.predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+import static org.perro.functions.predicate.IntPredicateUtils.intBetween;
+import static org.perro.functions.predicate.IntPredicateUtils.intInRanges;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RangePredicateBenchmark {
+
+    @Param({"4", "32", "256"})
+    private int rangeCount;
+
+    private int[] values;
+    private IntPredicate orChain;
+    private IntPredicate inRanges;
+
+    // Disjoint ranges of ten values, one every hundred values, probed with random values across all of them.
+    @Setup
+    public void setUp() {
+        int[][] ranges = new int[rangeCount][];
+        for (int i = 0; i < rangeCount; i++) {
+            ranges[i] = new int[]{i * 100, i * 100 + 9};
+        }
+        orChain = Arrays.stream(ranges)
+                .map(range -> intBetween(range[0], range[1]))
+                .reduce(IntPredicate::or)
+                .orElse(i -> false);
+        inRanges = intInRanges(ranges);
+        values = new Random(0L).ints(1024, 0, rangeCount * 100).toArray();
+    }
+
+    @Benchmark
+    public int orChainBenchmark() {
+        return count(orChain);
+    }
+
+    @Benchmark
+    public int inRangesBenchmark() {
+        return count(inRanges);
+    }
+
+    private int count(IntPredicate predicate) {
+        int count = 0;
+        for (int value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,113 @@
+package org.perro.functions.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoublePredicate;
+import java.util.stream.IntStream;
+
+import static org.perro.functions.stream.DblStreamUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DblStreamUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private double[] doubles;
+    private DoublePredicate matchesAll;
+    private DoublePredicate matchesLast;
+    private DoublePredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        doubles = IntStream.range(0, size).asDoubleStream().toArray();
+        double last = size - 1;
+        matchesAll = d -> d >= 0.0D;
+        matchesLast = d -> d == last;
+        matchesHalf = d -> d % 2.0D == 0.0D;
+    }
+
+    @Benchmark
+    public boolean dblAllMatchBenchmark() {
+        return dblAllMatch(doubles, matchesAll);
+    }
+
+    @Benchmark
+    public boolean dblAnyMatchBenchmark() {
+        return dblAnyMatch(doubles, matchesLast);
+    }
+
+    @Benchmark
+    public boolean dblNoneMatchBenchmark() {
+        return dblNoneMatch(doubles, matchesLast);
+    }
+
+    @Benchmark
+    public long dblCountBenchmark() {
+        return dblCount(doubles, matchesHalf);
+    }
+
+    @Benchmark
+    public double dblMaxDefaultBenchmark() {
+        return dblMaxDefault(doubles, findDblDefault(matchesHalf, -1.0D));
+    }
+
+    @Benchmark
+    public double dblMinDefaultBenchmark() {
+        return dblMinDefault(doubles, findDblDefault(matchesHalf, -1.0D));
+    }
+
+    @Benchmark
+    public double findAnyDblDefaultBenchmark() {
+        return findAnyDblDefault(doubles, findDblDefault(matchesLast, -1.0D));
+    }
+
+    @Benchmark
+    public double findFirstDblDefaultBenchmark() {
+        return findFirstDblDefault(doubles, findDblDefault(matchesLast, -1.0D));
+    }
+
+    @Benchmark
+    public Double findFirstDblDefaultNullBenchmark() {
+        return findFirstDblDefaultNull(doubles, matchesLast);
+    }
+
+    @Benchmark
+    public int indexOfFirstDblBenchmark() {
+        return indexOfFirstDbl(doubles, matchesLast);
+    }
+
+    @Benchmark
+    public List<double[]> toPartitionedDblListBenchmark() {
+        return toPartitionedDblList(doubles, 100);
+    }
+
+    @Benchmark
+    public int toPartitionedDblStreamBenchmark() {
+        return toPartitionedDblStream(doubles, 100)
+                .mapToInt(partition -> partition.length)
+                .sum();
+    }
+
+    @Benchmark
+    public List<DoubleSlice> toPartitionedDblSlicesBenchmark() {
+        return toPartitionedDblSlices(doubles, 100);
+    }
+}
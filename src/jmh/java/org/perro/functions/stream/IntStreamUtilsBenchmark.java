@@ -0,0 +1,113 @@
+package org.perro.functions.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import static org.perro.functions.stream.IntStreamUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class IntStreamUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private IntPredicate matchesAll;
+    private IntPredicate matchesLast;
+    private IntPredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        ints = IntStream.range(0, size).toArray();
+        int last = size - 1;
+        matchesAll = i -> i >= 0;
+        matchesLast = i -> i == last;
+        matchesHalf = i -> (i & 1) == 0;
+    }
+
+    @Benchmark
+    public boolean intAllMatchBenchmark() {
+        return intAllMatch(ints, matchesAll);
+    }
+
+    @Benchmark
+    public boolean intAnyMatchBenchmark() {
+        return intAnyMatch(ints, matchesLast);
+    }
+
+    @Benchmark
+    public boolean intNoneMatchBenchmark() {
+        return intNoneMatch(ints, matchesLast);
+    }
+
+    @Benchmark
+    public long intCountBenchmark() {
+        return intCount(ints, matchesHalf);
+    }
+
+    @Benchmark
+    public int intMaxDefaultBenchmark() {
+        return intMaxDefault(ints, findIntDefault(matchesHalf, -1));
+    }
+
+    @Benchmark
+    public int intMinDefaultBenchmark() {
+        return intMinDefault(ints, findIntDefault(matchesHalf, -1));
+    }
+
+    @Benchmark
+    public int findAnyIntDefaultBenchmark() {
+        return findAnyIntDefault(ints, findIntDefault(matchesLast, -1));
+    }
+
+    @Benchmark
+    public int findFirstIntDefaultBenchmark() {
+        return findFirstIntDefault(ints, findIntDefault(matchesLast, -1));
+    }
+
+    @Benchmark
+    public Integer findFirstIntDefaultNullBenchmark() {
+        return findFirstIntDefaultNull(ints, matchesLast);
+    }
+
+    @Benchmark
+    public int indexOfFirstIntBenchmark() {
+        return indexOfFirstInt(ints, matchesLast);
+    }
+
+    @Benchmark
+    public List<int[]> toPartitionedIntListBenchmark() {
+        return toPartitionedIntList(ints, 100);
+    }
+
+    @Benchmark
+    public int toPartitionedIntStreamBenchmark() {
+        return toPartitionedIntStream(ints, 100)
+                .mapToInt(partition -> partition.length)
+                .sum();
+    }
+
+    @Benchmark
+    public List<IntSlice> toPartitionedIntSlicesBenchmark() {
+        return toPartitionedIntSlices(ints, 100);
+    }
+}
@@ -0,0 +1,113 @@
+package org.perro.functions.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+import static org.perro.functions.stream.LongStreamUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LongStreamUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private long[] longs;
+    private LongPredicate matchesAll;
+    private LongPredicate matchesLast;
+    private LongPredicate matchesHalf;
+
+    @Setup
+    public void setUp() {
+        longs = LongStream.range(0, size).toArray();
+        long last = size - 1;
+        matchesAll = i -> i >= 0;
+        matchesLast = i -> i == last;
+        matchesHalf = i -> (i & 1L) == 0L;
+    }
+
+    @Benchmark
+    public boolean longAllMatchBenchmark() {
+        return longAllMatch(longs, matchesAll);
+    }
+
+    @Benchmark
+    public boolean longAnyMatchBenchmark() {
+        return longAnyMatch(longs, matchesLast);
+    }
+
+    @Benchmark
+    public boolean longNoneMatchBenchmark() {
+        return longNoneMatch(longs, matchesLast);
+    }
+
+    @Benchmark
+    public long longCountBenchmark() {
+        return longCount(longs, matchesHalf);
+    }
+
+    @Benchmark
+    public long longMaxDefaultBenchmark() {
+        return longMaxDefault(longs, findLongDefault(matchesHalf, -1L));
+    }
+
+    @Benchmark
+    public long longMinDefaultBenchmark() {
+        return longMinDefault(longs, findLongDefault(matchesHalf, -1L));
+    }
+
+    @Benchmark
+    public long findAnyLongDefaultBenchmark() {
+        return findAnyLongDefault(longs, findLongDefault(matchesLast, -1L));
+    }
+
+    @Benchmark
+    public long findFirstLongDefaultBenchmark() {
+        return findFirstLongDefault(longs, findLongDefault(matchesLast, -1L));
+    }
+
+    @Benchmark
+    public Long findFirstLongDefaultNullBenchmark() {
+        return findFirstLongDefaultNull(longs, matchesLast);
+    }
+
+    @Benchmark
+    public long indexOfFirstLongBenchmark() {
+        return indexOfFirstLong(longs, matchesLast);
+    }
+
+    @Benchmark
+    public List<long[]> toPartitionedLongListBenchmark() {
+        return toPartitionedLongList(longs, 100);
+    }
+
+    @Benchmark
+    public int toPartitionedLongStreamBenchmark() {
+        return toPartitionedLongStream(longs, 100)
+                .mapToInt(partition -> partition.length)
+                .sum();
+    }
+
+    @Benchmark
+    public List<LongSlice> toPartitionedLongSlicesBenchmark() {
+        return toPartitionedLongSlices(longs, 100);
+    }
+}
@@ -0,0 +1,172 @@
+package org.perro.functions.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.perro.functions.mapper.ObjectIndexPair;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.perro.functions.mapper.MapperUtils.pairWithIndex;
+import static org.perro.functions.stream.StreamUtils.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StreamUtilsBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> objects;
+    private Set<Integer> from;
+    private Set<Integer> toSubtract;
+    private Predicate<Integer> matchesAll;
+    private Predicate<Integer> matchesLast;
+    private Predicate<Integer> matchesHalf;
+
+    @Setup
+    public void setUp() {
+        objects = IntStream.range(0, size)
+                .boxed()
+                .collect(toList());
+        from = new HashSet<>(objects);
+        toSubtract = new HashSet<>(objects.subList(0, size / 2));
+        int last = size - 1;
+        matchesAll = i -> i >= 0;
+        matchesLast = i -> i == last;
+        matchesHalf = i -> (i & 1) == 0;
+    }
+
+    @Benchmark
+    public boolean allMatchBenchmark() {
+        return allMatch(objects, matchesAll);
+    }
+
+    @Benchmark
+    public boolean anyMatchBenchmark() {
+        return anyMatch(objects, matchesLast);
+    }
+
+    @Benchmark
+    public boolean noneMatchBenchmark() {
+        return noneMatch(objects, matchesLast);
+    }
+
+    @Benchmark
+    public long countBenchmark() {
+        return count(objects, matchesHalf);
+    }
+
+    @Benchmark
+    public Integer maxDefaultBenchmark() {
+        return maxDefault(objects, findWithDefault(matchesHalf, -1));
+    }
+
+    @Benchmark
+    public Integer minDefaultBenchmark() {
+        return minDefault(objects, findWithDefault(matchesHalf, -1));
+    }
+
+    @Benchmark
+    public Integer findAnyWithDefaultBenchmark() {
+        return findAnyWithDefault(objects, findWithDefault(matchesLast, -1));
+    }
+
+    @Benchmark
+    public Integer findFirstWithDefaultBenchmark() {
+        return findFirstWithDefault(objects, findWithDefault(matchesLast, -1));
+    }
+
+    @Benchmark
+    public int indexOfFirstBenchmark() {
+        return indexOfFirst(objects, matchesLast);
+    }
+
+    @Benchmark
+    public String joinBenchmark() {
+        return join(objects, String::valueOf);
+    }
+
+    @Benchmark
+    public Set<Integer> subtractBenchmark() {
+        return subtract(from, toSubtract);
+    }
+
+    @Benchmark
+    public List<List<Integer>> toPartitionedListBenchmark() {
+        return toPartitionedList(objects, 100);
+    }
+
+    @Benchmark
+    public int toPartitionedStreamBenchmark() {
+        return toPartitionedStream(objects, 100)
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    @Benchmark
+    public int partitionIteratorBenchmark() {
+        return partition(objects.iterator(), 100)
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    @Benchmark
+    public long fromIteratorBenchmark() {
+        return fromIterator(objects.iterator())
+                .filter(matchesHalf)
+                .count();
+    }
+
+    @Benchmark
+    public long fromIteratorParallelBenchmark() {
+        return fromIterator(objects.iterator())
+                .parallel()
+                .filter(matchesHalf)
+                .count();
+    }
+
+    @Benchmark
+    public long fromIteratorSizedParallelBenchmark() {
+        return fromIterator(objects.iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL, 128)
+                .parallel()
+                .filter(matchesHalf)
+                .count();
+    }
+
+    @Benchmark
+    public long pairWithIndexParallelBenchmark() {
+        return objects.parallelStream()
+                .map(pairWithIndex())
+                .mapToLong(ObjectIndexPair::getIndex)
+                .sum();
+    }
+
+    @Benchmark
+    public long indexedParallelBenchmark() {
+        return indexed(objects)
+                .parallel()
+                .mapToLong(ObjectIndexPair::getIndex)
+                .sum();
+    }
+}
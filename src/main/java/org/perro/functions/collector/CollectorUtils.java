@@ -1,11 +1,18 @@
 package org.perro.functions.collector;
 
 import org.perro.functions.internal.Invariants;
+import org.perro.functions.mapper.IntDoublePair;
+import org.perro.functions.mapper.IntIntMap;
+import org.perro.functions.mapper.IntIntPair;
+import org.perro.functions.mapper.IntLongPair;
+import org.perro.functions.mapper.IntObjectMap;
+import org.perro.functions.mapper.LongDoublePair;
+import org.perro.functions.mapper.LongLongPair;
+import org.perro.functions.mapper.LongObjectMap;
 import org.perro.functions.stream.DblStreamUtils;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
@@ -125,6 +132,123 @@ public final class CollectorUtils {
         return (map, entry) -> map.put(entry.getKey(), entry.getValue());
     }
 
+    /**
+     * Builds a <code>Collector</code> that accumulates <code>IntIntPair</code> instances into a <code>Map</code>, keyed
+     * by the left value of each pair, in the same way as {@link #toMapFromEntry()} does for <code>Map.Entry</code>
+     * instances. A later pair with the same left value replaces an earlier one. The values of each pair are boxed only
+     * as they are put into the map.
+     *
+     * @return A Collector that accumulates IntIntPair instances into a Map.
+     */
+    public static Collector<IntIntPair, ?, Map<Integer, Integer>> toMapFromIntIntPair() {
+        return Collector.of(HashMap::new, (map, pair) -> map.put(pair.getLeft(), pair.getRight()),
+                combiner(Map::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates <code>IntLongPair</code> instances into a <code>Map</code>,
+     * keyed by the left value of each pair, in the same way as {@link #toMapFromEntry()} does for
+     * <code>Map.Entry</code> instances. A later pair with the same left value replaces an earlier one. The values of
+     * each pair are boxed only as they are put into the map.
+     *
+     * @return A Collector that accumulates IntLongPair instances into a Map.
+     */
+    public static Collector<IntLongPair, ?, Map<Integer, Long>> toMapFromIntLongPair() {
+        return Collector.of(HashMap::new, (map, pair) -> map.put(pair.getLeft(), pair.getRight()),
+                combiner(Map::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates <code>IntDoublePair</code> instances into a <code>Map</code>,
+     * keyed by the left value of each pair, in the same way as {@link #toMapFromEntry()} does for
+     * <code>Map.Entry</code> instances. A later pair with the same left value replaces an earlier one. The values of
+     * each pair are boxed only as they are put into the map.
+     *
+     * @return A Collector that accumulates IntDoublePair instances into a Map.
+     */
+    public static Collector<IntDoublePair, ?, Map<Integer, Double>> toMapFromIntDoublePair() {
+        return Collector.of(HashMap::new, (map, pair) -> map.put(pair.getLeft(), pair.getRight()),
+                combiner(Map::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates <code>LongLongPair</code> instances into a <code>Map</code>,
+     * keyed by the left value of each pair, in the same way as {@link #toMapFromEntry()} does for
+     * <code>Map.Entry</code> instances. A later pair with the same left value replaces an earlier one. The values of
+     * each pair are boxed only as they are put into the map.
+     *
+     * @return A Collector that accumulates LongLongPair instances into a Map.
+     */
+    public static Collector<LongLongPair, ?, Map<Long, Long>> toMapFromLongLongPair() {
+        return Collector.of(HashMap::new, (map, pair) -> map.put(pair.getLeft(), pair.getRight()),
+                combiner(Map::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates <code>LongDoublePair</code> instances into a <code>Map</code>,
+     * keyed by the left value of each pair, in the same way as {@link #toMapFromEntry()} does for
+     * <code>Map.Entry</code> instances. A later pair with the same left value replaces an earlier one. The values of
+     * each pair are boxed only as they are put into the map.
+     *
+     * @return A Collector that accumulates LongDoublePair instances into a Map.
+     */
+    public static Collector<LongDoublePair, ?, Map<Long, Double>> toMapFromLongDoublePair() {
+        return Collector.of(HashMap::new, (map, pair) -> map.put(pair.getLeft(), pair.getRight()),
+                combiner(Map::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates elements into an <code>IntObjectMap</code>, whose keys are the
+     * primitive ints returned by a <code>keyMapper</code>, so that no key is ever boxed. For example:
+     * <pre>
+     *     IntObjectMap&lt;Customer&gt; customerById = customers.stream()
+     *         .collect(CollectorUtils.toIntKeyedMap(Customer::getId, Function.identity()));
+     * </pre>
+     * Unlike <code>Collectors.toMap(...)</code>, a later element with the same key replaces an earlier one, as with
+     * {@link #toMapFromEntry()}, and null values are allowed.
+     *
+     * @param keyMapper   A ToIntFunction to get the key of an element.
+     * @param valueMapper A Function to get the value of an element.
+     * @param <T>         The type of the elements to be collected.
+     * @param <V>         The type of the values of the resulting IntObjectMap.
+     * @return A Collector that accumulates elements into an IntObjectMap.
+     */
+    public static <T, V> Collector<T, ?, IntObjectMap<V>> toIntKeyedMap(ToIntFunction<? super T> keyMapper, Function<? super T, ? extends V> valueMapper) {
+        return Collector.of(IntObjectMap::of, (map, t) -> map.put(keyMapper.applyAsInt(t), valueMapper.apply(t)),
+                combiner(IntObjectMap::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates elements into a <code>LongObjectMap</code>, whose keys are the
+     * primitive longs returned by a <code>keyMapper</code>, so that no key is ever boxed. A later element with the
+     * same key replaces an earlier one, and null values are allowed.
+     *
+     * @param keyMapper   A ToLongFunction to get the key of an element.
+     * @param valueMapper A Function to get the value of an element.
+     * @param <T>         The type of the elements to be collected.
+     * @param <V>         The type of the values of the resulting LongObjectMap.
+     * @return A Collector that accumulates elements into a LongObjectMap.
+     */
+    public static <T, V> Collector<T, ?, LongObjectMap<V>> toLongKeyedMap(ToLongFunction<? super T> keyMapper, Function<? super T, ? extends V> valueMapper) {
+        return Collector.of(LongObjectMap::of, (map, t) -> map.put(keyMapper.applyAsLong(t), valueMapper.apply(t)),
+                combiner(LongObjectMap::putAll));
+    }
+
+    /**
+     * Builds a <code>Collector</code> that accumulates elements into an <code>IntIntMap</code>, whose keys and values
+     * are the primitive ints returned by a <code>keyMapper</code> and a <code>valueMapper</code>, so that neither is
+     * ever boxed. A later element with the same key replaces an earlier one.
+     *
+     * @param keyMapper   A ToIntFunction to get the key of an element.
+     * @param valueMapper A ToIntFunction to get the value of an element.
+     * @param <T>         The type of the elements to be collected.
+     * @return A Collector that accumulates elements into an IntIntMap.
+     */
+    public static <T> Collector<T, ?, IntIntMap> toIntIntMap(ToIntFunction<? super T> keyMapper, ToIntFunction<? super T> valueMapper) {
+        return Collector.of(IntIntMap::of, (map, t) -> map.put(keyMapper.applyAsInt(t), valueMapper.applyAsInt(t)),
+                combiner(IntIntMap::putAll));
+    }
+
     /**
      * Builds a <code>Collector</code> that accumulates a stream of elements into a stream of lists of those elements,
      * each limited to the passed <code>partitionSize</code>. For example, given the following code:
@@ -147,6 +271,9 @@ public final class CollectorUtils {
      *     [80, 81, 82, 83, 84, 85, 86, 87, 88, 89]
      *     [90, 91, 92, 93, 94, 95, 96, 97, 98, 99]
      * </pre>
+     * The collector keeps no state outside of the container it accumulates into, so it may be used with a parallel
+     * stream. Partitions accumulated by separate threads are combined so that every partition, except possibly the
+     * last, still holds exactly <code>partitionSize</code> elements, in encounter order.
      *
      * @param partitionSize The size limit for each partitioned list.
      * @param <T>           The type of the elements in the collection to be partitioned.
@@ -178,6 +305,9 @@ public final class CollectorUtils {
      *     [80, 81, 82, 83, 84, 85, 86, 87, 88, 89]
      *     [90, 91, 92, 93, 94, 95, 96, 97, 98, 99]
      * </pre>
+     * The collector keeps no state outside of the container it accumulates into, so it may be used with a parallel
+     * stream. Partitions accumulated by separate threads are combined so that every partition, except possibly the
+     * last, still holds exactly <code>partitionSize</code> elements, in encounter order.
      *
      * @param partitionSize The size limit for each partitioned list.
      * @param <T>           The type of the elements in the collection to be partitioned.
@@ -185,28 +315,28 @@ public final class CollectorUtils {
      */
     public static <T> Collector<T, ?, List<List<T>>> toPartitionedList(int partitionSize) {
         Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
-        return Collector.of(ArrayList::new, listPartitionAccumulator(partitionSize), combiner(List::addAll));
+        return Collector.of(ArrayList::new, listPartitionAccumulator(partitionSize), listPartitionCombiner(partitionSize));
     }
 
     /**
      * Builds a <code>Collector</code> that accumulates a stream of elements into a list of arbitrary objects of type
-     * &lt;R&gt;, into which those elements are accumulated. For example, this method is used in the implementation of
-     * {@link DblStreamUtils#toPartitionedDblList(double[], int)}:
+     * &lt;R&gt;, into which those elements are accumulated. For example, this method could be used to partition a
+     * stream of boxed doubles into a list of double arrays:
      * <pre>
-     *     public static List&lt;double[]&gt; toPartitionedDblList(double[] doubles, int partitionSize) {
-     *         return defaultDblStream(doubles)
-     *             .boxed()
-     *             .collect(toPartitionedList(partitionSize, DblStreamUtils::toListOfArrays));
+     *     public static List&lt;double[]&gt; toPartitionedDblList(Stream&lt;Double&gt; doubles, int partitionSize) {
+     *         return doubles.collect(toPartitionedList(partitionSize, DoubleArrays::toListOfArrays));
      *     }
      *
      *     private static List&lt;double[]&gt; toListOfArrays(List&lt;List&lt;Double&gt;&gt; partitions) {
      *         return partitions.stream()
-     *             .map(DblStreamUtils::listToArray)
+     *             .map(DoubleArrays::listToArray)
      *             .collect(toList());
      *     }
      * </pre>
-     * The {@link DblStreamUtils#toPartitionedDblList(double[], int)} method partitions an array of doubles into a
-     * <code>List&lt;double[]&gt;</code>.
+     * When the elements are already in a primitive array, {@link DblStreamUtils#toPartitionedDblList(double[], int)}
+     * partitions the array directly, without boxing its values, and should be preferred.
+     * <p>
+     * Like {@link #toPartitionedList(int)}, this collector may be used with a parallel stream.
      *
      * @param partitionSize The size limit for the maximum number of elements that may be accumulated into each object
      *                      of type &lt;R&gt;.
@@ -219,20 +349,39 @@ public final class CollectorUtils {
      */
     public static <T, R> Collector<T, List<List<T>>, List<R>> toPartitionedList(int partitionSize, Function<List<List<T>>, List<R>> finisher) {
         Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
-        return Collector.of(ArrayList::new, listPartitionAccumulator(partitionSize), combiner(List::addAll), finisher);
+        return Collector.of(ArrayList::new, listPartitionAccumulator(partitionSize), listPartitionCombiner(partitionSize), finisher);
     }
 
     private static <T> BiConsumer<List<List<T>>, T> listPartitionAccumulator(int partitionSize) {
-        AtomicInteger batchCount = new AtomicInteger();
-        AtomicInteger lastPartition = new AtomicInteger();
-        return (partitions, target) -> {
-            if (batchCount.intValue() % partitionSize == 0) {
-                batchCount.set(0);
-                lastPartition.set(partitions.size());
-                partitions.add(new ArrayList<>());
+        return (partitions, target) -> lastPartition(partitions, partitionSize).add(target);
+    }
+
+    private static <T> List<T> lastPartition(List<List<T>> partitions, int partitionSize) {
+        if (!partitions.isEmpty()) {
+            List<T> lastPartition = partitions.get(partitions.size() - 1);
+            if (lastPartition.size() < partitionSize) {
+                return lastPartition;
+            }
+        }
+        List<T> partition = new ArrayList<>();
+        partitions.add(partition);
+        return partition;
+    }
+
+    private static <T> BinaryOperator<List<List<T>>> listPartitionCombiner(int partitionSize) {
+        return (left, right) -> {
+            if (left.isEmpty() || left.get(left.size() - 1).size() == partitionSize) {
+                left.addAll(right);
+            } else {
+                // The last partition on the left is partial, so the elements on the right are shifted down into it,
+                // keeping every partition but the very last one at exactly partitionSize.
+                for (List<T> partition : right) {
+                    for (T target : partition) {
+                        lastPartition(left, partitionSize).add(target);
+                    }
+                }
             }
-            batchCount.incrementAndGet();
-            partitions.get(lastPartition.intValue()).add(target);
+            return left;
         };
     }
 
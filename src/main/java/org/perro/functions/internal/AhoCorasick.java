@@ -0,0 +1,205 @@
+package org.perro.functions.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Internal class intended only to be used by classes in this library. Compiles a set of search sequences into an
+ * Aho-Corasick automaton, which finds all of them in a target sequence with a single pass over its characters.
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final String[] patterns;
+    private final boolean ignoreCase;
+    private final boolean matchesEmpty;
+    private final int[] edgeOffsets;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failures;
+    private final int[] outputs;
+    private final int[] outputLinks;
+
+    private AhoCorasick(String[] patterns, boolean ignoreCase, List<TreeMap<Character, Integer>> trie, int[] outputs) {
+        this.patterns = patterns;
+        this.ignoreCase = ignoreCase;
+        this.matchesEmpty = outputs[ROOT] != NONE;
+        this.outputs = outputs;
+        int stateCount = trie.size();
+        this.edgeOffsets = new int[stateCount + 1];
+        for (int state = 0; state < stateCount; state++) {
+            edgeOffsets[state + 1] = edgeOffsets[state] + trie.get(state).size();
+        }
+        this.edgeChars = new char[edgeOffsets[stateCount]];
+        this.edgeTargets = new int[edgeOffsets[stateCount]];
+        for (int state = 0; state < stateCount; state++) {
+            int edge = edgeOffsets[state];
+            for (Map.Entry<Character, Integer> entry : trie.get(state).entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge++] = entry.getValue();
+            }
+        }
+        this.failures = new int[stateCount];
+        this.outputLinks = new int[stateCount];
+        buildFailures();
+    }
+
+    public static AhoCorasick of(Collection<? extends CharSequence> searchSeqs, boolean ignoreCase) {
+        Map<String, Integer> patternIndices = new HashMap<>();
+        List<String> patterns = new ArrayList<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        outputs.add(NONE);
+        for (CharSequence searchSeq : searchSeqs == null ? Collections.<CharSequence>emptyList() : searchSeqs) {
+            if (searchSeq == null) {
+                continue;
+            }
+            String key = ignoreCase ? StringUtils.foldCase(searchSeq) : searchSeq.toString();
+            if (patternIndices.containsKey(key)) {
+                continue;
+            }
+            patternIndices.put(key, patterns.size());
+            int state = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = trie.get(state).get(key.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(key.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    outputs.add(NONE);
+                }
+                state = next;
+            }
+            outputs.set(state, patterns.size());
+            patterns.add(searchSeq.toString());
+        }
+        int[] outputArray = outputs.stream().mapToInt(Integer::intValue).toArray();
+        return new AhoCorasick(patterns.toArray(new String[0]), ignoreCase, trie, outputArray);
+    }
+
+    private void buildFailures() {
+        Arrays.fill(outputLinks, NONE);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int edge = edgeOffsets[ROOT]; edge < edgeOffsets[ROOT + 1]; edge++) {
+            failures[edgeTargets[edge]] = ROOT;
+            outputLinks[edgeTargets[edge]] = matchesEmpty ? ROOT : NONE;
+            queue.add(edgeTargets[edge]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int edge = edgeOffsets[state]; edge < edgeOffsets[state + 1]; edge++) {
+                int child = edgeTargets[edge];
+                int failure = transition(failures[state], edgeChars[edge]);
+                failures[child] = failure;
+                outputLinks[child] = outputs[failure] != NONE ? failure : outputLinks[failure];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int edge = Arrays.binarySearch(edgeChars, edgeOffsets[state], edgeOffsets[state + 1], c);
+        return edge < 0 ? NONE : edgeTargets[edge];
+    }
+
+    private int transition(int state, char c) {
+        int current = state;
+        int next = next(current, c);
+        while (next == NONE && current != ROOT) {
+            current = failures[current];
+            next = next(current, c);
+        }
+        return next == NONE ? ROOT : next;
+    }
+
+    private char charAt(CharSequence target, int index) {
+        char c = target.charAt(index);
+        return ignoreCase ? StringUtils.foldCase(c) : c;
+    }
+
+    public int patternCount() {
+        return patterns.length;
+    }
+
+    public boolean matchesAny(CharSequence target) {
+        return firstMatchIndex(target) != NONE;
+    }
+
+    public String firstMatch(CharSequence target) {
+        int index = firstMatchIndex(target);
+        return index == NONE ? null : patterns[index];
+    }
+
+    private int firstMatchIndex(CharSequence target) {
+        if (target == null || patterns.length == 0) {
+            return NONE;
+        }
+        if (matchesEmpty) {
+            return outputs[ROOT];
+        }
+        int state = ROOT;
+        for (int i = 0; i < target.length(); i++) {
+            state = transition(state, charAt(target, i));
+            if (outputs[state] != NONE) {
+                return outputs[state];
+            }
+            if (outputLinks[state] != NONE) {
+                return outputs[outputLinks[state]];
+            }
+        }
+        return NONE;
+    }
+
+    public boolean matchesAll(CharSequence target) {
+        return target != null && matchedIndices(target, true).length == patterns.length;
+    }
+
+    public List<String> allMatches(CharSequence target) {
+        if (target == null) {
+            return Collections.emptyList();
+        }
+        int[] indices = matchedIndices(target, false);
+        List<String> matches = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            matches.add(patterns[index]);
+        }
+        return matches;
+    }
+
+    // Returns the indices of the matched patterns in the order in which they were first found. If stopWhenAllFound is
+    // true, the scan stops as soon as every pattern has been found.
+    private int[] matchedIndices(CharSequence target, boolean stopWhenAllFound) {
+        boolean[] found = new boolean[patterns.length];
+        int[] indices = new int[patterns.length];
+        int count = 0;
+        if (matchesEmpty) {
+            found[outputs[ROOT]] = true;
+            indices[count++] = outputs[ROOT];
+        }
+        int state = ROOT;
+        for (int i = 0; i < target.length() && !(stopWhenAllFound && count == patterns.length); i++) {
+            state = transition(state, charAt(target, i));
+            for (int match = outputs[state] != NONE ? state : outputLinks[state];
+                 match != NONE;
+                 match = outputLinks[match]) {
+                int index = outputs[match];
+                if (!found[index]) {
+                    found[index] = true;
+                    indices[count++] = index;
+                }
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
+}
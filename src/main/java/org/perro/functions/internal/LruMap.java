@@ -0,0 +1,26 @@
+package org.perro.functions.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private LruMap(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    public static <K, V> LruMap<K, V> of(int maxSize) {
+        Invariants.checkArgument(maxSize > 0, "The 'maxSize' argument must be greater than zero");
+        return new LruMap<>(maxSize);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
@@ -2,8 +2,8 @@ package org.perro.functions.internal;
 
 import org.perro.functions.mapper.MapperUtils;
 
-import java.util.AbstractMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Although this class resides in the "internal" package, it will be returned as the result of some of the mapping
@@ -17,10 +17,12 @@ import java.util.Map;
  */
 public class Pair<K, V> implements Map.Entry<K, V> {
 
-    private final Map.Entry<K, V> wrappedEntry;
+    private final K key;
+    private final V value;
 
     private Pair(K key, V value) {
-        wrappedEntry = new AbstractMap.SimpleImmutableEntry<>(key, value);
+        this.key = key;
+        this.value = value;
     }
 
     /**
@@ -43,7 +45,7 @@ public class Pair<K, V> implements Map.Entry<K, V> {
      */
     @Override
     public K getKey() {
-        return wrappedEntry.getKey();
+        return key;
     }
 
     /**
@@ -53,17 +55,17 @@ public class Pair<K, V> implements Map.Entry<K, V> {
      */
     @Override
     public V getValue() {
-        return wrappedEntry.getValue();
+        return value;
     }
 
     /**
-     * Because this is an immutable map entry object, this method is not unsupported.
+     * Because this is an immutable map entry object, this method is not supported.
      *
      * @throws UnsupportedOperationException Always throws this exception.
      */
     @Override
     public V setValue(V value) {
-        return wrappedEntry.setValue(value);
+        throw new UnsupportedOperationException();
     }
 
     /**
@@ -72,7 +74,7 @@ public class Pair<K, V> implements Map.Entry<K, V> {
      * @return The key or left object.
      */
     public K getLeft() {
-        return wrappedEntry.getKey();
+        return key;
     }
 
     /**
@@ -81,6 +83,48 @@ public class Pair<K, V> implements Map.Entry<K, V> {
      * @return The value or right object.
      */
     public V getRight() {
-        return wrappedEntry.getValue();
+        return value;
+    }
+
+    /**
+     * Generates a hash code as specified by <code>Map.Entry</code>, from the hash codes of the key and the value.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(key) ^ Objects.hashCode(value);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one, as specified by <code>Map.Entry</code>. It will be
+     * considered equal if the given object is a <code>Map.Entry</code> whose key and value are equal to those of this
+     * pair.
+     *
+     * @param obj The target object with which to compare the current instance.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Map.Entry)) {
+            return false;
+        }
+        Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+        return Objects.equals(key, other.getKey()) &&
+                Objects.equals(value, other.getValue());
+    }
+
+    /**
+     * Returns a string representation of this pair, as its key and value joined by an equals sign, the same as the
+     * entries of the maps in the JDK.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        return key + "=" + value;
     }
 }
@@ -5,6 +5,8 @@ package org.perro.functions.internal;
  */
 public final class StringUtils {
 
+    private static final char[] LATIN_1_FOLDS = buildLatin1Folds();
+
     private StringUtils() {
     }
 
@@ -19,4 +21,32 @@ public final class StringUtils {
     public static String toUpperCase(String target) {
         return target == null ? null : target.toUpperCase();
     }
+
+    public static String foldCase(CharSequence target) {
+        char[] chars = new char[target.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = foldCase(target.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    // Characters are equal ignoring case when their upper case forms are equal, or the lower case forms of those are,
+    // as in String.equalsIgnoreCase, so folding each to the lower case of its upper case form covers both. Most text is
+    // Latin-1, so those characters are folded once, up front, into a table, and only the rest are folded on each call.
+    public static char foldCase(char c) {
+        return c < LATIN_1_FOLDS.length ? LATIN_1_FOLDS[c] : Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    public static int foldCodePoint(int codePoint) {
+        return codePoint >= 0 && codePoint < LATIN_1_FOLDS.length ? LATIN_1_FOLDS[codePoint] :
+                Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    private static char[] buildLatin1Folds() {
+        char[] folds = new char[256];
+        for (char c = 0; c < folds.length; c++) {
+            folds[c] = Character.toLowerCase(Character.toUpperCase(c));
+        }
+        return folds;
+    }
 }
@@ -0,0 +1,74 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.perro.functions.stream.StreamUtils.partition;
+
+/**
+ * A <code>Function</code> that maps a stream of keys to a stream of their values, by passing the keys in batches to a
+ * loader that looks up many keys at once, such as a DAO or cache client, rather than looking up each key on its own as
+ * {@link MapperUtils#getValue(Map, Function)} does. It is built by
+ * {@link MapperUtils#batchMapper(Function, int)}, and may be applied to a stream, or passed to
+ * {@link TransformUtils#transform(Collection, BatchMapper)}:
+ * <pre>
+ *     BatchMapper&lt;String, Customer&gt; customerMapper = MapperUtils.batchMapper(customerDao::findByIds, 100);
+ *     List&lt;Customer&gt; customers = TransformUtils.transform(customerIds, customerMapper);
+ *     Stream&lt;Customer&gt; orderCustomers = customerMapper.apply(orders.stream().map(Order::getCustomerId));
+ * </pre>
+ * Keys are pulled from the stream lazily, one batch at a time. Each batch is passed to the loader once, with any
+ * repeated and null keys taken out, and each key of the batch is then mapped to its value in the map returned by the
+ * loader, so the values come out in the same order as the keys went in. A null key, or one missing from the map, is
+ * mapped to null.
+ *
+ * @param <K> The type of the keys to be looked up.
+ * @param <V> The type of the values of those keys.
+ */
+public final class BatchMapper<K, V> implements Function<Stream<K>, Stream<V>> {
+
+    private final Function<Collection<K>, Map<K, V>> loader;
+    private final int batchSize;
+
+    private BatchMapper(Function<Collection<K>, Map<K, V>> loader, int batchSize) {
+        this.loader = loader;
+        this.batchSize = batchSize;
+    }
+
+    static <K, V> BatchMapper<K, V> of(Function<Collection<K>, Map<K, V>> loader, int batchSize) {
+        Objects.requireNonNull(loader, "The 'loader' argument must not be null");
+        Invariants.checkArgument(batchSize > 0, "The 'batchSize' argument must be greater than zero");
+        return new BatchMapper<>(loader, batchSize);
+    }
+
+    /**
+     * Maps a stream of keys to a stream of their values, calling the loader once for each batch of keys, as the
+     * returned stream is consumed.
+     *
+     * @param keys A Stream of keys to be looked up.
+     * @return A Stream of the values of the keys, in the same order as the keys.
+     */
+    @Override
+    public Stream<V> apply(Stream<K> keys) {
+        return partition(keys, batchSize).flatMap(this::mapBatch);
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    Stream<V> mapBatch(List<K> batch) {
+        Set<K> distinctKeys = new LinkedHashSet<>(batch);
+        distinctKeys.remove(null);
+        Map<K, V> values = distinctKeys.isEmpty() ? null : loader.apply(Collections.unmodifiableSet(distinctKeys));
+        return batch.stream().map(key -> values == null || key == null ? null : values.get(key));
+    }
+}
@@ -0,0 +1,317 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Invariants;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+// One stripe of a memoizing cache, holding its entries in parallel arrays rather than in a node object per entry, so
+// that subclasses can keep primitive keys unboxed. Entries are evicted as a segmented LRU: a newly loaded entry goes on
+// probation, and is promoted to the protected segment if it is read again. Eviction takes the least recently used entry
+// on probation, so a scan of keys that are each read only once cannot flush the entries that are read repeatedly.
+abstract class CacheSegment {
+
+    static final Object MISSING = new Object();
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+    static final int UNBOUNDED = Integer.MAX_VALUE;
+    static final int NONE = -1;
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_SIZE = 64;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int GOLDEN_RATIO_32 = 0x9E3779B9;
+
+    // The entries at these two indices are the sentinels of the circular lists of the probation and protected
+    // segments, each ordered from the most recently used entry, after the sentinel, to the least recently used.
+    private static final int PROBATION = 0;
+    private static final int PROTECTED = 1;
+    private static final int FIRST_ENTRY = 2;
+
+    private final int maxSize;
+    private final int protectedMaxSize;
+    private final long expiryNanos;
+    private final LongSupplier ticker;
+
+    private int[] table;
+    private int shift;
+    private int[] hashes;
+    private Object[] values;
+    private long[] writeNanos;
+    private int[] previous;
+    private int[] next;
+    private boolean[] protectedEntries;
+    private int unused = FIRST_ENTRY;
+    private int freeHead = NONE;
+    private int size;
+    private int protectedSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    CacheSegment(int maxSize, long expiryNanos, LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.protectedMaxSize = Math.max(1, maxSize - maxSize / 5);
+        this.expiryNanos = expiryNanos;
+        this.ticker = ticker;
+        int length = FIRST_ENTRY + Math.min(INITIAL_CAPACITY, maxSize);
+        this.hashes = new int[length];
+        this.values = new Object[length];
+        this.writeNanos = new long[length];
+        this.previous = new int[length];
+        this.next = new int[length];
+        this.protectedEntries = new boolean[length];
+        previous[PROBATION] = next[PROBATION] = PROBATION;
+        previous[PROTECTED] = next[PROTECTED] = PROTECTED;
+        rebuildTable();
+    }
+
+    static void checkMaxSize(int maxSize) {
+        Invariants.checkArgument(maxSize > 0, "The 'maxSize' argument must be greater than zero");
+    }
+
+    static long toExpiryNanos(Duration expireAfterWrite) {
+        Objects.requireNonNull(expireAfterWrite, "The 'expireAfterWrite' argument must not be null");
+        Invariants.checkArgument(!expireAfterWrite.isNegative() && !expireAfterWrite.isZero(),
+                "The 'expireAfterWrite' argument must be a positive duration");
+        return expireAfterWrite.compareTo(Duration.ofNanos(NO_EXPIRY)) >= 0 ? NO_EXPIRY : expireAfterWrite.toNanos();
+    }
+
+    // A small cache is kept in a single stripe, so that its size bound is exact and eviction sees all of its entries.
+    static int stripeCount(int maxSize) {
+        return Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maxSize / MIN_STRIPE_SIZE)));
+    }
+
+    static int stripeMaxSize(int maxSize, int stripeCount, int stripe) {
+        if (maxSize == UNBOUNDED) {
+            return UNBOUNDED;
+        }
+        return maxSize / stripeCount + (stripe < maxSize % stripeCount ? 1 : 0);
+    }
+
+    static int stripe(int hash, int stripeMask) {
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    static CacheStatistics statistics(CacheSegment[] segments) {
+        long hits = 0L;
+        long misses = 0L;
+        long evictions = 0L;
+        long size = 0L;
+        for (CacheSegment segment : segments) {
+            synchronized (segment) {
+                hits += segment.hitCount;
+                misses += segment.missCount;
+                evictions += segment.evictionCount;
+                size += segment.size;
+            }
+        }
+        return CacheStatistics.of(hits, misses, evictions, size);
+    }
+
+    abstract void resizeKeys(int length);
+
+    abstract void clearKey(int entry);
+
+    final int capacity() {
+        return hashes.length;
+    }
+
+    final int firstSlot(int hash) {
+        return (hash * GOLDEN_RATIO_32) >>> shift;
+    }
+
+    final int nextSlot(int slot) {
+        return (slot + 1) & (table.length - 1);
+    }
+
+    final int entryAt(int slot) {
+        return table[slot];
+    }
+
+    final int hashAt(int entry) {
+        return hashes[entry];
+    }
+
+    // Returns the value of an entry found by a subclass, counting a hit, or MISSING, counting a miss, if there is no
+    // such entry or it has expired.
+    final Object read(int entry) {
+        if (entry != NONE && isExpired(entry)) {
+            remove(entry);
+            evictionCount++;
+            entry = NONE;
+        }
+        if (entry == NONE) {
+            missCount++;
+            return MISSING;
+        }
+        hitCount++;
+        promote(entry);
+        return values[entry];
+    }
+
+    // Returns the value of an entry found by a subclass without counting a hit or a miss, as a thread does when it has
+    // loaded a value and finds that another thread loaded one first, or MISSING if there is no such entry. A subclass
+    // then adds an entry for the value it loaded, and stores the key of that entry.
+    final Object readLoaded(int entry) {
+        if (entry == NONE) {
+            return MISSING;
+        }
+        if (isExpired(entry)) {
+            remove(entry);
+            evictionCount++;
+            return MISSING;
+        }
+        return values[entry];
+    }
+
+    final int add(int hash, Object value) {
+        if (size == maxSize) {
+            evict();
+        }
+        int entry = allocate();
+        hashes[entry] = hash;
+        values[entry] = value;
+        if (expiryNanos != NO_EXPIRY) {
+            writeNanos[entry] = ticker.getAsLong();
+        }
+        protectedEntries[entry] = false;
+        linkFirst(PROBATION, entry);
+        int slot = firstSlot(hash);
+        while (table[slot] != NONE) {
+            slot = nextSlot(slot);
+        }
+        table[slot] = entry;
+        size++;
+        return entry;
+    }
+
+    private boolean isExpired(int entry) {
+        return expiryNanos != NO_EXPIRY && ticker.getAsLong() - writeNanos[entry] >= expiryNanos;
+    }
+
+    private void promote(int entry) {
+        unlink(entry);
+        linkFirst(PROTECTED, entry);
+        if (!protectedEntries[entry]) {
+            protectedEntries[entry] = true;
+            if (++protectedSize > protectedMaxSize) {
+                int demoted = previous[PROTECTED];
+                unlink(demoted);
+                protectedEntries[demoted] = false;
+                protectedSize--;
+                linkFirst(PROBATION, demoted);
+            }
+        }
+    }
+
+    private void evict() {
+        remove(next[PROBATION] != PROBATION ? previous[PROBATION] : previous[PROTECTED]);
+        evictionCount++;
+    }
+
+    // Before the arrays grow, an expiring segment first drops its expired entries, and only grows if that freed less
+    // than a quarter of them, so that the sweeps cost a constant amount per entry added.
+    private int allocate() {
+        if (freeHead == NONE && unused == hashes.length) {
+            int removed = expiryNanos == NO_EXPIRY ? 0 : removeExpired();
+            if (removed * 4 < hashes.length - FIRST_ENTRY) {
+                grow();
+            }
+        }
+        if (freeHead != NONE) {
+            int entry = freeHead;
+            freeHead = next[entry];
+            return entry;
+        }
+        return unused++;
+    }
+
+    private int removeExpired() {
+        int removed = 0;
+        for (int list = PROBATION; list <= PROTECTED; list++) {
+            for (int entry = next[list], following; entry != list; entry = following) {
+                following = next[entry];
+                if (isExpired(entry)) {
+                    remove(entry);
+                    removed++;
+                }
+            }
+        }
+        evictionCount += removed;
+        return removed;
+    }
+
+    private void grow() {
+        int length = FIRST_ENTRY + (int) Math.min(maxSize, 2L * (hashes.length - FIRST_ENTRY));
+        hashes = Arrays.copyOf(hashes, length);
+        values = Arrays.copyOf(values, length);
+        writeNanos = Arrays.copyOf(writeNanos, length);
+        previous = Arrays.copyOf(previous, length);
+        next = Arrays.copyOf(next, length);
+        protectedEntries = Arrays.copyOf(protectedEntries, length);
+        resizeKeys(length);
+        rebuildTable();
+    }
+
+    // The table has at least twice as many slots as there can be entries, so that probe sequences stay short.
+    private void rebuildTable() {
+        int slots = Integer.highestOneBit(Math.max(2, hashes.length - FIRST_ENTRY) * 2 - 1) << 1;
+        table = new int[slots];
+        Arrays.fill(table, NONE);
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(slots);
+        for (int list = PROBATION; list <= PROTECTED; list++) {
+            for (int entry = next[list]; entry != list; entry = next[entry]) {
+                int slot = firstSlot(hashes[entry]);
+                while (table[slot] != NONE) {
+                    slot = nextSlot(slot);
+                }
+                table[slot] = entry;
+            }
+        }
+    }
+
+    private void remove(int entry) {
+        removeFromTable(entry);
+        unlink(entry);
+        if (protectedEntries[entry]) {
+            protectedSize--;
+        }
+        size--;
+        values[entry] = null;
+        clearKey(entry);
+        next[entry] = freeHead;
+        freeHead = entry;
+    }
+
+    // Removes an entry from the table by shifting back any later entry in the same run of occupied slots that may
+    // move into the hole, as linear probing allows no tombstones to be left behind.
+    private void removeFromTable(int entry) {
+        int hole = firstSlot(hashes[entry]);
+        while (table[hole] != entry) {
+            hole = nextSlot(hole);
+        }
+        int mask = table.length - 1;
+        for (int slot = nextSlot(hole); table[slot] != NONE; slot = nextSlot(slot)) {
+            int home = firstSlot(hashes[table[slot]]);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = table[slot];
+                hole = slot;
+            }
+        }
+        table[hole] = NONE;
+    }
+
+    private void unlink(int entry) {
+        next[previous[entry]] = next[entry];
+        previous[next[entry]] = previous[entry];
+    }
+
+    private void linkFirst(int list, int entry) {
+        previous[entry] = list;
+        next[entry] = next[list];
+        previous[next[list]] = entry;
+        next[list] = entry;
+    }
+}
@@ -0,0 +1,84 @@
+package org.perro.functions.mapper;
+
+/**
+ * A snapshot of the counters of the cache behind a memoized function, such as one built by
+ * {@link MapperUtils#memoize(java.util.function.Function, int)}.
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    private CacheStatistics(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    static CacheStatistics of(long hitCount, long missCount, long evictionCount, long size) {
+        return new CacheStatistics(hitCount, missCount, evictionCount, size);
+    }
+
+    /**
+     * Gets the number of calls that found a value for their key in the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of calls that found no value for their key in the cache, and so called the memoized function.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of entries removed from the cache, either to keep it within its maximum size, or because they
+     * expired.
+     *
+     * @return The number of cache evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of entries in the cache, which may include entries that have expired but not yet been removed.
+     *
+     * @return The size of the cache.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the share of calls that found a value for their key in the cache, from zero to one, or <code>NaN</code> if
+     * there have been no calls.
+     *
+     * @return The hit rate of the cache.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0L ? Double.NaN : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the primitive attribute values of this object.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[hitCount=%s,missCount=%s,evictionCount=%s,size=%s]";
+        return String.format(template, getClass().getName(), identity, hitCount, missCount, evictionCount, size);
+    }
+}
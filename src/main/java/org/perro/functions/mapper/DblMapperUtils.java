@@ -2,6 +2,7 @@ package org.perro.functions.mapper;
 
 import org.perro.functions.internal.Pair;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -531,4 +532,74 @@ public final class DblMapperUtils {
     public static DoubleUnaryOperator dblModulo(double divisor) {
         return d -> d % divisor;
     }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>double</code> argument, so that
+     * the other function is called only once for any <code>double</code> argument. The cache is unbounded, so this
+     * suits a function whose arguments are drawn from a small set, heavily repeated:
+     * <pre>
+     *     DoubleFunction&lt;String&gt; formatPrice = dblMemoize(priceFormat::format);
+     * </pre>
+     * The function must return the same result whenever it is passed the same argument. Arguments are looked up without
+     * being boxed.
+     *
+     * @param function A DoubleFunction whose results are to be remembered.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits and misses.
+     */
+    public static <R> DoubleMemoizedFunction<R> dblMemoize(DoubleFunction<? extends R> function) {
+        return DoubleMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>double</code> argument, in a cache
+     * holding no more than a given number of entries. When the cache is full, the entry evicted is the least recently
+     * used of those that have been looked up only once since they were loaded, so that a run of arguments passed only
+     * once does not displace those that are passed again and again. Arguments are looked up without being boxed.
+     *
+     * @param function A DoubleFunction whose results are to be remembered.
+     * @param maxSize  The maximum number of results to remember.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one.
+     */
+    public static <R> DoubleMemoizedFunction<R> dblMemoize(DoubleFunction<? extends R> function, int maxSize) {
+        return DoubleMemoizedFunction.of(function, maxSize, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>double</code> argument, for a
+     * given time after the result was loaded, after which the other function is called again. The cache is bounded only
+     * by expiry, with expired entries swept out as it grows. Arguments are looked up without being boxed.
+     *
+     * @param function         A DoubleFunction whose results are to be remembered.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if expireAfterWrite is zero or negative.
+     */
+    public static <R> DoubleMemoizedFunction<R> dblMemoizeWithExpiry(DoubleFunction<? extends R> function, Duration expireAfterWrite) {
+        return DoubleMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>double</code> argument, for a
+     * given time after the result was loaded, in a cache holding no more than a given number of entries, evicted as for
+     * {@link #dblMemoize(DoubleFunction, int)}. Arguments are looked up without being boxed.
+     *
+     * @param function         A DoubleFunction whose results are to be remembered.
+     * @param maxSize          The maximum number of results to remember.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one, or expireAfterWrite is zero or negative.
+     */
+    public static <R> DoubleMemoizedFunction<R> dblMemoizeWithExpiry(DoubleFunction<? extends R> function, int maxSize, Duration expireAfterWrite) {
+        return DoubleMemoizedFunction.of(function, maxSize, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
 }
@@ -0,0 +1,53 @@
+package org.perro.functions.mapper;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * A <code>DoubleFunction</code> that remembers the result of another function for each <code>double</code> argument,
+ * as a {@link MemoizedFunction} does for an object argument, but without boxing the argument to look it up. Arguments
+ * are told apart as <code>Double.equals</code> does, by their bits, so that <code>0.0</code> and <code>-0.0</code> are
+ * remembered separately, and all <code>NaN</code> values are remembered as one. This is built by the
+ * <code>dblMemoize</code> methods of {@link DblMapperUtils}.
+ *
+ * @param <R> The type of the result of the DoubleFunction.
+ */
+public final class DoubleMemoizedFunction<R> implements DoubleFunction<R> {
+
+    private final LongFunction<R> loader;
+    private final LongMemoizer<R> memoizer;
+
+    private DoubleMemoizedFunction(LongFunction<R> loader, LongMemoizer<R> memoizer) {
+        this.loader = loader;
+        this.memoizer = memoizer;
+    }
+
+    static <R> DoubleMemoizedFunction<R> of(DoubleFunction<? extends R> function, int maxSize, long expiryNanos,
+                                            LongSupplier ticker) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new DoubleMemoizedFunction<>(bits -> function.apply(Double.longBitsToDouble(bits)),
+                LongMemoizer.of(maxSize, expiryNanos, ticker));
+    }
+
+    /**
+     * Gets the remembered result for an argument, or calls the memoized function to get it.
+     *
+     * @param value The argument to the DoubleFunction.
+     * @return The result of the memoized function for the argument.
+     */
+    @Override
+    public R apply(double value) {
+        return memoizer.get(Double.doubleToLongBits(value), loader);
+    }
+
+    /**
+     * Gets a snapshot of the counters of the cache behind this function.
+     *
+     * @return The statistics of the cache of this function.
+     */
+    public CacheStatistics getStatistics() {
+        return memoizer.statistics();
+    }
+}
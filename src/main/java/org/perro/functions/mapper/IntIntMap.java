@@ -0,0 +1,317 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * A map from primitive int keys to primitive int values, that boxes neither. Like {@link IntObjectMap}, it holds its
+ * keys and values in two parallel arrays, an open addressing hash table with linear probing. It is built by the
+ * {@link org.perro.functions.collector.CollectorUtils#toIntIntMap(java.util.function.ToIntFunction,
+ * java.util.function.ToIntFunction)} collector, and read by the {@link IntMapperUtils#intGetValue(IntIntMap, int)}
+ * mapper:
+ * <pre>
+ *     IntIntMap quantityByProductId = lineItems.stream()
+ *         .collect(CollectorUtils.toIntIntMap(LineItem::getProductId, LineItem::getQuantity));
+ *     int[] quantities = IntTransformUtils.intUnaryTransform(productIds,
+ *         IntMapperUtils.intGetValue(quantityByProductId, 0));
+ * </pre>
+ * An instance is not safe for use by more than one thread at a time, unless none of them changes it.
+ */
+public final class IntIntMap {
+
+    private static final int GOLDEN_RATIO_32 = 0x9E3779B9;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int NONE = -1;
+
+    // As in IntObjectMap, the value for a key of zero is kept in an extra slot at the end of the values array.
+    private int[] keys;
+    private int[] values;
+    private int shift;
+    private int size;
+    private boolean containsZeroKey;
+
+    private IntIntMap(int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Builds an empty <code>IntIntMap</code>.
+     *
+     * @return A new, empty IntIntMap.
+     */
+    public static IntIntMap of() {
+        return new IntIntMap(MIN_CAPACITY);
+    }
+
+    /**
+     * Builds an empty <code>IntIntMap</code>, large enough to hold the given number of mappings without growing.
+     *
+     * @param expectedSize The number of mappings the map is expected to hold.
+     * @return A new, empty IntIntMap.
+     * @throws IllegalArgumentException if expectedSize is negative.
+     */
+    public static IntIntMap of(int expectedSize) {
+        Invariants.checkArgument(expectedSize >= 0, "The 'expectedSize' argument must not be negative");
+        return new IntIntMap(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long slots = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(slots - 1L) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity + 1];
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    private int slot(int key) {
+        return (key * GOLDEN_RATIO_32) >>> shift;
+    }
+
+    private int indexOf(int key) {
+        if (key == 0) {
+            return containsZeroKey ? keys.length : NONE;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * Gets the value to which the given key is mapped, or a default value if there is no mapping for the key.
+     *
+     * @param key          The key whose value is to be returned.
+     * @param defaultValue The value to return if there is no mapping for the key.
+     * @return The value to which the key is mapped, or defaultValue if there is no mapping for the key.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int index = indexOf(key);
+        return index == NONE ? defaultValue : values[index];
+    }
+
+    /**
+     * Tests whether this map has a mapping for the given key.
+     *
+     * @param key The key to look for.
+     * @return true if this map has a mapping for the key.
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) != NONE;
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any value to which the key was mapped before.
+     *
+     * @param key   The key to be mapped.
+     * @param value The value to which the key is to be mapped.
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            values[keys.length] = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+                growIfFull();
+            }
+            return;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key);
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                values[slot] = value;
+                return;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        growIfFull();
+    }
+
+    private void growIfFull() {
+        if (size * 2 > keys.length && keys.length < MAX_CAPACITY) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Copies all of the mappings of another <code>IntIntMap</code> into this one, replacing any values to which their
+     * keys were mapped before.
+     *
+     * @param other The map whose mappings are to be copied into this one.
+     */
+    public void putAll(IntIntMap other) {
+        Objects.requireNonNull(other, "The 'other' argument must not be null");
+        if (other.containsZeroKey) {
+            put(0, other.values[other.keys.length]);
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0) {
+                put(other.keys[i], other.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for the given key, if there is one.
+     *
+     * @param key The key whose mapping is to be removed.
+     * @return true if there was a mapping for the key.
+     */
+    public boolean remove(int key) {
+        int index = indexOf(key);
+        if (index == NONE) {
+            return false;
+        }
+        size--;
+        if (index == keys.length) {
+            containsZeroKey = false;
+        } else {
+            removeSlot(index);
+        }
+        return true;
+    }
+
+    private void removeSlot(int hole) {
+        int mask = keys.length - 1;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (((slot - slot(keys[slot])) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        values[capacity] = oldValues[oldKeys.length];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return The number of mappings in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests whether this map has no mappings.
+     *
+     * @return true if this map has no mappings.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the keys of this map, in no particular order. The stream should be consumed before this map is changed.
+     *
+     * @return An IntStream of the keys of this map.
+     */
+    public IntStream keys() {
+        IntStream tableKeys = Arrays.stream(keys).filter(k -> k != 0);
+        return containsZeroKey ? IntStream.concat(IntStream.of(0), tableKeys) : tableKeys;
+    }
+
+    /**
+     * Returns a hash code value for this map, which is the same as that of a <code>Map&lt;Integer, Integer&gt;</code>
+     * with the same mappings.
+     *
+     * @return A hash code value for this map.
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Integer.hashCode(values[keys.length]) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Integer.hashCode(keys[i]) ^ Integer.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Tests whether another object is an <code>IntIntMap</code> with the same mappings as this one.
+     *
+     * @param obj An object to be tested for equality with this one.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IntIntMap)) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        IntIntMap other = (IntIntMap) obj;
+        if (size != other.size || containsZeroKey != other.containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && values[keys.length] != other.values[other.keys.length]) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index == NONE || values[i] != other.values[index]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same form as that of a
+     * <code>Map&lt;Integer, Integer&gt;</code>.
+     *
+     * @return A string representation of this map.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        if (containsZeroKey) {
+            joiner.add("0=" + values[keys.length]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                joiner.add(keys[i] + "=" + values[i]);
+            }
+        }
+        return joiner.toString();
+    }
+}
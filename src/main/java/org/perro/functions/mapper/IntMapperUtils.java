@@ -2,6 +2,7 @@ package org.perro.functions.mapper;
 
 import org.perro.functions.internal.Pair;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -332,6 +333,93 @@ public final class IntMapperUtils {
         return i -> Pair.of(leftFunction.apply(i), rightFunction.apply(i));
     }
 
+    /**
+     * Given an <code>IntUnaryOperator</code>, this method builds an <code>IntFunction</code> that returns an
+     * <code>IntIntPair</code>, holding both of its values unboxed. The pair will consist of the target int itself, and
+     * a value returned by the passed <code>rightFunction</code>.
+     *
+     * @param rightFunction An IntUnaryOperator to extract the right value of the IntIntPair to be returned by the
+     *                      IntFunction built by this method.
+     * @return An IntFunction that returns an IntIntPair of the target int, along with a value returned by the passed
+     * rightFunction.
+     */
+    public static IntFunction<IntIntPair> intIntPairOf(IntUnaryOperator rightFunction) {
+        return i -> IntIntPair.of(i, rightFunction.applyAsInt(i));
+    }
+
+    /**
+     * Given a pair of functions, each returning an <code>int</code>, this method builds a <code>Function</code> that
+     * returns an <code>IntIntPair</code> of the values they return for a target element, holding both unboxed. This is
+     * useful to carry a pair of primitive values from each element of a stream, such as the keys and amounts of rows
+     * being joined, without allocating a boxed object for either value.
+     *
+     * @param leftFunction  A ToIntFunction that will be used to retrieve the left value of the IntIntPair.
+     * @param rightFunction A ToIntFunction that will be used to retrieve the right value of the IntIntPair.
+     * @param <T>           The type of the target element.
+     * @return A Function that returns an IntIntPair of the values retrieved by the passed functions.
+     */
+    public static <T> Function<T, IntIntPair> toIntIntPairOf(ToIntFunction<? super T> leftFunction, ToIntFunction<? super T> rightFunction) {
+        return t -> IntIntPair.of(leftFunction.applyAsInt(t), rightFunction.applyAsInt(t));
+    }
+
+    /**
+     * Given an <code>IntToLongFunction</code>, this method builds an <code>IntFunction</code> that returns an
+     * <code>IntLongPair</code>, holding both of its values unboxed. The pair will consist of the target int itself, and
+     * a value returned by the passed <code>rightFunction</code>.
+     *
+     * @param rightFunction An IntToLongFunction to extract the right value of the IntLongPair to be returned by the
+     *                      IntFunction built by this method.
+     * @return An IntFunction that returns an IntLongPair of the target int, along with a value returned by the passed
+     * rightFunction.
+     */
+    public static IntFunction<IntLongPair> intLongPairOf(IntToLongFunction rightFunction) {
+        return i -> IntLongPair.of(i, rightFunction.applyAsLong(i));
+    }
+
+    /**
+     * Given a pair of functions, one returning an <code>int</code> and the other a <code>long</code>, this method
+     * builds a <code>Function</code> that returns an <code>IntLongPair</code> of the values they return for a target
+     * element, holding both unboxed. This is useful to carry a pair of primitive values from each element of a stream,
+     * such as the keys and amounts of rows being joined, without allocating a boxed object for either value.
+     *
+     * @param leftFunction  A ToIntFunction that will be used to retrieve the left value of the IntLongPair.
+     * @param rightFunction A ToLongFunction that will be used to retrieve the right value of the IntLongPair.
+     * @param <T>           The type of the target element.
+     * @return A Function that returns an IntLongPair of the values retrieved by the passed functions.
+     */
+    public static <T> Function<T, IntLongPair> toIntLongPairOf(ToIntFunction<? super T> leftFunction, ToLongFunction<? super T> rightFunction) {
+        return t -> IntLongPair.of(leftFunction.applyAsInt(t), rightFunction.applyAsLong(t));
+    }
+
+    /**
+     * Given an <code>IntToDoubleFunction</code>, this method builds an <code>IntFunction</code> that returns an
+     * <code>IntDoublePair</code>, holding both of its values unboxed. The pair will consist of the target int itself,
+     * and a value returned by the passed <code>rightFunction</code>.
+     *
+     * @param rightFunction An IntToDoubleFunction to extract the right value of the IntDoublePair to be returned by the
+     *                      IntFunction built by this method.
+     * @return An IntFunction that returns an IntDoublePair of the target int, along with a value returned by the passed
+     * rightFunction.
+     */
+    public static IntFunction<IntDoublePair> intDblPairOf(IntToDoubleFunction rightFunction) {
+        return i -> IntDoublePair.of(i, rightFunction.applyAsDouble(i));
+    }
+
+    /**
+     * Given a pair of functions, one returning an <code>int</code> and the other a <code>double</code>, this method
+     * builds a <code>Function</code> that returns an <code>IntDoublePair</code> of the values they return for a target
+     * element, holding both unboxed. This is useful to carry a pair of primitive values from each element of a stream,
+     * such as the keys and amounts of rows being joined, without allocating a boxed object for either value.
+     *
+     * @param leftFunction  A ToIntFunction that will be used to retrieve the left value of the IntDoublePair.
+     * @param rightFunction A ToDoubleFunction that will be used to retrieve the right value of the IntDoublePair.
+     * @param <T>           The type of the target element.
+     * @return A Function that returns an IntDoublePair of the values retrieved by the passed functions.
+     */
+    public static <T> Function<T, IntDoublePair> toIntDblPairOf(ToIntFunction<? super T> leftFunction, ToDoubleFunction<? super T> rightFunction) {
+        return t -> IntDoublePair.of(leftFunction.applyAsInt(t), rightFunction.applyAsDouble(t));
+    }
+
     /**
      * Given a <code>List&lt;R&gt;</code>, this methods builds an <code>IntFunction</code> that returns an
      * <code>IntObjectPair&lt;R&gt;</code>. It is intended to be used in a stream. The
@@ -470,6 +558,37 @@ public final class IntMapperUtils {
         return IntKeyValueMapper.of(keyMapper, valueMapper);
     }
 
+    /**
+     * Builds an <code>IntFunction</code> that looks up the value to which an int key is mapped in an
+     * <code>IntObjectMap</code>, without boxing the key as a lookup in a <code>Map&lt;Integer, V&gt;</code> would.
+     * For example:
+     * <pre>
+     *     List&lt;Customer&gt; customers = IntTransformUtils.intTransform(customerIds,
+     *         IntMapperUtils.intGetValue(customerById));
+     * </pre>
+     *
+     * @param map An IntObjectMap from which values will be retrieved.
+     * @param <V> The type of the values of the map.
+     * @return An IntFunction that retrieves the value to which an int key is mapped. If the passed map is null, or has
+     * no mapping for a key, the result of the IntFunction will be null.
+     */
+    public static <V> IntFunction<V> intGetValue(IntObjectMap<V> map) {
+        return i -> map == null ? null : map.get(i);
+    }
+
+    /**
+     * Builds an <code>IntUnaryOperator</code> that looks up the value to which an int key is mapped in an
+     * <code>IntIntMap</code>, boxing neither the key nor the value.
+     *
+     * @param map          An IntIntMap from which values will be retrieved.
+     * @param defaultValue The value returned for a key which has no mapping.
+     * @return An IntUnaryOperator that retrieves the value to which an int key is mapped. If the passed map is null, or
+     * has no mapping for a key, the result of the IntUnaryOperator will be defaultValue.
+     */
+    public static IntUnaryOperator intGetValue(IntIntMap map, int defaultValue) {
+        return i -> map == null ? defaultValue : map.getOrDefault(i, defaultValue);
+    }
+
     /**
      * Builds an <code>IntUnaryOperator</code> that adds a constant value to an <code>int</code> parameter.
      *
@@ -521,4 +640,74 @@ public final class IntMapperUtils {
     public static IntUnaryOperator intModulo(int divisor) {
         return i -> i % divisor;
     }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>int</code> argument, so that the
+     * other function is called only once for any <code>int</code> argument. The cache is unbounded, so this suits a
+     * function whose arguments are drawn from a small set, heavily repeated:
+     * <pre>
+     *     IntFunction&lt;Region&gt; findRegion = intMemoize(regionRepository::findById);
+     * </pre>
+     * The function must return the same result whenever it is passed the same argument. Arguments are looked up without
+     * being boxed.
+     *
+     * @param function An IntFunction whose results are to be remembered.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits and misses.
+     */
+    public static <R> IntMemoizedFunction<R> intMemoize(IntFunction<? extends R> function) {
+        return IntMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>int</code> argument, in a cache
+     * holding no more than a given number of entries. When the cache is full, the entry evicted is the least recently
+     * used of those that have been looked up only once since they were loaded, so that a run of arguments passed only
+     * once does not displace those that are passed again and again. Arguments are looked up without being boxed.
+     *
+     * @param function An IntFunction whose results are to be remembered.
+     * @param maxSize  The maximum number of results to remember.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one.
+     */
+    public static <R> IntMemoizedFunction<R> intMemoize(IntFunction<? extends R> function, int maxSize) {
+        return IntMemoizedFunction.of(function, maxSize, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>int</code> argument, for a given
+     * time after the result was loaded, after which the other function is called again. The cache is bounded only by
+     * expiry, with expired entries swept out as it grows. Arguments are looked up without being boxed.
+     *
+     * @param function         An IntFunction whose results are to be remembered.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if expireAfterWrite is zero or negative.
+     */
+    public static <R> IntMemoizedFunction<R> intMemoizeWithExpiry(IntFunction<? extends R> function, Duration expireAfterWrite) {
+        return IntMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>int</code> argument, for a given
+     * time after the result was loaded, in a cache holding no more than a given number of entries, evicted as for
+     * {@link #intMemoize(IntFunction, int)}. Arguments are looked up without being boxed.
+     *
+     * @param function         An IntFunction whose results are to be remembered.
+     * @param maxSize          The maximum number of results to remember.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one, or expireAfterWrite is zero or negative.
+     */
+    public static <R> IntMemoizedFunction<R> intMemoizeWithExpiry(IntFunction<? extends R> function, int maxSize, Duration expireAfterWrite) {
+        return IntMemoizedFunction.of(function, maxSize, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
 }
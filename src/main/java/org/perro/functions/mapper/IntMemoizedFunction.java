@@ -0,0 +1,50 @@
+package org.perro.functions.mapper;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * An <code>IntFunction</code> that remembers the result of another function for each <code>int</code> argument, as a
+ * {@link MemoizedFunction} does for an object argument, but without boxing the argument to look it up. This is built
+ * by the <code>intMemoize</code> methods of {@link IntMapperUtils}.
+ *
+ * @param <R> The type of the result of the IntFunction.
+ */
+public final class IntMemoizedFunction<R> implements IntFunction<R> {
+
+    private final LongFunction<R> loader;
+    private final LongMemoizer<R> memoizer;
+
+    private IntMemoizedFunction(LongFunction<R> loader, LongMemoizer<R> memoizer) {
+        this.loader = loader;
+        this.memoizer = memoizer;
+    }
+
+    static <R> IntMemoizedFunction<R> of(IntFunction<? extends R> function, int maxSize, long expiryNanos,
+                                         LongSupplier ticker) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new IntMemoizedFunction<>(l -> function.apply((int) l), LongMemoizer.of(maxSize, expiryNanos, ticker));
+    }
+
+    /**
+     * Gets the remembered result for an argument, or calls the memoized function to get it.
+     *
+     * @param value The argument to the IntFunction.
+     * @return The result of the memoized function for the argument.
+     */
+    @Override
+    public R apply(int value) {
+        return memoizer.get(value, loader);
+    }
+
+    /**
+     * Gets a snapshot of the counters of the cache behind this function.
+     *
+     * @return The statistics of the cache of this function.
+     */
+    public CacheStatistics getStatistics() {
+        return memoizer.statistics();
+    }
+}
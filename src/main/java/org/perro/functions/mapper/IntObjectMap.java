@@ -0,0 +1,355 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * A map from primitive int keys to values of type &lt;V&gt;, that never boxes its keys. Keys and values are held in
+ * two parallel arrays, an open addressing hash table with linear probing, rather than in an entry object per mapping,
+ * so that a lookup touches no more than the keys it probes and the value it finds. It is built by the
+ * {@link org.perro.functions.collector.CollectorUtils#toIntKeyedMap(java.util.function.ToIntFunction,
+ * java.util.function.Function)} collector, and read by the {@link IntMapperUtils#intGetValue(IntObjectMap)} mapper:
+ * <pre>
+ *     IntObjectMap&lt;Customer&gt; customerById = customers.stream()
+ *         .collect(CollectorUtils.toIntKeyedMap(Customer::getId, Function.identity()));
+ *     List&lt;Customer&gt; orderCustomers = orders.stream()
+ *         .map(MapperUtils.getValue(customerById, Order::getCustomerId))
+ *         .collect(toList());
+ * </pre>
+ * Null values are allowed, so a null returned from {@link #get(int)} may also mean that there is no mapping for a key,
+ * as with a <code>HashMap</code>. An instance is not safe for use by more than one thread at a time, unless none of
+ * them changes it.
+ *
+ * @param <V> The type of the values of this map.
+ */
+public final class IntObjectMap<V> {
+
+    private static final int GOLDEN_RATIO_32 = 0x9E3779B9;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int NONE = -1;
+
+    // Zero marks an empty slot of the keys array, so the value for a key of zero, if there is one, is kept apart, in
+    // an extra slot at the end of the values array.
+    private int[] keys;
+    private Object[] values;
+    private int shift;
+    private int size;
+    private boolean containsZeroKey;
+
+    private IntObjectMap(int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Builds an empty <code>IntObjectMap</code>.
+     *
+     * @param <V> The type of the values of the map built by this method.
+     * @return A new, empty IntObjectMap.
+     */
+    public static <V> IntObjectMap<V> of() {
+        return new IntObjectMap<>(MIN_CAPACITY);
+    }
+
+    /**
+     * Builds an empty <code>IntObjectMap</code>, large enough to hold the given number of mappings without growing.
+     *
+     * @param expectedSize The number of mappings the map is expected to hold.
+     * @param <V>          The type of the values of the map built by this method.
+     * @return A new, empty IntObjectMap.
+     * @throws IllegalArgumentException if expectedSize is negative.
+     */
+    public static <V> IntObjectMap<V> of(int expectedSize) {
+        Invariants.checkArgument(expectedSize >= 0, "The 'expectedSize' argument must not be negative");
+        return new IntObjectMap<>(capacityFor(expectedSize));
+    }
+
+    // The table is kept at most half full, so that probe sequences stay short.
+    private static int capacityFor(int expectedSize) {
+        long slots = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(slots - 1L) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity + 1];
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    // Slots are chosen by Fibonacci hashing, the top bits of the key times the golden ratio, which spreads sequential
+    // ids across the table.
+    private int slot(int key) {
+        return (key * GOLDEN_RATIO_32) >>> shift;
+    }
+
+    private int indexOf(int key) {
+        if (key == 0) {
+            return containsZeroKey ? keys.length : NONE;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * Gets the value to which the given key is mapped.
+     *
+     * @param key The key whose value is to be returned.
+     * @return The value to which the key is mapped, or null if there is no mapping for the key.
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Gets the value to which the given key is mapped, or a default value if there is no mapping for the key.
+     *
+     * @param key          The key whose value is to be returned.
+     * @param defaultValue The value to return if there is no mapping for the key.
+     * @return The value to which the key is mapped, or defaultValue if there is no mapping for the key.
+     */
+    public V getOrDefault(int key, V defaultValue) {
+        int index = indexOf(key);
+        return index == NONE ? defaultValue : valueAt(index);
+    }
+
+    /**
+     * Tests whether this map has a mapping for the given key.
+     *
+     * @param key The key to look for.
+     * @return true if this map has a mapping for the key.
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) != NONE;
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any value to which the key was mapped before.
+     *
+     * @param key   The key to be mapped.
+     * @param value The value to which the key is to be mapped.
+     * @return The value to which the key was mapped before, or null if there was no mapping for the key.
+     */
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = zeroValue();
+            values[keys.length] = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+                growIfFull();
+            }
+            return previous;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key);
+        for (int k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                V previous = valueAt(slot);
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        growIfFull();
+        return null;
+    }
+
+    private void growIfFull() {
+        if (size * 2 > keys.length && keys.length < MAX_CAPACITY) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Copies all of the mappings of another <code>IntObjectMap</code> into this one, replacing any values to which
+     * their keys were mapped before.
+     *
+     * @param other The map whose mappings are to be copied into this one.
+     */
+    public void putAll(IntObjectMap<? extends V> other) {
+        Objects.requireNonNull(other, "The 'other' argument must not be null");
+        if (other.containsZeroKey) {
+            put(0, other.zeroValue());
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0) {
+                put(other.keys[i], other.valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for the given key, if there is one.
+     *
+     * @param key The key whose mapping is to be removed.
+     * @return The value to which the key was mapped, or null if there was no mapping for the key.
+     */
+    public V remove(int key) {
+        int index = indexOf(key);
+        if (index == NONE) {
+            return null;
+        }
+        V previous = valueAt(index);
+        values[index] = null;
+        size--;
+        if (index == keys.length) {
+            containsZeroKey = false;
+        } else {
+            removeSlot(index);
+        }
+        return previous;
+    }
+
+    // As linear probing allows no tombstones to be left behind, any later key in the same run of occupied slots that
+    // may move into the hole left by a removed key is shifted back into it.
+    private void removeSlot(int hole) {
+        int mask = keys.length - 1;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (((slot - slot(keys[slot])) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        values[capacity] = oldValues[oldKeys.length];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return The number of mappings in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests whether this map has no mappings.
+     *
+     * @return true if this map has no mappings.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the keys of this map, in no particular order. The stream should be consumed before this map is changed.
+     *
+     * @return An IntStream of the keys of this map.
+     */
+    public IntStream keys() {
+        IntStream tableKeys = Arrays.stream(keys).filter(k -> k != 0);
+        return containsZeroKey ? IntStream.concat(IntStream.of(0), tableKeys) : tableKeys;
+    }
+
+    private V zeroValue() {
+        return valueAt(keys.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns a hash code value for this map, which is the same as that of a <code>Map&lt;Integer, V&gt;</code> with
+     * the same mappings.
+     *
+     * @return A hash code value for this map.
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroValue()) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Integer.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Tests whether another object is an <code>IntObjectMap</code> with the same mappings as this one.
+     *
+     * @param obj An object to be tested for equality with this one.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IntObjectMap)) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        IntObjectMap<?> other = (IntObjectMap<?>) obj;
+        if (size != other.size || containsZeroKey != other.containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && !Objects.equals(zeroValue(), other.zeroValue())) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index == NONE || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same form as that of a <code>Map&lt;Integer, V&gt;</code>.
+     *
+     * @return A string representation of this map.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        if (containsZeroKey) {
+            joiner.add("0=" + zeroValue());
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                joiner.add(keys[i] + "=" + values[i]);
+            }
+        }
+        return joiner.toString();
+    }
+}
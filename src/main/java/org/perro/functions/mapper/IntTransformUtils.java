@@ -234,4 +234,21 @@ public final class IntTransformUtils {
                 .mapToObj(intPairOf(keyValueMapper))
                 .collect(toMapFromEntry());
     }
+
+    /**
+     * Given an array of primitive ints, and an <code>IntFunction</code> to transform an int to a value of type
+     * &lt;V&gt;, returns an <code>IntObjectMap&lt;V&gt;</code> from each int to its value. Unlike
+     * {@link #intTransformToMap(int[], IntKeyValueMapper)}, the ints are never boxed, either as keys or into a pair for
+     * each element.
+     *
+     * @param ints        An array of primitive ints to be the keys of the resulting IntObjectMap&lt;V&gt;.
+     * @param valueMapper An IntFunction to transform an int to a value of type &lt;V&gt;.
+     * @param <V>         The type of the values of the resulting IntObjectMap&lt;V&gt;.
+     * @return A map from each of an array of ints to the value transformed from it.
+     */
+    public static <V> IntObjectMap<V> intTransformToIntKeyedMap(int[] ints, IntFunction<? extends V> valueMapper) {
+        IntObjectMap<V> map = IntObjectMap.of(ints == null ? 0 : ints.length);
+        defaultIntStream(ints).forEach(i -> map.put(i, valueMapper.apply(i)));
+        return map;
+    }
 }
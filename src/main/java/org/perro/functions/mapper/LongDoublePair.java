@@ -0,0 +1,91 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Pair;
+
+/**
+ * An immutable object that pairs a primitive <code>long</code> value with a primitive <code>double</code> value,
+ * holding both unboxed. Note that, unlike {@link Pair}, this class does <i>not</i> implement <code>Map.Entry</code>,
+ * because it deals with primitive values only.
+ */
+public class LongDoublePair {
+
+    private final long left;
+    private final double right;
+
+    private LongDoublePair(long left, double right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Builds a new instance of this class, with the given <code>long</code> and <code>double</code> values.
+     *
+     * @param left  A long value to be paired with an associated double value.
+     * @param right A double value.
+     * @return A new instance of this class.
+     */
+    public static LongDoublePair of(long left, double right) {
+        return new LongDoublePair(left, right);
+    }
+
+    /**
+     * Getter for the left <code>long</code> value associated with a <code>double</code> value.
+     *
+     * @return A long value associated with a double value.
+     */
+    public long getLeft() {
+        return left;
+    }
+
+    /**
+     * Getter for the right <code>double</code> value associated with a <code>long</code> value.
+     *
+     * @return A double value associated with a long value.
+     */
+    public double getRight() {
+        return right;
+    }
+
+    /**
+     * Generates a hash code based on the hash codes of its primitive attributes, without boxing them.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(left) + Double.hashCode(right);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. The will be considered equal if the given object is
+     * of the same class, and is either the identical object, or its primitive attributes are equal.
+     *
+     * @param obj The target object with which to compare the current instance.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        LongDoublePair other = (LongDoublePair) obj;
+        return left == other.left &&
+                Double.compare(right, other.right) == 0;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the primitive <code>long</code> left attribute and its
+     * associated primitive <code>double</code> right attribute.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[left=%s,right=%s]";
+        return String.format(template, getClass().getName(), identity, left, right);
+    }
+}
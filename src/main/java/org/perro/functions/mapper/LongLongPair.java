@@ -0,0 +1,91 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Pair;
+
+/**
+ * An immutable object that pairs a primitive <code>long</code> value with a primitive <code>long</code> value, holding
+ * both unboxed. Note that, unlike {@link Pair}, this class does <i>not</i> implement <code>Map.Entry</code>, because
+ * it deals with primitive values only.
+ */
+public class LongLongPair {
+
+    private final long left;
+    private final long right;
+
+    private LongLongPair(long left, long right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Builds a new instance of this class, with the given <code>long</code> and <code>long</code> values.
+     *
+     * @param left  A long value to be paired with an associated long value.
+     * @param right A long value.
+     * @return A new instance of this class.
+     */
+    public static LongLongPair of(long left, long right) {
+        return new LongLongPair(left, right);
+    }
+
+    /**
+     * Getter for the left <code>long</code> value associated with a <code>long</code> value.
+     *
+     * @return A long value associated with a long value.
+     */
+    public long getLeft() {
+        return left;
+    }
+
+    /**
+     * Getter for the right <code>long</code> value associated with a <code>long</code> value.
+     *
+     * @return A long value associated with a long value.
+     */
+    public long getRight() {
+        return right;
+    }
+
+    /**
+     * Generates a hash code based on the hash codes of its primitive attributes, without boxing them.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(left) + Long.hashCode(right);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. The will be considered equal if the given object is
+     * of the same class, and is either the identical object, or its primitive attributes are equal.
+     *
+     * @param obj The target object with which to compare the current instance.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        LongLongPair other = (LongLongPair) obj;
+        return left == other.left &&
+                right == other.right;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the primitive <code>long</code> left attribute and its
+     * associated primitive <code>long</code> right attribute.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[left=%s,right=%s]";
+        return String.format(template, getClass().getName(), identity, left, right);
+    }
+}
@@ -2,6 +2,7 @@ package org.perro.functions.mapper;
 
 import org.perro.functions.internal.Pair;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -333,6 +334,64 @@ public final class LongMapperUtils {
         return l -> Pair.of(leftFunction.apply(l), rightFunction.apply(l));
     }
 
+    /**
+     * Given a <code>LongUnaryOperator</code>, this method builds a <code>LongFunction</code> that returns a
+     * <code>LongLongPair</code>, holding both of its values unboxed. The pair will consist of the target long itself,
+     * and a value returned by the passed <code>rightFunction</code>.
+     *
+     * @param rightFunction A LongUnaryOperator to extract the right value of the LongLongPair to be returned by the
+     *                      LongFunction built by this method.
+     * @return A LongFunction that returns a LongLongPair of the target long, along with a value returned by the passed
+     * rightFunction.
+     */
+    public static LongFunction<LongLongPair> longLongPairOf(LongUnaryOperator rightFunction) {
+        return l -> LongLongPair.of(l, rightFunction.applyAsLong(l));
+    }
+
+    /**
+     * Given a pair of functions, each returning a <code>long</code>, this method builds a <code>Function</code> that
+     * returns a <code>LongLongPair</code> of the values they return for a target element, holding both unboxed. This is
+     * useful to carry a pair of primitive values from each element of a stream, such as the keys and amounts of rows
+     * being joined, without allocating a boxed object for either value.
+     *
+     * @param leftFunction  A ToLongFunction that will be used to retrieve the left value of the LongLongPair.
+     * @param rightFunction A ToLongFunction that will be used to retrieve the right value of the LongLongPair.
+     * @param <T>           The type of the target element.
+     * @return A Function that returns a LongLongPair of the values retrieved by the passed functions.
+     */
+    public static <T> Function<T, LongLongPair> toLongLongPairOf(ToLongFunction<? super T> leftFunction, ToLongFunction<? super T> rightFunction) {
+        return t -> LongLongPair.of(leftFunction.applyAsLong(t), rightFunction.applyAsLong(t));
+    }
+
+    /**
+     * Given a <code>LongToDoubleFunction</code>, this method builds a <code>LongFunction</code> that returns a
+     * <code>LongDoublePair</code>, holding both of its values unboxed. The pair will consist of the target long itself,
+     * and a value returned by the passed <code>rightFunction</code>.
+     *
+     * @param rightFunction A LongToDoubleFunction to extract the right value of the LongDoublePair to be returned by
+     *                      the LongFunction built by this method.
+     * @return A LongFunction that returns a LongDoublePair of the target long, along with a value returned by the
+     * passed rightFunction.
+     */
+    public static LongFunction<LongDoublePair> longDblPairOf(LongToDoubleFunction rightFunction) {
+        return l -> LongDoublePair.of(l, rightFunction.applyAsDouble(l));
+    }
+
+    /**
+     * Given a pair of functions, one returning a <code>long</code> and the other a <code>double</code>, this method
+     * builds a <code>Function</code> that returns a <code>LongDoublePair</code> of the values they return for a target
+     * element, holding both unboxed. This is useful to carry a pair of primitive values from each element of a stream,
+     * such as the keys and amounts of rows being joined, without allocating a boxed object for either value.
+     *
+     * @param leftFunction  A ToLongFunction that will be used to retrieve the left value of the LongDoublePair.
+     * @param rightFunction A ToDoubleFunction that will be used to retrieve the right value of the LongDoublePair.
+     * @param <T>           The type of the target element.
+     * @return A Function that returns a LongDoublePair of the values retrieved by the passed functions.
+     */
+    public static <T> Function<T, LongDoublePair> toLongDblPairOf(ToLongFunction<? super T> leftFunction, ToDoubleFunction<? super T> rightFunction) {
+        return t -> LongDoublePair.of(leftFunction.applyAsLong(t), rightFunction.applyAsDouble(t));
+    }
+
     /**
      * Given a <code>List&lt;R&gt;</code>, this methods builds a <code>LongFunction</code> that returns a
      * <code>LongObjectPair&lt;R&gt;</code>. It is intended to be used in a stream. The
@@ -471,6 +530,19 @@ public final class LongMapperUtils {
         return LongKeyValueMapper.of(keyMapper, valueMapper);
     }
 
+    /**
+     * Builds a <code>LongFunction</code> that looks up the value to which a long key is mapped in a
+     * <code>LongObjectMap</code>, without boxing the key as a lookup in a <code>Map&lt;Long, V&gt;</code> would.
+     *
+     * @param map A LongObjectMap from which values will be retrieved.
+     * @param <V> The type of the values of the map.
+     * @return A LongFunction that retrieves the value to which a long key is mapped. If the passed map is null, or has
+     * no mapping for a key, the result of the LongFunction will be null.
+     */
+    public static <V> LongFunction<V> longGetValue(LongObjectMap<V> map) {
+        return l -> map == null ? null : map.get(l);
+    }
+
     /**
      * Builds a <code>LongUnaryOperator</code> that adds a constant value to a <code>long</code> parameter.
      *
@@ -522,4 +594,74 @@ public final class LongMapperUtils {
     public static LongUnaryOperator longModulo(long divisor) {
         return l -> l % divisor;
     }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>long</code> argument, so that the
+     * other function is called only once for any <code>long</code> argument. The cache is unbounded, so this suits a
+     * function whose arguments are drawn from a small set, heavily repeated:
+     * <pre>
+     *     LongFunction&lt;Account&gt; findAccount = longMemoize(accountRepository::findById);
+     * </pre>
+     * The function must return the same result whenever it is passed the same argument. Arguments are looked up without
+     * being boxed.
+     *
+     * @param function A LongFunction whose results are to be remembered.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits and misses.
+     */
+    public static <R> LongMemoizedFunction<R> longMemoize(LongFunction<? extends R> function) {
+        return LongMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>long</code> argument, in a cache
+     * holding no more than a given number of entries. When the cache is full, the entry evicted is the least recently
+     * used of those that have been looked up only once since they were loaded, so that a run of arguments passed only
+     * once does not displace those that are passed again and again. Arguments are looked up without being boxed.
+     *
+     * @param function A LongFunction whose results are to be remembered.
+     * @param maxSize  The maximum number of results to remember.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one.
+     */
+    public static <R> LongMemoizedFunction<R> longMemoize(LongFunction<? extends R> function, int maxSize) {
+        return LongMemoizedFunction.of(function, maxSize, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>long</code> argument, for a given
+     * time after the result was loaded, after which the other function is called again. The cache is bounded only by
+     * expiry, with expired entries swept out as it grows. Arguments are looked up without being boxed.
+     *
+     * @param function         A LongFunction whose results are to be remembered.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if expireAfterWrite is zero or negative.
+     */
+    public static <R> LongMemoizedFunction<R> longMemoizeWithExpiry(LongFunction<? extends R> function, Duration expireAfterWrite) {
+        return LongMemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each <code>long</code> argument, for a given
+     * time after the result was loaded, in a cache holding no more than a given number of entries, evicted as for
+     * {@link #longMemoize(LongFunction, int)}. Arguments are looked up without being boxed.
+     *
+     * @param function         A LongFunction whose results are to be remembered.
+     * @param maxSize          The maximum number of results to remember.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one, or expireAfterWrite is zero or negative.
+     */
+    public static <R> LongMemoizedFunction<R> longMemoizeWithExpiry(LongFunction<? extends R> function, int maxSize, Duration expireAfterWrite) {
+        return LongMemoizedFunction.of(function, maxSize, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
 }
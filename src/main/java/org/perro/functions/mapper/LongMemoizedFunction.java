@@ -0,0 +1,49 @@
+package org.perro.functions.mapper;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * A <code>LongFunction</code> that remembers the result of another function for each <code>long</code> argument, as
+ * a {@link MemoizedFunction} does for an object argument, but without boxing the argument to look it up. This is built
+ * by the <code>longMemoize</code> methods of {@link LongMapperUtils}.
+ *
+ * @param <R> The type of the result of the LongFunction.
+ */
+public final class LongMemoizedFunction<R> implements LongFunction<R> {
+
+    private final LongFunction<? extends R> function;
+    private final LongMemoizer<R> memoizer;
+
+    private LongMemoizedFunction(LongFunction<? extends R> function, LongMemoizer<R> memoizer) {
+        this.function = function;
+        this.memoizer = memoizer;
+    }
+
+    static <R> LongMemoizedFunction<R> of(LongFunction<? extends R> function, int maxSize, long expiryNanos,
+                                          LongSupplier ticker) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new LongMemoizedFunction<>(function, LongMemoizer.of(maxSize, expiryNanos, ticker));
+    }
+
+    /**
+     * Gets the remembered result for an argument, or calls the memoized function to get it.
+     *
+     * @param value The argument to the LongFunction.
+     * @return The result of the memoized function for the argument.
+     */
+    @Override
+    public R apply(long value) {
+        return memoizer.get(value, function);
+    }
+
+    /**
+     * Gets a snapshot of the counters of the cache behind this function.
+     *
+     * @return The statistics of the cache of this function.
+     */
+    public CacheStatistics getStatistics() {
+        return memoizer.statistics();
+    }
+}
@@ -0,0 +1,85 @@
+package org.perro.functions.mapper;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+// Loads values as an ObjectMemoizer does, but holds keys unboxed, in a long array, which also serves int keys and the
+// bits of double keys.
+final class LongMemoizer<V> {
+
+    private final Segment[] segments;
+    private final int stripeMask;
+
+    private LongMemoizer(Segment[] segments) {
+        this.segments = segments;
+        this.stripeMask = segments.length - 1;
+    }
+
+    static <V> LongMemoizer<V> of(int maxSize, long expiryNanos, LongSupplier ticker) {
+        CacheSegment.checkMaxSize(maxSize);
+        int stripeCount = CacheSegment.stripeCount(maxSize);
+        Segment[] segments = new Segment[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            segments[i] = new Segment(CacheSegment.stripeMaxSize(maxSize, stripeCount, i), expiryNanos, ticker);
+        }
+        return new LongMemoizer<>(segments);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key, LongFunction<? extends V> loader) {
+        int hash = Long.hashCode(key);
+        Segment segment = segments[CacheSegment.stripe(hash, stripeMask)];
+        Object value = segment.get(key, hash);
+        if (value == CacheSegment.MISSING) {
+            value = segment.putIfAbsent(key, hash, loader.apply(key));
+        }
+        return (V) value;
+    }
+
+    CacheStatistics statistics() {
+        return CacheSegment.statistics(segments);
+    }
+
+    private static final class Segment extends CacheSegment {
+
+        private long[] keys;
+
+        private Segment(int maxSize, long expiryNanos, LongSupplier ticker) {
+            super(maxSize, expiryNanos, ticker);
+            this.keys = new long[capacity()];
+        }
+
+        synchronized Object get(long key, int hash) {
+            return read(find(key, hash));
+        }
+
+        synchronized Object putIfAbsent(long key, int hash, Object value) {
+            Object loaded = readLoaded(find(key, hash));
+            if (loaded != MISSING) {
+                return loaded;
+            }
+            int entry = add(hash, value);
+            keys[entry] = key;
+            return value;
+        }
+
+        private int find(long key, int hash) {
+            for (int slot = firstSlot(hash), entry; (entry = entryAt(slot)) != NONE; slot = nextSlot(slot)) {
+                if (hashAt(entry) == hash && keys[entry] == key) {
+                    return entry;
+                }
+            }
+            return NONE;
+        }
+
+        @Override
+        void resizeKeys(int length) {
+            keys = Arrays.copyOf(keys, length);
+        }
+
+        @Override
+        void clearKey(int entry) {
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package org.perro.functions.mapper;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.stream.LongStream;
+
+/**
+ * A map from primitive long keys to values of type &lt;V&gt;, that never boxes its keys. Keys and values are held in
+ * two parallel arrays, an open addressing hash table with linear probing, rather than in an entry object per mapping,
+ * so that a lookup touches no more than the keys it probes and the value it finds. It is built by the
+ * {@link org.perro.functions.collector.CollectorUtils#toLongKeyedMap(java.util.function.ToLongFunction,
+ * java.util.function.Function)} collector, and read by the {@link LongMapperUtils#longGetValue(LongObjectMap)} mapper:
+ * <pre>
+ *     LongObjectMap&lt;Customer&gt; customerById = customers.stream()
+ *         .collect(CollectorUtils.toLongKeyedMap(Customer::getId, Function.identity()));
+ *     List&lt;Customer&gt; orderCustomers = orders.stream()
+ *         .map(MapperUtils.getValue(customerById, Order::getCustomerId))
+ *         .collect(toList());
+ * </pre>
+ * Null values are allowed, so a null returned from {@link #get(long)} may also mean that there is no mapping for a key,
+ * as with a <code>HashMap</code>. An instance is not safe for use by more than one thread at a time, unless none of
+ * them changes it.
+ *
+ * @param <V> The type of the values of this map.
+ */
+public final class LongObjectMap<V> {
+
+    private static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int NONE = -1;
+
+    // Zero marks an empty slot of the keys array, so the value for a key of zero, if there is one, is kept apart, in
+    // an extra slot at the end of the values array.
+    private long[] keys;
+    private Object[] values;
+    private int shift;
+    private int size;
+    private boolean containsZeroKey;
+
+    private LongObjectMap(int capacity) {
+        allocate(capacity);
+    }
+
+    /**
+     * Builds an empty <code>LongObjectMap</code>.
+     *
+     * @param <V> The type of the values of the map built by this method.
+     * @return A new, empty LongObjectMap.
+     */
+    public static <V> LongObjectMap<V> of() {
+        return new LongObjectMap<>(MIN_CAPACITY);
+    }
+
+    /**
+     * Builds an empty <code>LongObjectMap</code>, large enough to hold the given number of mappings without growing.
+     *
+     * @param expectedSize The number of mappings the map is expected to hold.
+     * @param <V>          The type of the values of the map built by this method.
+     * @return A new, empty LongObjectMap.
+     * @throws IllegalArgumentException if expectedSize is negative.
+     */
+    public static <V> LongObjectMap<V> of(int expectedSize) {
+        Invariants.checkArgument(expectedSize >= 0, "The 'expectedSize' argument must not be negative");
+        return new LongObjectMap<>(capacityFor(expectedSize));
+    }
+
+    // The table is kept at most half full, so that probe sequences stay short.
+    private static int capacityFor(int expectedSize) {
+        long slots = Math.max(MIN_CAPACITY, 2L * expectedSize);
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(slots - 1L) << 1);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity + 1];
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    // The top bits of the key times the 64 bit golden ratio, so that the high bits of a key also choose its slot.
+    private int slot(long key) {
+        return (int) ((key * GOLDEN_RATIO_64) >>> shift);
+    }
+
+    private int indexOf(long key) {
+        if (key == 0) {
+            return containsZeroKey ? keys.length : NONE;
+        }
+        int mask = keys.length - 1;
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * Gets the value to which the given key is mapped.
+     *
+     * @param key The key whose value is to be returned.
+     * @return The value to which the key is mapped, or null if there is no mapping for the key.
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Gets the value to which the given key is mapped, or a default value if there is no mapping for the key.
+     *
+     * @param key          The key whose value is to be returned.
+     * @param defaultValue The value to return if there is no mapping for the key.
+     * @return The value to which the key is mapped, or defaultValue if there is no mapping for the key.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        int index = indexOf(key);
+        return index == NONE ? defaultValue : valueAt(index);
+    }
+
+    /**
+     * Tests whether this map has a mapping for the given key.
+     *
+     * @param key The key to look for.
+     * @return true if this map has a mapping for the key.
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) != NONE;
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any value to which the key was mapped before.
+     *
+     * @param key   The key to be mapped.
+     * @param value The value to which the key is to be mapped.
+     * @return The value to which the key was mapped before, or null if there was no mapping for the key.
+     */
+    public V put(long key, V value) {
+        if (key == 0) {
+            V previous = zeroValue();
+            values[keys.length] = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+                growIfFull();
+            }
+            return previous;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key);
+        for (long k; (k = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (k == key) {
+                V previous = valueAt(slot);
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        growIfFull();
+        return null;
+    }
+
+    private void growIfFull() {
+        if (size * 2 > keys.length && keys.length < MAX_CAPACITY) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Copies all of the mappings of another <code>LongObjectMap</code> into this one, replacing any values to which
+     * their keys were mapped before.
+     *
+     * @param other The map whose mappings are to be copied into this one.
+     */
+    public void putAll(LongObjectMap<? extends V> other) {
+        Objects.requireNonNull(other, "The 'other' argument must not be null");
+        if (other.containsZeroKey) {
+            put(0, other.zeroValue());
+        }
+        for (int i = 0; i < other.keys.length; i++) {
+            if (other.keys[i] != 0) {
+                put(other.keys[i], other.valueAt(i));
+            }
+        }
+    }
+
+    /**
+     * Removes the mapping for the given key, if there is one.
+     *
+     * @param key The key whose mapping is to be removed.
+     * @return The value to which the key was mapped, or null if there was no mapping for the key.
+     */
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index == NONE) {
+            return null;
+        }
+        V previous = valueAt(index);
+        values[index] = null;
+        size--;
+        if (index == keys.length) {
+            containsZeroKey = false;
+        } else {
+            removeSlot(index);
+        }
+        return previous;
+    }
+
+    // As linear probing allows no tombstones to be left behind, any later key in the same run of occupied slots that
+    // may move into the hole left by a removed key is shifted back into it.
+    private void removeSlot(int hole) {
+        int mask = keys.length - 1;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (((slot - slot(keys[slot])) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = values[slot];
+                hole = slot;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        values[capacity] = oldValues[oldKeys.length];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of mappings in this map.
+     *
+     * @return The number of mappings in this map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Tests whether this map has no mappings.
+     *
+     * @return true if this map has no mappings.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the keys of this map, in no particular order. The stream should be consumed before this map is changed.
+     *
+     * @return A LongStream of the keys of this map.
+     */
+    public LongStream keys() {
+        LongStream tableKeys = Arrays.stream(keys).filter(k -> k != 0L);
+        return containsZeroKey ? LongStream.concat(LongStream.of(0L), tableKeys) : tableKeys;
+    }
+
+    private V zeroValue() {
+        return valueAt(keys.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * Returns a hash code value for this map, which is the same as that of a <code>Map&lt;Long, V&gt;</code> with
+     * the same mappings.
+     *
+     * @return A hash code value for this map.
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroValue()) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Tests whether another object is an <code>LongObjectMap</code> with the same mappings as this one.
+     *
+     * @param obj An object to be tested for equality with this one.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof LongObjectMap)) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        LongObjectMap<?> other = (LongObjectMap<?>) obj;
+        if (size != other.size || containsZeroKey != other.containsZeroKey) {
+            return false;
+        }
+        if (containsZeroKey && !Objects.equals(zeroValue(), other.zeroValue())) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int index = other.indexOf(keys[i]);
+                if (index == NONE || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of this map, in the same form as that of a <code>Map&lt;Long, V&gt;</code>.
+     *
+     * @return A string representation of this map.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        if (containsZeroKey) {
+            joiner.add("0=" + zeroValue());
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                joiner.add(keys[i] + "=" + values[i]);
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -230,4 +230,21 @@ public final class LongTransformUtils {
                 .mapToObj(longPairOf(keyValueMapper))
                 .collect(toMapFromEntry());
     }
+
+    /**
+     * Given an array of primitive longs, and a <code>LongFunction</code> to transform a long to a value of type
+     * &lt;V&gt;, returns a <code>LongObjectMap&lt;V&gt;</code> from each long to its value. Unlike
+     * {@link #longTransformToMap(long[], LongKeyValueMapper)}, the longs are never boxed, either as keys or into a pair
+     * for each element.
+     *
+     * @param longs       An array of primitive longs to be the keys of the resulting LongObjectMap&lt;V&gt;.
+     * @param valueMapper A LongFunction to transform a long to a value of type &lt;V&gt;.
+     * @param <V>         The type of the values of the resulting LongObjectMap&lt;V&gt;.
+     * @return A map from each of an array of longs to the value transformed from it.
+     */
+    public static <V> LongObjectMap<V> longTransformToLongKeyedMap(long[] longs, LongFunction<? extends V> valueMapper) {
+        LongObjectMap<V> map = LongObjectMap.of(longs == null ? 0 : longs.length);
+        defaultLongStream(longs).forEach(l -> map.put(l, valueMapper.apply(l)));
+        return map;
+    }
 }
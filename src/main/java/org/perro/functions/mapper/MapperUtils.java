@@ -1,8 +1,11 @@
 package org.perro.functions.mapper;
 
+import org.perro.functions.internal.AhoCorasick;
 import org.perro.functions.internal.Pair;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -10,6 +13,8 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -493,6 +498,146 @@ public final class MapperUtils {
         return t -> (map == null || t == null) ? null : map.get(function.apply(t));
     }
 
+    /**
+     * Retrieves a value of type &lt;V&gt; from an <code>IntObjectMap</code>, using an int key retrieved from an
+     * element of type &lt;T&gt; using a passed <code>ToIntFunction</code>, so that the key is never boxed:
+     * <pre>
+     *     return transform(orders, getValue(customerById, Order::getCustomerId));
+     * </pre>
+     *
+     * @param map      An IntObjectMap from which a value will be retrieved.
+     * @param function A ToIntFunction whose result will be used as a key to retrieve a value from an IntObjectMap.
+     * @param <T>      The type of the target element on which a ToIntFunction is to be called to provide a key value.
+     * @param <V>      The type of the value to be returned from the Function built by this method.
+     * @return A Function that retrieves a value from a passed IntObjectMap. If passed map, or the target element
+     * passed to this Function are null, then the result of this Function will be null.
+     */
+    public static <T, V> Function<T, V> getValue(IntObjectMap<V> map, ToIntFunction<? super T> function) {
+        return t -> (map == null || t == null) ? null : map.get(function.applyAsInt(t));
+    }
+
+    /**
+     * Retrieves a value of type &lt;V&gt; from a <code>LongObjectMap</code>, using a long key retrieved from an
+     * element of type &lt;T&gt; using a passed <code>ToLongFunction</code>, so that the key is never boxed.
+     *
+     * @param map      A LongObjectMap from which a value will be retrieved.
+     * @param function A ToLongFunction whose result will be used as a key to retrieve a value from a LongObjectMap.
+     * @param <T>      The type of the target element on which a ToLongFunction is to be called to provide a key value.
+     * @param <V>      The type of the value to be returned from the Function built by this method.
+     * @return A Function that retrieves a value from a passed LongObjectMap. If passed map, or the target element
+     * passed to this Function are null, then the result of this Function will be null.
+     */
+    public static <T, V> Function<T, V> getValue(LongObjectMap<V> map, ToLongFunction<? super T> function) {
+        return t -> (map == null || t == null) ? null : map.get(function.applyAsLong(t));
+    }
+
+    /**
+     * Builds a <code>BatchMapper</code> that maps a stream of keys to a stream of their values, by calling a loader
+     * once for each batch of up to <code>batchSize</code> keys, rather than once for each key as
+     * {@link #getValue(Map, Function)} would. This suits a loader that calls a remote source, such as a DAO or cache
+     * client:
+     * <pre>
+     *     List&lt;Customer&gt; customers = TransformUtils.transform(customerIds,
+     *         MapperUtils.batchMapper(customerDao::findByIds, 100));
+     * </pre>
+     * Each batch is passed to the loader with its repeated and null keys taken out, and the values are returned in the
+     * same order as the keys. A null key, or a key missing from the map returned by the loader, is mapped to null.
+     *
+     * @param loader    A Function that looks up the values of a collection of keys, returning a Map from each key it
+     *                  found to its value.
+     * @param batchSize The maximum number of keys passed to each call of the loader.
+     * @param <K>       The type of the keys to be looked up.
+     * @param <V>       The type of the values of those keys.
+     * @return A BatchMapper that looks up the values of keys in batches.
+     * @throws IllegalArgumentException if batchSize is less than one.
+     */
+    public static <K, V> BatchMapper<K, V> batchMapper(Function<Collection<K>, Map<K, V>> loader, int batchSize) {
+        return BatchMapper.of(loader, batchSize);
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Function</code> that returns the first of the given <code>searchSeqs</code> found in
+     * the character sequence returned from the function. The search sequences are compiled once, when the function is
+     * built, into an Aho-Corasick automaton, so that each character sequence is scanned just once. For example, to tag
+     * log lines with the first alert keyword they mention:
+     * <pre>
+     *     Map&lt;String, List&lt;LogLine&gt;&gt; alertsByKeyword = logLines.stream()
+     *         .filter(PredicateUtils.containsAnySeq(LogLine::getMessage, alertKeywords))
+     *         .collect(groupingBy(MapperUtils.firstMatchingSeq(LogLine::getMessage, alertKeywords)));
+     * </pre>
+     * The first search sequence found is the one whose match ends earliest in the character sequence. If more than one
+     * match ends at the same place, the longest of them is returned.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the target element on which a Function is to be called to provide a CharSequence.
+     * @return A Function that returns the first of the given searchSeqs, as a String, found in the CharSequence
+     * returned from a given function. Returns null if none of them are found, or if the target element is null.
+     */
+    public static <T> Function<T, String> firstMatchingSeq(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, false);
+        return t -> t == null ? null : automaton.firstMatch(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Function</code> that returns the first of the given <code>searchSeqs</code> found in
+     * the character sequence returned from the function, ignoring case. It is otherwise the same as
+     * {@link #firstMatchingSeq(Function, Collection)}.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the target element on which a Function is to be called to provide a CharSequence.
+     * @return A Function that returns the first of the given searchSeqs, as a String, found in the CharSequence
+     * returned from a given function, ignoring case. Returns null if none of them are found, or if the target element
+     * is null.
+     */
+    public static <T> Function<T, String> firstMatchingSeqIgnoreCase(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, true);
+        return t -> t == null ? null : automaton.firstMatch(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Function</code> that returns all of the given <code>searchSeqs</code> found in the
+     * character sequence returned from the function, in the order in which they are first found. Like
+     * {@link #firstMatchingSeq(Function, Collection)}, the search sequences are compiled once, when the function is
+     * built, so that each character sequence is scanned just once.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the target element on which a Function is to be called to provide a CharSequence.
+     * @return A Function that returns a List of the given searchSeqs, as Strings, found in the CharSequence returned
+     * from a given function. Returns an empty List if none of them are found, or if the target element is null.
+     */
+    public static <T> Function<T, List<String>> matchingSeqs(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, false);
+        return t -> t == null ? Collections.emptyList() : automaton.allMatches(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Function</code> that returns all of the given <code>searchSeqs</code> found in the
+     * character sequence returned from the function, ignoring case. It is otherwise the same as
+     * {@link #matchingSeqs(Function, Collection)}.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the target element on which a Function is to be called to provide a CharSequence.
+     * @return A Function that returns a List of the given searchSeqs, as Strings, found in the CharSequence returned
+     * from a given function, ignoring case. Returns an empty List if none of them are found, or if the target element
+     * is null.
+     */
+    public static <T> Function<T, List<String>> matchingSeqsIgnoreCase(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, true);
+        return t -> t == null ? Collections.emptyList() : automaton.allMatches(function.apply(t));
+    }
+
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a
      * <code>Collection&lt;R&gt;</code>, this method builds a <code>Function</code> that takes the same argument type,
@@ -685,7 +830,8 @@ public final class MapperUtils {
      * of values, one being the element itself, and the other a primitive zero-based index of the object in encounter
      * order. The <code>Function</code> built by this method is intended to be used in a stream, and is most useful in a
      * situation where an ordered collection is being streamed. It is <i>not</i> intended to be used with parallel
-     * streams.
+     * streams. For those, {@link org.perro.functions.stream.StreamUtils#indexed(List)} takes the index of each element
+     * from its position in the source of the stream.
      *
      * @param <T> The type of the target elements being streamed.
      * @return A Function that takes an element of type &lt;T&gt;, and returns an object representing a pair of the
@@ -701,7 +847,8 @@ public final class MapperUtils {
      * a pair of values, one being a value returned from the passed <code>function</code>, and the other a primitive
      * zero-based index of the object in encounter order. The <code>Function</code> built by this method is intended to
      * be used in a stream, and is most useful in a situation where an ordered collection is being streamed. It is
-     * <i>not</i> intended to be used with parallel streams.
+     * <i>not</i> intended to be used with parallel streams. For those, map the elements of a stream built by
+     * {@link org.perro.functions.stream.StreamUtils#indexed(List)} instead.
      *
      * @param function A Function that takes an element of type &lt;T&gt; and returns a value of type &lt;R&gt;.
      * @param <T>      The type of the target elements being streamed.
@@ -783,4 +930,76 @@ public final class MapperUtils {
     public static <T, K, V> KeyValueMapper<T, K, V> keyValueMapper(Function<T, K> keyMapper, Function<T, V> valueMapper) {
         return KeyValueMapper.of(keyMapper, valueMapper);
     }
+
+    /**
+     * Builds a function that remembers the result of another function for each argument, so that the other function is
+     * called only once for any argument. The cache is unbounded, so this suits a function whose arguments are drawn
+     * from a small set, heavily repeated:
+     * <pre>
+     *     Function&lt;String, Customer&gt; findCustomer = memoize(customerRepository::findById);
+     * </pre>
+     * The function must return the same result whenever it is passed the same argument.
+     *
+     * @param function A function whose results are to be remembered.
+     * @param <T>      The type of the argument to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits and misses.
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<? super T, ? extends R> function) {
+        return MemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each argument, in a cache holding no more
+     * than a given number of entries. When the cache is full, the entry evicted is the least recently used of those
+     * that have been looked up only once since they were loaded, so that a run of arguments passed only once does not
+     * displace those that are passed again and again.
+     *
+     * @param function A function whose results are to be remembered.
+     * @param maxSize  The maximum number of results to remember.
+     * @param <T>      The type of the argument to the function.
+     * @param <R>      The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one.
+     */
+    public static <T, R> MemoizedFunction<T, R> memoize(Function<? super T, ? extends R> function, int maxSize) {
+        return MemoizedFunction.of(function, maxSize, CacheSegment.NO_EXPIRY, System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each argument, for a given time after the
+     * result was loaded, after which the other function is called again. The cache is bounded only by expiry, with
+     * expired entries swept out as it grows.
+     *
+     * @param function         A function whose results are to be remembered.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <T>              The type of the argument to the function.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if expireAfterWrite is zero or negative.
+     */
+    public static <T, R> MemoizedFunction<T, R> memoizeWithExpiry(Function<? super T, ? extends R> function, Duration expireAfterWrite) {
+        return MemoizedFunction.of(function, CacheSegment.UNBOUNDED, CacheSegment.toExpiryNanos(expireAfterWrite),
+                System::nanoTime);
+    }
+
+    /**
+     * Builds a function that remembers the result of another function for each argument, for a given time after the
+     * result was loaded, in a cache holding no more than a given number of entries, evicted as for {@link
+     * #memoize(Function, int)}.
+     *
+     * @param function         A function whose results are to be remembered.
+     * @param maxSize          The maximum number of results to remember.
+     * @param expireAfterWrite How long a result is remembered for after it is loaded.
+     * @param <T>              The type of the argument to the function.
+     * @param <R>              The type of the result of the function.
+     * @return A function caching the results of the given function, with counters of its cache hits, misses and
+     * evictions.
+     * @throws IllegalArgumentException if maxSize is less than one, or expireAfterWrite is zero or negative.
+     */
+    public static <T, R> MemoizedFunction<T, R> memoizeWithExpiry(Function<? super T, ? extends R> function, int maxSize, Duration expireAfterWrite) {
+        return MemoizedFunction.of(function, maxSize, CacheSegment.toExpiryNanos(expireAfterWrite), System::nanoTime);
+    }
 }
@@ -0,0 +1,53 @@
+package org.perro.functions.mapper;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A <code>Function</code> that remembers the result of another function for each argument, so that the other
+ * function is called at most once for any argument while its result stays in the cache. The cache may be bounded,
+ * evicting entries as a segmented LRU cache, so that arguments passed only once do not displace those passed again and
+ * again, and entries may expire a fixed time after they were loaded. The cache is safe for use by concurrent threads,
+ * though two threads passing the same argument at once may both call the other function. This is built by the
+ * <code>memoize</code> methods of {@link MapperUtils}.
+ *
+ * @param <T> The type of the argument to the Function.
+ * @param <R> The type of the result of the Function.
+ */
+public final class MemoizedFunction<T, R> implements Function<T, R> {
+
+    private final Function<? super T, ? extends R> function;
+    private final ObjectMemoizer<T, R> memoizer;
+
+    private MemoizedFunction(Function<? super T, ? extends R> function, ObjectMemoizer<T, R> memoizer) {
+        this.function = function;
+        this.memoizer = memoizer;
+    }
+
+    static <T, R> MemoizedFunction<T, R> of(Function<? super T, ? extends R> function, int maxSize, long expiryNanos,
+                                            LongSupplier ticker) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new MemoizedFunction<>(function, ObjectMemoizer.of(maxSize, expiryNanos, ticker));
+    }
+
+    /**
+     * Gets the remembered result for an argument, or calls the memoized function to get it.
+     *
+     * @param t The argument to the Function.
+     * @return The result of the memoized function for the argument.
+     */
+    @Override
+    public R apply(T t) {
+        return memoizer.get(t, function);
+    }
+
+    /**
+     * Gets a snapshot of the counters of the cache behind this function.
+     *
+     * @return The statistics of the cache of this function.
+     */
+    public CacheStatistics getStatistics() {
+        return memoizer.statistics();
+    }
+}
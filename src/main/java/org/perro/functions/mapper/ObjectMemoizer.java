@@ -0,0 +1,88 @@
+package org.perro.functions.mapper;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// A value is loaded outside the lock of its stripe, so that a slow load only holds up threads loading the same key,
+// and a function may memoize itself recursively. Two threads missing the same key at once may both load it, in which
+// case the value loaded first is kept and returned to both.
+final class ObjectMemoizer<K, V> {
+
+    private final Segment[] segments;
+    private final int stripeMask;
+
+    private ObjectMemoizer(Segment[] segments) {
+        this.segments = segments;
+        this.stripeMask = segments.length - 1;
+    }
+
+    static <K, V> ObjectMemoizer<K, V> of(int maxSize, long expiryNanos, LongSupplier ticker) {
+        CacheSegment.checkMaxSize(maxSize);
+        int stripeCount = CacheSegment.stripeCount(maxSize);
+        Segment[] segments = new Segment[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            segments[i] = new Segment(CacheSegment.stripeMaxSize(maxSize, stripeCount, i), expiryNanos, ticker);
+        }
+        return new ObjectMemoizer<>(segments);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key, Function<? super K, ? extends V> loader) {
+        int hash = Objects.hashCode(key);
+        Segment segment = segments[CacheSegment.stripe(hash, stripeMask)];
+        Object value = segment.get(key, hash);
+        if (value == CacheSegment.MISSING) {
+            value = segment.putIfAbsent(key, hash, loader.apply(key));
+        }
+        return (V) value;
+    }
+
+    CacheStatistics statistics() {
+        return CacheSegment.statistics(segments);
+    }
+
+    private static final class Segment extends CacheSegment {
+
+        private Object[] keys;
+
+        private Segment(int maxSize, long expiryNanos, LongSupplier ticker) {
+            super(maxSize, expiryNanos, ticker);
+            this.keys = new Object[capacity()];
+        }
+
+        synchronized Object get(Object key, int hash) {
+            return read(find(key, hash));
+        }
+
+        synchronized Object putIfAbsent(Object key, int hash, Object value) {
+            Object loaded = readLoaded(find(key, hash));
+            if (loaded != MISSING) {
+                return loaded;
+            }
+            int entry = add(hash, value);
+            keys[entry] = key;
+            return value;
+        }
+
+        private int find(Object key, int hash) {
+            for (int slot = firstSlot(hash), entry; (entry = entryAt(slot)) != NONE; slot = nextSlot(slot)) {
+                if (hashAt(entry) == hash && Objects.equals(keys[entry], key)) {
+                    return entry;
+                }
+            }
+            return NONE;
+        }
+
+        @Override
+        void resizeKeys(int length) {
+            keys = Arrays.copyOf(keys, length);
+        }
+
+        @Override
+        void clearKey(int entry) {
+            keys[entry] = null;
+        }
+    }
+}
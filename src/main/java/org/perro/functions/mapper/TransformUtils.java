@@ -13,6 +13,7 @@ import static org.perro.functions.collector.CollectorUtils.toMapFromEntry;
 import static org.perro.functions.mapper.MapperUtils.flatMapper;
 import static org.perro.functions.mapper.MapperUtils.pairOf;
 import static org.perro.functions.stream.StreamUtils.defaultStream;
+import static org.perro.functions.stream.StreamUtils.toPartitionedStream;
 
 /**
  * Methods to transform a collection of elements of a given type, to those of another type, in some cases to another
@@ -92,6 +93,25 @@ public final class TransformUtils {
                 .collect(transformerCollector.getCollector());
     }
 
+    /**
+     * Given a collection of keys of type &lt;K&gt;, and a <code>BatchMapper</code> that looks up the values of keys in
+     * batches, this method transforms the given collection to a <code>List&lt;V&gt;</code> of their values, in the
+     * same order as the keys. The loader of the batch mapper is called once for each batch of keys, rather than once
+     * for each key.
+     *
+     * @param objects     A collection of keys of type &lt;K&gt;.
+     * @param batchMapper A BatchMapper built by {@link MapperUtils#batchMapper(Function, int)}.
+     * @param <K>         The type of the keys in the passed objects Collection.
+     * @param <V>         The type of the elements in the resulting List.
+     * @return A List&lt;V&gt; of the values of the keys in the passed objects Collection. A key that has no value is
+     * mapped to null.
+     */
+    public static <K, V> List<V> transform(Collection<K> objects, BatchMapper<K, V> batchMapper) {
+        return toPartitionedStream(objects, batchMapper.getBatchSize())
+                .flatMap(batchMapper::mapBatch)
+                .collect(toList());
+    }
+
     /**
      * Given a collection of elements of type &lt;T&gt;, and an object that represents a transformer of those elements
      * into <code>Map</code> keys and values, of type &lt;K&gt; and &lt;V&gt; respectively, this method transforms that
@@ -0,0 +1,77 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.Invariants;
+
+class BloomFilter {
+
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+    private static final double LN_2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.bits = new long[(int) ((bitCount + Long.SIZE - 1) / Long.SIZE)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter of(long expectedKeys, double falsePositiveRate) {
+        Invariants.checkArgument(expectedKeys > 0, "The 'expectedKeys' argument must be greater than zero");
+        Invariants.checkArgument(falsePositiveRate > 0.0D && falsePositiveRate < 1.0D,
+                "The 'falsePositiveRate' argument must be greater than zero and less than one");
+        double optimalBits = Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        Invariants.checkArgument(optimalBits <= MAX_BITS,
+                "The 'expectedKeys' and 'falsePositiveRate' arguments require more memory than a filter can hold");
+        long bitCount = Math.max(Long.SIZE, (long) optimalBits);
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * LN_2));
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    // Returns true if the key was certainly not present before, or false if it may have been. Each bit position is
+    // derived from a single 64-bit hash and an increment, following Kirsch and Mitzenmacher, so the key is hashed once.
+    boolean add(Object key) {
+        long hash = hash(key);
+        long increment = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+        boolean added = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = (hash & Long.MAX_VALUE) % bitCount;
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            if ((bits[wordIndex] & mask) == 0L) {
+                bits[wordIndex] |= mask;
+                added = true;
+            }
+            hash += increment;
+        }
+        return added;
+    }
+
+    // Object.hashCode() only has 32 bits, which collide too often across billions of keys, so common key types are
+    // hashed to 64 bits directly.
+    private static long hash(Object key) {
+        if (key instanceof CharSequence) {
+            CharSequence chars = (CharSequence) key;
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < chars.length(); i++) {
+                hash = (hash ^ chars.charAt(i)) * 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return mix(((Number) key).longValue());
+        }
+        if (key instanceof Double) {
+            return mix(Double.doubleToLongBits((Double) key));
+        }
+        return mix(key == null ? 0L : key.hashCode());
+    }
+
+    private static long mix(long value) {
+        long hash = value;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,193 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * A class of characters, such as letters or digits, that can be tested like any other <code>IntPredicate</code>. When
+ * an instance is built, membership of every character in the Basic Multilingual Plane is worked out once and kept in a
+ * bitset, so that testing one of those characters is a single lookup. Supplementary code points, above
+ * <code>U+FFFF</code>, are rare enough that they are still tested with a predicate. Classes can be combined with
+ * {@link #union(CharClass)}, {@link #intersection(CharClass)} and {@link #negate()}, each of which builds a new class
+ * from the bitsets of the others, without testing any characters again:
+ * <pre>
+ *     CharClass identifierChars = CharClass.LETTER_OR_DIGIT.union(CharClass.ofChars("_-"));
+ *     List&lt;Column&gt; invalid = columns.stream()
+ *         .filter(not(allCharsMatch(Column::getName, identifierChars)))
+ *         .collect(toList());
+ * </pre>
+ * Instances of this class are immutable, and may be shared between threads.
+ */
+public final class CharClass implements IntPredicate {
+
+    private static final int BMP_SIZE = Character.MAX_VALUE + 1;
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * The characters for which <code>Character.isLetter(codePoint)</code> returns <code>true</code>.
+     */
+    public static final CharClass LETTER = of(Character::isLetter);
+
+    /**
+     * The characters for which <code>Character.isDigit(codePoint)</code> returns <code>true</code>.
+     */
+    public static final CharClass DIGIT = of(Character::isDigit);
+
+    /**
+     * The characters for which <code>Character.isLetterOrDigit(codePoint)</code> returns <code>true</code>.
+     */
+    public static final CharClass LETTER_OR_DIGIT = LETTER.union(DIGIT);
+
+    /**
+     * The characters for which <code>Character.isWhitespace(codePoint)</code> returns <code>true</code>.
+     */
+    public static final CharClass WHITESPACE = of(Character::isWhitespace);
+
+    private final long[] words;
+    private final IntPredicate supplementaryPredicate;
+
+    private CharClass(long[] words, IntPredicate supplementaryPredicate) {
+        this.words = words;
+        this.supplementaryPredicate = supplementaryPredicate;
+    }
+
+    /**
+     * Builds a class of the characters for which a given <code>IntPredicate</code> returns <code>true</code>. The
+     * predicate is tested once for each character in the Basic Multilingual Plane when the class is built, and is kept
+     * to test supplementary code points.
+     *
+     * @param charPredicate An IntPredicate that determines whether a code point belongs to the class.
+     * @return A new CharClass with the characters for which the given predicate returns true.
+     */
+    public static CharClass of(IntPredicate charPredicate) {
+        Objects.requireNonNull(charPredicate, "The 'charPredicate' argument must not be null");
+        long[] words = new long[BMP_SIZE >> WORD_SHIFT];
+        for (int c = 0; c < BMP_SIZE; c++) {
+            if (charPredicate.test(c)) {
+                words[c >> WORD_SHIFT] |= 1L << c;
+            }
+        }
+        return new CharClass(words, charPredicate);
+    }
+
+    /**
+     * Builds a class made up of each of the characters in a given <code>CharSequence</code>.
+     *
+     * @param chars A CharSequence containing the characters of the class.
+     * @return A new CharClass with the characters in the given sequence.
+     */
+    public static CharClass ofChars(CharSequence chars) {
+        Objects.requireNonNull(chars, "The 'chars' argument must not be null");
+        int[] codePoints = chars.codePoints().toArray();
+        long[] words = new long[BMP_SIZE >> WORD_SHIFT];
+        for (int codePoint : codePoints) {
+            if (codePoint < BMP_SIZE) {
+                words[codePoint >> WORD_SHIFT] |= 1L << codePoint;
+            }
+        }
+        return new CharClass(words, codePoint -> {
+            for (int member : codePoints) {
+                if (member == codePoint) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Builds a class of the code points from <code>fromCodePoint</code> to <code>toCodePoint</code>, both inclusive.
+     *
+     * @param fromCodePoint The first code point in the class.
+     * @param toCodePoint   The last code point in the class.
+     * @return A new CharClass with the code points in the given range.
+     * @throws IllegalArgumentException if fromCodePoint is greater than toCodePoint.
+     */
+    public static CharClass ofRange(int fromCodePoint, int toCodePoint) {
+        Invariants.checkArgument(fromCodePoint <= toCodePoint,
+                "fromCodePoint(" + fromCodePoint + ") > toCodePoint(" + toCodePoint + ")");
+        long[] words = new long[BMP_SIZE >> WORD_SHIFT];
+        for (int c = Math.max(fromCodePoint, 0); c <= Math.min(toCodePoint, Character.MAX_VALUE); c++) {
+            words[c >> WORD_SHIFT] |= 1L << c;
+        }
+        return new CharClass(words, codePoint -> codePoint >= fromCodePoint && codePoint <= toCodePoint);
+    }
+
+    /**
+     * Builds a class of the characters that are in either this class or another one.
+     *
+     * @param other Another CharClass.
+     * @return A new CharClass with the characters in this class or the other one.
+     */
+    public CharClass union(CharClass other) {
+        long[] unionWords = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            unionWords[i] = words[i] | other.words[i];
+        }
+        return new CharClass(unionWords, supplementaryPredicate.or(other.supplementaryPredicate));
+    }
+
+    /**
+     * Builds a class of the characters that are in both this class and another one.
+     *
+     * @param other Another CharClass.
+     * @return A new CharClass with the characters in both this class and the other one.
+     */
+    public CharClass intersection(CharClass other) {
+        long[] intersectionWords = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            intersectionWords[i] = words[i] & other.words[i];
+        }
+        return new CharClass(intersectionWords, supplementaryPredicate.and(other.supplementaryPredicate));
+    }
+
+    /**
+     * Builds a class of all of the characters that are not in this class.
+     *
+     * @return A new CharClass with the characters not in this class.
+     */
+    @Override
+    public CharClass negate() {
+        long[] negatedWords = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            negatedWords[i] = ~words[i];
+        }
+        return new CharClass(negatedWords, supplementaryPredicate.negate());
+    }
+
+    /**
+     * Determines whether a code point belongs to this class.
+     *
+     * @param codePoint A code point to be tested.
+     * @return True if the code point belongs to this class, otherwise false.
+     */
+    @Override
+    public boolean test(int codePoint) {
+        return (codePoint >>> 16) == 0 ? contains((char) codePoint) : supplementaryPredicate.test(codePoint);
+    }
+
+    private boolean contains(char c) {
+        return ((words[c >>> WORD_SHIFT] >>> c) & 1L) != 0;
+    }
+
+    // Scans the code points of a sequence, returning true as soon as one of them tests as expected. Surrogates are the
+    // only characters that need combining into a code point first, everything else is a single bit lookup.
+    boolean anyCodePointTests(CharSequence sequence, boolean expected) {
+        long[] words = this.words;
+        int length = sequence.length();
+        for (int i = 0; i < length; i++) {
+            char c = sequence.charAt(i);
+            boolean isMember = ((words[c >>> WORD_SHIFT] >>> c) & 1L) != 0;
+            if (isMember == expected || Character.isSurrogate(c)) {
+                int codePoint = Character.codePointAt(sequence, i);
+                if (test(codePoint) == expected) {
+                    return true;
+                }
+                i += Character.charCount(codePoint) - 1;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.StringUtils;
+
+import java.util.Arrays;
+
+/**
+ * Searches for a single sequence of characters in any number of target sequences. The search sequence is preprocessed
+ * once, when an instance is built, into a Boyer-Moore-Horspool shift table, so that each search only reads characters
+ * from the target with <code>charAt</code>, and allocates nothing. A case-sensitive search of a <code>String</code>
+ * target is delegated to <code>String.indexOf</code>.
+ */
+class CharSequenceSearcher {
+
+    private static final int SHIFT_TABLE_SIZE = 256;
+    private static final int SHIFT_TABLE_MASK = SHIFT_TABLE_SIZE - 1;
+
+    private final String searchSequence;
+    private final boolean ignoreCase;
+    private final int[] shifts;
+
+    private CharSequenceSearcher(String searchSequence, boolean ignoreCase) {
+        this.searchSequence = searchSequence;
+        this.ignoreCase = ignoreCase;
+        this.shifts = searchSequence == null ? null : buildShifts(searchSequence);
+    }
+
+    static CharSequenceSearcher of(CharSequence searchSequence) {
+        return new CharSequenceSearcher(searchSequence == null ? null : searchSequence.toString(), false);
+    }
+
+    static CharSequenceSearcher ofIgnoreCase(CharSequence searchSequence) {
+        return new CharSequenceSearcher(searchSequence == null ? null : StringUtils.foldCase(searchSequence), true);
+    }
+
+    // The shift table is indexed by the low byte of each character, rather than the whole character, to keep it small.
+    // Characters sharing a low byte share the smallest shift among them, which is never too far to skip.
+    private static int[] buildShifts(String searchSequence) {
+        int length = searchSequence.length();
+        int[] shifts = new int[SHIFT_TABLE_SIZE];
+        Arrays.fill(shifts, Math.max(length, 1));
+        for (int i = 0; i < length - 1; i++) {
+            shifts[searchSequence.charAt(i) & SHIFT_TABLE_MASK] = length - 1 - i;
+        }
+        return shifts;
+    }
+
+    boolean isFoundIn(CharSequence target) {
+        if (target == null || searchSequence == null) {
+            return false;
+        }
+        if (!ignoreCase && target instanceof String) {
+            return ((String) target).contains(searchSequence);
+        }
+        return indexIn(target) >= 0;
+    }
+
+    private int indexIn(CharSequence target) {
+        int searchLength = searchSequence.length();
+        if (searchLength == 0) {
+            return 0;
+        }
+        int last = searchLength - 1;
+        char lastChar = searchSequence.charAt(last);
+        int limit = target.length() - searchLength;
+        int index = 0;
+        while (index <= limit) {
+            char c = charAt(target, index + last);
+            if (c == lastChar && regionMatches(target, index, last)) {
+                return index;
+            }
+            index += shifts[c & SHIFT_TABLE_MASK];
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(CharSequence target, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (charAt(target, offset + i) != searchSequence.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private char charAt(CharSequence target, int index) {
+        char c = target.charAt(index);
+        return ignoreCase ? StringUtils.foldCase(c) : c;
+    }
+}
@@ -1,8 +1,8 @@
 package org.perro.functions.predicate;
 
-import java.util.function.IntPredicate;
+import org.perro.functions.internal.StringUtils;
 
-import static org.perro.functions.predicate.IntPredicateUtils.isIntEqual;
+import java.util.function.IntPredicate;
 
 final class CharSequenceUtils {
 
@@ -10,88 +10,165 @@ final class CharSequenceUtils {
     }
 
     static boolean equals(CharSequence left, CharSequence right) {
-        return new CharSequenceEqualityEvaluator(left, right).equals();
+        return (left == right) ||
+                (neitherAreNull(left, right) &&
+                        left.length() == right.length() &&
+                        regionMatches(false, left, 0, right, 0, right.length()));
     }
 
     static boolean equalsIgnoreCase(CharSequence left, CharSequence right) {
-        return new CharSequenceEqualityEvaluator(left, right).equalsIgnoreCase();
+        return (left == right) ||
+                (neitherAreNull(left, right) &&
+                        left.length() == right.length() &&
+                        regionMatches(true, left, 0, right, 0, right.length()));
+    }
+
+    static boolean equalsFolded(CharSequence sequence, String folded) {
+        return (sequence == null || folded == null) ? sequence == folded :
+                sequence.length() == folded.length() && regionMatchesFolded(sequence, 0, folded);
+    }
+
+    private static boolean regionMatches(boolean ignoreCase, CharSequence sequence, int offset,
+                                         CharSequence other, int otherOffset, int length) {
+        if (sequence instanceof String && other instanceof String) {
+            return ((String) sequence).regionMatches(ignoreCase, offset, (String) other, otherOffset, length);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = sequence.charAt(offset + i);
+            char otherChar = other.charAt(otherOffset + i);
+            if (c != otherChar && (!ignoreCase || StringUtils.foldCase(c) != StringUtils.foldCase(otherChar))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Only the characters of the sequence are folded here, those of the other, already folded, sequence are compared
+    // as they are.
+    private static boolean regionMatchesFolded(CharSequence sequence, int offset, String folded) {
+        int length = folded.length();
+        for (int i = 0; i < length; i++) {
+            if (StringUtils.foldCase(sequence.charAt(offset + i)) != folded.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     static boolean contains(CharSequence sequence, int searchChar) {
-        return sequence != null && sequence.codePoints()
-                .anyMatch(isIntEqual(searchChar));
+        if (sequence == null) {
+            return false;
+        }
+        int length = sequence.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(sequence, i);
+            if (codePoint == searchChar) {
+                return true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return false;
     }
 
     static boolean containsIgnoreCase(CharSequence sequence, int searchChar) {
-        int lowerSearchChar = Character.toLowerCase(searchChar);
-        return sequence != null && sequence.codePoints()
-                .map(Character::toLowerCase)
-                .anyMatch(isIntEqual(lowerSearchChar));
+        return containsFolded(sequence, StringUtils.foldCodePoint(searchChar));
+    }
+
+    static boolean containsFolded(CharSequence sequence, int foldedSearchChar) {
+        if (sequence == null) {
+            return false;
+        }
+        int length = sequence.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(sequence, i);
+            if (StringUtils.foldCodePoint(codePoint) == foldedSearchChar) {
+                return true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return false;
     }
 
     static boolean contains(CharSequence sequence, CharSequence searchSequence) {
-        return new CharSequenceMatcher(sequence, searchSequence)
-                .containsSearchSequence();
+        return CharSequenceSearcher.of(searchSequence).isFoundIn(sequence);
     }
 
     static boolean containsIgnoreCase(CharSequence sequence, CharSequence searchSequence) {
-        return new CharSequenceMatcher(sequence, searchSequence)
-                .containsSearchSequenceIgnoreCase();
+        return CharSequenceSearcher.ofIgnoreCase(searchSequence).isFoundIn(sequence);
     }
 
     static boolean anyCharacterMatches(CharSequence sequence, IntPredicate charPredicate) {
         return sequence != null &&
-                sequence.codePoints().anyMatch(charPredicate);
+                anyCodePointTests(sequence, charPredicate, true);
     }
 
     static boolean isCharacterMatch(CharSequence sequence, IntPredicate charPredicate) {
         return sequence != null &&
-                sequence.codePoints().allMatch(charPredicate);
+                !anyCodePointTests(sequence, charPredicate, false);
     }
 
     static boolean noCharactersMatch(CharSequence sequence, IntPredicate charPredicate) {
         return sequence == null ||
-                sequence.codePoints().noneMatch(charPredicate);
+                !anyCodePointTests(sequence, charPredicate, true);
+    }
+
+    private static boolean anyCodePointTests(CharSequence sequence, IntPredicate charPredicate, boolean expected) {
+        if (charPredicate instanceof CharClass) {
+            return ((CharClass) charPredicate).anyCodePointTests(sequence, expected);
+        }
+        int length = sequence.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(sequence, i);
+            if (charPredicate.test(codePoint) == expected) {
+                return true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return false;
     }
 
     static boolean startsWith(CharSequence sequence, CharSequence prefix) {
         return (sequence == prefix) ||
                 (neitherAreNull(sequence, prefix) &&
                         sequence.length() >= prefix.length() &&
-                        equals(getStartsWithSubSequence(sequence, prefix), prefix));
+                        regionMatches(false, sequence, 0, prefix, 0, prefix.length()));
     }
 
     private static boolean neitherAreNull(CharSequence left, CharSequence right) {
         return left != null && right != null;
     }
 
-    private static CharSequence getStartsWithSubSequence(CharSequence sequence, CharSequence prefix) {
-        return sequence.subSequence(0, prefix.length());
-    }
-
     static boolean startsWithIgnoreCase(CharSequence sequence, CharSequence prefix) {
         return (sequence == prefix) ||
                 (neitherAreNull(sequence, prefix) &&
                         sequence.length() >= prefix.length() &&
-                        equalsIgnoreCase(getStartsWithSubSequence(sequence, prefix), prefix));
+                        regionMatches(true, sequence, 0, prefix, 0, prefix.length()));
+    }
+
+    static boolean startsWithFolded(CharSequence sequence, String foldedPrefix) {
+        return (sequence == null || foldedPrefix == null) ? sequence == foldedPrefix :
+                sequence.length() >= foldedPrefix.length() && regionMatchesFolded(sequence, 0, foldedPrefix);
     }
 
     static boolean endsWith(CharSequence sequence, CharSequence suffix) {
         return (sequence == suffix) ||
                 (neitherAreNull(sequence, suffix) &&
                         sequence.length() >= suffix.length() &&
-                        equals(getEndsWithSubSequence(sequence, suffix), suffix));
-    }
-
-    private static CharSequence getEndsWithSubSequence(CharSequence sequence, CharSequence suffix) {
-        int len = sequence.length();
-        return sequence.subSequence(len - suffix.length(), len);
+                        regionMatches(false, sequence, sequence.length() - suffix.length(),
+                                suffix, 0, suffix.length()));
     }
 
     static boolean endsWithIgnoreCase(CharSequence sequence, CharSequence suffix) {
         return (sequence == suffix) ||
                 (neitherAreNull(sequence, suffix) &&
                         sequence.length() >= suffix.length() &&
-                        equalsIgnoreCase(getEndsWithSubSequence(sequence, suffix), suffix));
+                        regionMatches(true, sequence, sequence.length() - suffix.length(),
+                                suffix, 0, suffix.length()));
+    }
+
+    static boolean endsWithFolded(CharSequence sequence, String foldedSuffix) {
+        return (sequence == null || foldedSuffix == null) ? sequence == foldedSuffix :
+                sequence.length() >= foldedSuffix.length() &&
+                        regionMatchesFolded(sequence, sequence.length() - foldedSuffix.length(), foldedSuffix);
     }
 }
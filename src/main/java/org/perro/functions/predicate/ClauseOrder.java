@@ -0,0 +1,97 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+class ClauseOrder {
+
+    private final boolean conjunction;
+    private final int sampleInterval;
+    private final int reorderInterval;
+    private final long[] sampleCounts;
+    private final long[] passCounts;
+    private final long[] nanos;
+    private int samplesSinceReorder;
+    private volatile int[] order;
+
+    private ClauseOrder(int clauseCount, boolean conjunction, int sampleInterval, int reorderInterval) {
+        this.conjunction = conjunction;
+        this.sampleInterval = sampleInterval;
+        this.reorderInterval = reorderInterval;
+        this.sampleCounts = new long[clauseCount];
+        this.passCounts = new long[clauseCount];
+        this.nanos = new long[clauseCount];
+        this.order = IntStream.range(0, clauseCount).toArray();
+    }
+
+    static ClauseOrder of(int clauseCount, boolean conjunction, int sampleInterval, int reorderInterval) {
+        Invariants.checkArgument(sampleInterval > 0, "The 'sampleInterval' argument must be greater than zero");
+        Invariants.checkArgument(reorderInterval > 0, "The 'reorderInterval' argument must be greater than zero");
+        return new ClauseOrder(clauseCount, conjunction, sampleInterval, reorderInterval);
+    }
+
+    int[] order() {
+        return order;
+    }
+
+    // Deciding whether to sample with a thread local random number, rather than a shared counter, means evaluations
+    // that are not sampled touch no shared mutable state at all.
+    boolean shouldSample() {
+        return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+    }
+
+    // Each clause of a sample is recorded as it is evaluated, rather than all of them at the end, so that a sample
+    // needs no arrays of its own to hold their results.
+    synchronized void record(int clause, boolean passed, long elapsedNanos) {
+        sampleCounts[clause]++;
+        passCounts[clause] += passed ? 1L : 0L;
+        nanos[clause] += elapsedNanos;
+    }
+
+    synchronized void endSample() {
+        if (++samplesSinceReorder >= reorderInterval) {
+            samplesSinceReorder = 0;
+            reorder();
+        }
+    }
+
+    // Clauses are sorted by their expected cost per decisive result, their average cost divided by the chance that
+    // they settle the whole chain, which is failing for a conjunction and passing for a disjunction. For independent
+    // clauses, that order minimizes the expected cost of the chain. Counts are then halved, so that the order follows
+    // changes in the data rather than being fixed by the first samples.
+    private void reorder() {
+        double[] ranks = new double[sampleCounts.length];
+        for (int i = 0; i < ranks.length; i++) {
+            double passRate = (passCounts[i] + 1.0D) / (sampleCounts[i] + 2.0D);
+            double decisiveRate = conjunction ? 1.0D - passRate : passRate;
+            ranks[i] = averageNanos(i) / decisiveRate;
+            sampleCounts[i] >>= 1;
+            passCounts[i] >>= 1;
+            nanos[i] >>= 1;
+        }
+        order = IntStream.of(order)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> ranks[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private double averageNanos(int clause) {
+        return sampleCounts[clause] == 0L ? 0.0D : (double) nanos[clause] / sampleCounts[clause];
+    }
+
+    synchronized List<ClauseStatistics> statistics() {
+        List<ClauseStatistics> statistics = new ArrayList<>(sampleCounts.length);
+        for (int i = 0; i < sampleCounts.length; i++) {
+            double passRate = sampleCounts[i] == 0L ? Double.NaN : (double) passCounts[i] / sampleCounts[i];
+            statistics.add(ClauseStatistics.of(i, sampleCounts[i], passRate, averageNanos(i)));
+        }
+        return Collections.unmodifiableList(statistics);
+    }
+}
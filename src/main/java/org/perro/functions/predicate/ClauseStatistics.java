@@ -0,0 +1,72 @@
+package org.perro.functions.predicate;
+
+/**
+ * The statistics sampled for one clause of a {@link PredicateChain} or an {@link IntPredicateChain}.
+ */
+public final class ClauseStatistics {
+
+    private final int index;
+    private final long sampleCount;
+    private final double passRate;
+    private final double averageNanos;
+
+    private ClauseStatistics(int index, long sampleCount, double passRate, double averageNanos) {
+        this.index = index;
+        this.sampleCount = sampleCount;
+        this.passRate = passRate;
+        this.averageNanos = averageNanos;
+    }
+
+    static ClauseStatistics of(int index, long sampleCount, double passRate, double averageNanos) {
+        return new ClauseStatistics(index, sampleCount, passRate, averageNanos);
+    }
+
+    /**
+     * Gets the index of the clause, in the order the clauses were passed when the chain was built.
+     *
+     * @return The index of the clause.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the weighted number of samples of the clause.
+     *
+     * @return The number of samples of the clause.
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Gets the share of sampled elements that the clause passed, from zero to one, or <code>NaN</code> if the
+     * clause has not been sampled.
+     *
+     * @return The pass rate of the clause.
+     */
+    public double getPassRate() {
+        return passRate;
+    }
+
+    /**
+     * Gets the average time taken to evaluate the clause, in nanoseconds, including the overhead of timing it.
+     *
+     * @return The average cost of the clause in nanoseconds.
+     */
+    public double getAverageNanos() {
+        return averageNanos;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the attribute values of this object.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[index=%s,sampleCount=%s,passRate=%s,averageNanos=%s]";
+        return String.format(template, getClass().getName(), identity, index, sampleCount, passRate, averageNanos);
+    }
+}
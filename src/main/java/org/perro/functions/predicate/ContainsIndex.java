@@ -0,0 +1,114 @@
+package org.perro.functions.predicate;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+abstract class ContainsIndex {
+
+    private static final int LINEAR_SCAN_MAX_SIZE = 8;
+
+    // A bitset over the range of the keys takes no more memory than an int array of them, while the range is up to this
+    // many times the number of keys. Sparser keys go in a hash set, which measured faster than binary searching them.
+    private static final int BIT_SET_MAX_SPREAD = Integer.SIZE;
+
+    static ContainsIndex of(Collection<?> collection) {
+        Object[] elements = collection.toArray();
+        if (elements.length <= LINEAR_SCAN_MAX_SIZE) {
+            return new LinearScanIndex(elements);
+        }
+        int[] ints = toIntArray(elements);
+        if (ints != null) {
+            Arrays.sort(ints);
+            long range = (long) ints[ints.length - 1] - ints[0] + 1L;
+            if (range <= Integer.MAX_VALUE && range <= (long) ints.length * BIT_SET_MAX_SPREAD) {
+                return new BitSetIndex(ints);
+            }
+        }
+        return new HashIndex(elements);
+    }
+
+    // Returns the elements unboxed if every one of them is an Integer, otherwise null.
+    private static int[] toIntArray(Object[] elements) {
+        int[] ints = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            if (!(elements[i] instanceof Integer)) {
+                return null;
+            }
+            ints[i] = (Integer) elements[i];
+        }
+        return ints;
+    }
+
+    abstract boolean contains(Object value);
+
+    boolean containsAll(Collection<?> values) {
+        for (Object value : values) {
+            if (!contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class LinearScanIndex extends ContainsIndex {
+
+        private final Object[] elements;
+
+        private LinearScanIndex(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        boolean contains(Object value) {
+            for (Object element : elements) {
+                if (Objects.equals(element, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class HashIndex extends ContainsIndex {
+
+        private final Set<Object> elements;
+
+        private HashIndex(Object[] elements) {
+            this.elements = new HashSet<>(Arrays.asList(elements));
+        }
+
+        @Override
+        boolean contains(Object value) {
+            return elements.contains(value);
+        }
+    }
+
+    private static final class BitSetIndex extends ContainsIndex {
+
+        private final BitSet bits;
+        private final int min;
+        private final int max;
+
+        private BitSetIndex(int[] sortedInts) {
+            this.min = sortedInts[0];
+            this.max = sortedInts[sortedInts.length - 1];
+            this.bits = new BitSet(max - min + 1);
+            for (int i : sortedInts) {
+                bits.set(i - min);
+            }
+        }
+
+        @Override
+        boolean contains(Object value) {
+            if (value instanceof Integer) {
+                int i = (Integer) value;
+                return i >= min && i <= max && bits.get(i - min);
+            }
+            return false;
+        }
+    }
+}
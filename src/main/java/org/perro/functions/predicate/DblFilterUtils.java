@@ -1,6 +1,10 @@
 package org.perro.functions.predicate;
 
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.DoublePredicate;
 import java.util.stream.Collector;
@@ -30,6 +34,115 @@ public final class DblFilterUtils {
                 .toArray();
     }
 
+    /**
+     * Filters an array of doubles, based on a predicate, into the start of a destination array supplied by the caller,
+     * returning the number of values copied. Unlike {@link #dblFilter(double[], DoublePredicate)}, no array is
+     * allocated, so a single destination array may be reused across any number of calls:
+     * <pre>
+     *     double[] matches = new double[column.length];
+     *     int count = dblFilterInto(column, predicate, matches);
+     * </pre>
+     * The destination array must be at least as long as the source array. That lets each value be stored at the next
+     * free position before it is tested, and the count moved on only if it passes, with no branch on the outcome.
+     * Positions in the destination array from the returned count onwards hold no meaningful values.
+     *
+     * @param doubles   An array of doubles to be filtered.
+     * @param predicate A predicate with which to filter the doubles array.
+     * @param dst       An array into which matching values are copied, in order, which must be at least as long as the
+     *                  doubles array.
+     * @return The number of values that matched the predicate, and were copied into the start of the dst array.
+     * @throws IllegalArgumentException if the dst array is shorter than the doubles array.
+     */
+    public static int dblFilterInto(double[] doubles, DoublePredicate predicate, double[] dst) {
+        Objects.requireNonNull(dst, "The 'dst' argument must not be null");
+        if (doubles == null) {
+            return 0;
+        }
+        Invariants.checkArgument(dst.length >= doubles.length,
+                "The 'dst' argument must be at least as long as the 'doubles' argument");
+        int count = 0;
+        for (double value : doubles) {
+            dst[count] = value;
+            count += predicate.test(value) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Filters an array of doubles, based on a predicate, into another double array, in two passes over the source
+     * array. The first pass counts the matching values, so that the second can copy them into an array of exactly the
+     * right length, with none of the growing and copying of a buffer done by {@link #dblFilter(double[],
+     * DoublePredicate)}. The predicate is evaluated twice for each value, so it must have no side effects, and this is
+     * only worthwhile when it is cheap.
+     *
+     * @param doubles   An array of doubles to be filtered.
+     * @param predicate A predicate, with no side effects, with which to filter the doubles array.
+     * @return An array of doubles filtered from an array of double.
+     */
+    public static double[] dblFilterTwoPass(double[] doubles, DoublePredicate predicate) {
+        if (doubles == null) {
+            return new double[0];
+        }
+        int count = 0;
+        for (double value : doubles) {
+            count += predicate.test(value) ? 1 : 0;
+        }
+        double[] filtered = new double[count];
+        int j = 0;
+        for (int i = 0; i < doubles.length && j < count; i++) {
+            if (predicate.test(doubles[i])) {
+                filtered[j++] = doubles[i];
+            }
+        }
+        return j == count ? filtered : Arrays.copyOf(filtered, j);
+    }
+
+    /**
+     * Filters an array of doubles, based on a predicate, into a selection vector: an array of the indices, in
+     * ascending order, of the values in the source array that match the predicate. The indices can then be used to
+     * pick the matching rows out of other arrays of the same length.
+     *
+     * @param doubles   An array of doubles to be filtered.
+     * @param predicate A predicate with which to filter the doubles array.
+     * @return An array of the indices of the values in the doubles array that match the predicate.
+     */
+    public static int[] dblFilterIndices(double[] doubles, DoublePredicate predicate) {
+        if (doubles == null) {
+            return new int[0];
+        }
+        int[] indices = new int[doubles.length];
+        return Arrays.copyOf(indices, dblFilterIndicesInto(doubles, predicate, indices));
+    }
+
+    /**
+     * Filters an array of doubles, based on a predicate, into a selection vector in an array supplied by the caller:
+     * the indices, in ascending order, of the values in the source array that match the predicate are written to the
+     * start of the indices array, and their number is returned. As with {@link #dblFilterInto(double[],
+     * DoublePredicate, double[])}, the indices array may be reused across calls, and must be at least as long as the
+     * source array.
+     *
+     * @param doubles   An array of doubles to be filtered.
+     * @param predicate A predicate with which to filter the doubles array.
+     * @param indices   An array into which the indices of matching values are written, which must be at least as long
+     *                  as the doubles array.
+     * @return The number of values that matched the predicate, and whose indices were written into the indices array.
+     * @throws IllegalArgumentException if the indices array is shorter than the doubles array.
+     */
+    public static int dblFilterIndicesInto(double[] doubles, DoublePredicate predicate, int[] indices) {
+        Objects.requireNonNull(indices, "The 'indices' argument must not be null");
+        if (doubles == null) {
+            return 0;
+        }
+        Invariants.checkArgument(indices.length >= doubles.length,
+                "The 'indices' argument must be at least as long as the 'doubles' argument");
+        int count = 0;
+        for (int i = 0; i < doubles.length; i++) {
+            indices[count] = i;
+            count += predicate.test(doubles[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
     /**
      * Filters an array of doubles, based a predicate, into a set.
      *
@@ -1,6 +1,7 @@
 package org.perro.functions.predicate;
 
 import org.perro.functions.internal.CollectionUtils;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.DblMapperUtils;
 import org.perro.functions.mapper.MapperUtils;
 import org.perro.functions.stream.DblStreamUtils;
@@ -221,7 +222,71 @@ public final class DblPredicateUtils {
      * value.
      */
     public static DoublePredicate isDblEqual(double value, double delta) {
-        return d -> DoubleWithDelta.of(value, delta).isEqualWithinDelta(d);
+        DoubleWithDelta doubleWithDelta = DoubleWithDelta.of(value, delta);
+        return doubleWithDelta::isEqualWithinDelta;
+    }
+
+    /**
+     * This method builds a <code>DoublePredicate</code> whose parameter is to be compared for equality to the passed
+     * <code>double</code> constant value, within a number of units in the last place. Two values are that many ulps
+     * apart if there are that many representable doubles between them, less one, so the tolerance scales with the
+     * magnitude of the values, unlike a fixed delta. Positive and negative zero are equal, and NaN is equal to nothing.
+     * A value that is one ulp greater than <code>Double.MAX_VALUE</code> is infinity.
+     *
+     * @param value   A constant value to be compared to the parameter of the DoublePredicate built by this method.
+     * @param maxUlps The greatest number of units in the last place by which the compared values may differ, while
+     *                still being considered equal.
+     * @return A DoublePredicate that compares its parameter to a constant double value for equality within a number of
+     * ulps.
+     * @throws IllegalArgumentException if maxUlps is negative.
+     */
+    public static DoublePredicate isDblEqualWithinUlps(double value, int maxUlps) {
+        Invariants.checkArgument(maxUlps >= 0, "The 'maxUlps' argument must not be negative");
+        if (Double.isNaN(value)) {
+            return d -> false;
+        }
+        long orderedValue = toOrderedBits(value);
+        long min = orderedValue - maxUlps;
+        long max = orderedValue + maxUlps;
+        return d -> {
+            long orderedBits = toOrderedBits(d);
+            return d == d && orderedBits >= min && orderedBits <= max;
+        };
+    }
+
+    // Maps the bits of a double to a long that orders as the doubles do, so that adjacent doubles map to adjacent longs
+    // and both zeros map to zero. Infinite values are at most 0x7FF0000000000000L from zero, so adding or subtracting
+    // an int cannot overflow.
+    private static long toOrderedBits(double d) {
+        long bits = Double.doubleToRawLongBits(d);
+        return bits >= 0L ? bits : Long.MIN_VALUE - bits;
+    }
+
+    /**
+     * This method builds a <code>DoublePredicate</code> whose parameter is to be compared for equality to the passed
+     * <code>double</code> constant value, within a tolerance relative to the larger magnitude of the two. That is, the
+     * values are considered equal if the absolute value of their difference is less than or equal to
+     * <code>epsilon</code> times the greater of their absolute values. An infinite value is equal only to the same
+     * infinity, and NaN is equal to nothing.
+     *
+     * @param value   A constant value to be compared to the parameter of the DoublePredicate built by this method.
+     * @param epsilon A relative tolerance, for example 1.0E-9 to consider values equal to about nine significant
+     *                digits.
+     * @return A DoublePredicate that compares its parameter to a constant double value for equality within a relative
+     * tolerance.
+     * @throws IllegalArgumentException if epsilon is negative or NaN.
+     */
+    public static DoublePredicate isDblRelativelyEqual(double value, double epsilon) {
+        Invariants.checkArgument(epsilon >= 0.0D, "The 'epsilon' argument must not be negative");
+        if (Double.isInfinite(value)) {
+            return d -> d == value;
+        }
+        double magnitude = Math.abs(value);
+        return d -> {
+            double dMagnitude = Math.abs(d);
+            return d == value || dMagnitude <= Double.MAX_VALUE
+                    && Math.abs(value - d) <= epsilon * Math.max(magnitude, dMagnitude);
+        };
     }
 
     /**
@@ -299,7 +364,7 @@ public final class DblPredicateUtils {
      * delta value.
      */
     public static DoublePredicate isDblNotEqual(double value, double delta) {
-        return d -> !DoubleWithDelta.of(value, delta).isEqualWithinDelta(d);
+        return dblNot(isDblEqual(value, delta));
     }
 
     /**
@@ -405,7 +470,8 @@ public final class DblPredicateUtils {
     /**
      * Given a <code>double</code> array, and a <code>ToDoubleFunction</code> that takes an element of type &lt;T&gt;,
      * this method builds a <code>Predicate</code> that determines if the given array contains the value returned by the
-     * <code>ToDoubleFunction</code>.
+     * <code>ToDoubleFunction</code>, comparing values with <code>==</code>. The array is indexed once, when the
+     * predicate is built, so later changes to it are not seen by the predicate.
      *
      * @param doubles  An array of doubles, to be checked for whether it contains a value returned from a passed
      *                 ToDoubleFunction.
@@ -416,7 +482,11 @@ public final class DblPredicateUtils {
      * checks that the returned value is contained in a passed array of doubles.
      */
     public static <T> Predicate<T> objToDblContains(double[] doubles, ToDoubleFunction<? super T> function) {
-        return t -> doubles != null && DblStreamUtils.dblAnyMatch(doubles, isDblEqual(function.applyAsDouble(t)));
+        if (doubles == null) {
+            return t -> false;
+        }
+        PrimitiveContainsIndex index = PrimitiveContainsIndex.ofDoubles(doubles);
+        return t -> index.containsDouble(function.applyAsDouble(t));
     }
 
     /**
@@ -436,7 +506,22 @@ public final class DblPredicateUtils {
      * checks that the returned array contains a passed constant double value.
      */
     public static <T> Predicate<T> inverseObjToDblContains(Function<T, double[]> function, double value) {
-        return t -> t != null && DblStreamUtils.dblAnyMatch(function.apply(t), isDblEqual(value));
+        return t -> {
+            if (t != null) {
+                double[] doubles = function.apply(t);
+                return doubles != null && arrayContainsDbl(doubles, value);
+            }
+            return false;
+        };
+    }
+
+    private static boolean arrayContainsDbl(double[] doubles, double value) {
+        for (double d : doubles) {
+            if (d == value) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -655,6 +740,78 @@ public final class DblPredicateUtils {
         return t -> t != null && function.applyAsDouble(t) <= compareTo;
     }
 
+    /**
+     * Builds a <code>DoublePredicate</code> that determines whether a value is between two passed constant double
+     * values, inclusive of both.
+     *
+     * @param min The lowest double value passed by the DoublePredicate built by this method.
+     * @param max The highest double value passed by the DoublePredicate built by this method.
+     * @return A DoublePredicate that determines whether its target value is greater than or equal to min, and less than
+     * or equal to max.
+     * @throws IllegalArgumentException if min is greater than max, or either is NaN.
+     */
+    public static DoublePredicate dblBetween(double min, double max) {
+        Invariants.checkArgument(min <= max, "The 'min' argument must not be greater than the 'max' argument");
+        return d -> d >= min && d <= max;
+    }
+
+    /**
+     * Given a <code>ToDoubleFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function is between two passed constant
+     * double values, inclusive of both.
+     *
+     * @param function A ToDoubleFunction that takes an element of type &lt;T&gt;, whose return value is to be checked
+     *                 by the Predicate built by this method.
+     * @param min      The lowest double value passed by the Predicate built by this method.
+     * @param max      The highest double value passed by the Predicate built by this method.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToDoubleFunction to its target element, and determines whether its double
+     * return value is between min and max. Returns false for a null element.
+     * @throws IllegalArgumentException if min is greater than max, or either is NaN.
+     */
+    public static <T> Predicate<T> toDblBetween(ToDoubleFunction<? super T> function, double min, double max) {
+        DoublePredicate between = dblBetween(min, max);
+        return t -> t != null && between.test(function.applyAsDouble(t));
+    }
+
+    /**
+     * Builds a <code>DoublePredicate</code> that determines whether a value falls within any of a set of ranges. Each
+     * range is an array of its lower and upper bounds, both inclusive, for example:
+     * <pre>
+     *     DoublePredicate inBusinessHours = dblInRanges(new double[][]{{9.0, 12.0}, {13.0, 17.5}});
+     * </pre>
+     * The ranges are copied, sorted and merged when the predicate is built, so that each test is a binary search over
+     * the ranges, rather than a test of each in turn, as a chain of <code>or</code> calls would be.
+     *
+     * @param ranges An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @return A DoublePredicate that determines whether its target value is in any of the passed ranges.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound, or either is NaN.
+     */
+    public static DoublePredicate dblInRanges(double[][] ranges) {
+        DoubleRangeSet rangeSet = DoubleRangeSet.of(ranges);
+        return rangeSet::contains;
+    }
+
+    /**
+     * Given a <code>ToDoubleFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function falls within any of a set of
+     * ranges, as {@link #dblInRanges(double[][])} does.
+     *
+     * @param function A ToDoubleFunction that takes an element of type &lt;T&gt;, whose return value is to be checked
+     *                 by the Predicate built by this method.
+     * @param ranges   An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToDoubleFunction to its target element, and determines whether its double
+     * return value is in any of the passed ranges. Returns false for a null element.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound, or either is NaN.
+     */
+    public static <T> Predicate<T> toDblInRanges(ToDoubleFunction<? super T> function, double[][] ranges) {
+        DoubleRangeSet rangeSet = DoubleRangeSet.of(ranges);
+        return t -> t != null && rangeSet.contains(function.applyAsDouble(t));
+    }
+
     /**
      * Given a <code>DoubleFunction</code> that returns a <code>Collection</code> of elements of an arbitrary type, this
      * method builds a <code>DoublePredicate</code> that determines whether the returned <code>Collection</code> is
@@ -816,9 +973,9 @@ public final class DblPredicateUtils {
      * Given a <code>ToDoubleFunction</code> taking a value of type &lt;T&gt;, and a <code>DoublePredicate</code>, this
      * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and applies the return value of
      * the <code>ToDoubleFunction</code> to the given predicate. It is a way of adapting a <code>DoublePredicate</code>
-     * to a <code>Stream</code> of a different type. For example, the
-     * {@link DblStreamUtils#indexOfFirstDbl(double[], DoublePredicate)} method uses this predicate in its
-     * implementation (Note that the <code>dblPairWithIndex()</code> below refers to
+     * to a <code>Stream</code> of a different type. For example, a stream based version of the
+     * {@link DblStreamUtils#indexOfFirstDbl(double[], DoublePredicate)} method could use this predicate in
+     * its implementation (Note that the <code>dblPairWithIndex()</code> below refers to
      * {@link DblMapperUtils#dblPairWithIndex()}):
      * <pre>
      * public static int indexOfFirstDbl(double[] doubles, DoublePredicate doublePredicate) {
@@ -0,0 +1,63 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+// A set of closed ranges of double values, sorted by their lower bounds, with overlapping ranges merged so that the
+// ranges are disjoint, and the one that could contain a value is found by a binary search of the lower bounds. NaN is
+// in no range.
+final class DoubleRangeSet {
+
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+
+    private DoubleRangeSet(double[] lowerBounds, double[] upperBounds) {
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+    }
+
+    static DoubleRangeSet of(double[][] ranges) {
+        Objects.requireNonNull(ranges, "The 'ranges' argument must not be null");
+        for (double[] range : ranges) {
+            checkRange(range);
+        }
+        double[][] sorted = ranges.clone();
+        Arrays.sort(sorted, Comparator.comparingDouble(range -> range[0]));
+        double[] lowerBounds = new double[sorted.length];
+        double[] upperBounds = new double[sorted.length];
+        int count = 0;
+        for (double[] range : sorted) {
+            if (count > 0 && range[0] <= upperBounds[count - 1]) {
+                upperBounds[count - 1] = Math.max(upperBounds[count - 1], range[1]);
+            } else {
+                lowerBounds[count] = range[0];
+                upperBounds[count++] = range[1];
+            }
+        }
+        return new DoubleRangeSet(Arrays.copyOf(lowerBounds, count), Arrays.copyOf(upperBounds, count));
+    }
+
+    // Comparing the bounds also rejects a range with a NaN bound, since any comparison with NaN is false.
+    private static void checkRange(double[] range) {
+        Invariants.checkArgument(range != null && range.length == 2,
+                "Each range must be an array of its lower and upper bounds");
+        Invariants.checkArgument(range[0] <= range[1], "The lower bound of a range must not exceed its upper bound");
+    }
+
+    boolean contains(double value) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowerBounds[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && value <= upperBounds[high];
+    }
+}
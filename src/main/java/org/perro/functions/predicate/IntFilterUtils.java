@@ -1,8 +1,11 @@
 package org.perro.functions.predicate;
 
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.stream.IntStreamUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.IntPredicate;
 import java.util.stream.Collector;
@@ -33,6 +36,114 @@ public final class IntFilterUtils {
                 .toArray();
     }
 
+    /**
+     * Filters an array of ints, based on a predicate, into the start of a destination array supplied by the caller,
+     * returning the number of values copied. Unlike {@link #intFilter(int[], IntPredicate)}, no array is allocated, so
+     * a single destination array may be reused across any number of calls:
+     * <pre>
+     *     int[] matches = new int[column.length];
+     *     int count = intFilterInto(column, predicate, matches);
+     * </pre>
+     * The destination array must be at least as long as the source array. That lets each value be stored at the next
+     * free position before it is tested, and the count moved on only if it passes, with no branch on the outcome.
+     * Positions in the destination array from the returned count onwards hold no meaningful values.
+     *
+     * @param ints      An array of ints to be filtered.
+     * @param predicate A predicate with which to filter the ints array.
+     * @param dst       An array into which matching values are copied, in order, which must be at least as long as the
+     *                  ints array.
+     * @return The number of values that matched the predicate, and were copied into the start of the dst array.
+     * @throws IllegalArgumentException if the dst array is shorter than the ints array.
+     */
+    public static int intFilterInto(int[] ints, IntPredicate predicate, int[] dst) {
+        Objects.requireNonNull(dst, "The 'dst' argument must not be null");
+        if (ints == null) {
+            return 0;
+        }
+        Invariants.checkArgument(dst.length >= ints.length,
+                "The 'dst' argument must be at least as long as the 'ints' argument");
+        int count = 0;
+        for (int value : ints) {
+            dst[count] = value;
+            count += predicate.test(value) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Filters an array of ints, based on a predicate, into another int array, in two passes over the source array. The
+     * first pass counts the matching values, so that the second can copy them into an array of exactly the right
+     * length, with none of the growing and copying of a buffer done by {@link #intFilter(int[], IntPredicate)}. The
+     * predicate is evaluated twice for each value, so it must have no side effects, and this is only worthwhile when it
+     * is cheap.
+     *
+     * @param ints      An array of ints to be filtered.
+     * @param predicate A predicate, with no side effects, with which to filter the ints array.
+     * @return An array of ints filtered from an array of int.
+     */
+    public static int[] intFilterTwoPass(int[] ints, IntPredicate predicate) {
+        if (ints == null) {
+            return new int[0];
+        }
+        int count = 0;
+        for (int value : ints) {
+            count += predicate.test(value) ? 1 : 0;
+        }
+        int[] filtered = new int[count];
+        int j = 0;
+        for (int i = 0; i < ints.length && j < count; i++) {
+            if (predicate.test(ints[i])) {
+                filtered[j++] = ints[i];
+            }
+        }
+        return j == count ? filtered : Arrays.copyOf(filtered, j);
+    }
+
+    /**
+     * Filters an array of ints, based on a predicate, into a selection vector: an array of the indices, in
+     * ascending order, of the values in the source array that match the predicate. The indices can then be used to
+     * pick the matching rows out of other arrays of the same length.
+     *
+     * @param ints      An array of ints to be filtered.
+     * @param predicate A predicate with which to filter the ints array.
+     * @return An array of the indices of the values in the ints array that match the predicate.
+     */
+    public static int[] intFilterIndices(int[] ints, IntPredicate predicate) {
+        if (ints == null) {
+            return new int[0];
+        }
+        int[] indices = new int[ints.length];
+        return Arrays.copyOf(indices, intFilterIndicesInto(ints, predicate, indices));
+    }
+
+    /**
+     * Filters an array of ints, based on a predicate, into a selection vector in an array supplied by the caller: the
+     * indices, in ascending order, of the values in the source array that match the predicate are written to the start
+     * of the indices array, and their number is returned. As with {@link #intFilterInto(int[], IntPredicate, int[])},
+     * the indices array may be reused across calls, and must be at least as long as the source array.
+     *
+     * @param ints      An array of ints to be filtered.
+     * @param predicate A predicate with which to filter the ints array.
+     * @param indices   An array into which the indices of matching values are written, which must be at least as long
+     *                  as the ints array.
+     * @return The number of values that matched the predicate, and whose indices were written into the indices array.
+     * @throws IllegalArgumentException if the indices array is shorter than the ints array.
+     */
+    public static int intFilterIndicesInto(int[] ints, IntPredicate predicate, int[] indices) {
+        Objects.requireNonNull(indices, "The 'indices' argument must not be null");
+        if (ints == null) {
+            return 0;
+        }
+        Invariants.checkArgument(indices.length >= ints.length,
+                "The 'indices' argument must be at least as long as the 'ints' argument");
+        int count = 0;
+        for (int i = 0; i < ints.length; i++) {
+            indices[count] = i;
+            count += predicate.test(ints[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
     /**
      * Filters an array of ints, based a predicate, into a set.
      *
@@ -0,0 +1,209 @@
+package org.perro.functions.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * An <code>IntPredicate</code> made up of a number of clauses, either all of which must pass, or any one of which must
+ * pass, that learns the order in which to evaluate them. Written as a chain of <code>and</code> or <code>or</code>
+ * calls, clauses are always evaluated in the order they were written, even when a cheap clause that usually settles the
+ * result comes last. Instead, an <code>IntPredicateChain</code> samples a small share of its evaluations, timing every
+ * clause and counting how often it passes, and periodically reorders the clauses so that those with the lowest cost per
+ * decisive result go first:
+ * <pre>
+ *     IntPredicateChain chain = IntPredicateChain.allOf(
+ *         intToObjContainsIndexed(blockedIds, Integer::valueOf).negate(),
+ *         isIntEqual(i -> i % 2, 0));
+ *     int[] allowedEvenIds = IntStream.of(ids)
+ *         .filter(chain)
+ *         .toArray();
+ * </pre>
+ * A sampled evaluation tests every clause, rather than stopping at the first decisive one, so that each clause is
+ * measured on the same values, and the reordering may move any clause ahead of the others. So, unlike in a chain of
+ * <code>and</code> or <code>or</code> calls, no clause may rely on another to guard it: every clause must be total,
+ * defined for any value whatever the other clauses return, and must have no side effects. A guard and the clause it
+ * guards are written as one clause, such as <code>i -&gt; i != 0 &amp;&amp; total / i &gt; limit</code>. Should a
+ * clause throw a <code>RuntimeException</code> in a sample, after another clause has already settled the result, it is
+ * counted as settling the result itself rather than failing the evaluation. Evaluations that are not sampled share no
+ * mutable state, and an instance may be used from a parallel stream.
+ */
+public final class IntPredicateChain implements IntPredicate {
+
+    private static final int DEFAULT_SAMPLE_INTERVAL = 16;
+    private static final int DEFAULT_REORDER_INTERVAL = 64;
+
+    private final IntPredicate[] clauses;
+    private final boolean conjunction;
+    private final ClauseOrder clauseOrder;
+    private final LongSupplier ticker;
+
+    private IntPredicateChain(IntPredicate[] clauses, boolean conjunction, ClauseOrder clauseOrder,
+                              LongSupplier ticker) {
+        this.clauses = clauses;
+        this.conjunction = conjunction;
+        this.clauseOrder = clauseOrder;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value only if all of the given predicates pass it. About
+     * one in every sixteen evaluations is sampled, and the clauses are reordered after every sixty four samples.
+     *
+     * @param predicates The clauses of the chain, each of which must be total and have no side effects.
+     * @return An IntPredicateChain that is the logical conjunction of the given predicates.
+     */
+    public static IntPredicateChain allOf(IntPredicate... predicates) {
+        return allOf(Arrays.asList(predicates));
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value only if all of the given predicates pass it. About
+     * one in every sixteen evaluations is sampled, and the clauses are reordered after every sixty four samples.
+     *
+     * @param predicates The clauses of the chain, each of which must be total and have no side effects.
+     * @return An IntPredicateChain that is the logical conjunction of the given predicates.
+     */
+    public static IntPredicateChain allOf(List<? extends IntPredicate> predicates) {
+        return allOf(predicates, DEFAULT_SAMPLE_INTERVAL, DEFAULT_REORDER_INTERVAL);
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value only if all of the given predicates pass it.
+     *
+     * @param predicates      The clauses of the chain, each of which must be total and have no side effects.
+     * @param sampleInterval  On average, one in this many evaluations is sampled. Passing one samples all of them.
+     * @param reorderInterval The number of samples taken between each reordering of the clauses.
+     * @return An IntPredicateChain that is the logical conjunction of the given predicates.
+     * @throws IllegalArgumentException if sampleInterval or reorderInterval is less than one.
+     */
+    public static IntPredicateChain allOf(List<? extends IntPredicate> predicates, int sampleInterval,
+                                              int reorderInterval) {
+        return of(predicates, true, sampleInterval, reorderInterval, System::nanoTime);
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value if any of the given predicates pass it. About one in
+     * every sixteen evaluations is sampled, and the clauses are reordered after every sixty four samples.
+     *
+     * @param predicates The clauses of the chain, each of which must be total and have no side effects.
+     * @return An IntPredicateChain that is the logical disjunction of the given predicates.
+     */
+    public static IntPredicateChain anyOf(IntPredicate... predicates) {
+        return anyOf(Arrays.asList(predicates));
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value if any of the given predicates pass it. About one in
+     * every sixteen evaluations is sampled, and the clauses are reordered after every sixty four samples.
+     *
+     * @param predicates The clauses of the chain, each of which must be total and have no side effects.
+     * @return An IntPredicateChain that is the logical disjunction of the given predicates.
+     */
+    public static IntPredicateChain anyOf(List<? extends IntPredicate> predicates) {
+        return anyOf(predicates, DEFAULT_SAMPLE_INTERVAL, DEFAULT_REORDER_INTERVAL);
+    }
+
+    /**
+     * Builds an <code>IntPredicateChain</code> that passes a value if any of the given predicates pass it.
+     *
+     * @param predicates      The clauses of the chain, each of which must be total and have no side effects.
+     * @param sampleInterval  On average, one in this many evaluations is sampled. Passing one samples all of them.
+     * @param reorderInterval The number of samples taken between each reordering of the clauses.
+     * @return An IntPredicateChain that is the logical disjunction of the given predicates.
+     * @throws IllegalArgumentException if sampleInterval or reorderInterval is less than one.
+     */
+    public static IntPredicateChain anyOf(List<? extends IntPredicate> predicates, int sampleInterval,
+                                              int reorderInterval) {
+        return of(predicates, false, sampleInterval, reorderInterval, System::nanoTime);
+    }
+
+    static IntPredicateChain of(List<? extends IntPredicate> predicates, boolean conjunction, int sampleInterval,
+                                int reorderInterval, LongSupplier ticker) {
+        Objects.requireNonNull(predicates, "The 'predicates' argument must not be null");
+        IntPredicate[] clauses = predicates.toArray(new IntPredicate[0]);
+        Arrays.stream(clauses).forEach(clause -> Objects.requireNonNull(clause, "A predicate must not be null"));
+        ClauseOrder clauseOrder = ClauseOrder.of(clauses.length, conjunction, sampleInterval, reorderInterval);
+        return new IntPredicateChain(clauses, conjunction, clauseOrder, ticker);
+    }
+
+    /**
+     * Evaluates the clauses of this chain, in their current order, on a given value, stopping at the first one that
+     * settles the result, unless the evaluation is sampled.
+     *
+     * @param i An int value to be tested.
+     * @return For a chain built by allOf, true if all clauses pass the value. For one built by anyOf, true if any
+     * clause passes it.
+     */
+    @Override
+    public boolean test(int i) {
+        if (clauseOrder.shouldSample()) {
+            return sample(i);
+        }
+        for (int clause : clauseOrder.order()) {
+            if (clauses[clause].test(i) != conjunction) {
+                return !conjunction;
+            }
+        }
+        return conjunction;
+    }
+
+    // A clause evaluated after the result is settled may throw for a value that an earlier clause was there to guard
+    // against, which it would never have been passed outside of a sample. Rather than failing the evaluation, such a
+    // clause is counted as settling the result itself.
+    private boolean sample(int i) {
+        boolean settled = false;
+        for (int clause : clauseOrder.order()) {
+            long start = ticker.getAsLong();
+            boolean passed;
+            try {
+                passed = clauses[clause].test(i);
+            } catch (RuntimeException e) {
+                if (!settled) {
+                    throw e;
+                }
+                passed = !conjunction;
+            }
+            clauseOrder.record(clause, passed, ticker.getAsLong() - start);
+            settled |= passed != conjunction;
+        }
+        clauseOrder.endSample();
+        return settled ? !conjunction : conjunction;
+    }
+
+    /**
+     * Gets the order in which the clauses of this chain are currently evaluated, as the indices of the clauses in the
+     * order they were passed when the chain was built.
+     *
+     * @return An array of the indices of the clauses of this chain, in their evaluation order.
+     */
+    public int[] getOrder() {
+        return clauseOrder.order().clone();
+    }
+
+    /**
+     * Gets the ordered predicates of this chain, in the order in which they are currently evaluated.
+     *
+     * @return A List of the clauses of this chain, in their evaluation order.
+     */
+    public List<IntPredicate> getOrderedPredicates() {
+        List<IntPredicate> ordered = new ArrayList<>(clauses.length);
+        for (int clause : clauseOrder.order()) {
+            ordered.add(clauses[clause]);
+        }
+        return ordered;
+    }
+
+    /**
+     * Gets the statistics sampled so far for each clause of this chain, in the order the clauses were passed when the
+     * chain was built. Counts are halved each time the clauses are reordered, so they weigh recent samples most.
+     *
+     * @return A List of the statistics of each clause of this chain.
+     */
+    public List<ClauseStatistics> getStatistics() {
+        return clauseOrder.statistics();
+    }
+}
@@ -1,6 +1,7 @@
 package org.perro.functions.predicate;
 
 import org.perro.functions.internal.CollectionUtils;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.IntMapperUtils;
 import org.perro.functions.mapper.MapperUtils;
 import org.perro.functions.stream.IntStreamUtils;
@@ -293,6 +294,30 @@ public final class IntPredicateUtils {
         return i -> collection != null && collection.contains(function.apply(i));
     }
 
+    /**
+     * Given a <code>Collection</code> whose elements are of type &lt;R&gt;, and an <code>IntFunction</code> that
+     * returns a value of type &lt;R&gt;, this method builds an <code>IntPredicate</code> that determines if the given
+     * collection contains the value returned by the int function. The elements of the collection are copied into an
+     * index when the predicate is built, as in {@link PredicateUtils#containsIndexed(Collection, Function)}, so later
+     * changes to the collection are not seen by the predicate.
+     *
+     * @param collection A Collection of elements of type &lt;R&gt;, to be checked for whether it contains a value
+     *                   returned from a passed IntFunction.
+     * @param function   An IntFunction returning a value of type &lt;R&gt; to be checked for whether it is contained in
+     *                   a passed Collection.
+     * @param <R>        The type of elements in the passed Collection. Also, the type of the value returned by the
+     *                   passed IntFunction.
+     * @return An IntPredicate that applies the given IntFunction to its parameter, resulting in a value of type
+     * &lt;R&gt;. The IntPredicate checks that the returned value is contained in an index of the passed Collection.
+     */
+    public static <R> IntPredicate intToObjContainsIndexed(Collection<? extends R> collection, IntFunction<? extends R> function) {
+        if (collection == null) {
+            return i -> false;
+        }
+        ContainsIndex index = ContainsIndex.of(collection);
+        return i -> index.contains(function.apply(i));
+    }
+
     /**
      * Given an <code>IntFunction</code> that returns a <code>Collection&lt;R&gt;</code>, this method builds an
      * <code>IntPredicate</code> that determines if the collection returned by that int function contains the passed
@@ -323,7 +348,8 @@ public final class IntPredicateUtils {
     /**
      * Given an <code>int</code> array, and a <code>ToIntFunction</code> that takes an element of type &lt;T&gt;,
      * this method builds a <code>Predicate</code> that determines if the given array contains the value returned by the
-     * <code>ToIntFunction</code>.
+     * <code>ToIntFunction</code>. The ints are copied into a bitset or a hash table when the predicate is built, so
+     * each test is a constant time lookup, and changes made to the array after that are not seen by the predicate.
      *
      * @param ints     An array of ints, to be checked for whether it contains a value returned from a passed
      *                 ToIntFunction.
@@ -334,7 +360,11 @@ public final class IntPredicateUtils {
      * checks that the returned value is contained in a passed array of ints.
      */
     public static <T> Predicate<T> objToIntContains(int[] ints, ToIntFunction<? super T> function) {
-        return t -> ints != null && IntStreamUtils.intAnyMatch(ints, isIntEqual(function.applyAsInt(t)));
+        if (ints == null) {
+            return t -> false;
+        }
+        PrimitiveContainsIndex index = PrimitiveContainsIndex.ofInts(ints);
+        return t -> index.containsInt(function.applyAsInt(t));
     }
 
     /**
@@ -356,10 +386,19 @@ public final class IntPredicateUtils {
     public static <T> Predicate<T> inverseObjToIntContains(Function<T, int[]> function, int value) {
         return t -> {
             int[] ints = function.apply(t);
-            return IntStreamUtils.intAnyMatch(ints, isIntEqual(value));
+            return ints != null && arrayContainsInt(ints, value);
         };
     }
 
+    private static boolean arrayContainsInt(int[] ints, int value) {
+        for (int i : ints) {
+            if (i == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Given an <code>IntFunction</code> that returns a value of an arbitrary type, this method builds an
      * <code>IntPredicate</code> that determines whether that returned value is <code>null</code>.
@@ -570,6 +609,78 @@ public final class IntPredicateUtils {
         return t -> t != null && function.applyAsInt(t) <= compareTo;
     }
 
+    /**
+     * Builds an <code>IntPredicate</code> that determines whether a value is between two passed constant int values,
+     * inclusive of both.
+     *
+     * @param min The lowest int value passed by the IntPredicate built by this method.
+     * @param max The highest int value passed by the IntPredicate built by this method.
+     * @return An IntPredicate that determines whether its target value is greater than or equal to min, and less than
+     * or equal to max.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public static IntPredicate intBetween(int min, int max) {
+        Invariants.checkArgument(min <= max, "The 'min' argument must not be greater than the 'max' argument");
+        return i -> i >= min && i <= max;
+    }
+
+    /**
+     * Given a <code>ToIntFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function is between two passed constant
+     * int values, inclusive of both.
+     *
+     * @param function A ToIntFunction that takes an element of type &lt;T&gt;, whose return value is to be checked by
+     *                 the Predicate built by this method.
+     * @param min      The lowest int value passed by the Predicate built by this method.
+     * @param max      The highest int value passed by the Predicate built by this method.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToIntFunction to its target element, and determines whether its int return
+     * value is between min and max. Returns false for a null element.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public static <T> Predicate<T> toIntBetween(ToIntFunction<? super T> function, int min, int max) {
+        IntPredicate between = intBetween(min, max);
+        return t -> t != null && between.test(function.applyAsInt(t));
+    }
+
+    /**
+     * Builds an <code>IntPredicate</code> that determines whether a value falls within any of a set of ranges. Each
+     * range is an array of its lower and upper bounds, both inclusive, for example:
+     * <pre>
+     *     IntPredicate inBusinessHours = intInRanges(new int[][]{{900, 1200}, {1300, 1730}});
+     * </pre>
+     * The ranges are copied, sorted and merged when the predicate is built, so that each test is a binary search over
+     * the ranges, rather than a test of each in turn, as a chain of <code>or</code> calls would be.
+     *
+     * @param ranges An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @return An IntPredicate that determines whether its target value is in any of the passed ranges.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound.
+     */
+    public static IntPredicate intInRanges(int[][] ranges) {
+        LongRangeSet rangeSet = LongRangeSet.ofInts(ranges);
+        return rangeSet::contains;
+    }
+
+    /**
+     * Given a <code>ToIntFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function falls within any of a set of
+     * ranges, as {@link #intInRanges(int[][])} does.
+     *
+     * @param function A ToIntFunction that takes an element of type &lt;T&gt;, whose return value is to be checked by
+     *                 the Predicate built by this method.
+     * @param ranges   An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToIntFunction to its target element, and determines whether its int return
+     * value is in any of the passed ranges. Returns false for a null element.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound.
+     */
+    public static <T> Predicate<T> toIntInRanges(ToIntFunction<? super T> function, int[][] ranges) {
+        LongRangeSet rangeSet = LongRangeSet.ofInts(ranges);
+        return t -> t != null && rangeSet.contains(function.applyAsInt(t));
+    }
+
     /**
      * Given an <code>IntFunction</code> that returns a <code>Collection</code> of elements of an arbitrary type, this
      * method builds an <code>IntPredicate</code> that determines whether the returned <code>Collection</code> is empty.
@@ -730,9 +841,10 @@ public final class IntPredicateUtils {
      * Given a <code>ToIntFunction</code> taking a value of type &lt;T&gt;, and an <code>IntPredicate</code>, this
      * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and applies the return value of
      * the <code>ToIntFunction</code> to the given predicate. It is a way of adapting an <code>IntPredicate</code> to a
-     * <code>Stream</code> of a different type. For example, the
-     * {@link IntStreamUtils#indexOfFirstInt(int[], IntPredicate)} method uses this predicate in its implementation
-     * (Note that the <code>intPairWithIndex()</code> below refers to {@link IntMapperUtils#intPairWithIndex()}):
+     * <code>Stream</code> of a different type. For example, a stream based version of the
+     * {@link IntStreamUtils#indexOfFirstInt(int[], IntPredicate)} method could use this predicate in its
+     * implementation (Note that the <code>intPairWithIndex()</code> below refers to
+     * {@link IntMapperUtils#intPairWithIndex()}):
      * <pre>
      * public static int indexOfFirstInt(int[] ints, IntPredicate intPredicate) {
      *     return defaultIntStream(ints)
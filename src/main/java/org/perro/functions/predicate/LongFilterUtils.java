@@ -1,6 +1,10 @@
 package org.perro.functions.predicate;
 
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.LongPredicate;
 import java.util.stream.Collector;
@@ -30,6 +34,114 @@ public final class LongFilterUtils {
                 .toArray();
     }
 
+    /**
+     * Filters an array of longs, based on a predicate, into the start of a destination array supplied by the caller,
+     * returning the number of values copied. Unlike {@link #longFilter(long[], LongPredicate)}, no array is allocated,
+     * so a single destination array may be reused across any number of calls:
+     * <pre>
+     *     long[] matches = new long[column.length];
+     *     int count = longFilterInto(column, predicate, matches);
+     * </pre>
+     * The destination array must be at least as long as the source array. That lets each value be stored at the next
+     * free position before it is tested, and the count moved on only if it passes, with no branch on the outcome.
+     * Positions in the destination array from the returned count onwards hold no meaningful values.
+     *
+     * @param longs     An array of longs to be filtered.
+     * @param predicate A predicate with which to filter the longs array.
+     * @param dst       An array into which matching values are copied, in order, which must be at least as long as the
+     *                  longs array.
+     * @return The number of values that matched the predicate, and were copied into the start of the dst array.
+     * @throws IllegalArgumentException if the dst array is shorter than the longs array.
+     */
+    public static int longFilterInto(long[] longs, LongPredicate predicate, long[] dst) {
+        Objects.requireNonNull(dst, "The 'dst' argument must not be null");
+        if (longs == null) {
+            return 0;
+        }
+        Invariants.checkArgument(dst.length >= longs.length,
+                "The 'dst' argument must be at least as long as the 'longs' argument");
+        int count = 0;
+        for (long value : longs) {
+            dst[count] = value;
+            count += predicate.test(value) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Filters an array of longs, based on a predicate, into another long array, in two passes over the source array.
+     * The first pass counts the matching values, so that the second can copy them into an array of exactly the right
+     * length, with none of the growing and copying of a buffer done by {@link #longFilter(long[], LongPredicate)}. The
+     * predicate is evaluated twice for each value, so it must have no side effects, and this is only worthwhile when it
+     * is cheap.
+     *
+     * @param longs     An array of longs to be filtered.
+     * @param predicate A predicate, with no side effects, with which to filter the longs array.
+     * @return An array of longs filtered from an array of long.
+     */
+    public static long[] longFilterTwoPass(long[] longs, LongPredicate predicate) {
+        if (longs == null) {
+            return new long[0];
+        }
+        int count = 0;
+        for (long value : longs) {
+            count += predicate.test(value) ? 1 : 0;
+        }
+        long[] filtered = new long[count];
+        int j = 0;
+        for (int i = 0; i < longs.length && j < count; i++) {
+            if (predicate.test(longs[i])) {
+                filtered[j++] = longs[i];
+            }
+        }
+        return j == count ? filtered : Arrays.copyOf(filtered, j);
+    }
+
+    /**
+     * Filters an array of longs, based on a predicate, into a selection vector: an array of the indices, in
+     * ascending order, of the values in the source array that match the predicate. The indices can then be used to
+     * pick the matching rows out of other arrays of the same length.
+     *
+     * @param longs     An array of longs to be filtered.
+     * @param predicate A predicate with which to filter the longs array.
+     * @return An array of the indices of the values in the longs array that match the predicate.
+     */
+    public static int[] longFilterIndices(long[] longs, LongPredicate predicate) {
+        if (longs == null) {
+            return new int[0];
+        }
+        int[] indices = new int[longs.length];
+        return Arrays.copyOf(indices, longFilterIndicesInto(longs, predicate, indices));
+    }
+
+    /**
+     * Filters an array of longs, based on a predicate, into a selection vector in an array supplied by the caller: the
+     * indices, in ascending order, of the values in the source array that match the predicate are written to the start
+     * of the indices array, and their number is returned. As with {@link #longFilterInto(long[], LongPredicate,
+     * long[])}, the indices array may be reused across calls, and must be at least as long as the source array.
+     *
+     * @param longs     An array of longs to be filtered.
+     * @param predicate A predicate with which to filter the longs array.
+     * @param indices   An array into which the indices of matching values are written, which must be at least as long
+     *                  as the longs array.
+     * @return The number of values that matched the predicate, and whose indices were written into the indices array.
+     * @throws IllegalArgumentException if the indices array is shorter than the longs array.
+     */
+    public static int longFilterIndicesInto(long[] longs, LongPredicate predicate, int[] indices) {
+        Objects.requireNonNull(indices, "The 'indices' argument must not be null");
+        if (longs == null) {
+            return 0;
+        }
+        Invariants.checkArgument(indices.length >= longs.length,
+                "The 'indices' argument must be at least as long as the 'longs' argument");
+        int count = 0;
+        for (int i = 0; i < longs.length; i++) {
+            indices[count] = i;
+            count += predicate.test(longs[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
     /**
      * Filters an array of <code>long</code> primitives, based a predicate, into a <code>Set</code>.
      *
@@ -1,6 +1,7 @@
 package org.perro.functions.predicate;
 
 import org.perro.functions.internal.CollectionUtils;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.LongMapperUtils;
 import org.perro.functions.mapper.MapperUtils;
 import org.perro.functions.stream.LongStreamUtils;
@@ -323,7 +324,8 @@ public final class LongPredicateUtils {
     /**
      * Given a <code>long</code> array, and a <code>ToLongFunction</code> that takes an element of type &lt;T&gt;, this
      * method builds a <code>Predicate</code> that determines if the given array contains the value returned by the
-     * <code>ToLongFunction</code>.
+     * <code>ToLongFunction</code>. The array is indexed once, when the predicate is built, so later changes to it are
+     * not seen by the predicate.
      *
      * @param longs  An array of longs, to be checked for whether it contains a value returned from a passed
      *                 ToLongFunction.
@@ -334,7 +336,11 @@ public final class LongPredicateUtils {
      * checks that the returned value is contained in a passed array of longs.
      */
     public static <T> Predicate<T> objToLongContains(long[] longs, ToLongFunction<? super T> function) {
-        return t -> longs != null && LongStreamUtils.longAnyMatch(longs, isLongEqual(function.applyAsLong(t)));
+        if (longs == null) {
+            return t -> false;
+        }
+        PrimitiveContainsIndex index = PrimitiveContainsIndex.ofLongs(longs);
+        return t -> index.containsLong(function.applyAsLong(t));
     }
 
     /**
@@ -356,10 +362,19 @@ public final class LongPredicateUtils {
     public static <T> Predicate<T> inverseObjToLongContains(Function<T, ? extends long[]> function, long value) {
         return t -> {
             long[] longs = function.apply(t);
-            return LongStreamUtils.longAnyMatch(longs, isLongEqual(value));
+            return longs != null && arrayContainsLong(longs, value);
         };
     }
 
+    private static boolean arrayContainsLong(long[] longs, long value) {
+        for (long l : longs) {
+            if (l == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Given a <code>LongFunction</code> that returns a value of an arbitrary type, this method builds a
      * <code>LongPredicate</code> that determines whether that returned value is <code>null</code>.
@@ -574,6 +589,78 @@ public final class LongPredicateUtils {
         return t -> t != null && function.applyAsLong(t) <= compareTo;
     }
 
+    /**
+     * Builds a <code>LongPredicate</code> that determines whether a value is between two passed constant long values,
+     * inclusive of both.
+     *
+     * @param min The lowest long value passed by the LongPredicate built by this method.
+     * @param max The highest long value passed by the LongPredicate built by this method.
+     * @return A LongPredicate that determines whether its target value is greater than or equal to min, and less than
+     * or equal to max.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public static LongPredicate longBetween(long min, long max) {
+        Invariants.checkArgument(min <= max, "The 'min' argument must not be greater than the 'max' argument");
+        return l -> l >= min && l <= max;
+    }
+
+    /**
+     * Given a <code>ToLongFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function is between two passed constant
+     * long values, inclusive of both.
+     *
+     * @param function A ToLongFunction that takes an element of type &lt;T&gt;, whose return value is to be checked by
+     *                 the Predicate built by this method.
+     * @param min      The lowest long value passed by the Predicate built by this method.
+     * @param max      The highest long value passed by the Predicate built by this method.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToLongFunction to its target element, and determines whether its long return
+     * value is between min and max. Returns false for a null element.
+     * @throws IllegalArgumentException if min is greater than max.
+     */
+    public static <T> Predicate<T> toLongBetween(ToLongFunction<? super T> function, long min, long max) {
+        LongPredicate between = longBetween(min, max);
+        return t -> t != null && between.test(function.applyAsLong(t));
+    }
+
+    /**
+     * Builds a <code>LongPredicate</code> that determines whether a value falls within any of a set of ranges. Each
+     * range is an array of its lower and upper bounds, both inclusive, for example:
+     * <pre>
+     *     LongPredicate inBusinessHours = longInRanges(new long[][]{{900L, 1200L}, {1300L, 1730L}});
+     * </pre>
+     * The ranges are copied, sorted and merged when the predicate is built, so that each test is a binary search over
+     * the ranges, rather than a test of each in turn, as a chain of <code>or</code> calls would be.
+     *
+     * @param ranges An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @return A LongPredicate that determines whether its target value is in any of the passed ranges.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound.
+     */
+    public static LongPredicate longInRanges(long[][] ranges) {
+        LongRangeSet rangeSet = LongRangeSet.ofLongs(ranges);
+        return rangeSet::contains;
+    }
+
+    /**
+     * Given a <code>ToLongFunction</code> that takes an element of type &lt;T&gt;, this method builds a
+     * <code>Predicate</code> that determines whether the return value of that function falls within any of a set of
+     * ranges, as {@link #longInRanges(long[][])} does.
+     *
+     * @param function A ToLongFunction that takes an element of type &lt;T&gt;, whose return value is to be checked by
+     *                 the Predicate built by this method.
+     * @param ranges   An array of ranges, each an array of a lower and an upper bound. The ranges may overlap.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that applies a ToLongFunction to its target element, and determines whether its long return
+     * value is in any of the passed ranges. Returns false for a null element.
+     * @throws IllegalArgumentException if a range is not an array of two bounds, or its lower bound is greater than its
+     *                                  upper bound.
+     */
+    public static <T> Predicate<T> toLongInRanges(ToLongFunction<? super T> function, long[][] ranges) {
+        LongRangeSet rangeSet = LongRangeSet.ofLongs(ranges);
+        return t -> t != null && rangeSet.contains(function.applyAsLong(t));
+    }
+
     /**
      * Given a <code>LongFunction</code> that returns a <code>Collection</code> of elements of an arbitrary type, this
      * method builds a <code>LongPredicate</code> that determines whether the returned <code>Collection</code> is empty.
@@ -734,9 +821,10 @@ public final class LongPredicateUtils {
      * Given a <code>ToLongFunction</code> taking a value of type &lt;T&gt;, and a <code>LongPredicate</code>, this
      * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and applies the return value of
      * the <code>ToLongFunction</code> to the given predicate. It is a way of adapting a <code>LongPredicate</code> to a
-     * <code>Stream</code> of a different type. For example, the
-     * {@link LongStreamUtils#indexOfFirstLong(long[], LongPredicate)} method uses this predicate in its implementation
-     * (Note that the <code>longPairWithIndex()</code> below refers to {@link LongMapperUtils#longPairWithIndex()}):
+     * <code>Stream</code> of a different type. For example, a stream based version of the
+     * {@link LongStreamUtils#indexOfFirstLong(long[], LongPredicate)} method could use this predicate in its
+     * implementation (Note that the <code>longPairWithIndex()</code> below refers to
+     * {@link LongMapperUtils#longPairWithIndex()}):
      * <pre>
      * public static int indexOfFirstLong(long[] longs, LongPredicate longPredicate) {
      *     return defaultLongStream(longs)
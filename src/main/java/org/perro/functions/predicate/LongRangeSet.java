@@ -0,0 +1,72 @@
+package org.perro.functions.predicate;
+
+import org.perro.functions.internal.Invariants;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+// A set of closed ranges of long values, sorted by their lower bounds, with overlapping and adjacent ranges merged so
+// that the ranges are disjoint, and the one that could contain a value is found by a binary search of the lower bounds.
+final class LongRangeSet {
+
+    private final long[] lowerBounds;
+    private final long[] upperBounds;
+
+    private LongRangeSet(long[] lowerBounds, long[] upperBounds) {
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+    }
+
+    static LongRangeSet ofInts(int[][] ranges) {
+        Objects.requireNonNull(ranges, "The 'ranges' argument must not be null");
+        return of(Arrays.stream(ranges)
+                .map(range -> range == null ? null : Arrays.stream(range).asLongStream().toArray())
+                .toArray(long[][]::new));
+    }
+
+    static LongRangeSet ofLongs(long[][] ranges) {
+        Objects.requireNonNull(ranges, "The 'ranges' argument must not be null");
+        return of(ranges);
+    }
+
+    private static LongRangeSet of(long[][] ranges) {
+        for (long[] range : ranges) {
+            checkRange(range);
+        }
+        long[][] sorted = ranges.clone();
+        Arrays.sort(sorted, Comparator.comparingLong(range -> range[0]));
+        long[] lowerBounds = new long[sorted.length];
+        long[] upperBounds = new long[sorted.length];
+        int count = 0;
+        for (long[] range : sorted) {
+            if (count > 0 && (range[0] <= upperBounds[count - 1] || range[0] == upperBounds[count - 1] + 1L)) {
+                upperBounds[count - 1] = Math.max(upperBounds[count - 1], range[1]);
+            } else {
+                lowerBounds[count] = range[0];
+                upperBounds[count++] = range[1];
+            }
+        }
+        return new LongRangeSet(Arrays.copyOf(lowerBounds, count), Arrays.copyOf(upperBounds, count));
+    }
+
+    private static void checkRange(long[] range) {
+        Invariants.checkArgument(range != null && range.length == 2,
+                "Each range must be an array of its lower and upper bounds");
+        Invariants.checkArgument(range[0] <= range[1], "The lower bound of a range must not exceed its upper bound");
+    }
+
+    boolean contains(long value) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowerBounds[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && value <= upperBounds[high];
+    }
+}
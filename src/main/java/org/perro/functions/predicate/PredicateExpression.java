@@ -0,0 +1,603 @@
+package org.perro.functions.predicate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A <code>Predicate</code> built as a tree of clauses, which may be compiled into a single method handle. A filter
+ * composed from many of the predicates built by {@link PredicateUtils} is a chain of captured lambdas, and since every
+ * predicate built by, say, <code>isEqual</code> shares one lambda class, the calls inside that class soon see many
+ * different functions, and the JIT compiler stops inlining them. The same filter written as an expression:
+ * <pre>
+ *     Predicate&lt;Order&gt; openUrgentOrder = PredicateExpression.allOf(
+ *             PredicateExpression.isEqual(Order::getStatus, Status.OPEN),
+ *             PredicateExpression.gte(Order::getPriority, 3),
+ *             PredicateExpression.mapAndFilter(Order::getCustomer,
+ *                     PredicateExpression.isEqual(Customer::getRegion, Region.EMEA).negate()))
+ *         .compile();
+ * </pre>
+ * can be compiled, binding each function and value into a tree of method handles. The JVM specializes the code of a
+ * method handle that is invoked often for that one handle, so each clause of the tree gets a call site of its own. An
+ * expression that is not compiled, or that is compiled where method handles are unavailable, is evaluated by walking
+ * its tree, with the same results.
+ *
+ * @param <T> The type of the element taken by this Predicate.
+ */
+public abstract class PredicateExpression<T> implements Predicate<T> {
+
+    PredicateExpression() {
+    }
+
+    /**
+     * Builds an expression from an existing <code>Predicate</code>, to be evaluated as it is.
+     *
+     * @param predicate A Predicate to be used as a clause of an expression.
+     * @param <T>       The type of the element taken by the expression built by this method.
+     * @return A PredicateExpression that evaluates the passed predicate.
+     */
+    public static <T> PredicateExpression<T> of(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "The 'predicate' argument must not be null");
+        return new PredicateNode<>(predicate);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is equal to the passed
+     * <code>value</code>, like {@link PredicateUtils#isEqual(Function, Object)}.
+     *
+     * @param function A Function that takes an element and returns a value to be compared with a passed value for
+     *                 equality.
+     * @param value    A value to be compared to the result of the passed Function for equality.
+     * @param <T>      The type of the element taken by the expression built by this method.
+     * @param <R>      The type of the value passed, as well as the return value of the passed function.
+     * @return A PredicateExpression that applies the given function to an element, and compares the result for equality
+     * to a passed value. A null element is given a null value.
+     */
+    public static <T, R> PredicateExpression<T> isEqual(Function<? super T, ? extends R> function, R value) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new EqualNode<>(function, value);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is <i>not</i> equal to the
+     * passed <code>value</code>, like {@link PredicateUtils#isNotEqual(Function, Object)}.
+     *
+     * @param function A Function that takes an element and returns a value to be compared with a passed value for
+     *                 inequality.
+     * @param value    A value to be compared to the result of the passed Function for inequality.
+     * @param <T>      The type of the element taken by the expression built by this method.
+     * @param <R>      The type of the value passed, as well as the return value of the passed function.
+     * @return A PredicateExpression that applies the given function to an element, and compares the result for
+     * inequality to a passed value.
+     */
+    public static <T, R> PredicateExpression<T> isNotEqual(Function<? super T, ? extends R> function, R value) {
+        return PredicateExpression.<T, R>isEqual(function, value).negate();
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is <code>null</code>, like
+     * {@link PredicateUtils#isNull(Function)}.
+     *
+     * @param function A Function taking an element and returning an object of any type to be checked for nullity.
+     * @param <T>      The type of the element taken by the expression built by this method.
+     * @return A PredicateExpression that returns true if the element is null, or the value returned from the given
+     * function is null.
+     */
+    public static <T> PredicateExpression<T> isNull(Function<? super T, ?> function) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        return new NullNode<>(function);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is not <code>null</code>,
+     * like {@link PredicateUtils#notNull(Function)}.
+     *
+     * @param function A Function taking an element and returning an object of any type to be checked for non-nullity.
+     * @param <T>      The type of the element taken by the expression built by this method.
+     * @return A PredicateExpression that returns true if the value returned from a given function is not null. Returns
+     * false if the element is null.
+     */
+    public static <T> PredicateExpression<T> notNull(Function<? super T, ?> function) {
+        return PredicateExpression.<T>isNull(function).negate();
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is greater than the
+     * <code>compareTo</code> value passed, like {@link PredicateUtils#gt(Function, Comparable)}, treating a null value
+     * as greater than those that are non-null.
+     *
+     * @param function  A Function taking an element and returning a value to be compared to a compareTo value.
+     * @param compareTo A value to which a value returned from a passed function will be compared.
+     * @param <T>       The type of the element taken by the expression built by this method.
+     * @param <R>       The type of the compareTo value passed. Also, the return type of the passed function.
+     * @return A PredicateExpression that returns true if the value returned from a given function is greater than the
+     * passed compareTo value.
+     */
+    public static <T, R extends Comparable<R>> PredicateExpression<T> gt(Function<? super T, ? extends R> function,
+                                                                         R compareTo) {
+        return new ComparisonNode<>(function, compareTo, Comparison.GT);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is greater than or equal to
+     * the <code>compareTo</code> value passed, like {@link PredicateUtils#gte(Function, Comparable)}, treating a null
+     * value as greater than those that are non-null.
+     *
+     * @param function  A Function taking an element and returning a value to be compared to a compareTo value.
+     * @param compareTo A value to which a value returned from a passed function will be compared.
+     * @param <T>       The type of the element taken by the expression built by this method.
+     * @param <R>       The type of the compareTo value passed. Also, the return type of the passed function.
+     * @return A PredicateExpression that returns true if the value returned from a given function is greater than or
+     * equal to the passed compareTo value.
+     */
+    public static <T, R extends Comparable<R>> PredicateExpression<T> gte(Function<? super T, ? extends R> function,
+                                                                          R compareTo) {
+        return new ComparisonNode<>(function, compareTo, Comparison.GTE);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is less than the
+     * <code>compareTo</code> value passed, like {@link PredicateUtils#lt(Function, Comparable)}, treating a null value
+     * as less than those that are non-null.
+     *
+     * @param function  A Function taking an element and returning a value to be compared to a compareTo value.
+     * @param compareTo A value to which a value returned from a passed function will be compared.
+     * @param <T>       The type of the element taken by the expression built by this method.
+     * @param <R>       The type of the compareTo value passed. Also, the return type of the passed function.
+     * @return A PredicateExpression that returns true if the value returned from a given function is less than the
+     * passed compareTo value.
+     */
+    public static <T, R extends Comparable<R>> PredicateExpression<T> lt(Function<? super T, ? extends R> function,
+                                                                         R compareTo) {
+        return new ComparisonNode<>(function, compareTo, Comparison.LT);
+    }
+
+    /**
+     * Builds an expression that determines if the value returned by a <code>Function</code> is less than or equal to
+     * the <code>compareTo</code> value passed, like {@link PredicateUtils#lte(Function, Comparable)}, treating a null
+     * value as less than those that are non-null.
+     *
+     * @param function  A Function taking an element and returning a value to be compared to a compareTo value.
+     * @param compareTo A value to which a value returned from a passed function will be compared.
+     * @param <T>       The type of the element taken by the expression built by this method.
+     * @param <R>       The type of the compareTo value passed. Also, the return type of the passed function.
+     * @return A PredicateExpression that returns true if the value returned from a given function is less than or
+     * equal to the passed compareTo value.
+     */
+    public static <T, R extends Comparable<R>> PredicateExpression<T> lte(Function<? super T, ? extends R> function,
+                                                                          R compareTo) {
+        return new ComparisonNode<>(function, compareTo, Comparison.LTE);
+    }
+
+    /**
+     * Builds an expression that applies a <code>Function</code> to an element, and evaluates another expression on the
+     * result, like {@link PredicateUtils#mapAndFilter(Function, Predicate)}.
+     *
+     * @param function   A Function to transform an element of type &lt;T&gt; to one of type &lt;R&gt;.
+     * @param expression A PredicateExpression taking an element of type &lt;R&gt;.
+     * @param <T>        The type of the element taken by the expression built by this method.
+     * @param <R>        The type of the element taken by the passed expression.
+     * @return A PredicateExpression that evaluates a given expression on the value returned from a given function.
+     * Returns false if the element is null.
+     */
+    public static <T, R> PredicateExpression<T> mapAndFilter(Function<? super T, ? extends R> function,
+                                                             PredicateExpression<? super R> expression) {
+        Objects.requireNonNull(function, "The 'function' argument must not be null");
+        Objects.requireNonNull(expression, "The 'expression' argument must not be null");
+        return new MapNode<>(function, expression);
+    }
+
+    /**
+     * Builds an expression that passes an element only if all of the given expressions pass it, evaluating them in
+     * order and stopping at the first that fails.
+     *
+     * @param expressions The clauses of the expression to be built.
+     * @param <T>         The type of the element taken by the expression built by this method.
+     * @return A PredicateExpression that is the logical conjunction of the given expressions.
+     */
+    @SafeVarargs
+    public static <T> PredicateExpression<T> allOf(PredicateExpression<? super T>... expressions) {
+        PredicateExpression<?>[] clauses = new PredicateExpression<?>[expressions.length];
+        for (int i = 0; i < clauses.length; i++) {
+            clauses[i] = Objects.requireNonNull(expressions[i], "An expression must not be null");
+        }
+        return new JunctionNode<>(clauses, true);
+    }
+
+    /**
+     * Builds an expression that passes an element if any of the given expressions pass it, evaluating them in order and
+     * stopping at the first that passes.
+     *
+     * @param expressions The clauses of the expression to be built.
+     * @param <T>         The type of the element taken by the expression built by this method.
+     * @return A PredicateExpression that is the logical disjunction of the given expressions.
+     */
+    @SafeVarargs
+    public static <T> PredicateExpression<T> anyOf(PredicateExpression<? super T>... expressions) {
+        PredicateExpression<?>[] clauses = new PredicateExpression<?>[expressions.length];
+        for (int i = 0; i < clauses.length; i++) {
+            clauses[i] = Objects.requireNonNull(expressions[i], "An expression must not be null");
+        }
+        return new JunctionNode<>(clauses, false);
+    }
+
+    /**
+     * Builds an expression that passes an element only if both this expression and another predicate pass it. A
+     * predicate that is not itself an expression is evaluated as it is.
+     *
+     * @param other A Predicate to be evaluated if this expression passes an element.
+     * @return A PredicateExpression that is the logical conjunction of this expression and the passed predicate.
+     */
+    @Override
+    public PredicateExpression<T> and(Predicate<? super T> other) {
+        return allOf(this, toExpression(other));
+    }
+
+    /**
+     * Builds an expression that passes an element if either this expression or another predicate passes it. A
+     * predicate that is not itself an expression is evaluated as it is.
+     *
+     * @param other A Predicate to be evaluated if this expression does not pass an element.
+     * @return A PredicateExpression that is the logical disjunction of this expression and the passed predicate.
+     */
+    @Override
+    public PredicateExpression<T> or(Predicate<? super T> other) {
+        return anyOf(this, toExpression(other));
+    }
+
+    private static <T> PredicateExpression<? super T> toExpression(Predicate<? super T> predicate) {
+        return predicate instanceof PredicateExpression ? (PredicateExpression<? super T>) predicate : of(predicate);
+    }
+
+    /**
+     * Builds an expression that is the logical negation of this one.
+     *
+     * @return A PredicateExpression that passes an element if this one does not.
+     */
+    @Override
+    public PredicateExpression<T> negate() {
+        return new NotNode<>(this);
+    }
+
+    /**
+     * Compiles this expression into a single method handle, returning a <code>Predicate</code> that invokes it. If
+     * method handles cannot be looked up, this expression is returned as it is, to be evaluated by walking its tree.
+     *
+     * @return A Predicate that gives the same results as this expression.
+     */
+    public Predicate<T> compile() {
+        return Handles.AVAILABLE ? new CompiledPredicate<>(toMethodHandle()) : this;
+    }
+
+    // Returns a method handle of type (Object)boolean that evaluates this expression.
+    abstract MethodHandle toMethodHandle();
+
+    static boolean testPredicate(Predicate<Object> predicate, Object t) {
+        return predicate.test(t);
+    }
+
+    static boolean testEqual(Function<Object, ?> function, Object value, Object t) {
+        return Objects.equals(t == null ? null : function.apply(t), value);
+    }
+
+    static boolean testNull(Function<Object, ?> function, Object t) {
+        return t == null || function.apply(t) == null;
+    }
+
+    static boolean testComparison(Function<Object, ?> function, Object compareTo, Comparison comparison, Object t) {
+        return comparison.test(t == null ? null : function.apply(t), compareTo);
+    }
+
+    static Object apply(Function<Object, ?> function, Object t) {
+        return function.apply(t);
+    }
+
+    static boolean isNotNull(Object t) {
+        return t != null;
+    }
+
+    static boolean negateResult(boolean b) {
+        return !b;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T uncheckedCast(Object o) {
+        return (T) o;
+    }
+
+    // The method handles that the nodes of a compiled expression are bound from. The methods they refer to are package
+    // private, rather than private, since a lookup from a nested class may not see the private methods of its outer
+    // class on every JVM. If they cannot be looked up, for instance under a security manager, expressions are not
+    // compiled.
+    private static final class Handles {
+
+        private static final MethodHandle TEST_PREDICATE;
+        private static final MethodHandle IS_EQUAL;
+        private static final MethodHandle IS_NULL;
+        private static final MethodHandle COMPARE;
+        private static final MethodHandle APPLY;
+        private static final MethodHandle IS_NOT_NULL;
+        private static final MethodHandle NOT;
+        private static final MethodHandle ALWAYS_TRUE;
+        private static final MethodHandle ALWAYS_FALSE;
+        private static final boolean AVAILABLE;
+
+        static {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle testPredicate = null;
+            MethodHandle isEqual = null;
+            MethodHandle isNull = null;
+            MethodHandle compare = null;
+            MethodHandle apply = null;
+            MethodHandle isNotNull = null;
+            MethodHandle not = null;
+            boolean available;
+            try {
+                Class<PredicateExpression> c = PredicateExpression.class;
+                testPredicate = lookup.findStatic(c, "testPredicate",
+                        MethodType.methodType(boolean.class, Predicate.class, Object.class));
+                isEqual = lookup.findStatic(c, "testEqual",
+                        MethodType.methodType(boolean.class, Function.class, Object.class, Object.class));
+                isNull = lookup.findStatic(c, "testNull",
+                        MethodType.methodType(boolean.class, Function.class, Object.class));
+                compare = lookup.findStatic(c, "testComparison",
+                        MethodType.methodType(boolean.class, Function.class, Object.class, Comparison.class,
+                                Object.class));
+                apply = lookup.findStatic(c, "apply",
+                        MethodType.methodType(Object.class, Function.class, Object.class));
+                isNotNull = lookup.findStatic(c, "isNotNull", MethodType.methodType(boolean.class, Object.class));
+                not = lookup.findStatic(c, "negateResult", MethodType.methodType(boolean.class, boolean.class));
+                available = true;
+            } catch (ReflectiveOperationException | SecurityException e) {
+                available = false;
+            }
+            TEST_PREDICATE = testPredicate;
+            IS_EQUAL = isEqual;
+            IS_NULL = isNull;
+            COMPARE = compare;
+            APPLY = apply;
+            IS_NOT_NULL = isNotNull;
+            NOT = not;
+            ALWAYS_TRUE = constant(true);
+            ALWAYS_FALSE = constant(false);
+            AVAILABLE = available;
+        }
+
+        private static MethodHandle constant(boolean b) {
+            return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, b), 0, Object.class);
+        }
+    }
+
+    private static final class CompiledPredicate<T> implements Predicate<T> {
+
+        private final MethodHandle handle;
+
+        private CompiledPredicate(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public boolean test(T t) {
+            try {
+                return (boolean) handle.invokeExact((Object) t);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    // Compares values as PredicateUtils does, with nulls last for gt and gte, and nulls first for lt and lte, but
+    // without going through a Comparator, whose compareTo call would be shared by every comparison in the JVM.
+    private enum Comparison {
+
+        GT(true),
+        GTE(true),
+        LT(false),
+        LTE(false);
+
+        private final boolean nullsLast;
+
+        Comparison(boolean nullsLast) {
+            this.nullsLast = nullsLast;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean test(Object value, Object compareTo) {
+            int comparison;
+            if (value == null || compareTo == null) {
+                comparison = value == compareTo ? 0 : (value == null) == nullsLast ? 1 : -1;
+            } else {
+                comparison = ((Comparable<Object>) value).compareTo(compareTo);
+            }
+            switch (this) {
+                case GT:
+                    return comparison > 0;
+                case GTE:
+                    return comparison >= 0;
+                case LT:
+                    return comparison < 0;
+                default:
+                    return comparison <= 0;
+            }
+        }
+    }
+
+    private static final class PredicateNode<T> extends PredicateExpression<T> {
+
+        private final Predicate<Object> predicate;
+
+        private PredicateNode(Predicate<? super T> predicate) {
+            this.predicate = uncheckedCast(predicate);
+        }
+
+        @Override
+        public boolean test(T t) {
+            return predicate.test(t);
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            return Handles.TEST_PREDICATE.bindTo(predicate);
+        }
+    }
+
+    private static final class EqualNode<T> extends PredicateExpression<T> {
+
+        private final Function<Object, ?> function;
+        private final Object value;
+
+        private EqualNode(Function<? super T, ?> function, Object value) {
+            this.function = uncheckedCast(function);
+            this.value = value;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return testEqual(function, value, t);
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            return MethodHandles.insertArguments(Handles.IS_EQUAL, 0, function, value);
+        }
+    }
+
+    private static final class NullNode<T> extends PredicateExpression<T> {
+
+        private final Function<Object, ?> function;
+
+        private NullNode(Function<? super T, ?> function) {
+            this.function = uncheckedCast(function);
+        }
+
+        @Override
+        public boolean test(T t) {
+            return testNull(function, t);
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            return Handles.IS_NULL.bindTo(function);
+        }
+    }
+
+    private static final class ComparisonNode<T> extends PredicateExpression<T> {
+
+        private final Function<Object, ?> function;
+        private final Object compareTo;
+        private final Comparison comparison;
+
+        private ComparisonNode(Function<? super T, ?> function, Object compareTo, Comparison comparison) {
+            this.function = uncheckedCast(Objects.requireNonNull(function, "The 'function' argument must not be null"));
+            this.compareTo = compareTo;
+            this.comparison = comparison;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return testComparison(function, compareTo, comparison, t);
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            return MethodHandles.insertArguments(Handles.COMPARE, 0, function, compareTo, comparison);
+        }
+    }
+
+    private static final class MapNode<T> extends PredicateExpression<T> {
+
+        private final Function<Object, ?> function;
+        private final PredicateExpression<Object> expression;
+
+        private MapNode(Function<? super T, ?> function, PredicateExpression<?> expression) {
+            this.function = uncheckedCast(function);
+            this.expression = uncheckedCast(expression);
+        }
+
+        @Override
+        public boolean test(T t) {
+            return t != null && expression.test(function.apply(t));
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            MethodHandle mapped = MethodHandles.filterArguments(expression.toMethodHandle(), 0,
+                    Handles.APPLY.bindTo(function));
+            return MethodHandles.guardWithTest(Handles.IS_NOT_NULL, mapped, Handles.ALWAYS_FALSE);
+        }
+    }
+
+    private static final class NotNode<T> extends PredicateExpression<T> {
+
+        private final PredicateExpression<T> expression;
+
+        private NotNode(PredicateExpression<T> expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public boolean test(T t) {
+            return !expression.test(t);
+        }
+
+        @Override
+        public PredicateExpression<T> negate() {
+            return expression;
+        }
+
+        @Override
+        MethodHandle toMethodHandle() {
+            return MethodHandles.filterReturnValue(expression.toMethodHandle(), Handles.NOT);
+        }
+    }
+
+    private static final class JunctionNode<T> extends PredicateExpression<T> {
+
+        private final PredicateExpression<Object>[] expressions;
+        private final boolean conjunction;
+
+        private JunctionNode(PredicateExpression<?>[] expressions, boolean conjunction) {
+            this.expressions = uncheckedCast(expressions);
+            this.conjunction = conjunction;
+        }
+
+        @Override
+        public boolean test(T t) {
+            for (PredicateExpression<Object> expression : expressions) {
+                if (expression.test(t) != conjunction) {
+                    return !conjunction;
+                }
+            }
+            return conjunction;
+        }
+
+        // Splits the clauses in half, so that the first half guards the second: for a conjunction, the second half is
+        // evaluated only if the first passes, and for a disjunction, only if it fails. Splitting, rather than folding
+        // the clauses one by one, keeps the handle tree shallow enough for the JIT compiler to inline all of it.
+        @Override
+        MethodHandle toMethodHandle() {
+            return toMethodHandle(0, expressions.length);
+        }
+
+        private MethodHandle toMethodHandle(int from, int to) {
+            if (to - from == 0) {
+                return conjunction ? Handles.ALWAYS_TRUE : Handles.ALWAYS_FALSE;
+            }
+            if (to - from == 1) {
+                return expressions[from].toMethodHandle();
+            }
+            int middle = (from + to) >>> 1;
+            MethodHandle first = toMethodHandle(from, middle);
+            MethodHandle second = toMethodHandle(middle, to);
+            return conjunction
+                    ? MethodHandles.guardWithTest(first, second, Handles.ALWAYS_FALSE)
+                    : MethodHandles.guardWithTest(first, Handles.ALWAYS_TRUE, second);
+        }
+    }
+}
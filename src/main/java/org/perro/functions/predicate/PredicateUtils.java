@@ -1,16 +1,18 @@
 package org.perro.functions.predicate;
 
+import org.perro.functions.internal.AhoCorasick;
 import org.perro.functions.internal.CollectionUtils;
+import org.perro.functions.internal.LruMap;
+import org.perro.functions.internal.StringUtils;
 import org.perro.functions.mapper.MapperUtils;
 import org.perro.functions.stream.StreamUtils;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
@@ -32,6 +34,9 @@ public final class PredicateUtils {
     private PredicateUtils() {
     }
 
+    // A concurrent set cannot hold a null key, so this placeholder stands in for one.
+    private static final Object NULL_KEY = new Object();
+
     /**
      * Simply casts a method reference, which takes a single parameter of type &lt;T&gt; and returns a
      * <code>boolean</code> (or a <code>Boolean</code>), to a <code>Predicate&lt;T&gt;</code>. This could be useful in a
@@ -288,7 +293,8 @@ public final class PredicateUtils {
      */
     public static <T> Predicate<T> equalsIgnoreCase(Function<? super T, ? extends CharSequence> function, CharSequence value) {
         Function<? super T, ? extends CharSequence> nullSafe = MapperUtils.mapper(function);
-        return t -> CharSequenceUtils.equalsIgnoreCase(nullSafe.apply(t), value);
+        String foldedValue = value == null ? null : StringUtils.foldCase(value);
+        return t -> CharSequenceUtils.equalsFolded(nullSafe.apply(t), foldedValue);
     }
 
     /**
@@ -367,6 +373,44 @@ public final class PredicateUtils {
         return t -> collection != null && t != null && collection.contains(function.apply(t));
     }
 
+    /**
+     * Given a <code>Collection</code> whose elements are of type &lt;R&gt;, and a <code>Function</code> that takes an
+     * element of type &lt;T&gt; and returns a value of type &lt;R&gt;, this method builds a <code>Predicate</code> that
+     * takes an element of type &lt;T&gt;, and determines if the given collection contains the value returned by the
+     * function. Unlike {@link #contains(Collection, Function)}, the elements of the collection are copied into an index
+     * when the predicate is built, so that testing the predicate does not depend on how fast the collection's own
+     * <code>contains</code> method is. That is useful when, for instance, the collection is a large
+     * <code>List</code>:
+     * <pre>
+     *     List&lt;Integer&gt; ids = getIds();
+     *     List&lt;Order&gt; orders = allOrders.stream()
+     *         .filter(containsIndexed(ids, Order::getCustomerId))
+     *         .collect(toList());
+     * </pre>
+     * Small collections are scanned, densely packed <code>Integer</code> values are indexed in a bitset, and any other
+     * collection is copied into a hash set. Elements are compared with <code>equals</code> and <code>hashCode</code>,
+     * whatever the rules of the passed collection, and changes made to the collection after the predicate is built are
+     * not seen by it.
+     *
+     * @param collection A Collection of elements of type &lt;R&gt;, to be checked for whether it contains a value
+     *                   returned from a passed function.
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a value of type &lt;R&gt; to be
+     *                   checked if it is contained in a passed Collection.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @param <R>        The type of elements in the passed Collection. Also, the type of the value returned by the
+     *                   passed Function.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies the given function to it resulting in a
+     * value of type &lt;R&gt;. The Predicate checks that the returned value is contained in an index of the passed
+     * Collection.
+     */
+    public static <T, R> Predicate<T> containsIndexed(Collection<? extends R> collection, Function<? super T, ? extends R> function) {
+        if (collection == null) {
+            return t -> false;
+        }
+        ContainsIndex index = ContainsIndex.of(collection);
+        return t -> t != null && index.contains(function.apply(t));
+    }
+
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt;, and returns a
      * <code>Collection&lt;R&gt;</code>, this method builds a <code>Predicate</code> that takes an element of type
@@ -426,6 +470,39 @@ public final class PredicateUtils {
         return t -> collection != null && mapper(function).apply(t) != null && collection.containsAll(function.apply(t));
     }
 
+    /**
+     * Given a <code>Collection</code> whose elements are of type &lt;R&gt;, and a <code>Function</code> that takes an
+     * element of type &lt;T&gt; and returns a <code>Collection</code> whose elements are of type &lt;R&gt;, this method
+     * builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the given collection
+     * contains all of the values in the collection returned by the function. The passed collection is copied into an
+     * index when the predicate is built, as in {@link #containsIndexed(Collection, Function)}, so each value is looked
+     * up in that index, rather than with the <code>containsAll</code> method of the passed collection.
+     *
+     * @param collection A Collection of elements of type &lt;R&gt;, to be checked for whether it contains all of the
+     *                   values in the collection returned from a passed function.
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a Collection of values of type
+     *                   &lt;R&gt; to be checked if its values are contained in a passed Collection.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @param <R>        The type of elements in the passed Collection. Also, the type of the elements in the Collection
+     *                   returned by the passed Function.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies the given function to it resulting in a
+     * Collection whose values are of type &lt;R&gt;. The Predicate checks that all of the values in the returned
+     * Collection are contained in an index of the passed Collection, and will return true if the passed Collection is
+     * not null and the Collection returned by the function is empty. The Predicate will return false if the passed
+     * Collection, the target element of type &lt;T&gt;, or the Collection returned by the passed Function is null.
+     */
+    public static <T, R> Predicate<T> containsAllIndexed(Collection<? extends R> collection, Function<? super T, Collection<? extends R>> function) {
+        if (collection == null) {
+            return t -> false;
+        }
+        ContainsIndex index = ContainsIndex.of(collection);
+        Function<? super T, Collection<? extends R>> nullSafe = mapper(function);
+        return t -> {
+            Collection<? extends R> values = nullSafe.apply(t);
+            return values != null && index.containsAll(values);
+        };
+    }
+
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt;, and returns a
      * <code>Collection&lt;R&gt;</code>, this method builds a <code>Predicate</code> that takes an element of type
@@ -477,6 +554,27 @@ public final class PredicateUtils {
         return t -> map != null && t != null && map.containsKey(function.apply(t));
     }
 
+    /**
+     * Given a <code>Map</code> whose keys are of type &lt;R&gt;, and a <code>Function</code> that takes an element of
+     * type &lt;T&gt; and returns a value of type &lt;R&gt;, this method builds a <code>Predicate</code> that takes an
+     * element of type &lt;T&gt;, and determines if the given map contains a key equal to the value returned by the
+     * function. The keys of the map are copied into an index when the predicate is built, as in
+     * {@link #containsIndexed(Collection, Function)}, so later changes to the map are not seen by the predicate.
+     *
+     * @param map      A Map whose keys are of type &lt;R&gt;, to be checked if it contains a key equal to the value
+     *                 returned by the passed function.
+     * @param function A Function taking an element of type &lt;T&gt; and returning a value of type &lt;R&gt; to be
+     *                 checked if it is equal to a key in a passed Map.
+     * @param <T>      The type of the element taken by the Predicate built by this method.
+     * @param <R>      The type of keys in the passed Map. Also, the type of the value returned by the passed Function.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies the given function to it resulting in a
+     * value of type &lt;R&gt;. The Predicate checks that an index of the keys of the passed Map has a key equal to the
+     * returned value.
+     */
+    public static <T, R> Predicate<T> containsKeyIndexed(Map<R, ?> map, Function<? super T, ? extends R> function) {
+        return containsIndexed(map == null ? null : map.keySet(), function);
+    }
+
     /**
      * Given a <code>Map</code> whose values are of type &lt;R&gt;, and a <code>Function</code> that takes an element of
      * type &lt;T&gt; and returns a value of type &lt;R&gt;, this method builds a <code>Predicate</code> that takes an
@@ -531,14 +629,16 @@ public final class PredicateUtils {
      * case.
      */
     public static <T> Predicate<T> containsCharIgnoreCase(Function<? super T, ? extends CharSequence> function, int searchChar) {
-        return t -> t != null && CharSequenceUtils.containsIgnoreCase(function.apply(t), searchChar);
+        int foldedSearchChar = StringUtils.foldCodePoint(searchChar);
+        return t -> t != null && CharSequenceUtils.containsFolded(function.apply(t), foldedSearchChar);
     }
 
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
      * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
      * character sequence returned from the function contains at least one matching instance of the given
-     * <code>searchSeq</code>.
+     * <code>searchSeq</code>. The search sequence is preprocessed once, when the predicate is built, so that testing
+     * the predicate allocates nothing.
      *
      * @param function  A Function taking an element of type &lt;T&gt; and returning a CharSequence to be checked if it
      *                  contains at least one matching instance of the given searchSeq.
@@ -548,14 +648,16 @@ public final class PredicateUtils {
      * CharSequence, and determines whether it contains at least one matching  instance of a given searchSeq.
      */
     public static <T> Predicate<T> containsSeq(Function<? super T, ? extends CharSequence> function, CharSequence searchSeq) {
-        return t -> t != null && CharSequenceUtils.contains(function.apply(t), searchSeq);
+        CharSequenceSearcher searcher = CharSequenceSearcher.of(searchSeq);
+        return t -> t != null && searcher.isFoundIn(function.apply(t));
     }
 
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
      * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
      * character sequence returned from the function contains at least one matching instance of the given
-     * <code>searchSeq</code> ignoring case.
+     * <code>searchSeq</code> ignoring case. The search sequence is preprocessed once, when the predicate is built, so
+     * that testing the predicate allocates nothing.
      *
      * @param function  A Function taking an element of type &lt;T&gt; and returning a CharSequence to be checked if it
      *                  contains at least one matching instance of the given searchSeq ignoring case.
@@ -566,7 +668,94 @@ public final class PredicateUtils {
      * case.
      */
     public static <T> Predicate<T> containsSeqIgnoreCase(Function<? super T, ? extends CharSequence> function, CharSequence searchSeq) {
-        return t -> t != null && CharSequenceUtils.containsIgnoreCase(function.apply(t), searchSeq);
+        CharSequenceSearcher searcher = CharSequenceSearcher.ofIgnoreCase(searchSeq);
+        return t -> t != null && searcher.isFoundIn(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
+     * character sequence returned from the function contains at least one of the given <code>searchSeqs</code>. The
+     * search sequences are compiled once, when the predicate is built, into an Aho-Corasick automaton, so that each
+     * character sequence is scanned just once, however many search sequences there are. For example, to find log lines
+     * mentioning any of a set of keywords:
+     * <pre>
+     *     List&lt;LogLine&gt; alerts = logLines.stream()
+     *         .filter(PredicateUtils.containsAnySeq(LogLine::getMessage, alertKeywords))
+     *         .collect(toList());
+     * </pre>
+     * To find out which of the search sequences were found, see
+     * {@link MapperUtils#firstMatchingSeq(Function, Collection)} and {@link MapperUtils#matchingSeqs(Function, Collection)}.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies a given function to it resulting in a
+     * CharSequence, and determines whether it contains any of the given searchSeqs.
+     */
+    public static <T> Predicate<T> containsAnySeq(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, false);
+        return t -> t != null && automaton.matchesAny(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
+     * character sequence returned from the function contains at least one of the given <code>searchSeqs</code> ignoring
+     * case. Like {@link #containsAnySeq(Function, Collection)}, the search sequences are compiled once, when the
+     * predicate is built, so that each character sequence is scanned just once.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies a given function to it resulting in a
+     * CharSequence, and determines whether it contains any of the given searchSeqs ignoring case.
+     */
+    public static <T> Predicate<T> containsAnySeqIgnoreCase(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, true);
+        return t -> t != null && automaton.matchesAny(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
+     * character sequence returned from the function contains every one of the given <code>searchSeqs</code>. Like
+     * {@link #containsAnySeq(Function, Collection)}, the search sequences are compiled once, when the predicate is
+     * built, so that each character sequence is scanned just once. If there are no search sequences, the predicate
+     * returns true for any non-null character sequence.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies a given function to it resulting in a
+     * CharSequence, and determines whether it contains all of the given searchSeqs.
+     */
+    public static <T> Predicate<T> containsAllSeqs(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, false);
+        return t -> t != null && automaton.matchesAll(function.apply(t));
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
+     * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if the
+     * character sequence returned from the function contains every one of the given <code>searchSeqs</code> ignoring
+     * case. Like {@link #containsAnySeq(Function, Collection)}, the search sequences are compiled once, when the
+     * predicate is built, so that each character sequence is scanned just once. If there are no search sequences, the
+     * predicate returns true for any non-null character sequence.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a CharSequence to be searched.
+     * @param searchSeqs A Collection of CharSequence substrings to be searched for in a CharSequence returned from a
+     *                   given function. Null elements are ignored.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that takes an element of type &lt;T&gt;, applies a given function to it resulting in a
+     * CharSequence, and determines whether it contains all of the given searchSeqs ignoring case.
+     */
+    public static <T> Predicate<T> containsAllSeqsIgnoreCase(Function<? super T, ? extends CharSequence> function, Collection<? extends CharSequence> searchSeqs) {
+        AhoCorasick automaton = AhoCorasick.of(searchSeqs, true);
+        return t -> t != null && automaton.matchesAll(function.apply(t));
     }
 
     /**
@@ -583,7 +772,7 @@ public final class PredicateUtils {
      * the given function are letters, otherwise false. Returns false the sequence is null and true if the it is empty.
      */
     public static <T> Predicate<T> isAlpha(Function<? super T, ? extends CharSequence> function) {
-        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), Character::isLetter);
+        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), CharClass.LETTER);
     }
 
     /**
@@ -601,7 +790,7 @@ public final class PredicateUtils {
      * is empty.
      */
     public static <T> Predicate<T> isAlphanumeric(Function<? super T, ? extends CharSequence> function) {
-        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), Character::isLetterOrDigit);
+        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), CharClass.LETTER_OR_DIGIT);
     }
 
     /**
@@ -618,7 +807,7 @@ public final class PredicateUtils {
      * the given function are digits, otherwise false. Returns false the sequence is null and true if the it is empty.
      */
     public static <T> Predicate<T> isNumeric(Function<? super T, ? extends CharSequence> function) {
-        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), Character::isDigit);
+        return t -> CharSequenceUtils.isCharacterMatch(function.apply(t), CharClass.DIGIT);
     }
 
     /**
@@ -651,7 +840,8 @@ public final class PredicateUtils {
      * given prefix ignoring case.
      */
     public static <T> Predicate<T> startsWithIgnoreCase(Function<? super T, ? extends CharSequence> function, CharSequence prefix) {
-        return t -> t != null && CharSequenceUtils.startsWithIgnoreCase(function.apply(t), prefix);
+        String foldedPrefix = prefix == null ? null : StringUtils.foldCase(prefix);
+        return t -> t != null && CharSequenceUtils.startsWithFolded(function.apply(t), foldedPrefix);
     }
 
     /**
@@ -684,13 +874,15 @@ public final class PredicateUtils {
      * suffix ignoring case.
      */
     public static <T> Predicate<T> endsWithIgnoreCase(Function<? super T, ? extends CharSequence> function, CharSequence suffix) {
-        return t -> t != null && CharSequenceUtils.endsWithIgnoreCase(function.apply(t), suffix);
+        String foldedSuffix = suffix == null ? null : StringUtils.foldCase(suffix);
+        return t -> t != null && CharSequenceUtils.endsWithFolded(function.apply(t), foldedSuffix);
     }
 
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
      * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if any of the
      * characters in the character sequence returned from the function match the given <code>IntPredicate</code>.
+     * If the <code>IntPredicate</code> is a {@link CharClass}, each character is tested with a single table lookup.
      *
      * @param function      A Function taking an element of type &lt;T&gt; and returning a CharSequence to be checked
      *                      whether any of its characters match the given IntPredicate.
@@ -702,16 +894,14 @@ public final class PredicateUtils {
      * empty.
      */
     public static <T> Predicate<T> anyCharsMatch(Function<? super T, ? extends CharSequence> function, IntPredicate charPredicate) {
-        return t -> {
-            CharSequence sequence = Optional.ofNullable(t).map(function).orElse(null);
-            return anyCharacterMatches(sequence, charPredicate);
-        };
+        return t -> anyCharacterMatches(t == null ? null : function.apply(t), charPredicate);
     }
 
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
      * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if all of the
      * characters in the character sequence returned from the function match the given <code>IntPredicate</code>.
+     * If the <code>IntPredicate</code> is a {@link CharClass}, each character is tested with a single table lookup.
      *
      * @param function      A Function taking an element of type &lt;T&gt; and returning a CharSequence to be checked
      *                      whether all of its characters match the given IntPredicate.
@@ -723,16 +913,14 @@ public final class PredicateUtils {
      * true if it is empty.
      */
     public static <T> Predicate<T> allCharsMatch(Function<? super T, ? extends CharSequence> function, IntPredicate charPredicate) {
-        return t -> {
-            CharSequence sequence = Optional.ofNullable(t).map(function).orElse(null);
-            return isCharacterMatch(sequence, charPredicate);
-        };
+        return t -> isCharacterMatch(t == null ? null : function.apply(t), charPredicate);
     }
 
     /**
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; and returns a <code>CharSequence</code>,
      * this method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines if none of
      * the characters in the character sequence returned from the function match the given <code>IntPredicate</code>.
+     * If the <code>IntPredicate</code> is a {@link CharClass}, each character is tested with a single table lookup.
      *
      * @param function      A Function taking an element of type &lt;T&gt; and returning a CharSequence to be checked
      *                      whether none of its characters match the given IntPredicate.
@@ -744,10 +932,7 @@ public final class PredicateUtils {
      * empty.
      */
     public static <T> Predicate<T> noCharsMatch(Function<? super T, ? extends CharSequence> function, IntPredicate charPredicate) {
-        return t -> {
-            CharSequence sequence = Optional.ofNullable(t).map(function).orElse(null);
-            return noCharactersMatch(sequence, charPredicate);
-        };
+        return t -> noCharactersMatch(t == null ? null : function.apply(t), charPredicate);
     }
 
     /**
@@ -1000,8 +1185,8 @@ public final class PredicateUtils {
      * results if you are certain that it does not matter which element having the same key ends up in the results of a
      * terminal operation on a stream.
      * <p>
-     * The difference between this method and {@link #distinctByKey(Function)} is that this method uses synchronization
-     * to ensure correct behavior in parallel streams.
+     * The difference between this method and {@link #distinctByKey(Function)} is that this method uses a concurrent
+     * set to ensure correct behavior in parallel streams, without threads having to wait on a lock.
      *
      * @param function A Function taking an element of type &lt;T&gt; and returning a key value determining the
      *                 uniqueness of elements in the results of a terminal operation on a stream.
@@ -1010,7 +1195,89 @@ public final class PredicateUtils {
      * value that has not yet been encountered in a stream.
      */
     public static <T> Predicate<T> distinctByKeyParallel(Function<? super T, ?> function) {
-        Set<Object> uniqueKeys = Collections.synchronizedSet(new HashSet<>());
+        return distinctByConcurrentKey(function, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt;, and returns a key value of any type, this
+     * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines whether no
+     * elements that have been encountered so far have the same key returned from the function. It behaves like
+     * {@link #distinctByKeyParallel(Function)}, except that the concurrent set holding the keys is sized up front for
+     * the expected number of distinct keys, so that it does not have to be resized while a stream is being processed.
+     *
+     * @param function     A Function taking an element of type &lt;T&gt; and returning a key value determining the
+     *                     uniqueness of elements in the results of a terminal operation on a stream.
+     * @param expectedKeys The number of distinct keys expected to be encountered.
+     * @param <T>          The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that returns true if the passed element, when applied to the passed function, returns a key
+     * value that has not yet been encountered in a stream.
+     */
+    public static <T> Predicate<T> distinctByKeyParallel(Function<? super T, ?> function, int expectedKeys) {
+        return distinctByConcurrentKey(function, ConcurrentHashMap.newKeySet(expectedKeys));
+    }
+
+    private static <T> Predicate<T> distinctByConcurrentKey(Function<? super T, ?> function, Set<Object> uniqueKeys) {
+        return t -> {
+            Object key = function.apply(t);
+            return uniqueKeys.add(key == null ? NULL_KEY : key);
+        };
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt;, and returns a key value of any type, this
+     * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines whether none of
+     * the most recently encountered elements have the same key returned from the function. At most
+     * <code>windowSize</code> keys are remembered, and the key that was least recently encountered is forgotten to make
+     * room for a new one. This keeps the memory used by the predicate fixed, so that it can be used to filter repeated
+     * elements out of an unbounded stream, in which repeated keys are expected to be close together. For example:
+     * <pre>
+     *     sensorReadings.stream()
+     *         .filter(PredicateUtils.distinctByKeyWindowed(SensorReading::getReadingId, 10_000))
+     *         .forEach(readingRepository::save);
+     * </pre>
+     * As with {@link #distinctByKey(Function)}, this violates the edict that stream operations be stateless, and the
+     * predicate built by this method should not be used in a parallel stream.
+     *
+     * @param function   A Function taking an element of type &lt;T&gt; and returning a key value determining the
+     *                   uniqueness of elements in the results of a terminal operation on a stream.
+     * @param windowSize The maximum number of the most recently encountered keys to remember.
+     * @param <T>        The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that returns true if the passed element, when applied to the passed function, returns a key
+     * value that is not among the most recently encountered keys in a stream.
+     */
+    public static <T> Predicate<T> distinctByKeyWindowed(Function<? super T, ?> function, int windowSize) {
+        Map<Object, Boolean> recentKeys = LruMap.of(windowSize);
+        return t -> recentKeys.put(function.apply(t), Boolean.TRUE) == null;
+    }
+
+    /**
+     * Given a <code>Function</code> that takes an element of type &lt;T&gt;, and returns a key value of any type, this
+     * method builds a <code>Predicate</code> that takes an element of type &lt;T&gt;, and determines whether no
+     * elements that have been encountered so far have the same key returned from the function. Rather than holding on
+     * to every key, the predicate records them in a Bloom filter, whose memory is fixed by the expected number of keys
+     * and the accepted false positive rate. A false positive means that an element with a key that has not been
+     * encountered before is filtered out, as though it were a repeat. No repeated key is ever let through. For example,
+     * for a billion keys and a false positive rate of 1%, the filter holds about 1.2GB, rather than the many gigabytes
+     * a set of the keys themselves would need:
+     * <pre>
+     *     events.filter(PredicateUtils.distinctByKeyApproximate(Event::getEventId, 1_000_000_000L, 0.01D))
+     * </pre>
+     * If more keys than expected are encountered, the false positive rate rises above the one requested. String, and
+     * boxed integral and double keys, are hashed to 64 bits from their values. Other keys are hashed from their
+     * <code>hashCode()</code> method, so keys whose hash codes collide count as the same key. As with
+     * {@link #distinctByKey(Function)}, the predicate built by this method should not be used in a parallel stream.
+     *
+     * @param function          A Function taking an element of type &lt;T&gt; and returning a key value determining the
+     *                          uniqueness of elements in the results of a terminal operation on a stream.
+     * @param expectedKeys      The number of distinct keys expected to be encountered.
+     * @param falsePositiveRate The accepted probability, greater than zero and less than one, of filtering out an
+     *                          element whose key has not been encountered before.
+     * @param <T>               The type of the element taken by the Predicate built by this method.
+     * @return A Predicate that returns true if the passed element, when applied to the passed function, returns a key
+     * value that has certainly not yet been encountered in a stream.
+     */
+    public static <T> Predicate<T> distinctByKeyApproximate(Function<? super T, ?> function, long expectedKeys, double falsePositiveRate) {
+        BloomFilter uniqueKeys = BloomFilter.of(expectedKeys, falsePositiveRate);
         return t -> uniqueKeys.add(function.apply(t));
     }
 
@@ -1018,9 +1285,10 @@ public final class PredicateUtils {
      * Given a <code>Function</code> that takes an element of type &lt;T&gt; returning a value of type &lt;R&gt;, and a
      * <code>Predicate</code> that takes an element of type &lt;R&gt;, this method builds a <code>Predicate</code> that
      * takes an element of type &lt;T&gt;, and applies the return value of the function to the given predicate. It is a
-     * way of adapting a given predicate to another of a different type. For example, the
-     * {@link StreamUtils#indexOfFirst(Collection, Predicate)} method uses this predicate in its implementation (Note
-     * that the <code>pairWithIndex()</code> method below refers to {@link MapperUtils#pairWithIndex()}):
+     * way of adapting a given predicate to another of a different type. For example, a stream based version of the
+     * {@link StreamUtils#indexOfFirst(Collection, Predicate)} method could use this predicate in its
+     * implementation (Note that the <code>pairWithIndex()</code> method below refers to
+     * {@link MapperUtils#pairWithIndex()}):
      * <pre>
      * public static &lt;T&gt; int indexOfFirst(Collection&lt;T&gt; objects, Predicate&lt;T&gt; predicate) {
      *     return defaultStream(objects)
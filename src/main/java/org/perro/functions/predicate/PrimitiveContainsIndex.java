@@ -0,0 +1,156 @@
+package org.perro.functions.predicate;
+
+import java.util.Arrays;
+
+abstract class PrimitiveContainsIndex {
+
+    private static final int LINEAR_SCAN_MAX_SIZE = 8;
+
+    // A bitset over the range of the values takes no more memory than a hash table of them, at its maximum load factor
+    // of one half, while the range is up to this many times the number of values.
+    private static final int BIT_SET_MAX_SPREAD = 2 * Long.SIZE;
+
+    private static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+
+    static PrimitiveContainsIndex ofInts(int[] ints) {
+        return of(Arrays.stream(ints).asLongStream().toArray());
+    }
+
+    static PrimitiveContainsIndex ofLongs(long[] longs) {
+        return of(longs.clone());
+    }
+
+    // Doubles are indexed by their bits. Both zeros are given the bits of positive zero, and NaN is left out, so that
+    // the index agrees with ==.
+    static PrimitiveContainsIndex ofDoubles(double[] doubles) {
+        return of(Arrays.stream(doubles)
+                .filter(d -> d == d)
+                .mapToLong(PrimitiveContainsIndex::doubleToBits)
+                .toArray());
+    }
+
+    private static long doubleToBits(double d) {
+        return Double.doubleToRawLongBits(d == 0.0D ? 0.0D : d);
+    }
+
+    private static PrimitiveContainsIndex of(long[] values) {
+        if (values.length <= LINEAR_SCAN_MAX_SIZE) {
+            return new LinearScanIndex(values);
+        }
+        long[] distinct = Arrays.stream(values)
+                .sorted()
+                .distinct()
+                .toArray();
+        long min = distinct[0];
+        long spread = distinct[distinct.length - 1] - min;
+        if (spread >= 0 && spread < (long) distinct.length * BIT_SET_MAX_SPREAD) {
+            return new BitSetIndex(distinct);
+        }
+        return new HashIndex(distinct);
+    }
+
+    abstract boolean containsLong(long value);
+
+    boolean containsInt(int value) {
+        return containsLong(value);
+    }
+
+    boolean containsDouble(double value) {
+        return value == value && containsLong(doubleToBits(value));
+    }
+
+    private static final class LinearScanIndex extends PrimitiveContainsIndex {
+
+        private final long[] values;
+
+        private LinearScanIndex(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        boolean containsLong(long value) {
+            for (long l : values) {
+                if (l == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class BitSetIndex extends PrimitiveContainsIndex {
+
+        private final long[] words;
+        private final long min;
+        private final long max;
+
+        private BitSetIndex(long[] sortedValues) {
+            this.min = sortedValues[0];
+            this.max = sortedValues[sortedValues.length - 1];
+            this.words = new long[(int) ((max - min) >>> 6) + 1];
+            for (long value : sortedValues) {
+                long offset = value - min;
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+        }
+
+        @Override
+        boolean containsLong(long value) {
+            if (value < min || value > max) {
+                return false;
+            }
+            long offset = value - min;
+            return ((words[(int) (offset >>> 6)] >>> offset) & 1L) != 0L;
+        }
+    }
+
+    // An open addressing hash table with linear probing, where zero marks an empty slot, so whether zero itself is in
+    // the index is kept apart. Slots are chosen by Fibonacci hashing, the top bits of the value times the golden ratio.
+    private static final class HashIndex extends PrimitiveContainsIndex {
+
+        private final long[] table;
+        private final int mask;
+        private final int shift;
+        private final boolean containsZero;
+
+        private HashIndex(long[] distinctValues) {
+            int capacity = Integer.highestOneBit(distinctValues.length * 2 - 1) << 1;
+            this.table = new long[capacity];
+            this.mask = capacity - 1;
+            this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+            boolean zero = false;
+            for (long value : distinctValues) {
+                if (value == 0L) {
+                    zero = true;
+                } else {
+                    int slot = slot(value);
+                    while (table[slot] != 0L) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = value;
+                }
+            }
+            this.containsZero = zero;
+        }
+
+        private int slot(long value) {
+            return (int) ((value * GOLDEN_RATIO_64) >>> shift);
+        }
+
+        @Override
+        boolean containsLong(long value) {
+            if (value == 0L) {
+                return containsZero;
+            }
+            int slot = slot(value);
+            long entry;
+            while ((entry = table[slot]) != 0L) {
+                if (entry == value) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+    }
+}
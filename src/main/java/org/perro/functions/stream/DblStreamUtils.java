@@ -1,6 +1,6 @@
 package org.perro.functions.stream;
 
-import org.perro.functions.mapper.DoubleIndexPair;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.DblMapperUtils;
 
 import java.util.Arrays;
@@ -9,12 +9,10 @@ import java.util.List;
 import java.util.function.DoublePredicate;
 import java.util.function.DoubleSupplier;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static org.perro.functions.collector.CollectorUtils.toPartitionedList;
-import static org.perro.functions.mapper.DblMapperUtils.dblPairWithIndex;
-import static org.perro.functions.predicate.DblPredicateUtils.mapToDblAndFilter;
 
 /**
  * Methods that are shortcuts to creating streams, specifically methods involving primitive double types.
@@ -24,6 +22,10 @@ public final class DblStreamUtils {
     private DblStreamUtils() {
     }
 
+    // Arrays no longer than this are queried with a plain indexed loop, avoiding the allocation of a stream pipeline.
+    // Longer arrays are still queried with a stream, where that fixed cost is negligible.
+    private static final int LOOP_THRESHOLD = 1024;
+
     /**
      * Given an array of doubles and a <code>DoublePredicate</code>, returns a <code>boolean</code> value indicating
      * whether <i>all</i> of the values in the array match the predicate.
@@ -33,9 +35,21 @@ public final class DblStreamUtils {
      * @return A boolean indication of whether all of the values in a given array match a given predicate.
      */
     public static boolean dblAllMatch(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            for (double value : doubles) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
         return doubles != null && Arrays.stream(doubles).allMatch(predicate);
     }
 
+    private static boolean isLoopSized(double[] doubles) {
+        return doubles != null && doubles.length <= LOOP_THRESHOLD;
+    }
+
     /**
      * Given an array of doubles and a <code>DoublePredicate</code>, returns a <code>boolean</code> value indicating
      * whether <i>any</i> of the values in the array match the predicate.
@@ -45,9 +59,21 @@ public final class DblStreamUtils {
      * @return A boolean indication of whether any of the values in the array match the given predicate.
      */
     public static boolean dblAnyMatch(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            return indexOfMatch(doubles, predicate) >= 0;
+        }
         return doubles != null && Arrays.stream(doubles).anyMatch(predicate);
     }
 
+    private static int indexOfMatch(double[] doubles, DoublePredicate predicate) {
+        for (int i = 0; i < doubles.length; i++) {
+            if (predicate.test(doubles[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Given an array of doubles and a <code>DoublePredicate</code>, returns a <code>boolean</code> value indicating
      * whether <i>none</i> of the values in the array match the predicate.
@@ -57,6 +83,9 @@ public final class DblStreamUtils {
      * @return A boolean indication of whether none of the values in the array match the given predicate.
      */
     public static boolean dblNoneMatch(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            return indexOfMatch(doubles, predicate) < 0;
+        }
         return doubles != null && Arrays.stream(doubles).noneMatch(predicate);
     }
 
@@ -69,11 +98,52 @@ public final class DblStreamUtils {
      * @return A long value indicating the number of values in a given array that match a given predicate.
      */
     public static long dblCount(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            return countMatches(doubles, predicate);
+        }
         return defaultDblStream(doubles)
                 .filter(predicate)
                 .count();
     }
 
+    private static long countMatches(double[] doubles, DoublePredicate predicate) {
+        long count = 0;
+        for (double value : doubles) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Given an array of doubles, returns a <code>long</code> value indicating the number of values in the array that
+     * are equal to a passed value within a delta, that is, whose absolute difference from it is less than or equal to
+     * the delta. It gives the same result as:
+     * <pre>
+     *     dblCount(doubles, isDblEqual(value, delta))
+     * </pre>
+     * but counts in a plain indexed loop, with no predicate to call, however long the array is. The loop body has no
+     * branch on the outcome of each comparison, which leaves the JIT compiler free to use a conditional move.
+     *
+     * @param doubles An array of doubles to be counted for the number of them that are equal to a value within a delta.
+     * @param value   A value to which the values in the array are compared.
+     * @param delta   The greatest absolute difference between a value in the array and the passed value, for them to
+     *                be considered equal.
+     * @return A long value indicating the number of values in a given array that are equal to a given value within a
+     * given delta. Returns zero for a null array.
+     */
+    public static long dblCountWithinDelta(double[] doubles, double value, double delta) {
+        if (doubles == null) {
+            return 0L;
+        }
+        int count = 0;
+        for (double d : doubles) {
+            count += Math.abs(d - value) <= delta ? 1 : 0;
+        }
+        return count;
+    }
+
     /**
      * Given an array of doubles, and an object representing a <code>DoublePredicate</code> along with a default value,
      * this method returns the maximum double value in the array that matches the predicate, or the default value if no
@@ -86,6 +156,10 @@ public final class DblStreamUtils {
      * array is null or empty, or if no values in it match the predicate.
      */
     public static double dblMaxDefault(double[] doubles, FindDoubleWithDefault findWithDefault) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMax(doubles, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefault.getPredicate())
                 .max()
@@ -104,12 +178,26 @@ public final class DblStreamUtils {
      * if the array is null or empty, or if no values in it match the predicate.
      */
     public static double dblMaxDefault(double[] doubles, FindDoubleWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMax(doubles, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsDouble() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .max()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMax(double[] doubles, DoublePredicate predicate) {
+        int maxIndex = -1;
+        for (int i = 0; i < doubles.length; i++) {
+            if (predicate.test(doubles[i]) && (maxIndex < 0 || Double.compare(doubles[i], doubles[maxIndex]) > 0)) {
+                maxIndex = i;
+            }
+        }
+        return maxIndex;
+    }
+
     /**
      * Given an array of doubles, and an object representing a <code>DoublePredicate</code> along with a default value,
      * this method returns the minimum double value in the array that matches the predicate, or the default value if no
@@ -122,6 +210,10 @@ public final class DblStreamUtils {
      * array is null or empty, or if no values in it match the predicate.
      */
     public static double dblMinDefault(double[] doubles, FindDoubleWithDefault findWithDefault) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMin(doubles, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefault.getPredicate())
                 .min()
@@ -140,12 +232,31 @@ public final class DblStreamUtils {
      * if the array is null or empty, or if no values in it match the predicate.
      */
     public static double dblMinDefault(double[] doubles, FindDoubleWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMin(doubles, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsDouble() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .min()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMin(double[] doubles, DoublePredicate predicate) {
+        int minIndex = -1;
+        for (int i = 0; i < doubles.length; i++) {
+            if (predicate.test(doubles[i]) && (minIndex < 0 || isLess(doubles[i], doubles[minIndex]))) {
+                minIndex = i;
+            }
+        }
+        return minIndex;
+    }
+
+    // Mirrors Math.min(double, double), which DoubleStream.min() uses: NaN is sticky, and -0.0 is less than 0.0.
+    private static boolean isLess(double value, double min) {
+        return !Double.isNaN(min) && (Double.isNaN(value) || Double.compare(value, min) < 0);
+    }
+
     /**
      * Attempt to find any matching double value in an array of doubles using a predicate, returning <code>null</code>
      * if one is not found. This method does all filtering with a primitive <code>DoubleStream</code>, boxing the stream
@@ -171,6 +282,10 @@ public final class DblStreamUtils {
      * it match the predicate.
      */
     public static Double findAnyDblDefaultNull(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, predicate);
+            return index < 0 ? null : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(predicate)
                 .boxed()
@@ -202,6 +317,10 @@ public final class DblStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static double findAnyDblDefault(double[] doubles, FindDoubleWithDefault findWithDefault) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefault.getPredicate())
                 .findAny()
@@ -236,6 +355,10 @@ public final class DblStreamUtils {
      * findWithDefaultSupplier if the doubles array is null or empty, or if no values in it match the predicate.
      */
     public static double findAnyDblDefault(double[] doubles, FindDoubleWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsDouble() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findAny()
@@ -267,6 +390,10 @@ public final class DblStreamUtils {
      * it match the predicate.
      */
     public static Double findFirstDblDefaultNull(double[] doubles, DoublePredicate predicate) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, predicate);
+            return index < 0 ? null : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(predicate)
                 .boxed()
@@ -298,6 +425,10 @@ public final class DblStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static double findFirstDblDefault(double[] doubles, FindDoubleWithDefault findWithDefault) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefault.getPredicate())
                 .findFirst()
@@ -332,6 +463,10 @@ public final class DblStreamUtils {
      * findWithDefaultSupplier if the doubles array is null or empty, or if no values in it match the predicate.
      */
     public static double findFirstDblDefault(double[] doubles, FindDoubleWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(doubles)) {
+            int index = indexOfMatch(doubles, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsDouble() : doubles[index];
+        }
         return defaultDblStream(doubles)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findFirst()
@@ -373,17 +508,55 @@ public final class DblStreamUtils {
      * @return An index of the first value in doubles matching the predicate. Returns -1 if no matches are found.
      */
     public static int indexOfFirstDbl(double[] doubles, DoublePredicate predicate) {
-        return defaultDblStream(doubles)
-                .mapToObj(dblPairWithIndex())
-                .filter(mapToDblAndFilter(DoubleIndexPair::getDoubleValue, predicate))
-                .mapToInt(DoubleIndexPair::getIndex)
-                .findFirst()
-                .orElse(-1);
+        return doubles == null ? -1 : indexOfMatch(doubles, predicate);
+    }
+
+    /**
+     * Finds the index of the last double in an array that matches a <code>DoublePredicate</code>.
+     * The array is searched backwards from its end.
+     *
+     * @param doubles   Array of primitive double values.
+     * @param predicate A DoublePredicate used to find a matching value.
+     * @return An index of the last value in doubles matching the predicate. Returns -1 if no matches are found.
+     */
+    public static int indexOfLastDbl(double[] doubles, DoublePredicate predicate) {
+        if (doubles != null) {
+            for (int i = doubles.length - 1; i >= 0; i--) {
+                if (predicate.test(doubles[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
     /**
-     * Given an array of doubles, and a partition size, this method divides the array into a list of double arrays, each
-     * of whose length is at most <code>partitionSize</code>.
+     * Finds the indices of all of the doubles in an array that match a <code>DoublePredicate</code>, in ascending
+     * order.
+     *
+     * @param doubles   Array of primitive double values.
+     * @param predicate A DoublePredicate used to find matching values.
+     * @return An array of the indices of the values in doubles matching the predicate. Returns an empty array if no
+     * matches are found.
+     */
+    public static int[] indicesOfDbl(double[] doubles, DoublePredicate predicate) {
+        if (doubles == null) {
+            return new int[0];
+        }
+        int[] indices = new int[doubles.length];
+        int count = 0;
+        for (int i = 0; i < doubles.length; i++) {
+            if (predicate.test(doubles[i])) {
+                indices[count++] = i;
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Given an array of doubles, and a partition size, this method divides the array into a list of double arrays, each of
+     * whose length is at most <code>partitionSize</code>. Each partition is copied directly out of the given array,
+     * without boxing its values.
      *
      * @param doubles       An array of doubles to be partitioned up into a list of double arrays.
      * @param partitionSize The maximum length of the individual arrays in the returned list.
@@ -391,26 +564,13 @@ public final class DblStreamUtils {
      * have a length that is less than partitionSize.
      */
     public static List<double[]> toPartitionedDblList(double[] doubles, int partitionSize) {
-        return defaultDblStream(doubles)
-                .boxed()
-                .collect(toPartitionedList(partitionSize, DblStreamUtils::toListOfArrays));
-    }
-
-    private static List<double[]> toListOfArrays(List<List<Double>> partitions) {
-        return partitions.stream()
-                .map(DblStreamUtils::listToArray)
-                .collect(toList());
-    }
-
-    private static double[] listToArray(List<Double> doubles) {
-        return doubles.stream()
-                .mapToDouble(Double::doubleValue)
-                .toArray();
+        return toPartitionedDblStream(doubles, partitionSize).collect(toList());
     }
 
     /**
-     * Given an array of doubles, and a partition size, this method divides the array into a stream of double arrays,
-     * each of whose length is at most <code>partitionSize</code>.
+     * Given an array of doubles, and a partition size, this method divides the array into a stream of double arrays, each of
+     * whose length is at most <code>partitionSize</code>. The stream is lazy, so each partition is only copied out of
+     * the given array as it is consumed.
      *
      * @param doubles       An array of doubles to be partitioned up into a stream of double arrays.
      * @param partitionSize The maximum length of the individual arrays in the returned stream.
@@ -418,7 +578,48 @@ public final class DblStreamUtils {
      * may have a length that is less than partitionSize.
      */
     public static Stream<double[]> toPartitionedDblStream(double[] doubles, int partitionSize) {
-        return toPartitionedDblList(doubles, partitionSize).stream();
+        return partitionStarts(doubles, partitionSize)
+                .mapToObj(from -> Arrays.copyOfRange(doubles, from, partitionEnd(doubles, from, partitionSize)));
+    }
+
+    private static IntStream partitionStarts(double[] doubles, int partitionSize) {
+        Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
+        int length = doubles == null ? 0 : doubles.length;
+        int partitionCount = length / partitionSize + (length % partitionSize == 0 ? 0 : 1);
+        return IntStream.range(0, partitionCount).map(i -> i * partitionSize);
+    }
+
+    private static int partitionEnd(double[] doubles, int from, int partitionSize) {
+        return from + Math.min(partitionSize, doubles.length - from);
+    }
+
+    /**
+     * Given an array of doubles, and a partition size, this method divides the array into a list of
+     * {@link DoubleSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
+     *
+     * @param doubles       An array of doubles to be partitioned up into a list of views.
+     * @param partitionSize The maximum length of the individual views in the returned list.
+     * @return A List of DoubleSlice views, each of whose length is at most partitionSize. The last view in the list may
+     * have a length that is less than partitionSize.
+     */
+    public static List<DoubleSlice> toPartitionedDblSlices(double[] doubles, int partitionSize) {
+        return toPartitionedDblSliceStream(doubles, partitionSize).collect(toList());
+    }
+
+    /**
+     * Given an array of doubles, and a partition size, this method divides the array into a lazy stream of
+     * {@link DoubleSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
+     *
+     * @param doubles       An array of doubles to be partitioned up into a stream of views.
+     * @param partitionSize The maximum length of the individual views in the returned stream.
+     * @return A Stream of DoubleSlice views, each of whose length is at most partitionSize. The last view in the stream
+     * may have a length that is less than partitionSize.
+     */
+    public static Stream<DoubleSlice> toPartitionedDblSliceStream(double[] doubles, int partitionSize) {
+        return partitionStarts(doubles, partitionSize)
+                .mapToObj(from -> DoubleSlice.of(doubles, from, partitionEnd(doubles, from, partitionSize)));
     }
 
     /**
@@ -0,0 +1,143 @@
+package org.perro.functions.stream;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable view over a range of a primitive <code>double</code> array, used to partition the array without copying
+ * it. The view shares the underlying array, so changes made to the array are visible through the view. Use
+ * {@link #toArray()} to get an independent copy of the values in the view.
+ */
+public class DoubleSlice {
+
+    private final double[] doubles;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private DoubleSlice(double[] doubles, int fromIndex, int toIndex) {
+        this.doubles = doubles;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * Builds a new instance of this class, viewing the values of a <code>double</code> array from
+     * <code>fromIndex</code>, inclusive, to <code>toIndex</code>, exclusive.
+     *
+     * @param doubles   An array of doubles to be viewed.
+     * @param fromIndex The index of the first value in the view.
+     * @param toIndex   The index after the last value in the view.
+     * @return A new instance of this class.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex is negative, or toIndex is greater than the length of the
+     *                                        array.
+     * @throws IllegalArgumentException       if fromIndex is greater than toIndex.
+     */
+    public static DoubleSlice of(double[] doubles, int fromIndex, int toIndex) {
+        Objects.requireNonNull(doubles, "The 'doubles' argument must not be null");
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > doubles.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        return new DoubleSlice(doubles, fromIndex, toIndex);
+    }
+
+    /**
+     * Gets the number of values in this view.
+     *
+     * @return The number of values in this view.
+     */
+    public int length() {
+        return toIndex - fromIndex;
+    }
+
+    /**
+     * Gets the value at a given index in this view, where the first value in the view is at index zero.
+     *
+     * @param index The index of a value in this view.
+     * @return The double value at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative, or not less than {@link #length()}.
+     */
+    public double get(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+        }
+        return doubles[fromIndex + index];
+    }
+
+    /**
+     * Copies the values in this view into a new array.
+     *
+     * @return A new array containing the values in this view.
+     */
+    public double[] toArray() {
+        return Arrays.copyOfRange(doubles, fromIndex, toIndex);
+    }
+
+    /**
+     * Builds a <code>DoubleStream</code> over the values in this view, without copying them.
+     *
+     * @return A DoubleStream of the values in this view.
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(doubles, fromIndex, toIndex);
+    }
+
+    /**
+     * Generates a hash code based on the double values in this view.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = 31 * result + Double.hashCode(doubles[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. They will be considered equal if the given object is
+     * of the same class, and is either the identical object, or views the same double values in the same order.
+     *
+     * @param obj The target object with which to compare the current instance.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        DoubleSlice other = (DoubleSlice) obj;
+        if (length() != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < length(); i++) {
+            if (Double.doubleToLongBits(get(i)) != Double.doubleToLongBits(other.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the double values in this view.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[values=%s]";
+        return String.format(template, getClass().getName(), identity, Arrays.toString(toArray()));
+    }
+}
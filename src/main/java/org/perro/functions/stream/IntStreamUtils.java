@@ -1,6 +1,6 @@
 package org.perro.functions.stream;
 
-import org.perro.functions.mapper.IntIndexPair;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.IntMapperUtils;
 
 import java.util.Arrays;
@@ -12,9 +12,6 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static org.perro.functions.collector.CollectorUtils.toPartitionedList;
-import static org.perro.functions.mapper.IntMapperUtils.intPairWithIndex;
-import static org.perro.functions.predicate.IntPredicateUtils.mapToIntAndFilter;
 
 /**
  * Methods that are shortcuts to creating streams, specifically methods involving primitive int types.
@@ -24,6 +21,10 @@ public final class IntStreamUtils {
     private IntStreamUtils() {
     }
 
+    // Arrays no longer than this are queried with a plain indexed loop, avoiding the allocation of a stream pipeline.
+    // Longer arrays are still queried with a stream, where that fixed cost is negligible.
+    private static final int LOOP_THRESHOLD = 1024;
+
     /**
      * Given an array of ints and an <code>IntPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>all</i> values in the array match the predicate.
@@ -33,9 +34,21 @@ public final class IntStreamUtils {
      * @return A boolean indication of whether all of the values in a given array match a given predicate.
      */
     public static boolean intAllMatch(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            for (int value : ints) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
         return ints != null && Arrays.stream(ints).allMatch(predicate);
     }
 
+    private static boolean isLoopSized(int[] ints) {
+        return ints != null && ints.length <= LOOP_THRESHOLD;
+    }
+
     /**
      * Given an array of ints and an <code>IntPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>any</i> of the values in the array match the predicate.
@@ -45,9 +58,21 @@ public final class IntStreamUtils {
      * @return A boolean indication of whether any of the values in the array match the given predicate.
      */
     public static boolean intAnyMatch(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            return indexOfMatch(ints, predicate) >= 0;
+        }
         return ints != null && Arrays.stream(ints).anyMatch(predicate);
     }
 
+    private static int indexOfMatch(int[] ints, IntPredicate predicate) {
+        for (int i = 0; i < ints.length; i++) {
+            if (predicate.test(ints[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Given an array of ints and an <code>IntPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>none</i> of the values in the array match the predicate.
@@ -57,6 +82,9 @@ public final class IntStreamUtils {
      * @return A boolean indication of whether none of the values in the array match the given predicate.
      */
     public static boolean intNoneMatch(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            return indexOfMatch(ints, predicate) < 0;
+        }
         return ints != null && Arrays.stream(ints).noneMatch(predicate);
     }
 
@@ -69,11 +97,24 @@ public final class IntStreamUtils {
      * @return A long value indicating the number of values a given array that match a given predicate.
      */
     public static long intCount(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            return countMatches(ints, predicate);
+        }
         return defaultIntStream(ints)
                 .filter(predicate)
                 .count();
     }
 
+    private static long countMatches(int[] ints, IntPredicate predicate) {
+        long count = 0;
+        for (int value : ints) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Given an array of ints, and an object representing an <code>IntPredicate</code> along with a default value, this
      * method returns the maximum int value in the array that matches the predicate, or the default value if no matching
@@ -86,6 +127,10 @@ public final class IntStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static int intMaxDefault(int[] ints, FindIntWithDefault findWithDefault) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMax(ints, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefault.getPredicate())
                 .max()
@@ -104,12 +149,26 @@ public final class IntStreamUtils {
      * the array is null or empty, or if no values in it match the predicate.
      */
     public static int intMaxDefault(int[] ints, FindIntWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMax(ints, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsInt() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .max()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMax(int[] ints, IntPredicate predicate) {
+        int maxIndex = -1;
+        for (int i = 0; i < ints.length; i++) {
+            if (predicate.test(ints[i]) && (maxIndex < 0 || ints[i] > ints[maxIndex])) {
+                maxIndex = i;
+            }
+        }
+        return maxIndex;
+    }
+
     /**
      * Given an array of ints, and an object representing an <code>IntPredicate</code> along with a default value, this
      * method returns the minimum int value in the array that matches the predicate, or the default value if no matching
@@ -122,6 +181,10 @@ public final class IntStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static int intMinDefault(int[] ints, FindIntWithDefault findWithDefault) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMin(ints, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefault.getPredicate())
                 .min()
@@ -140,12 +203,26 @@ public final class IntStreamUtils {
      * if the array is null or empty, or if no values in it match the predicate.
      */
     public static int intMinDefault(int[] ints, FindIntWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMin(ints, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsInt() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .min()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMin(int[] ints, IntPredicate predicate) {
+        int minIndex = -1;
+        for (int i = 0; i < ints.length; i++) {
+            if (predicate.test(ints[i]) && (minIndex < 0 || ints[i] < ints[minIndex])) {
+                minIndex = i;
+            }
+        }
+        return minIndex;
+    }
+
     /**
      * Attempt to find any matching int value in an array of ints using a predicate, returning <code>null</code>
      * if one is not found. This method does all filtering with a primitive <code>IntStream</code>, boxing the stream
@@ -171,6 +248,10 @@ public final class IntStreamUtils {
      * it match the predicate.
      */
     public static Integer findAnyIntDefaultNull(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, predicate);
+            return index < 0 ? null : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(predicate)
                 .boxed()
@@ -202,6 +283,10 @@ public final class IntStreamUtils {
      * empty, or if no values in it match the predicate.
      */
     public static int findAnyIntDefault(int[] ints, FindIntWithDefault findWithDefault) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefault.getPredicate())
                 .findAny()
@@ -236,6 +321,10 @@ public final class IntStreamUtils {
      * if the ints array is null or empty, or if no values in it match the predicate.
      */
     public static int findAnyIntDefault(int[] ints, FindIntWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsInt() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findAny()
@@ -267,6 +356,10 @@ public final class IntStreamUtils {
      * it match the predicate.
      */
     public static Integer findFirstIntDefaultNull(int[] ints, IntPredicate predicate) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, predicate);
+            return index < 0 ? null : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(predicate)
                 .boxed()
@@ -298,6 +391,10 @@ public final class IntStreamUtils {
      * empty, or if no values in it match the predicate.
      */
     public static int findFirstIntDefault(int[] ints, FindIntWithDefault findWithDefault) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefault.getPredicate())
                 .findFirst()
@@ -332,6 +429,10 @@ public final class IntStreamUtils {
      * if the ints array is null or empty, or if no values in it match the predicate.
      */
     public static int findFirstIntDefault(int[] ints, FindIntWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(ints)) {
+            int index = indexOfMatch(ints, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsInt() : ints[index];
+        }
         return defaultIntStream(ints)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findFirst()
@@ -373,17 +474,54 @@ public final class IntStreamUtils {
      * @return An index of the first value in ints matching the predicate. Returns -1 if no matches are found.
      */
     public static int indexOfFirstInt(int[] ints, IntPredicate predicate) {
-        return defaultIntStream(ints)
-                .mapToObj(intPairWithIndex())
-                .filter(mapToIntAndFilter(IntIndexPair::getIntValue, predicate))
-                .mapToInt(IntIndexPair::getIndex)
-                .findFirst()
-                .orElse(-1);
+        return ints == null ? -1 : indexOfMatch(ints, predicate);
+    }
+
+    /**
+     * Finds the index of the last int in an array that matches an <code>IntPredicate</code>.
+     * The array is searched backwards from its end.
+     *
+     * @param ints      Array of primitive int values.
+     * @param predicate An IntPredicate used to find a matching value.
+     * @return An index of the last value in ints matching the predicate. Returns -1 if no matches are found.
+     */
+    public static int indexOfLastInt(int[] ints, IntPredicate predicate) {
+        if (ints != null) {
+            for (int i = ints.length - 1; i >= 0; i--) {
+                if (predicate.test(ints[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the indices of all of the ints in an array that match an <code>IntPredicate</code>, in ascending order.
+     *
+     * @param ints      Array of primitive int values.
+     * @param predicate An IntPredicate used to find matching values.
+     * @return An array of the indices of the values in ints matching the predicate. Returns an empty array if no
+     * matches are found.
+     */
+    public static int[] indicesOfInt(int[] ints, IntPredicate predicate) {
+        if (ints == null) {
+            return new int[0];
+        }
+        int[] indices = new int[ints.length];
+        int count = 0;
+        for (int i = 0; i < ints.length; i++) {
+            if (predicate.test(ints[i])) {
+                indices[count++] = i;
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
     }
 
     /**
      * Given an array of ints, and a partition size, this method divides the array into a list of int arrays, each of
-     * whose length is at most <code>partitionSize</code>.
+     * whose length is at most <code>partitionSize</code>. Each partition is copied directly out of the given array,
+     * without boxing its values.
      *
      * @param ints          An array of ints to be partitioned up into a list of int arrays.
      * @param partitionSize The maximum length of the individual arrays in the returned list.
@@ -391,26 +529,13 @@ public final class IntStreamUtils {
      * have a length that is less than partitionSize.
      */
     public static List<int[]> toPartitionedIntList(int[] ints, int partitionSize) {
-        return defaultIntStream(ints)
-                .boxed()
-                .collect(toPartitionedList(partitionSize, IntStreamUtils::toListOfArrays));
-    }
-
-    private static List<int[]> toListOfArrays(List<List<Integer>> partitions) {
-        return partitions.stream()
-                .map(IntStreamUtils::listToArray)
-                .collect(toList());
-    }
-
-    private static int[] listToArray(List<Integer> ints) {
-        return ints.stream()
-                .mapToInt(Integer::intValue)
-                .toArray();
+        return toPartitionedIntStream(ints, partitionSize).collect(toList());
     }
 
     /**
      * Given an array of ints, and a partition size, this method divides the array into a stream of int arrays, each of
-     * whose length is at most <code>partitionSize</code>.
+     * whose length is at most <code>partitionSize</code>. The stream is lazy, so each partition is only copied out of
+     * the given array as it is consumed.
      *
      * @param ints          An array of ints to be partitioned up into a stream of int arrays.
      * @param partitionSize The maximum length of the individual arrays in the returned stream.
@@ -418,7 +543,48 @@ public final class IntStreamUtils {
      * may have a length that is less than partitionSize.
      */
     public static Stream<int[]> toPartitionedIntStream(int[] ints, int partitionSize) {
-        return toPartitionedIntList(ints, partitionSize).stream();
+        return partitionStarts(ints, partitionSize)
+                .mapToObj(from -> Arrays.copyOfRange(ints, from, partitionEnd(ints, from, partitionSize)));
+    }
+
+    private static IntStream partitionStarts(int[] ints, int partitionSize) {
+        Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
+        int length = ints == null ? 0 : ints.length;
+        int partitionCount = length / partitionSize + (length % partitionSize == 0 ? 0 : 1);
+        return IntStream.range(0, partitionCount).map(i -> i * partitionSize);
+    }
+
+    private static int partitionEnd(int[] ints, int from, int partitionSize) {
+        return from + Math.min(partitionSize, ints.length - from);
+    }
+
+    /**
+     * Given an array of ints, and a partition size, this method divides the array into a list of
+     * {@link IntSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
+     *
+     * @param ints          An array of ints to be partitioned up into a list of views.
+     * @param partitionSize The maximum length of the individual views in the returned list.
+     * @return A List of IntSlice views, each of whose length is at most partitionSize. The last view in the list may
+     * have a length that is less than partitionSize.
+     */
+    public static List<IntSlice> toPartitionedIntSlices(int[] ints, int partitionSize) {
+        return toPartitionedIntSliceStream(ints, partitionSize).collect(toList());
+    }
+
+    /**
+     * Given an array of ints, and a partition size, this method divides the array into a lazy stream of
+     * {@link IntSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
+     *
+     * @param ints          An array of ints to be partitioned up into a stream of views.
+     * @param partitionSize The maximum length of the individual views in the returned stream.
+     * @return A Stream of IntSlice views, each of whose length is at most partitionSize. The last view in the stream
+     * may have a length that is less than partitionSize.
+     */
+    public static Stream<IntSlice> toPartitionedIntSliceStream(int[] ints, int partitionSize) {
+        return partitionStarts(ints, partitionSize)
+                .mapToObj(from -> IntSlice.of(ints, from, partitionEnd(ints, from, partitionSize)));
     }
 
     /**
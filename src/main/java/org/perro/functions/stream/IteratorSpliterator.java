@@ -0,0 +1,85 @@
+package org.perro.functions.stream;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+class IteratorSpliterator<T> implements Spliterator<T> {
+
+    private static final int MAX_BATCH = 1 << 25;
+
+    private final Iterator<T> iterator;
+    private final int characteristics;
+    private final int batchSize;
+    private long estimatedSize;
+    private int batch;
+
+    private IteratorSpliterator(Iterator<T> iterator, long estimatedSize, int characteristics, int batchSize) {
+        this.iterator = iterator;
+        this.estimatedSize = estimatedSize;
+        this.characteristics = (characteristics & SIZED) == 0 ? characteristics & ~SUBSIZED : characteristics | SUBSIZED;
+        this.batchSize = batchSize;
+    }
+
+    static <T> IteratorSpliterator<T> of(Iterator<T> iterator, long estimatedSize, int characteristics, int batchSize) {
+        return new IteratorSpliterator<>(iterator, estimatedSize, characteristics, batchSize);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (iterator.hasNext()) {
+            action.accept(iterator.next());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // A batch of elements is copied from the iterator into an array, and split off. Each batch is larger than the
+        // last by the configured batch size, so the first ones are handed out to other threads quickly, while the
+        // number of splits only grows with the square root of the number of elements.
+        if (estimatedSize > 1 && iterator.hasNext()) {
+            int n = (int) Math.min((long) batch + batchSize, MAX_BATCH);
+            if (hasCharacteristics(SIZED) && n > estimatedSize) {
+                n = (int) estimatedSize;
+            }
+            Object[] elements = new Object[n];
+            int count = 0;
+            do {
+                elements[count] = iterator.next();
+            } while (++count < n && iterator.hasNext());
+            batch = count;
+            if (estimatedSize != Long.MAX_VALUE) {
+                estimatedSize = Math.max(0, estimatedSize - count);
+            }
+            return Spliterators.spliterator(elements, 0, count, characteristics);
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public Comparator<? super T> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+}
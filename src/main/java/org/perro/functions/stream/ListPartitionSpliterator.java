@@ -0,0 +1,59 @@
+package org.perro.functions.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+class ListPartitionSpliterator<T> implements Spliterator<List<T>> {
+
+    private final List<T> list;
+    private final int partitionSize;
+    private final int fence;
+    private int origin;
+
+    private ListPartitionSpliterator(List<T> list, int partitionSize, int origin, int fence) {
+        this.list = list;
+        this.partitionSize = partitionSize;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    static <T> ListPartitionSpliterator<T> of(List<T> list, int partitionSize) {
+        return new ListPartitionSpliterator<>(list, partitionSize, 0, list.size());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        if (origin < fence) {
+            int end = origin + Math.min(partitionSize, fence - origin);
+            action.accept(new ArrayList<>(list.subList(origin, end)));
+            origin = end;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<List<T>> trySplit() {
+        long partitions = estimateSize();
+        if (partitions < 2) {
+            return null;
+        }
+        int mid = origin + (int) (partitions / 2) * partitionSize;
+        Spliterator<List<T>> prefix = new ListPartitionSpliterator<>(list, partitionSize, origin, mid);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long remaining = fence - origin;
+        return (remaining + partitionSize - 1) / partitionSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,143 @@
+package org.perro.functions.stream;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable view over a range of a primitive <code>long</code> array, used to partition the array without copying
+ * it. The view shares the underlying array, so changes made to the array are visible through the view. Use
+ * {@link #toArray()} to get an independent copy of the values in the view.
+ */
+public class LongSlice {
+
+    private final long[] longs;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private LongSlice(long[] longs, int fromIndex, int toIndex) {
+        this.longs = longs;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * Builds a new instance of this class, viewing the values of a <code>long</code> array from
+     * <code>fromIndex</code>, inclusive, to <code>toIndex</code>, exclusive.
+     *
+     * @param longs     An array of longs to be viewed.
+     * @param fromIndex The index of the first value in the view.
+     * @param toIndex   The index after the last value in the view.
+     * @return A new instance of this class.
+     * @throws ArrayIndexOutOfBoundsException if fromIndex is negative, or toIndex is greater than the length of the
+     *                                        array.
+     * @throws IllegalArgumentException       if fromIndex is greater than toIndex.
+     */
+    public static LongSlice of(long[] longs, int fromIndex, int toIndex) {
+        Objects.requireNonNull(longs, "The 'longs' argument must not be null");
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > longs.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        return new LongSlice(longs, fromIndex, toIndex);
+    }
+
+    /**
+     * Gets the number of values in this view.
+     *
+     * @return The number of values in this view.
+     */
+    public int length() {
+        return toIndex - fromIndex;
+    }
+
+    /**
+     * Gets the value at a given index in this view, where the first value in the view is at index zero.
+     *
+     * @param index The index of a value in this view.
+     * @return The long value at the given index.
+     * @throws IndexOutOfBoundsException if the index is negative, or not less than {@link #length()}.
+     */
+    public long get(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+        }
+        return longs[fromIndex + index];
+    }
+
+    /**
+     * Copies the values in this view into a new array.
+     *
+     * @return A new array containing the values in this view.
+     */
+    public long[] toArray() {
+        return Arrays.copyOfRange(longs, fromIndex, toIndex);
+    }
+
+    /**
+     * Builds a <code>LongStream</code> over the values in this view, without copying them.
+     *
+     * @return A LongStream of the values in this view.
+     */
+    public LongStream stream() {
+        return Arrays.stream(longs, fromIndex, toIndex);
+    }
+
+    /**
+     * Generates a hash code based on the long values in this view.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = 31 * result + Long.hashCode(longs[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one. They will be considered equal if the given object is
+     * of the same class, and is either the identical object, or views the same long values in the same order.
+     *
+     * @param obj The target object with which to compare the current instance.
+     * @return true if this object is considered equal to the obj argument; false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || !getClass().equals(obj.getClass())) {
+            return false;
+        }
+        if (this == obj) {
+            return true;
+        }
+        LongSlice other = (LongSlice) obj;
+        if (length() != other.length()) {
+            return false;
+        }
+        for (int i = 0; i < length(); i++) {
+            if (get(i) != other.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a string representation of the object, containing the long values in this view.
+     *
+     * @return A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        String identity = Integer.toHexString(System.identityHashCode(this));
+        String template = "%s@%s[values=%s]";
+        return String.format(template, getClass().getName(), identity, Arrays.toString(toArray()));
+    }
+}
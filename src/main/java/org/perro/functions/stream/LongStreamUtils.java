@@ -1,19 +1,17 @@
 package org.perro.functions.stream;
 
-import org.perro.functions.mapper.LongIndexPair;
+import org.perro.functions.internal.Invariants;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.LongPredicate;
 import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static org.perro.functions.collector.CollectorUtils.toPartitionedList;
-import static org.perro.functions.mapper.LongMapperUtils.longPairWithIndex;
-import static org.perro.functions.predicate.LongPredicateUtils.mapToLongAndFilter;
 
 /**
  * Methods that are shortcuts to creating streams, specifically methods involving primitive long types.
@@ -23,6 +21,10 @@ public final class LongStreamUtils {
     private LongStreamUtils() {
     }
 
+    // Arrays no longer than this are queried with a plain indexed loop, avoiding the allocation of a stream pipeline.
+    // Longer arrays are still queried with a stream, where that fixed cost is negligible.
+    private static final int LOOP_THRESHOLD = 1024;
+
     /**
      * Given an array of longs and a <code>LongPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>all</i> values in the array match the predicate.
@@ -32,9 +34,21 @@ public final class LongStreamUtils {
      * @return A boolean indication of whether all of the values in a given array match a given predicate.
      */
     public static boolean longAllMatch(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            for (long value : longs) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
         return longs != null && Arrays.stream(longs).allMatch(predicate);
     }
 
+    private static boolean isLoopSized(long[] longs) {
+        return longs != null && longs.length <= LOOP_THRESHOLD;
+    }
+
     /**
      * Given an array of longs and a <code>LongPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>any</i> of the values in the array match the predicate.
@@ -44,9 +58,21 @@ public final class LongStreamUtils {
      * @return A boolean indication of whether any of the values in the array match the given predicate.
      */
     public static boolean longAnyMatch(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            return indexOfMatch(longs, predicate) >= 0;
+        }
         return longs != null && Arrays.stream(longs).anyMatch(predicate);
     }
 
+    private static int indexOfMatch(long[] longs, LongPredicate predicate) {
+        for (int i = 0; i < longs.length; i++) {
+            if (predicate.test(longs[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Given an array of longs and a <code>LongPredicate</code>, returns a <code>boolean</code> value indicating whether
      * <i>none</i> of the values in the array match the predicate.
@@ -56,6 +82,9 @@ public final class LongStreamUtils {
      * @return A boolean indication of whether none of the values in the array match the given predicate.
      */
     public static boolean longNoneMatch(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            return indexOfMatch(longs, predicate) < 0;
+        }
         return longs != null && Arrays.stream(longs).noneMatch(predicate);
     }
 
@@ -68,11 +97,24 @@ public final class LongStreamUtils {
      * @return A long value indicating the number of values a given array that match a given predicate.
      */
     public static long longCount(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            return countMatches(longs, predicate);
+        }
         return defaultLongStream(longs)
                 .filter(predicate)
                 .count();
     }
 
+    private static long countMatches(long[] longs, LongPredicate predicate) {
+        long count = 0;
+        for (long value : longs) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Given an array of longs, and an object representing a <code>LongPredicate</code> along with a default value,
      * this method returns the maximum long value in the array that matches the predicate, or the default value if no
@@ -85,6 +127,10 @@ public final class LongStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static long longMaxDefault(long[] longs, FindLongWithDefault findWithDefault) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMax(longs, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefault.getPredicate())
                 .max()
@@ -103,12 +149,26 @@ public final class LongStreamUtils {
      * if the array is null or empty, or if no values in it match the predicate.
      */
     public static long longMaxDefault(long[] longs, FindLongWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMax(longs, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsLong() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .max()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMax(long[] longs, LongPredicate predicate) {
+        int maxIndex = -1;
+        for (int i = 0; i < longs.length; i++) {
+            if (predicate.test(longs[i]) && (maxIndex < 0 || longs[i] > longs[maxIndex])) {
+                maxIndex = i;
+            }
+        }
+        return maxIndex;
+    }
+
     /**
      * Given an array of longs, and an object representing a <code>LongPredicate</code> along with a default value, this
      * method returns the minimum long value in the array that matches the predicate, or the default value if no
@@ -121,6 +181,10 @@ public final class LongStreamUtils {
      * null or empty, or if no values in it match the predicate.
      */
     public static long longMinDefault(long[] longs, FindLongWithDefault findWithDefault) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMin(longs, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefault.getPredicate())
                 .min()
@@ -139,12 +203,26 @@ public final class LongStreamUtils {
      * if the array is null or empty, or if no values in it match the predicate.
      */
     public static long longMinDefault(long[] longs, FindLongWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMin(longs, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsLong() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .min()
                 .orElseGet(findWithDefaultSupplier.getDefaultSupplier());
     }
 
+    private static int indexOfMin(long[] longs, LongPredicate predicate) {
+        int minIndex = -1;
+        for (int i = 0; i < longs.length; i++) {
+            if (predicate.test(longs[i]) && (minIndex < 0 || longs[i] < longs[minIndex])) {
+                minIndex = i;
+            }
+        }
+        return minIndex;
+    }
+
     /**
      * Attempt to find any matching long value in an array of longs using a predicate, returning <code>null</code>
      * if one is not found. This method does all filtering with a primitive <code>LongStream</code>, boxing the stream
@@ -170,6 +248,10 @@ public final class LongStreamUtils {
      * match the predicate.
      */
     public static Long findAnyLongDefaultNull(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, predicate);
+            return index < 0 ? null : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(predicate)
                 .boxed()
@@ -201,6 +283,10 @@ public final class LongStreamUtils {
      * or empty, or if no values in it match the predicate.
      */
     public static long findAnyLongDefault(long[] longs, FindLongWithDefault findWithDefault) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefault.getPredicate())
                 .findAny()
@@ -235,6 +321,10 @@ public final class LongStreamUtils {
      * if the longs array is null or empty, or if no values in it match the predicate.
      */
     public static long findAnyLongDefault(long[] longs, FindLongWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsLong() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findAny()
@@ -266,6 +356,10 @@ public final class LongStreamUtils {
      * match the predicate.
      */
     public static Long findFirstLongDefaultNull(long[] longs, LongPredicate predicate) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, predicate);
+            return index < 0 ? null : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(predicate)
                 .boxed()
@@ -297,6 +391,10 @@ public final class LongStreamUtils {
      * or empty, or if no values in it match the predicate.
      */
     public static long findFirstLongDefault(long[] longs, FindLongWithDefault findWithDefault) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, findWithDefault.getPredicate());
+            return index < 0 ? findWithDefault.getDefaultValue() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefault.getPredicate())
                 .findFirst()
@@ -331,6 +429,10 @@ public final class LongStreamUtils {
      * if the longs array is null or empty, or if no values in it match the predicate.
      */
     public static long findFirstLongDefault(long[] longs, FindLongWithDefaultSupplier findWithDefaultSupplier) {
+        if (isLoopSized(longs)) {
+            int index = indexOfMatch(longs, findWithDefaultSupplier.getPredicate());
+            return index < 0 ? findWithDefaultSupplier.getDefaultSupplier().getAsLong() : longs[index];
+        }
         return defaultLongStream(longs)
                 .filter(findWithDefaultSupplier.getPredicate())
                 .findFirst()
@@ -371,52 +473,117 @@ public final class LongStreamUtils {
      * @return An index of the first value in longs matching the predicate. Returns -1 if no matches are found.
      */
     public static long indexOfFirstLong(long[] longs, LongPredicate predicate) {
-        return defaultLongStream(longs)
-                .mapToObj(longPairWithIndex())
-                .filter(mapToLongAndFilter(LongIndexPair::getLongValue, predicate))
-                .mapToLong(LongIndexPair::getIndex)
-                .findFirst()
-                .orElse(-1);
+        return longs == null ? -1 : indexOfMatch(longs, predicate);
+    }
+
+    /**
+     * Finds the index of the last long in an array that matches a <code>LongPredicate</code>.
+     * The array is searched backwards from its end.
+     *
+     * @param longs     Array of primitive long values.
+     * @param predicate A LongPredicate used to find a matching value.
+     * @return An index of the last value in longs matching the predicate. Returns -1 if no matches are found.
+     */
+    public static int indexOfLastLong(long[] longs, LongPredicate predicate) {
+        if (longs != null) {
+            for (int i = longs.length - 1; i >= 0; i--) {
+                if (predicate.test(longs[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the indices of all of the longs in an array that match a <code>LongPredicate</code>, in ascending order.
+     *
+     * @param longs     Array of primitive long values.
+     * @param predicate A LongPredicate used to find matching values.
+     * @return An array of the indices of the values in longs matching the predicate. Returns an empty array if no
+     * matches are found.
+     */
+    public static int[] indicesOfLong(long[] longs, LongPredicate predicate) {
+        if (longs == null) {
+            return new int[0];
+        }
+        int[] indices = new int[longs.length];
+        int count = 0;
+        for (int i = 0; i < longs.length; i++) {
+            if (predicate.test(longs[i])) {
+                indices[count++] = i;
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
     }
 
     /**
      * Given an array of longs, and a partition size, this method divides the array into a list of long arrays, each of
-     * whose length is at most <code>partitionSize</code>.
+     * whose length is at most <code>partitionSize</code>. Each partition is copied directly out of the given array,
+     * without boxing its values.
      *
      * @param longs         An array of longs to be partitioned up into a list of long arrays.
      * @param partitionSize The maximum length of the individual arrays in the returned list.
-     * @return A List of long arrays, each of whose length is at most partitionSize. The last array in the list may have
-     * a length that is less than partitionSize.
+     * @return A List of long arrays, each of whose length is at most partitionSize. The last array in the list may
+     * have a length that is less than partitionSize.
      */
     public static List<long[]> toPartitionedLongList(long[] longs, int partitionSize) {
-        return defaultLongStream(longs)
-                .boxed()
-                .collect(toPartitionedList(partitionSize, LongStreamUtils::toListOfArrays));
+        return toPartitionedLongStream(longs, partitionSize).collect(toList());
+    }
+
+    /**
+     * Given an array of longs, and a partition size, this method divides the array into a stream of long arrays, each of
+     * whose length is at most <code>partitionSize</code>. The stream is lazy, so each partition is only copied out of
+     * the given array as it is consumed.
+     *
+     * @param longs         An array of longs to be partitioned up into a stream of long arrays.
+     * @param partitionSize The maximum length of the individual arrays in the returned stream.
+     * @return A Stream of long arrays, each of whose length is at most partitionSize. The last array in the stream
+     * may have a length that is less than partitionSize.
+     */
+    public static Stream<long[]> toPartitionedLongStream(long[] longs, int partitionSize) {
+        return partitionStarts(longs, partitionSize)
+                .mapToObj(from -> Arrays.copyOfRange(longs, from, partitionEnd(longs, from, partitionSize)));
     }
 
-    private static List<long[]> toListOfArrays(List<List<Long>> partitions) {
-        return partitions.stream()
-                .map(LongStreamUtils::listToArray)
-                .collect(toList());
+    private static IntStream partitionStarts(long[] longs, int partitionSize) {
+        Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
+        int length = longs == null ? 0 : longs.length;
+        int partitionCount = length / partitionSize + (length % partitionSize == 0 ? 0 : 1);
+        return IntStream.range(0, partitionCount).map(i -> i * partitionSize);
     }
 
-    private static long[] listToArray(List<Long> longs) {
-        return longs.stream()
-                .mapToLong(Long::longValue)
-                .toArray();
+    private static int partitionEnd(long[] longs, int from, int partitionSize) {
+        return from + Math.min(partitionSize, longs.length - from);
     }
 
     /**
-     * Given an array of longs, and a partition size, this method divides the array into a stream of long arrays, each
-     * of whose length is at most <code>partitionSize</code>.
+     * Given an array of longs, and a partition size, this method divides the array into a list of
+     * {@link LongSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
      *
-     * @param longs         An array of longs to be partitioned up into a stream of long arrays.
-     * @param partitionSize The maximum length of the individual arrays in the returned stream.
-     * @return A Stream of long arrays, each of whose length is at most partitionSize. The last array in the stream may
+     * @param longs         An array of longs to be partitioned up into a list of views.
+     * @param partitionSize The maximum length of the individual views in the returned list.
+     * @return A List of LongSlice views, each of whose length is at most partitionSize. The last view in the list may
      * have a length that is less than partitionSize.
      */
-    public static Stream<long[]> toPartitionedLongStream(long[] longs, int partitionSize) {
-        return toPartitionedLongList(longs, partitionSize).stream();
+    public static List<LongSlice> toPartitionedLongSlices(long[] longs, int partitionSize) {
+        return toPartitionedLongSliceStream(longs, partitionSize).collect(toList());
+    }
+
+    /**
+     * Given an array of longs, and a partition size, this method divides the array into a lazy stream of
+     * {@link LongSlice} views, each of whose length is at most <code>partitionSize</code>. No values are copied, as
+     * each view shares the given array.
+     *
+     * @param longs         An array of longs to be partitioned up into a stream of views.
+     * @param partitionSize The maximum length of the individual views in the returned stream.
+     * @return A Stream of LongSlice views, each of whose length is at most partitionSize. The last view in the stream
+     * may have a length that is less than partitionSize.
+     */
+    public static Stream<LongSlice> toPartitionedLongSliceStream(long[] longs, int partitionSize) {
+        return partitionStarts(longs, partitionSize)
+                .mapToObj(from -> LongSlice.of(longs, from, partitionEnd(longs, from, partitionSize)));
     }
 
     /**
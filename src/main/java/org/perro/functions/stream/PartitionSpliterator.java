@@ -0,0 +1,42 @@
+package org.perro.functions.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+class PartitionSpliterator<T> extends Spliterators.AbstractSpliterator<List<T>> {
+
+    private final Spliterator<T> source;
+    private final int partitionSize;
+
+    private PartitionSpliterator(Spliterator<T> source, int partitionSize) {
+        super(estimatePartitions(source, partitionSize), ORDERED | NONNULL);
+        this.source = source;
+        this.partitionSize = partitionSize;
+    }
+
+    static <T> PartitionSpliterator<T> of(Spliterator<T> source, int partitionSize) {
+        return new PartitionSpliterator<>(source, partitionSize);
+    }
+
+    private static long estimatePartitions(Spliterator<?> source, int partitionSize) {
+        long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + partitionSize - 1) / partitionSize;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super List<T>> action) {
+        List<T> partition = new ArrayList<>();
+        Consumer<T> partitionAdder = partition::add;
+        for (int i = 0; i < partitionSize && source.tryAdvance(partitionAdder); i++) {
+            // Elements are pulled from the source until the partition is full, or the source is exhausted.
+        }
+        if (partition.isEmpty()) {
+            return false;
+        }
+        action.accept(partition);
+        return true;
+    }
+}
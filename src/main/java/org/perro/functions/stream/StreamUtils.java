@@ -1,20 +1,23 @@
 package org.perro.functions.stream;
 
 import org.perro.functions.collector.CollectorUtils;
+import org.perro.functions.internal.Invariants;
 import org.perro.functions.mapper.ObjectIndexPair;
-import org.perro.functions.mapper.MapperUtils;
 import org.perro.functions.predicate.PredicateUtils;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -22,7 +25,6 @@ import static java.util.Collections.emptySet;
 import static java.util.Comparator.naturalOrder;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toSet;
-import static org.perro.functions.mapper.MapperUtils.pairWithIndex;
 import static org.perro.functions.predicate.PredicateUtils.*;
 
 /**
@@ -33,6 +35,8 @@ public final class StreamUtils {
     private StreamUtils() {
     }
 
+    private static final int ITERATOR_BATCH_SIZE = 1024;
+
     /**
      * Given a <code>Collection</code> of objects of type &lt;T&gt; and a <code>Predicate</code>, returns a
      * <code>boolean</code> value indicating whether <i>all</i> of the values in the collection match the predicate.
@@ -439,7 +443,8 @@ public final class StreamUtils {
 
     /**
      * Finds the index of the first element in a <code>Collection</code> of type &lt;T&gt;, that matches a
-     * <code>Predicate</code>.
+     * <code>Predicate</code>. A <code>List</code> that implements <code>RandomAccess</code> is searched by index, and
+     * no objects are allocated in searching it.
      *
      * @param objects   A Collection of elements of type &lt;T&gt;.
      * @param predicate A Predicate used to find a matching value.
@@ -448,12 +453,169 @@ public final class StreamUtils {
      * matches are found.
      */
     public static <T> int indexOfFirst(Collection<T> objects, Predicate<T> predicate) {
-        return defaultStream(objects)
-                .map(pairWithIndex())
-                .filter(mapAndFilter(ObjectIndexPair::getObject, predicate))
-                .mapToInt(ObjectIndexPair::getIndex)
-                .findFirst()
-                .orElse(-1);
+        if (isRandomAccessList(objects)) {
+            List<T> list = (List<T>) objects;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    return i;
+                }
+            }
+        } else if (objects != null) {
+            int index = 0;
+            for (T object : objects) {
+                if (predicate.test(object)) {
+                    return index;
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isRandomAccessList(Collection<?> objects) {
+        return objects instanceof List && objects instanceof RandomAccess;
+    }
+
+    /**
+     * Finds the index of the first element in an array of type &lt;T&gt;, that matches a <code>Predicate</code>. No
+     * objects are allocated in searching the array.
+     *
+     * @param array     An array of elements of type &lt;T&gt;.
+     * @param predicate A Predicate used to find a matching value.
+     * @param <T>       The type of elements in the array.
+     * @return An index of the first value in the given array matching the predicate. Returns -1 if no matches are
+     * found, or if the array is null.
+     */
+    public static <T> int indexOfFirst(T[] array, Predicate<T> predicate) {
+        if (array != null) {
+            for (int i = 0; i < array.length; i++) {
+                if (predicate.test(array[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last element in a <code>Collection</code> of type &lt;T&gt;, that matches a
+     * <code>Predicate</code>. A <code>List</code> is searched backwards from its end, and for one that implements
+     * <code>RandomAccess</code>, no objects are allocated in searching it. Any other collection is searched from its
+     * beginning, in iteration order.
+     *
+     * @param objects   A Collection of elements of type &lt;T&gt;.
+     * @param predicate A Predicate used to find a matching value.
+     * @param <T>       The type of elements in the objects Collection.
+     * @return An index of the last value in the given objects Collection matching the predicate. Returns -1 if no
+     * matches are found.
+     */
+    public static <T> int indexOfLast(Collection<T> objects, Predicate<T> predicate) {
+        if (isRandomAccessList(objects)) {
+            List<T> list = (List<T>) objects;
+            for (int i = list.size() - 1; i >= 0; i--) {
+                if (predicate.test(list.get(i))) {
+                    return i;
+                }
+            }
+        } else if (objects instanceof List) {
+            ListIterator<T> iterator = ((List<T>) objects).listIterator(objects.size());
+            while (iterator.hasPrevious()) {
+                if (predicate.test(iterator.previous())) {
+                    return iterator.nextIndex();
+                }
+            }
+        } else if (objects != null) {
+            int lastIndex = -1;
+            int index = 0;
+            for (T object : objects) {
+                if (predicate.test(object)) {
+                    lastIndex = index;
+                }
+                index++;
+            }
+            return lastIndex;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index of the last element in an array of type &lt;T&gt;, that matches a <code>Predicate</code>. The
+     * array is searched backwards from its end, and no objects are allocated in searching it.
+     *
+     * @param array     An array of elements of type &lt;T&gt;.
+     * @param predicate A Predicate used to find a matching value.
+     * @param <T>       The type of elements in the array.
+     * @return An index of the last value in the given array matching the predicate. Returns -1 if no matches are
+     * found, or if the array is null.
+     */
+    public static <T> int indexOfLast(T[] array, Predicate<T> predicate) {
+        if (array != null) {
+            for (int i = array.length - 1; i >= 0; i--) {
+                if (predicate.test(array[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the indices of all of the elements in a <code>Collection</code> of type &lt;T&gt;, that match a
+     * <code>Predicate</code>, in ascending order. For a <code>Collection</code> that is not a <code>List</code>, the
+     * indices are positions in iteration order.
+     *
+     * @param objects   A Collection of elements of type &lt;T&gt;.
+     * @param predicate A Predicate used to find matching values.
+     * @param <T>       The type of elements in the objects Collection.
+     * @return An array of the indices of the values in the given objects Collection matching the predicate. Returns an
+     * empty array if no matches are found.
+     */
+    public static <T> int[] indicesOf(Collection<T> objects, Predicate<T> predicate) {
+        if (objects == null) {
+            return new int[0];
+        }
+        int[] indices = new int[objects.size()];
+        int count = 0;
+        if (isRandomAccessList(objects)) {
+            List<T> list = (List<T>) objects;
+            for (int i = 0; i < indices.length; i++) {
+                if (predicate.test(list.get(i))) {
+                    indices[count++] = i;
+                }
+            }
+        } else {
+            Iterator<T> iterator = objects.iterator();
+            for (int index = 0; index < indices.length && iterator.hasNext(); index++) {
+                if (predicate.test(iterator.next())) {
+                    indices[count++] = index;
+                }
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
+
+    /**
+     * Finds the indices of all of the elements in an array of type &lt;T&gt;, that match a <code>Predicate</code>, in
+     * ascending order.
+     *
+     * @param array     An array of elements of type &lt;T&gt;.
+     * @param predicate A Predicate used to find matching values.
+     * @param <T>       The type of elements in the array.
+     * @return An array of the indices of the values in the given array matching the predicate. Returns an empty array
+     * if no matches are found, or if the array is null.
+     */
+    public static <T> int[] indicesOf(T[] array, Predicate<T> predicate) {
+        if (array == null) {
+            return new int[0];
+        }
+        int[] indices = new int[array.length];
+        int count = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (predicate.test(array[i])) {
+                indices[count++] = i;
+            }
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
     }
 
     /**
@@ -577,7 +739,10 @@ public final class StreamUtils {
 
     /**
      * Given a <code>Collection</code> of elements of type &lt;T&gt;, and a partition size, this method divides the
-     * collection into a <code>Stream</code> of lists, each of whose length is at most <code>partitionSize</code>.
+     * collection into a <code>Stream</code> of lists, each of whose length is at most <code>partitionSize</code>. The
+     * lists are built lazily, as the returned stream is consumed. If the collection is a <code>List</code> that
+     * implements <code>RandomAccess</code>, the returned stream also splits efficiently when it is processed in
+     * parallel.
      *
      * @param objects       A Collection of elements of type &lt;T&gt; to be partitioned up into a stream of lists.
      * @param partitionSize The maximum length of the individual lists in the returned stream.
@@ -586,7 +751,48 @@ public final class StreamUtils {
      * list may have a length that is less than partitionSize.
      */
     public static <T> Stream<List<T>> toPartitionedStream(Collection<T> objects, int partitionSize) {
-        return defaultStream(objects).collect(CollectorUtils.toPartitionedStream(partitionSize));
+        Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
+        if (isRandomAccessList(objects)) {
+            return StreamSupport.stream(ListPartitionSpliterator.of((List<T>) objects, partitionSize), false);
+        }
+        return StreamSupport.stream(PartitionSpliterator.of(defaultStream(objects).spliterator(), partitionSize), false);
+    }
+
+    /**
+     * Given a <code>Stream</code> of elements of type &lt;T&gt;, and a partition size, this method lazily divides the
+     * stream into a <code>Stream</code> of lists, each of whose length is at most <code>partitionSize</code>. Elements
+     * are only pulled from the given stream as each list is consumed, so at most one partition is held in memory at a
+     * time by a sequential stream. The returned stream is parallel if the given one is, and closing it closes the
+     * given stream.
+     *
+     * @param stream        A Stream of elements of type &lt;T&gt; to be partitioned up into a stream of lists.
+     * @param partitionSize The maximum length of the individual lists in the returned stream.
+     * @param <T>           The type of the elements in the stream parameter.
+     * @return A stream of lists of elements of type &lt;T&gt;, each of whose length is at most partitionSize. The last
+     * list may have a length that is less than partitionSize.
+     */
+    public static <T> Stream<List<T>> partition(Stream<T> stream, int partitionSize) {
+        Invariants.checkArgument(partitionSize > 0, "The 'partitionSize' argument must be greater than zero");
+        if (stream == null) {
+            return Stream.empty();
+        }
+        return StreamSupport.stream(PartitionSpliterator.of(stream.spliterator(), partitionSize), stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    /**
+     * Given an <code>Iterator</code> of elements of type &lt;T&gt;, and a partition size, this method lazily divides
+     * the elements into a <code>Stream</code> of lists, each of whose length is at most <code>partitionSize</code>.
+     * Elements are only pulled from the given iterator as each list is consumed, so the iterator may be unbounded.
+     *
+     * @param iterator      An Iterator of elements of type &lt;T&gt; to be partitioned up into a stream of lists.
+     * @param partitionSize The maximum length of the individual lists in the returned stream.
+     * @param <T>           The type of elements iterated by the above iterator.
+     * @return A stream of lists of elements of type &lt;T&gt;, each of whose length is at most partitionSize. The last
+     * list may have a length that is less than partitionSize.
+     */
+    public static <T> Stream<List<T>> partition(Iterator<T> iterator, int partitionSize) {
+        return partition(fromIterator(iterator), partitionSize);
     }
 
     /**
@@ -604,6 +810,108 @@ public final class StreamUtils {
         return Stream.empty();
     }
 
+    /**
+     * Given an <code>Iterator</code> of elements of type &lt;T&gt;, returns a <code>Stream</code> of those elements,
+     * that can be split efficiently when it is processed in parallel. An estimate of the number of elements, along with
+     * <code>Spliterator</code> characteristics such as <code>ORDERED</code>, <code>NONNULL</code> or
+     * <code>IMMUTABLE</code>, lets a parallel stream plan how to divide up its work. The estimate is only treated as an
+     * exact count if <code>Spliterator.SIZED</code> is one of the characteristics. When processed in parallel, the
+     * elements are split off in batches of 1024 elements, then 2048, and so on. This method is equivalent to calling
+     * {@link #fromIterator(Iterator, long, int, int)} passing 1024 as the batch size.
+     *
+     * @param iterator        An Iterator of elements of type &lt;T&gt;.
+     * @param estimatedSize   An estimate of the number of elements the iterator will return, or
+     *                        <code>Long.MAX_VALUE</code> if it is unknown.
+     * @param characteristics Spliterator characteristics of the elements returned by the iterator.
+     * @param <T>             The type of elements iterated by the above iterator.
+     * @return A Stream of elements of type &lt;T&gt;.
+     */
+    public static <T> Stream<T> fromIterator(Iterator<T> iterator, long estimatedSize, int characteristics) {
+        return fromIterator(iterator, estimatedSize, characteristics, ITERATOR_BATCH_SIZE);
+    }
+
+    /**
+     * Given an <code>Iterator</code> of elements of type &lt;T&gt;, returns a <code>Stream</code> of those elements,
+     * that can be split efficiently when it is processed in parallel. An estimate of the number of elements, along with
+     * <code>Spliterator</code> characteristics such as <code>ORDERED</code>, <code>NONNULL</code> or
+     * <code>IMMUTABLE</code>, lets a parallel stream plan how to divide up its work. The estimate is only treated as an
+     * exact count if <code>Spliterator.SIZED</code> is one of the characteristics. When processed in parallel, the
+     * elements are split off in batches that grow arithmetically: the first batch has <code>batchSize</code> elements,
+     * the second twice that, and so on. A small batch size spreads a short or expensive source across more threads,
+     * while a large one reduces the overhead of splitting a long, cheap one. For example:
+     * <pre>
+     *     StreamUtils.fromIterator(cursor, rowCount, Spliterator.ORDERED | Spliterator.NONNULL, 256)
+     *         .parallel()
+     *         .map(Row::toWidget)
+     *         .forEach(widgetWriter::write);
+     * </pre>
+     *
+     * @param iterator        An Iterator of elements of type &lt;T&gt;.
+     * @param estimatedSize   An estimate of the number of elements the iterator will return, or
+     *                        <code>Long.MAX_VALUE</code> if it is unknown.
+     * @param characteristics Spliterator characteristics of the elements returned by the iterator.
+     * @param batchSize       The number of elements in the first batch split off for parallel processing, and the
+     *                        amount by which each later batch grows.
+     * @param <T>             The type of elements iterated by the above iterator.
+     * @return A Stream of elements of type &lt;T&gt;.
+     */
+    public static <T> Stream<T> fromIterator(Iterator<T> iterator, long estimatedSize, int characteristics, int batchSize) {
+        Invariants.checkArgument(estimatedSize >= 0, "The 'estimatedSize' argument must not be negative");
+        Invariants.checkArgument(batchSize > 0, "The 'batchSize' argument must be greater than zero");
+        if (iterator != null) {
+            return StreamSupport.stream(IteratorSpliterator.of(iterator, estimatedSize, characteristics, batchSize), false);
+        }
+        return Stream.empty();
+    }
+
+    /**
+     * Given a <code>List</code> of elements of type &lt;T&gt;, returns a <code>Stream</code> pairing each element with
+     * its zero-based index in the list. Unlike {@link org.perro.functions.mapper.MapperUtils#pairWithIndex()}, which
+     * numbers elements with a shared counter as they reach it, the index of each element comes from its position in the
+     * source of the stream. So the indices are the same, and no counter is contended, when the stream is parallel:
+     * <pre>
+     *     Map&lt;Integer, Widget&gt; widgetsByRow = StreamUtils.indexed(widgets)
+     *         .parallel()
+     *         .filter(pair -&gt; pair.getObject().isValid())
+     *         .collect(toMap(ObjectIndexPair::getIndex, ObjectIndexPair::getObject));
+     * </pre>
+     * The stream splits evenly by index range. A <code>List</code> that does not implement <code>RandomAccess</code>
+     * is first copied into an array, so that its elements are not found by walking the list from its start.
+     *
+     * @param list A List of elements of type &lt;T&gt;.
+     * @param <T>  The type of the elements in the list.
+     * @return A Stream of each element of the list paired with its index. Returns an empty Stream if the list is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<ObjectIndexPair<T>> indexed(List<T> list) {
+        if (list == null) {
+            return Stream.empty();
+        }
+        if (list instanceof RandomAccess) {
+            return IntStream.range(0, list.size())
+                    .mapToObj(i -> ObjectIndexPair.of(list.get(i), i));
+        }
+        return indexedStream((T[]) list.toArray());
+    }
+
+    /**
+     * Given an array of elements of type &lt;T&gt;, returns a <code>Stream</code> pairing each element with its
+     * zero-based index in the array. As with {@link #indexed(List)}, the index of each element comes from its position
+     * in the array, so the indices are the same when the stream is parallel.
+     *
+     * @param array An array of elements of type &lt;T&gt;.
+     * @param <T>   The type of the elements in the array.
+     * @return A Stream of each element of the array paired with its index. Returns an empty Stream if the array is
+     * null.
+     */
+    public static <T> Stream<ObjectIndexPair<T>> indexedStream(T[] array) {
+        if (array == null) {
+            return Stream.empty();
+        }
+        return IntStream.range(0, array.length)
+                .mapToObj(i -> ObjectIndexPair.of(array[i], i));
+    }
+
     /**
      * Given a <code>Collection</code> of elements of type &lt;T&gt;, returns a <code>Stream</code> of those elements.
      *
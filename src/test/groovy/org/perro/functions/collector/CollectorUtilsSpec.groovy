@@ -4,7 +4,13 @@ package org.perro.functions.collector
 import org.perro.functions.internal.Pair
 import org.perro.functions.internal.StringUtils
 import org.perro.functions.TestValue
+import org.perro.functions.mapper.IntDoublePair
+import org.perro.functions.mapper.IntIntPair
+import org.perro.functions.mapper.IntLongPair
+import org.perro.functions.mapper.LongDoublePair
+import org.perro.functions.mapper.LongLongPair
 import spock.lang.Specification
+import spock.lang.Unroll
 
 import java.util.function.Function
 import java.util.function.Predicate
@@ -43,6 +49,78 @@ class CollectorUtilsSpec extends Specification {
         actual == sourceMap
     }
 
+    def 'to map from int int pair keeps the last value for each left value'() {
+        given:
+        def pairs = [IntIntPair.of(1, 10), IntIntPair.of(2, 20), IntIntPair.of(1, 11)]
+
+        when:
+        def actual = pairs.stream().collect(toMapFromIntIntPair())
+
+        then:
+        actual == [1: 11, 2: 20]
+    }
+
+    def 'to map from primitive pairs'() {
+        expect:
+        Stream.of(IntLongPair.of(1, 10L)).collect(toMapFromIntLongPair()) == [1: 10L]
+        Stream.of(IntDoublePair.of(1, 1.5D)).collect(toMapFromIntDoublePair()) == [1: 1.5D]
+        Stream.of(LongLongPair.of(1L, 10L)).collect(toMapFromLongLongPair()) == [1L: 10L]
+        Stream.of(LongDoublePair.of(1L, 1.5D)).collect(toMapFromLongDoublePair()) == [1L: 1.5D]
+    }
+
+    def 'to map from int int pair in parallel'() {
+        given:
+        def pairs = (0..<1000).collect { IntIntPair.of(it, it * 2) }
+
+        when:
+        def actual = pairs.parallelStream().collect(toMapFromIntIntPair())
+
+        then:
+        actual.size() == 1000
+        actual.every { k, v -> v == k * 2 }
+    }
+
+    def 'to int keyed map keeps the last value for each key'() {
+        given:
+        def words = ['one', 'two', 'three', 'four']
+
+        when:
+        def actual = words.stream().collect(toIntKeyedMap({ String s -> s.length() }, { String s -> s }))
+
+        then:
+        actual.size() == 3
+        actual.get(3) == 'two'
+        actual.get(5) == 'three'
+        actual.get(4) == 'four'
+    }
+
+    def 'to int keyed map in parallel'() {
+        when:
+        def actual = (0..<1000).parallelStream().collect(toIntKeyedMap({ Integer i -> i }, { Integer i -> "value$i".toString() }))
+
+        then:
+        actual.size() == 1000
+        (0..<1000).every { actual.get(it) == "value$it".toString() }
+    }
+
+    def 'to long keyed map in parallel'() {
+        when:
+        def actual = (0..<1000).parallelStream().collect(toLongKeyedMap({ Integer i -> i * 0x100000000L }, { Integer i -> i }))
+
+        then:
+        actual.size() == 1000
+        (0..<1000).every { actual.get(it * 0x100000000L) == it }
+    }
+
+    def 'to int int map in parallel'() {
+        when:
+        def actual = (0..<1000).parallelStream().collect(toIntIntMap({ Integer i -> i }, { Integer i -> i * 2 }))
+
+        then:
+        actual.size() == 1000
+        (0..<1000).every { actual.getOrDefault(it, -1) == it * 2 }
+    }
+
     def 'to partitioned stream'() {
         given:
         def partitionSize = 10
@@ -69,6 +147,36 @@ class CollectorUtilsSpec extends Specification {
         partitions.each { List partition -> partition.size() == partitionSize }
     }
 
+    @Unroll
+    def 'to partitioned list from a parallel stream of #count elements with partition size #partitionSize'() {
+        given:
+        def elements = (0..<count).collect()
+
+        when:
+        def partitions = elements.parallelStream().collect(toPartitionedList(partitionSize)) as List<List>
+
+        then:
+        partitions.flatten() == elements
+        partitions.init().every { List partition -> partition.size() == partitionSize }
+        partitions.last().size() == (count % partitionSize ?: partitionSize)
+
+        where:
+        count | partitionSize
+        1     | 3
+        100   | 10
+        1000  | 7
+        10007 | 64
+    }
+
+    def 'to partitioned list collector may be reused'() {
+        given:
+        def collector = toPartitionedList(3)
+
+        expect:
+        (1..4).stream().collect(collector) == [[1, 2, 3], [4]]
+        (1..4).stream().collect(collector) == [[1, 2, 3], [4]]
+    }
+
     def 'to string builder'() {
         when:
         def actual = 'test123'.codePoints()
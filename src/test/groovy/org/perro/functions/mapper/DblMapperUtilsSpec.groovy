@@ -4,6 +4,8 @@ import org.perro.functions.internal.Pair
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
+import java.util.function.DoubleFunction
 import java.util.function.ToDoubleBiFunction
 
 import static org.perro.functions.internal.StringUtils.defaultString
@@ -258,4 +260,57 @@ class DblMapperUtilsSpec extends Specification {
         def result = dblModulo(2.0D).applyAsDouble(3.0D)
         result == 1.0D
     }
-}
\ No newline at end of file
+
+    def 'double memoize calls the function once for each argument'() {
+
+        given:
+        def calls = []
+        def memoized = dblMemoize({ double d -> calls << d; d * 2.0D } as DoubleFunction)
+
+        when:
+        def results = [1.0D, 2.0D, 1.0D, 2.0D].collect { memoized.apply(it) }
+
+        then:
+        results == [2.0D, 4.0D, 2.0D, 4.0D]
+        calls == [1.0D, 2.0D]
+        memoized.getStatistics().getHitCount() == 2L
+        memoized.getStatistics().getMissCount() == 2L
+    }
+
+    def 'double memoize tells zeros apart and treats all NaN values as one'() {
+
+        given:
+        def memoized = dblMemoize({ double d -> 1.0D / d } as DoubleFunction)
+
+        when:
+        def results = [0.0D, Math.copySign(0.0D, -1.0D), Double.NaN, Double.longBitsToDouble(0x7ff0000000000001L)].collect {
+            memoized.apply(it)
+        }
+
+        then:
+        results[0] == Double.POSITIVE_INFINITY
+        results[1] == Double.NEGATIVE_INFINITY
+        results[2].isNaN()
+        results[3].isNaN()
+        memoized.getStatistics().getMissCount() == 3L
+    }
+
+    def 'double memoize with max size never holds more than that many results'() {
+
+        given:
+        def memoized = dblMemoize({ double d -> d } as DoubleFunction, 100)
+
+        when:
+        (0..<1000).each { memoized.apply(it % 500) }
+
+        then:
+        memoized.getStatistics().getSize() == 100L
+        memoized.getStatistics().getEvictionCount() == 900L
+    }
+
+    def 'double memoize with expiry builds a function with its own cache'() {
+        expect:
+        dblMemoizeWithExpiry({ double d -> d } as DoubleFunction, Duration.ofMinutes(1L)).apply(2.0D) == 2.0D
+        dblMemoizeWithExpiry({ double d -> d } as DoubleFunction, 10, Duration.ofMinutes(1L)).apply(2.0D) == 2.0D
+    }
+}
@@ -4,6 +4,8 @@ import org.perro.functions.internal.Pair
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
+import java.util.function.IntFunction
 import java.util.function.ToIntBiFunction
 
 import static org.perro.functions.internal.StringUtils.defaultString
@@ -154,6 +156,74 @@ class IntMapperUtilsSpec extends Specification {
         'left' | null    || Pair.of('left', null)
     }
 
+    @Unroll
+    def 'int int pair of with mapper function returning #right returns #expected'() {
+
+        expect:
+        intIntPairOf({ i -> right }).apply(1) == expected
+
+        where:
+        right || expected
+        2     || IntIntPair.of(1, 2)
+        -1    || IntIntPair.of(1, -1)
+    }
+
+    def 'to int int pair of applies both mapper functions'() {
+
+        expect:
+        toIntIntPairOf({ String s -> s.length() }, { String s -> s.indexOf('c') }).apply('abc') == IntIntPair.of(3, 2)
+    }
+
+    @Unroll
+    def 'int long pair of with mapper function returning #right returns #expected'() {
+
+        expect:
+        intLongPairOf({ i -> right }).apply(1) == expected
+
+        where:
+        right || expected
+        2L    || IntLongPair.of(1, 2L)
+        -1L   || IntLongPair.of(1, -1L)
+    }
+
+    def 'to int long pair of applies both mapper functions'() {
+
+        expect:
+        toIntLongPairOf({ String s -> s.length() }, { String s -> Long.MAX_VALUE }).apply('abc') == IntLongPair.of(3, Long.MAX_VALUE)
+    }
+
+    @Unroll
+    def 'int double pair of with mapper function returning #right returns #expected'() {
+
+        expect:
+        intDblPairOf({ i -> right }).apply(1) == expected
+
+        where:
+        right      || expected
+        2.5D       || IntDoublePair.of(1, 2.5D)
+        Double.NaN || IntDoublePair.of(1, Double.NaN)
+    }
+
+    def 'to int double pair of applies both mapper functions'() {
+
+        expect:
+        toIntDblPairOf({ String s -> s.length() }, { String s -> 1.5D }).apply('abc') == IntDoublePair.of(3, 1.5D)
+    }
+
+    @Unroll
+    def 'int int pair equals and hash code comparing #left and #right returns #expected'() {
+
+        expect:
+        (left == right) == expected
+        !expected || left.hashCode() == right.hashCode()
+
+        where:
+        left                | right               || expected
+        IntIntPair.of(1, 2) | IntIntPair.of(1, 2) || true
+        IntIntPair.of(1, 2) | IntIntPair.of(2, 1) || false
+        IntIntPair.of(1, 2) | IntIntPair.of(1, 3) || false
+    }
+
     @Unroll
     def 'int pair with list passing values "#listParam" returns #expected'() {
 
@@ -225,6 +295,149 @@ class IntMapperUtilsSpec extends Specification {
         2      || 'falseValue'
     }
 
+    def 'int object map agrees with a hash map through puts and removes'() {
+        given:
+        def random = new Random(42)
+        def map = IntObjectMap.of()
+        def expected = [:]
+
+        when:
+        10000.times {
+            int key = random.nextInt(600) - 300
+            if (random.nextInt(3) == 0) {
+                assert map.remove(key) == expected.remove(key)
+            } else {
+                assert map.put(key, "value$it".toString()) == expected.put(key, "value$it".toString())
+            }
+        }
+
+        then:
+        map.size() == expected.size()
+        map.keys().toArray() as Set == expected.keySet()
+        expected.every { k, v -> map.get(k) == v && map.containsKey(k) }
+        !map.containsKey(1000)
+        map.hashCode() == expected.hashCode()
+    }
+
+    def 'int object map holds a zero key and null values'() {
+        given:
+        def map = IntObjectMap.of(2)
+
+        when:
+        map.put(0, 'zero')
+        map.put(1, null)
+
+        then:
+        map.size() == 2
+        map.get(0) == 'zero'
+        map.containsKey(1)
+        map.get(1) == null
+        map.getOrDefault(1, 'default') == null
+        map.getOrDefault(2, 'default') == 'default'
+        map.toString() == '{0=zero, 1=null}'
+
+        when:
+        def removed = map.remove(0)
+
+        then:
+        removed == 'zero'
+        !map.containsKey(0)
+        map.size() == 1
+    }
+
+    def 'int object maps with the same mappings are equal'() {
+        given:
+        def left = IntObjectMap.of()
+        def right = IntObjectMap.of(1000)
+        (0..<100).each { left.put(it, "value$it".toString()) }
+        (99..0).each { right.put(it, "value$it".toString()) }
+
+        expect:
+        left == right
+        left.hashCode() == right.hashCode()
+        left != IntObjectMap.of()
+
+        when:
+        right.put(50, 'other')
+
+        then:
+        left != right
+    }
+
+    def 'int object map of negative expected size throws exception'() {
+        when:
+        IntObjectMap.of(-1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'int int map agrees with a hash map through puts and removes'() {
+        given:
+        def random = new Random(42)
+        def map = IntIntMap.of()
+        def expected = [:]
+
+        when:
+        10000.times {
+            int key = random.nextInt(600) - 300
+            if (random.nextInt(3) == 0) {
+                assert map.remove(key) == (expected.remove(key) != null)
+            } else {
+                map.put(key, it)
+                expected.put(key, it)
+            }
+        }
+
+        then:
+        map.size() == expected.size()
+        expected.every { k, v -> map.getOrDefault(k, -1) == v }
+        map.getOrDefault(1000, -1) == -1
+        map.hashCode() == expected.hashCode()
+        map.toString().length() == expected.toString().length()
+    }
+
+    @Unroll
+    def 'int get value for key #key returns #expected'() {
+
+        given:
+        def map = IntObjectMap.of()
+        map.put(1, 'one')
+        map.put(0, 'zero')
+
+        expect:
+        intGetValue(map).apply(key) == expected
+
+        where:
+        key || expected
+        1   || 'one'
+        0   || 'zero'
+        2   || null
+    }
+
+    def 'int get value for null map returns null'() {
+
+        expect:
+        intGetValue((IntObjectMap) null).apply(1) == null
+    }
+
+    @Unroll
+    def 'int get value for int int map and key #key returns #expected'() {
+
+        given:
+        def map = IntIntMap.of()
+        map.put(1, 10)
+
+        expect:
+        intGetValue(map, -1).applyAsInt(key) == expected
+        intGetValue((IntIntMap) null, -1).applyAsInt(key) == -1
+
+        where:
+        key || expected
+        1   || 10
+        2   || -1
+    }
+
     def 'int add'() {
         expect:
         def result = intAdd(2).applyAsInt(1)
@@ -254,4 +467,52 @@ class IntMapperUtilsSpec extends Specification {
         def result = intModulo(2).applyAsInt(3)
         result == 1
     }
+
+    def 'int memoize calls the function once for each argument'() {
+
+        given:
+        def calls = []
+        def memoized = intMemoize({ int i -> calls << i; i * 2 } as IntFunction)
+
+        when:
+        def results = [1, 2, 1, 3, 2, 1].collect { memoized.apply(it) }
+
+        then:
+        results == [2, 4, 2, 6, 4, 2]
+        calls == [1, 2, 3]
+        memoized.getStatistics().getHitCount() == 3L
+        memoized.getStatistics().getMissCount() == 3L
+    }
+
+    def 'int memoize with max size never holds more than that many results'() {
+
+        given:
+        def memoized = intMemoize({ int i -> i * 2 } as IntFunction, 100)
+
+        when:
+        def results = (0..<1000).collect { memoized.apply(it % 500) }
+
+        then:
+        results == (0..<1000).collect { (it % 500) * 2 }
+        memoized.getStatistics().getSize() == 100L
+        memoized.getStatistics().getEvictionCount() == 900L
+    }
+
+    def 'int memoize with expiry calls the function again once a result has expired'() {
+
+        given:
+        def now = 0L
+        def calls = []
+        def memoized = IntMemoizedFunction.of({ int i -> calls << i; i } as IntFunction, 10, 100L, { now })
+
+        when:
+        memoized.apply(1)
+        now = 100L
+        memoized.apply(1)
+
+        then:
+        calls == [1, 1]
+        intMemoizeWithExpiry({ int i -> i } as IntFunction, Duration.ofMinutes(1L)).apply(2) == 2
+        intMemoizeWithExpiry({ int i -> i } as IntFunction, 10, Duration.ofMinutes(1L)).apply(2) == 2
+    }
 }
@@ -165,6 +165,20 @@ class IntTransformUtilsSpec extends Specification {
         'null'   | null as int[]
     }
 
+    def 'int transform to int keyed map returns expected'() {
+        expect:
+        def ints = [1, 2, 3, 2] as int[]
+        def actual = intTransformToIntKeyedMap(ints, { int i -> "$i".toString() })
+        actual.size() == 3
+        actual.keys().toArray() as Set == [1, 2, 3] as Set
+        [1, 2, 3].every { actual.get(it) == "$it".toString() }
+    }
+
+    def 'int transform to int keyed map returns empty map for null parameter'() {
+        expect:
+        intTransformToIntKeyedMap(null, { int i -> "$i".toString() }).isEmpty()
+    }
+
     @Unroll
     def 'int flat map passing ints #ints returns #expected'() {
 
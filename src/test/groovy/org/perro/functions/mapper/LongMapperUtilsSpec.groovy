@@ -4,6 +4,8 @@ import org.perro.functions.internal.Pair
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
+import java.util.function.LongFunction
 import java.util.function.ToLongBiFunction
 
 import static org.perro.functions.internal.StringUtils.defaultString
@@ -158,6 +160,57 @@ class LongMapperUtilsSpec extends Specification {
         'object' | null    || Pair.of('object', null)
     }
 
+    @Unroll
+    def 'long long pair of with mapper function returning #right returns #expected'() {
+
+        expect:
+        longLongPairOf({ l -> right }).apply(1L) == expected
+
+        where:
+        right          || expected
+        2L             || LongLongPair.of(1L, 2L)
+        Long.MIN_VALUE || LongLongPair.of(1L, Long.MIN_VALUE)
+    }
+
+    def 'to long long pair of applies both mapper functions'() {
+
+        expect:
+        toLongLongPairOf({ String s -> s.length() as long }, { String s -> Long.MAX_VALUE }).apply('abc') == LongLongPair.of(3L, Long.MAX_VALUE)
+    }
+
+    @Unroll
+    def 'long double pair of with mapper function returning #right returns #expected'() {
+
+        expect:
+        longDblPairOf({ l -> right }).apply(1L) == expected
+
+        where:
+        right      || expected
+        2.5D       || LongDoublePair.of(1L, 2.5D)
+        Double.NaN || LongDoublePair.of(1L, Double.NaN)
+    }
+
+    def 'to long double pair of applies both mapper functions'() {
+
+        expect:
+        toLongDblPairOf({ String s -> s.length() as long }, { String s -> 1.5D }).apply('abc') == LongDoublePair.of(3L, 1.5D)
+    }
+
+    @Unroll
+    def 'long double pair equals and hash code comparing #left and #right returns #expected'() {
+
+        expect:
+        (left == right) == expected
+        !expected || left.hashCode() == right.hashCode()
+
+        where:
+        left                              | right                                             || expected
+        LongDoublePair.of(1L, 2.5D)       | LongDoublePair.of(1L, 2.5D)                       || true
+        LongDoublePair.of(1L, Double.NaN) | LongDoublePair.of(1L, Double.NaN)                 || true
+        LongDoublePair.of(1L, 0.0D)       | LongDoublePair.of(1L, Math.copySign(0.0D, -1.0D)) || false
+        LongDoublePair.of(2L, 2.5D)       | LongDoublePair.of(1L, 2.5D)                       || false
+    }
+
     @Unroll
     def 'long pair with list passing values "#listParam" returns #expected'() {
 
@@ -229,6 +282,48 @@ class LongMapperUtilsSpec extends Specification {
         2L     || 'falseValue'
     }
 
+    def 'long object map agrees with a hash map through puts and removes'() {
+        given:
+        def random = new Random(42)
+        def map = LongObjectMap.of()
+        def expected = [:]
+
+        when:
+        10000.times {
+            long key = (random.nextInt(600) - 300) * 0x100000000L
+            if (random.nextInt(3) == 0) {
+                assert map.remove(key) == expected.remove(key)
+            } else {
+                assert map.put(key, "value$it".toString()) == expected.put(key, "value$it".toString())
+            }
+        }
+
+        then:
+        map.size() == expected.size()
+        map.keys().toArray() as Set == expected.keySet()
+        expected.every { k, v -> map.get(k) == v && map.containsKey(k) }
+        !map.containsKey(1L)
+        map.hashCode() == expected.hashCode()
+    }
+
+    @Unroll
+    def 'long get value for key #key returns #expected'() {
+
+        given:
+        def map = LongObjectMap.of()
+        map.put(Long.MAX_VALUE, 'max')
+        map.put(0L, 'zero')
+
+        expect:
+        longGetValue(map).apply(key) == expected
+
+        where:
+        key            || expected
+        Long.MAX_VALUE || 'max'
+        0L             || 'zero'
+        1L             || null
+    }
+
     def 'long add'() {
         expect:
         def result = longAdd(2L).applyAsLong(1L)
@@ -258,4 +353,52 @@ class LongMapperUtilsSpec extends Specification {
         def result = longModulo(2L).applyAsLong(3L)
         result == 1L
     }
+
+    def 'long memoize calls the function once for each argument'() {
+
+        given:
+        def calls = []
+        def memoized = longMemoize({ long l -> calls << l; l * 2L } as LongFunction)
+
+        when:
+        def results = [1L, 2L, 1L, 3L, 2L, 1L].collect { memoized.apply(it) }
+
+        then:
+        results == [2L, 4L, 2L, 6L, 4L, 2L]
+        calls == [1L, 2L, 3L]
+        memoized.getStatistics().getHitCount() == 3L
+        memoized.getStatistics().getMissCount() == 3L
+    }
+
+    def 'long memoize with max size never holds more than that many results'() {
+
+        given:
+        def memoized = longMemoize({ long l -> l * 2L } as LongFunction, 100)
+
+        when:
+        def results = (0..<1000).collect { memoized.apply(it % 500) }
+
+        then:
+        results == (0..<1000).collect { (it % 500) * 2 }
+        memoized.getStatistics().getSize() == 100L
+        memoized.getStatistics().getEvictionCount() == 900L
+    }
+
+    def 'long memoize with expiry calls the function again once a result has expired'() {
+
+        given:
+        def now = 0L
+        def calls = []
+        def memoized = LongMemoizedFunction.of({ long l -> calls << l; l } as LongFunction, 10, 100L, { now })
+
+        when:
+        memoized.apply(1)
+        now = 100L
+        memoized.apply(1)
+
+        then:
+        calls == [1, 1]
+        longMemoizeWithExpiry({ long l -> l } as LongFunction, Duration.ofMinutes(1L)).apply(2) == 2
+        longMemoizeWithExpiry({ long l -> l } as LongFunction, 10, Duration.ofMinutes(1L)).apply(2) == 2
+    }
 }
@@ -165,6 +165,20 @@ class LongTransformUtilsSpec extends Specification {
         'null'   | null as long[]
     }
 
+    def 'long transform to long keyed map returns expected'() {
+        expect:
+        def longs = [1L, Long.MAX_VALUE, 1L] as long[]
+        def actual = longTransformToLongKeyedMap(longs, { long l -> "$l".toString() })
+        actual.size() == 2
+        actual.get(1L) == '1'
+        actual.get(Long.MAX_VALUE) == "$Long.MAX_VALUE".toString()
+    }
+
+    def 'long transform to long keyed map returns empty map for null parameter'() {
+        expect:
+        longTransformToLongKeyedMap(null, { long l -> "$l".toString() }).isEmpty()
+    }
+
     @Unroll
     def 'long flat map passing longs #longs returns #expected'() {
 
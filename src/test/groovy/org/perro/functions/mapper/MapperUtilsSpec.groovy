@@ -6,9 +6,12 @@ import org.perro.functions.TestValue
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
 import java.util.function.BiFunction
 import java.util.function.Function
 import java.util.function.Supplier
+import java.util.function.ToIntFunction
+import java.util.function.ToLongFunction
 
 import static java.util.function.Function.identity
 import static java.util.stream.Collectors.toList
@@ -171,6 +174,71 @@ class MapperUtilsSpec extends Specification {
         TestValue.makeNameToValueMap() | TestValue.TWO || TestValue.TWO
     }
 
+    def 'get value from int and long keyed maps'() {
+        given:
+        def intKeyed = IntObjectMap.of()
+        intKeyed.put(3, 'three')
+        def longKeyed = LongObjectMap.of()
+        longKeyed.put(3L, 'three')
+
+        expect:
+        getValue(intKeyed, { String s -> s.length() } as ToIntFunction).apply('one') == 'three'
+        getValue(intKeyed, { String s -> s.length() } as ToIntFunction).apply(null) == null
+        getValue(longKeyed, { String s -> s.length() as long } as ToLongFunction).apply('one') == 'three'
+        getValue((IntObjectMap) null, { String s -> s.length() } as ToIntFunction).apply('one') == null
+    }
+
+    def 'batch mapper loads batches lazily as the stream is consumed'() {
+
+        given:
+        def loaderCalls = 0
+        def loader = { Collection<Integer> keys ->
+            loaderCalls++
+            keys.collectEntries { [(it): "value$it".toString()] }
+        } as Function
+
+        when:
+        def values = batchMapper(loader, 10).apply((0..<100).stream()).limit(15).collect(toList())
+
+        then:
+        values == (0..<15).collect { "value$it".toString() }
+        loaderCalls == 2
+    }
+
+    def 'batch mapper keeps the order of a parallel stream'() {
+
+        given:
+        def loader = { Collection<Integer> keys ->
+            keys.collectEntries { [(it): it * 2] }
+        } as Function
+
+        when:
+        def values = batchMapper(loader, 7).apply((0..<1000).parallelStream()).collect(toList())
+
+        then:
+        values == (0..<1000).collect { it * 2 }
+    }
+
+    def 'batch mapper maps every key to null when the loader returns null'() {
+
+        expect:
+        def loader = { Collection<String> keys -> null } as Function
+        batchMapper(loader, 2).apply(['a', 'b', 'c'].stream()).collect(toList()) == [null, null, null]
+    }
+
+    @Unroll
+    def 'batch mapper with batch size #batchSize throws exception'() {
+
+        when:
+        batchMapper({ keys -> [:] } as Function, batchSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        batchSize << [0, -1]
+    }
+
     @Unroll
     def 'flat mapper taking function passing value "#target" returns #expected'() {
 
@@ -230,6 +298,34 @@ class MapperUtilsSpec extends Specification {
         'target' | null       || Pair.of('TARGET', null)
     }
 
+    @Unroll
+    def 'pair of "#left" and "#right" is equal to map entry and has the same hash code and string'() {
+
+        expect:
+        def pair = Pair.of(left, right)
+        def entry = new AbstractMap.SimpleImmutableEntry(left, right)
+        pair.equals(entry)
+        entry.equals(pair)
+        !pair.equals(new AbstractMap.SimpleImmutableEntry(left, 'other'))
+        pair.hashCode() == entry.hashCode()
+        pair.toString() == entry.toString()
+
+        where:
+        left   | right
+        'left' | 'right'
+        null   | 'right'
+        'left' | null
+    }
+
+    def 'pair set value throws unsupported operation exception'() {
+
+        when:
+        Pair.of('left', 'right').setValue('value')
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
     @Unroll
     def 'pair with list passing values "#target" and "#listParam" returns #expected'() {
 
@@ -309,4 +405,183 @@ class MapperUtilsSpec extends Specification {
         ''     || 'trueValue'
         null   || 'falseValue'
     }
+
+    @Unroll
+    def 'first matching seq passing target "#target" returns "#expected"'() {
+
+        expect:
+        firstMatchingSeq({ String s -> s }, ['she', 'he', 'hers', 'his']).apply(target) == expected
+        firstMatchingSeqIgnoreCase({ String s -> s }, ['she', 'he', 'hers', 'his']).apply(target?.toUpperCase()) == expected
+
+        where:
+        target   || expected
+        'ushers' || 'she'
+        'ahis'   || 'his'
+        'hxrs'   || null
+        ''       || null
+        null     || null
+    }
+
+    @Unroll
+    def 'matching seqs passing target "#target" returns #expected'() {
+
+        expect:
+        matchingSeqs({ String s -> s }, ['she', 'he', 'hers', 'his', 'he']).apply(target) == expected
+        matchingSeqsIgnoreCase({ String s -> s }, ['SHE', 'HE', 'HERS', 'HIS']).apply(target)*.toLowerCase() == expected
+
+        where:
+        target       || expected
+        'ushers'     || ['she', 'he', 'hers']
+        'his and he' || ['his', 'he']
+        'nothing'    || []
+        null         || []
+    }
+
+    def 'memoize calls the function once for each argument'() {
+
+        given:
+        def calls = []
+        def memoized = memoize({ String s -> calls << s; s?.length() } as Function)
+
+        when:
+        def results = ['a', 'bb', 'a', null, 'bb', null, 'a'].collect { memoized.apply(it) }
+
+        then:
+        results == [1, 2, 1, null, 2, null, 1]
+        calls == ['a', 'bb', null]
+        memoized.getStatistics().getHitCount() == 4L
+        memoized.getStatistics().getMissCount() == 3L
+        memoized.getStatistics().getEvictionCount() == 0L
+        memoized.getStatistics().getSize() == 3L
+        memoized.getStatistics().getHitRate() == 4.0D / 7.0D
+    }
+
+    def 'memoize with max size never holds more than that many results'() {
+
+        given:
+        def memoized = memoize({ Integer i -> i * 2 } as Function, maxSize)
+
+        when:
+        def results = (0..<10000).collect { memoized.apply(it % 5000) }
+
+        then:
+        results == (0..<10000).collect { (it % 5000) * 2 }
+        memoized.getStatistics().getSize() == maxSize
+        memoized.getStatistics().getEvictionCount() == memoized.getStatistics().getMissCount() - maxSize
+
+        where:
+        maxSize << [1, 3, 100, 1000, 4099]
+    }
+
+    def 'memoize with max size keeps repeated arguments through a scan of arguments passed once'() {
+
+        given:
+        def calls = []
+        def memoized = memoize({ Integer i -> calls << i; i } as Function, 10)
+
+        when:
+        (0..<3).each { memoized.apply(-1); memoized.apply(-2) }
+        (0..<100).each { memoized.apply(it) }
+        memoized.apply(-1)
+        memoized.apply(-2)
+
+        then:
+        calls.count(-1) == 1
+        calls.count(-2) == 1
+        memoized.getStatistics().getEvictionCount() == 92L
+    }
+
+    def 'memoize with expiry calls the function again once a result has expired'() {
+
+        given:
+        def now = 0L
+        def calls = []
+        def memoized = MemoizedFunction.of({ String s -> calls << s; s.length() } as Function, maxSize, 100L, { now })
+
+        when:
+        memoized.apply('a')
+        now = 99L
+        memoized.apply('a')
+        now = 100L
+        memoized.apply('a')
+
+        then:
+        calls == ['a', 'a']
+        memoized.getStatistics().getHitCount() == 1L
+        memoized.getStatistics().getMissCount() == 2L
+        memoized.getStatistics().getEvictionCount() == 1L
+
+        where:
+        maxSize << [10, CacheSegment.UNBOUNDED]
+    }
+
+    def 'memoize with expiry sweeps expired results out before growing'() {
+
+        given:
+        def now = 0L
+        def memoized = MemoizedFunction.of({ Integer i -> i } as Function, CacheSegment.UNBOUNDED, 10L, { now })
+
+        when:
+        (0..<1000).each {
+            now = it as long
+            memoized.apply(it)
+        }
+
+        then:
+        memoized.getStatistics().getSize() < 200L
+        memoized.getStatistics().getEvictionCount() > 800L
+    }
+
+    def 'memoize is safe for concurrent use'() {
+
+        given:
+        def memoized = memoize({ Integer i -> "value $i".toString() } as Function, 1000)
+
+        when:
+        def results = (0..<100000).parallelStream()
+                .map { memoized.apply(it % 2000) }
+                .collect(toList())
+
+        then:
+        results == (0..<100000).collect { "value ${it % 2000}".toString() }
+        memoized.getStatistics().getSize() <= 1000L
+        memoized.getStatistics().getHitCount() + memoized.getStatistics().getMissCount() == 100000L
+    }
+
+    def 'memoize with expiry returns functions that build their own caches'() {
+
+        given:
+        def memoized = memoizeWithExpiry({ String s -> s.length() } as Function, Duration.ofMinutes(1L))
+        def bounded = memoizeWithExpiry({ String s -> s.length() } as Function, 10, Duration.ofMinutes(1L))
+
+        expect:
+        memoized.apply('abc') == 3
+        memoized.apply('abc') == 3
+        bounded.apply('ab') == 2
+        memoized.getStatistics().getHitCount() == 1L
+        bounded.getStatistics().getMissCount() == 1L
+    }
+
+    def 'memoize passing an invalid max size throws an exception'() {
+        when:
+        memoize({ s -> s } as Function, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'memoize with expiry passing duration #duration throws an exception'() {
+        when:
+        memoizeWithExpiry({ s -> s } as Function, duration)
+
+        then:
+        thrown(expected)
+
+        where:
+        duration              || expected
+        Duration.ZERO         || IllegalArgumentException
+        Duration.ofMillis(-1) || IllegalArgumentException
+        null                  || NullPointerException
+    }
 }
@@ -86,6 +86,41 @@ class TransformUtilsSpec extends Specification {
         'collection containing null' | [null]     || [null]
     }
 
+    def 'transform with batch mapper calls loader once per batch of distinct keys'() {
+
+        given:
+        def batches = []
+        def loader = { Collection<String> keys ->
+            batches << (keys as List)
+            keys.findAll { it != 'd' }.collectEntries { [(it): it.toUpperCase()] }
+        } as Function
+
+        when:
+        def values = transform(['a', 'b', 'a', null, 'c', 'd', 'e'], MapperUtils.batchMapper(loader, 3))
+
+        then:
+        values == ['A', 'B', 'A', null, 'C', null, 'E']
+        batches == [['a', 'b'], ['c', 'd'], ['e']]
+    }
+
+    @Unroll
+    def 'transform with batch mapper returns #expected for #scenario parameter'() {
+
+        given:
+        def loaderCalls = 0
+        def loader = { Collection<String> keys -> loaderCalls++; [:] } as Function
+
+        expect:
+        transform(collection, MapperUtils.batchMapper(loader, 2)) == expected
+        loaderCalls == 0
+
+        where:
+        scenario                     | collection   || expected
+        'empty'                      | []           || []
+        'null'                       | null         || []
+        'collection containing null' | [null, null] || [null, null]
+    }
+
     def 'transform distinct returns expected results'() {
         expect:
         transformDistinct([1, 2, 3, 2], { i -> String.valueOf(i) }) == ['1', '2', '3']
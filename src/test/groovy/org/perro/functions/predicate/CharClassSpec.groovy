@@ -0,0 +1,128 @@
+package org.perro.functions.predicate
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class CharClassSpec extends Specification {
+
+    def 'predefined classes match their character methods for every code point in the basic multilingual plane'() {
+
+        expect:
+        (0..0xFFFF).every { int c ->
+            CharClass.LETTER.test(c) == Character.isLetter(c) &&
+                    CharClass.DIGIT.test(c) == Character.isDigit(c) &&
+                    CharClass.LETTER_OR_DIGIT.test(c) == Character.isLetterOrDigit(c) &&
+                    CharClass.WHITESPACE.test(c) == Character.isWhitespace(c)
+        }
+    }
+
+    @Unroll
+    def 'predefined classes test supplementary code point #codePoint'() {
+
+        expect:
+        CharClass.LETTER.test(codePoint) == isLetter
+        CharClass.DIGIT.test(codePoint) == isDigit
+        CharClass.LETTER_OR_DIGIT.test(codePoint) == (isLetter || isDigit)
+
+        where:
+        codePoint || isLetter | isDigit
+        0x10400   || true     | false
+        0x104A0   || false    | true
+        0x1F600   || false    | false
+    }
+
+    @Unroll
+    def 'of chars "#chars" testing code point #codePoint returns #expected'() {
+
+        expect:
+        CharClass.ofChars(chars).test(codePoint) == expected
+
+        where:
+        chars           | codePoint || expected
+        '_-'            | 0x5F      || true
+        '_-'            | 0x2D      || true
+        '_-'            | 0x61      || false
+        ''              | 0x61      || false
+        'a\ud83d\ude00' | 0x1F600   || true
+        'a\ud83d\ude00' | 0x1F601   || false
+    }
+
+    @Unroll
+    def 'of range testing code point #codePoint returns #expected'() {
+
+        expect:
+        CharClass.ofRange(0x30, 0x39).test(codePoint) == expected
+        CharClass.ofRange(0x1F600, 0x1F609).test(codePoint + 0x1F5D0) == expected
+
+        where:
+        codePoint || expected
+        0x2F      || false
+        0x30      || true
+        0x35      || true
+        0x39      || true
+        0x3A      || false
+    }
+
+    def 'of range passing from greater than to throws an exception'() {
+
+        when:
+        CharClass.ofRange(0x39, 0x30)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'combining classes testing "#c" returns union #union, intersection #intersection and negation #negation'() {
+
+        given:
+        def hex = CharClass.ofRange(0x30, 0x39).union(CharClass.ofRange(0x61, 0x66))
+        def letters = CharClass.LETTER
+
+        expect:
+        hex.union(letters).test(c.codePointAt(0)) == union
+        hex.intersection(letters).test(c.codePointAt(0)) == intersection
+        hex.negate().test(c.codePointAt(0)) == negation
+
+        where:
+        c              || union | intersection | negation
+        '5'            || true  | false        | false
+        'a'            || true  | true         | false
+        'z'            || true  | false        | true
+        '-'            || false | false        | true
+        '\ud801\udc00' || true  | false        | true
+    }
+
+    @Unroll
+    def 'all chars match using a char class passing "#sequence" returns #expected'() {
+
+        expect:
+        CharSequenceUtils.isCharacterMatch(sequence, CharClass.LETTER_OR_DIGIT) == expected
+        CharSequenceUtils.isCharacterMatch(sequence == null ? null : new StringBuilder(sequence),
+                CharClass.LETTER_OR_DIGIT) == expected
+
+        where:
+        sequence         || expected
+        'abc123'         || true
+        'abc 123'        || false
+        'x\ud801\udc00y' || true
+        'x\ud83d\ude00y' || false
+        'x\ud801'        || false
+        ''               || true
+        null             || false
+    }
+
+    @Unroll
+    def 'any and no chars match using a char class passing "#sequence" returns #expected'() {
+
+        expect:
+        CharSequenceUtils.anyCharacterMatches(sequence, CharClass.DIGIT) == expected
+        CharSequenceUtils.noCharactersMatch(sequence, CharClass.DIGIT) == !expected
+
+        where:
+        sequence || expected
+        'abc1'   || true
+        'abc'    || false
+        ''       || false
+    }
+}
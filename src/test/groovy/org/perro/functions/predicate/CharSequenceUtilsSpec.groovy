@@ -1,5 +1,6 @@
 package org.perro.functions.predicate
 
+import org.perro.functions.internal.StringUtils
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -104,6 +105,40 @@ class CharSequenceUtilsSpec extends Specification {
         null             | ''             | false
     }
 
+    @Unroll
+    def 'contains search sequence passing #targetSequence.class.simpleName "#targetSequence" and "#searchSequence" returns #expected'() {
+
+        expect:
+        CharSequenceUtils.contains(targetSequence, searchSequence) == expected
+        CharSequenceUtils.containsIgnoreCase(targetSequence, searchSequence.toUpperCase()) == expected
+
+        where:
+        targetSequence                        | searchSequence || expected
+        new StringBuilder('aaabaaabaaac')     | 'aaac'         || true
+        new StringBuilder('aaabaaabaaab')     | 'aaac'         || false
+        new StringBuilder('needle')           | 'needles'      || false
+        new StringBuilder('haystack needle')  | 'needle'       || true
+        new StringBuilder('needle haystack')  | 'needle'       || true
+        new StringBuilder('\u0100a\u0200a') | '\u0200a'     || true
+        new StringBuilder('\u0100a\u0200a') | '\u0100b'     || false
+        'aaabaaabaaac'                        | 'aaac'         || true
+    }
+
+    def 'contains search sequence agrees with String.contains'() {
+
+        given:
+        def random = new Random(42)
+        def randomString = { int length -> (0..<length).collect { 'abc'[random.nextInt(3)] }.join('') }
+
+        expect:
+        (0..<500).every {
+            def target = randomString(random.nextInt(20))
+            def search = randomString(random.nextInt(5))
+            CharSequenceUtils.contains(new StringBuilder(target), search) == target.contains(search) &&
+                    CharSequenceUtils.containsIgnoreCase(new StringBuilder(target.toUpperCase()), search) == target.contains(search)
+        }
+    }
+
     @Unroll
     def 'is alpha passing sequence "#sequence" returns #expected'() {
 
@@ -197,4 +232,86 @@ class CharSequenceUtilsSpec extends Specification {
         ''               | ''                | true
         null             | ''                | false
     }
+
+    @Unroll
+    def 'region comparisons passing a string builder target "#targetSequence" and search sequence "#searchSequence"'() {
+
+        given:
+        def target = new StringBuilder(targetSequence)
+
+        expect:
+        CharSequenceUtils.equals(target, searchSequence) == isEqual
+        CharSequenceUtils.equalsIgnoreCase(target, searchSequence) == isEqualIgnoreCase
+        CharSequenceUtils.startsWith(target, searchSequence) == startsWith
+        CharSequenceUtils.startsWithIgnoreCase(target, searchSequence) == startsWithIgnoreCase
+        CharSequenceUtils.endsWith(target, searchSequence) == endsWith
+        CharSequenceUtils.endsWithIgnoreCase(target, searchSequence) == endsWithIgnoreCase
+
+        where:
+        targetSequence   | searchSequence   || isEqual | isEqualIgnoreCase | startsWith | startsWithIgnoreCase | endsWith | endsWithIgnoreCase
+        'searchSequence' | 'searchSequence' || true    | true              | true       | true                 | true     | true
+        'searchSequence' | 'SEARCHSEQUENCE' || false   | true              | false      | true                 | false    | true
+        'searchSequence' | 'search'         || false   | false             | true       | true                 | false    | false
+        'searchSequence' | 'SEQUENCE'       || false   | false             | false      | false                | false    | true
+        'searchSequence' | 'sequence'       || false   | false             | false      | false                | false    | true
+        'search'         | 'searchSequence' || false   | false             | false      | false                | false    | false
+        'stra\u00dfe'    | 'STRASSE'        || false   | false             | false      | false                | false    | false
+        '\u00e9t\u00e9'  | '\u00c9T\u00c9'  || false   | true              | false      | true                 | false    | true
+        ''               | ''               || true    | true              | true       | true                 | true     | true
+    }
+
+    @Unroll
+    def 'folded comparisons passing target "#targetSequence" and search sequence "#searchSequence"'() {
+
+        given:
+        def folded = StringUtils.foldCase(searchSequence)
+
+        expect:
+        CharSequenceUtils.equalsFolded(targetSequence, folded) == isEqual
+        CharSequenceUtils.startsWithFolded(targetSequence, folded) == startsWith
+        CharSequenceUtils.endsWithFolded(targetSequence, folded) == endsWith
+        CharSequenceUtils.equalsIgnoreCase(targetSequence, searchSequence) == isEqual
+
+        where:
+        targetSequence                   | searchSequence   || isEqual | startsWith | endsWith
+        'searchSequence'                 | 'SEARCHSEQUENCE' || true    | true       | true
+        'searchSequence'                 | 'SEARCH'         || false   | true       | false
+        'searchSequence'                 | 'SEQUENCE'       || false   | false      | true
+        'search'                         | 'SEARCHSEQUENCE' || false   | false      | false
+        '\u00e9t\u00e9'                  | '\u00c9T\u00c9'  || true    | true       | true
+        '\u00b5'                         | '\u039c'         || true    | true       | true
+        '\u017ftop'                      | 'STOP'           || true    | true       | true
+        '\u03c3\u03b9\u03b3\u03bc\u03b1' | '\u03a3\u0399'   || false   | true       | false
+    }
+
+    def 'folded comparisons passing nulls'() {
+
+        expect:
+        CharSequenceUtils.equalsFolded(null, null)
+        !CharSequenceUtils.equalsFolded('test', null)
+        !CharSequenceUtils.equalsFolded(null, 'test')
+        CharSequenceUtils.startsWithFolded(null, null)
+        !CharSequenceUtils.startsWithFolded(null, '')
+        CharSequenceUtils.endsWithFolded(null, null)
+        !CharSequenceUtils.endsWithFolded('test', null)
+    }
+
+    @Unroll
+    def 'contains folded search char #searchChar passing sequence "#sequence" returns #expected'() {
+
+        expect:
+        CharSequenceUtils.containsFolded(sequence, StringUtils.foldCodePoint(searchChar)) == expected
+
+        where:
+        sequence         | searchChar || expected
+        'TEST'           | 0x65       || true
+        'test'           | 0x45       || true
+        'test'           | 0x41       || false
+        '\u00c9t\u00e9'  | 0xe9       || true
+        '\u017f'         | 0x53       || true
+        'a\ud801\udc00b' | 0x10428    || true
+        'a\ud801\udc28b' | 0x10400    || true
+        ''               | 0x65       || false
+        null             | 0x65       || false
+    }
 }
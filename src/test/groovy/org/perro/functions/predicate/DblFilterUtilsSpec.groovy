@@ -3,6 +3,8 @@ package org.perro.functions.predicate
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.DoublePredicate
+
 import static java.util.stream.Collectors.toList
 import static DblFilterUtils.*
 import static DblPredicateUtils.*
@@ -26,6 +28,91 @@ class DblFilterUtilsSpec extends Specification {
         'null'                       | null as double[]   || [] as double[]
     }
 
+    def 'double filter into copies matching values to the start of the destination and returns their count'() {
+        given:
+        def dst = new double[6]
+
+        when:
+        def first = dblFilterInto([1.0D, 4.0D, 2.0D, 5.0D, 3.0D] as double[], dblGt(2.0D), dst)
+
+        then:
+        first == 3
+        dst[0..2] == [4.0D, 5.0D, 3.0D]
+
+        when:
+        def second = dblFilterInto([3.0D, 1.0D] as double[], dblGt(2.0D), dst)
+
+        then:
+        second == 1
+        dst[0] == 3.0D
+    }
+
+    def 'double filter into returns zero for null source'() {
+        expect:
+        dblFilterInto(null, dblConstant(true), new double[0]) == 0
+    }
+
+    def 'double filter into throws exception for destination shorter than source'() {
+        when:
+        dblFilterInto([1.0D, 4.0D] as double[], dblConstant(true), new double[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'double filter two pass returns #expected for #scenario parameter'() {
+
+        expect:
+        dblFilterTwoPass(doubles, dblGt(2.0D)) == expected as double[]
+
+        where:
+        scenario   | doubles                                    || expected
+        'matching' | [1.0D, 4.0D, 2.0D, 5.0D, 3.0D] as double[] || [4.0D, 5.0D, 3.0D]
+        'empty'    | [] as double[]                             || []
+        'null'     | null as double[]                           || []
+    }
+
+    def 'double filter two pass returns fewer values when the predicate passes fewer on the second pass'() {
+
+        given:
+        def calls = 0
+        def predicate = { double value -> value > 2 && calls++ < 4 } as DoublePredicate
+
+        expect:
+        dblFilterTwoPass([1.0D, 4.0D, 2.0D, 5.0D, 3.0D] as double[], predicate) == [4.0D] as double[]
+    }
+
+    @Unroll
+    def 'double filter indices returns #expected for #scenario parameter'() {
+
+        expect:
+        dblFilterIndices(doubles, dblGt(2.0D)) == expected as int[]
+
+        where:
+        scenario   | doubles                                    || expected
+        'matching' | [1.0D, 4.0D, 2.0D, 5.0D, 3.0D] as double[] || [1, 3, 4]
+        'empty'    | [] as double[]                             || []
+        'null'     | null as double[]                           || []
+    }
+
+    def 'double filter indices into writes matching indices to the start of the array and returns their count'() {
+        given:
+        def indices = new int[5]
+
+        expect:
+        dblFilterIndicesInto([1.0D, 4.0D, 2.0D, 5.0D, 3.0D] as double[], dblGt(2.0D), indices) == 3
+        indices[0..2] == [1, 3, 4]
+    }
+
+    def 'double filter indices into throws exception for indices array shorter than source'() {
+        when:
+        dblFilterIndicesInto([1.0D, 4.0D] as double[], dblConstant(true), new int[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'double filter to set returns expected results'() {
         expect:
         dblFilterToSet([1.0D, 2.0D, 3.0D] as double[], dblGt(2.0D)) == [3.0D] as Set
@@ -62,6 +62,60 @@ class DblPredicateUtilsSpec extends Specification {
         dblFilter(doubles, predicate) == [2.0001D] as double[]
     }
 
+    @Unroll
+    def 'is double equal within #maxUlps ulps of #value passing #compareTo returns #expected'() {
+        expect:
+        isDblEqualWithinUlps(value, maxUlps).test(compareTo) == expected
+
+        where:
+        value            | maxUlps | compareTo                           || expected
+        1.0D             | 0       | 1.0D                                || true
+        1.0D             | 0       | Math.nextUp(1.0D)                   || false
+        1.0D             | 1       | Math.nextUp(1.0D)                   || true
+        1.0D             | 1       | Math.nextDown(1.0D)                 || true
+        1.0D             | 1       | Math.nextUp(Math.nextUp(1.0D))      || false
+        0.0D             | 0       | -0.0D                               || true
+        Double.MIN_VALUE | 2       | -Double.MIN_VALUE                   || true
+        Double.MIN_VALUE | 1       | -Double.MIN_VALUE                   || false
+        Double.MAX_VALUE | 1       | Double.POSITIVE_INFINITY            || true
+        Double.NaN       | 10      | Double.NaN                          || false
+        1.0D             | 10      | Double.NaN                          || false
+        1.0E300D         | 1000    | 1.0E300D + Math.ulp(1.0E300D) * 999 || true
+    }
+
+    def 'is double equal within ulps passing negative max ulps throws an exception'() {
+        when:
+        isDblEqualWithinUlps(1.0D, -1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'is double relatively equal to #value within #epsilon passing #compareTo returns #expected'() {
+        expect:
+        isDblRelativelyEqual(value, epsilon).test(compareTo) == expected
+
+        where:
+        value                    | epsilon | compareTo                || expected
+        1000.0D                  | 0.001D  | 1000.9D                  || true
+        1000.0D                  | 0.001D  | 1001.1D                  || false
+        0.001D                   | 0.001D  | 0.0010009D               || true
+        0.001D                   | 0.001D  | 0.0010011D               || false
+        0.0D                     | 0.001D  | 0.0D                     || true
+        Double.POSITIVE_INFINITY | 0.001D  | Double.POSITIVE_INFINITY || true
+        Double.POSITIVE_INFINITY | 0.001D  | Double.MAX_VALUE         || false
+        Double.NaN               | 0.001D  | Double.NaN               || false
+    }
+
+    def 'is double relatively equal passing negative epsilon throws an exception'() {
+        when:
+        isDblRelativelyEqual(1.0D, -0.001D)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'is double equal with delta passing constant value returns expected value'() {
         expect:
         def predicate = isDblEqual(2.0D)
@@ -139,6 +193,24 @@ class DblPredicateUtilsSpec extends Specification {
         filter(strings, predicate) == ['2.0']
     }
 
+    @Unroll
+    def 'object to double contains passing #description array and value #value returns #expected'() {
+        expect:
+        objToDblContains(doubles as double[], { Double d -> d }).test(value) == expected
+
+        where:
+        description | doubles                                        | value      || expected
+        'small'     | [3.0D, 1.5D, 2.0D]                             | 1.5D       || true
+        'small'     | [3.0D, 1.5D, 2.0D]                             | 1.0D       || false
+        'small'     | [0.0D, Double.NaN]                             | -0.0D      || true
+        'small'     | [0.0D, Double.NaN]                             | Double.NaN || false
+        'large'     | (0..<100).collect { it / 4.0D }                | 24.75D     || true
+        'large'     | (0..<100).collect { it / 4.0D }                | 24.8D      || false
+        'large'     | (0..<100).collect { it / 4.0D }                | -0.0D      || true
+        'large'     | (0..<100).collect { -it / 4.0D }               | 0.0D       || true
+        'large'     | (0..<100).collect { it / 4.0D } + [Double.NaN] | Double.NaN || false
+    }
+
     def 'object to double contains passing null double array returns expected value'() {
         expect:
         def predicate = objToDblContains(null as double[], { String s -> Double.valueOf(s) })
@@ -259,6 +331,54 @@ class DblPredicateUtilsSpec extends Specification {
         filter(objs, predicate) == ['a', 'b']
     }
 
+    def 'double between passing constant values returns expected value'() {
+        expect:
+        def predicate = dblBetween(2.0D, 4.0D)
+        def doubles = [1.0D, 2.0D, 3.0D, 4.0D, 5.0D, Double.NaN] as double[]
+        dblFilter(doubles, predicate) == [2.0D, 3.0D, 4.0D] as double[]
+    }
+
+    def 'double between passing a NaN bound throws an exception'() {
+        when:
+        dblBetween(Double.NaN, 4.0D)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'to double between passing function and constant values returns expected value'() {
+        expect:
+        def function = { t -> [a: 1.0D, b: 2.0D, c: 3.0D].get(t) } as ToDoubleFunction<String>
+        def predicate = toDblBetween(function, 2.0D, 3.0D)
+        def objs = ['a', 'b', 'c', null]
+        filter(objs, predicate) == ['b', 'c']
+    }
+
+    @Unroll
+    def 'double in ranges passing value #value returns #expected'() {
+        expect:
+        dblInRanges([[13.0D, 17.5D], [9.0D, 12.0D], [11.0D, 12.5D]] as double[][]).test(value) == expected
+        toDblInRanges({ Double d -> d } as ToDoubleFunction<Double>, [[9.0D, 12.5D], [13.0D, 17.5D]] as double[][])
+                .test(value) == expected
+
+        where:
+        value      || expected
+        8.99D      || false
+        9.0D       || true
+        12.25D     || true
+        12.75D     || false
+        17.5D      || true
+        Double.NaN || false
+    }
+
+    def 'double in ranges passing a range with a NaN bound throws an exception'() {
+        when:
+        dblInRanges([[1.0D, Double.NaN]] as double[][])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'is double collection empty passing function returns expected value'() {
         expect:
         def predicate = isDblCollEmpty { d -> d == 2.0D ? [] : [String.valueOf(d)] }
@@ -3,6 +3,8 @@ package org.perro.functions.predicate
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.IntPredicate
+
 import static java.util.stream.Collectors.toList
 import static IntFilterUtils.*
 import static IntPredicateUtils.*
@@ -26,6 +28,91 @@ class IntFilterUtilsSpec extends Specification {
         'null'   | null as int[] || [] as int[]
     }
 
+    def 'int filter into copies matching values to the start of the destination and returns their count'() {
+        given:
+        def dst = new int[6]
+
+        when:
+        def first = intFilterInto([1, 4, 2, 5, 3] as int[], intGt(2), dst)
+
+        then:
+        first == 3
+        dst[0..2] == [4, 5, 3]
+
+        when:
+        def second = intFilterInto([3, 1] as int[], intGt(2), dst)
+
+        then:
+        second == 1
+        dst[0] == 3
+    }
+
+    def 'int filter into returns zero for null source'() {
+        expect:
+        intFilterInto(null, intConstant(true), new int[0]) == 0
+    }
+
+    def 'int filter into throws exception for destination shorter than source'() {
+        when:
+        intFilterInto([1, 4] as int[], intConstant(true), new int[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'int filter two pass returns #expected for #scenario parameter'() {
+
+        expect:
+        intFilterTwoPass(ints, intGt(2)) == expected as int[]
+
+        where:
+        scenario   | ints                     || expected
+        'matching' | [1, 4, 2, 5, 3] as int[] || [4, 5, 3]
+        'empty'    | [] as int[]              || []
+        'null'     | null as int[]            || []
+    }
+
+    def 'int filter two pass returns fewer values when the predicate passes fewer on the second pass'() {
+
+        given:
+        def calls = 0
+        def predicate = { int value -> value > 2 && calls++ < 4 } as IntPredicate
+
+        expect:
+        intFilterTwoPass([1, 4, 2, 5, 3] as int[], predicate) == [4] as int[]
+    }
+
+    @Unroll
+    def 'int filter indices returns #expected for #scenario parameter'() {
+
+        expect:
+        intFilterIndices(ints, intGt(2)) == expected as int[]
+
+        where:
+        scenario   | ints                     || expected
+        'matching' | [1, 4, 2, 5, 3] as int[] || [1, 3, 4]
+        'empty'    | [] as int[]              || []
+        'null'     | null as int[]            || []
+    }
+
+    def 'int filter indices into writes matching indices to the start of the array and returns their count'() {
+        given:
+        def indices = new int[5]
+
+        expect:
+        intFilterIndicesInto([1, 4, 2, 5, 3] as int[], intGt(2), indices) == 3
+        indices[0..2] == [1, 3, 4]
+    }
+
+    def 'int filter indices into throws exception for indices array shorter than source'() {
+        when:
+        intFilterIndicesInto([1, 4] as int[], intConstant(true), new int[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'int filter to set returns expected results'() {
         expect:
         intFilterToSet([1, 2, 3] as int[], intGt(2)) == [3] as Set
@@ -0,0 +1,72 @@
+package org.perro.functions.predicate
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.IntPredicate
+import java.util.function.LongSupplier
+
+class IntPredicateChainSpec extends Specification {
+
+    @Unroll
+    def 'all of and any of passing value #value return #expectedAll and #expectedAny'() {
+
+        given:
+        def clauses = [{ int i -> i > 0 } as IntPredicate, { int i -> i % 2 == 0 } as IntPredicate]
+
+        expect:
+        IntPredicateChain.allOf(clauses, 1, 4).test(value) == expectedAll
+        IntPredicateChain.anyOf(clauses, 1, 4).test(value) == expectedAny
+        IntPredicateChain.allOf(clauses).test(value) == expectedAll
+        IntPredicateChain.anyOf(clauses).test(value) == expectedAny
+
+        where:
+        value || expectedAll | expectedAny
+        2     || true        | true
+        1     || false       | true
+        -2    || false       | true
+        -1    || false       | false
+    }
+
+    @Unroll
+    def 'sampled all of passing value #value to a guard and the clause it guards returns #expected'() {
+
+        given:
+        def clauses = [{ int i -> i != 0 } as IntPredicate, { int i -> 10 / i > 2 } as IntPredicate]
+        def chain = IntPredicateChain.allOf(clauses, 1, 1000)
+
+        expect:
+        chain.test(value) == expected
+
+        where:
+        value || expected
+        0     || false
+        2     || true
+        5     || false
+    }
+
+    def 'all of moves the clause that fails most often first'() {
+
+        given:
+        def clock = 0L
+        def clauses = [{ int i -> clock += 100L; true } as IntPredicate,
+                       { int i -> clock += 100L; i < 0 } as IntPredicate]
+        def chain = IntPredicateChain.of(clauses, true, 1, 10, { -> clock } as LongSupplier)
+
+        when:
+        (0..<10).each { chain.test(it) }
+
+        then:
+        chain.getOrder() == [1, 0] as int[]
+        chain.getStatistics()*.getPassRate() == [1.0D, 0.0D]
+    }
+
+    def 'building a chain passing an invalid sample interval throws an exception'() {
+
+        when:
+        IntPredicateChain.anyOf([{ int i -> true } as IntPredicate], 0, 1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -97,6 +97,27 @@ class IntPredicateUtilsSpec extends Specification {
         intFilter(ints, predicate) == [] as int[]
     }
 
+    def 'int to object contains indexed returns expected value'() {
+        expect:
+        def predicate = intToObjContainsIndexed(['2'], { i -> String.valueOf(i) })
+        def ints = [1, 2, 3] as int[]
+        intFilter(ints, predicate) == [2] as int[]
+    }
+
+    def 'int to object contains indexed passing a large collection returns expected value'() {
+        expect:
+        def predicate = intToObjContainsIndexed((0..<1000).collect { it * 2 }, { i -> i + 1 })
+        def ints = [-1, 0, 1, 2, 1998, 1999] as int[]
+        intFilter(ints, predicate) == [-1, 1] as int[]
+    }
+
+    def 'int to object contains indexed passing null collection returns expected value'() {
+        expect:
+        def predicate = intToObjContainsIndexed(null, { i -> String.valueOf(i) })
+        def ints = [1, 2, 3] as int[]
+        intFilter(ints, predicate) == [] as int[]
+    }
+
     def 'inverse int to object contains returns expected value'() {
         expect:
         def predicate = inverseIntToObjContains({ i -> i == 1 ? null : [String.valueOf(i)] }, '2')
@@ -111,6 +132,41 @@ class IntPredicateUtilsSpec extends Specification {
         filter(strings, predicate) == ['2']
     }
 
+    @Unroll
+    def 'object to int contains passing #description array and value #value returns #expected'() {
+        expect:
+        objToIntContains(ints as int[], { Integer i -> i }).test(value) == expected
+
+        where:
+        description | ints                                               | value             || expected
+        'small'     | [3, 1, 2]                                          | 2                 || true
+        'small'     | [3, 1, 2]                                          | 4                 || false
+        'dense'     | (0..<100).collect { it * 7 }                       | 693               || true
+        'dense'     | (0..<100).collect { it * 7 }                       | 694               || false
+        'dense'     | (0..<100).collect { it * 7 }                       | -7                || false
+        'sparse'    | (0..<100).collect { it * 100003 }                  | 0                 || true
+        'sparse'    | (0..<100).collect { it * 100003 }                  | 500015            || true
+        'sparse'    | (0..<100).collect { it * 100003 }                  | 500016            || false
+        'extremes'  | (0..<10) + [Integer.MIN_VALUE, Integer.MAX_VALUE] | Integer.MIN_VALUE || true
+        'extremes'  | (0..<10) + [Integer.MIN_VALUE, Integer.MAX_VALUE] | Integer.MAX_VALUE || true
+        'extremes'  | (0..<10) + [Integer.MIN_VALUE, Integer.MAX_VALUE] | 10                || false
+        'repeated'  | [5] * 20                                           | 5                 || true
+        'repeated'  | [5] * 20                                           | 0                 || false
+    }
+
+    def 'object to int contains does not see changes made to the array after it is built'() {
+        given:
+        def ints = [1, 2, 3] as int[]
+        def predicate = objToIntContains(ints, { Integer i -> i })
+
+        when:
+        ints[0] = 4
+
+        then:
+        predicate.test(1)
+        !predicate.test(4)
+    }
+
     def 'object to int contains passing null int array returns expected value'() {
         expect:
         def predicate = objToIntContains(null as int[], { String s -> Integer.valueOf(s) })
@@ -125,6 +181,11 @@ class IntPredicateUtilsSpec extends Specification {
         filter(strings, predicate) == ['2']
     }
 
+    def 'inverse object to ints contains passing null array returns false'() {
+        expect:
+        !inverseObjToIntContains({ String s -> null }, 2).test('2')
+    }
+
     def 'int is null passing function returns expected value'() {
         expect:
         def predicate = intIsNull { i -> i == 2 ? null : String.valueOf(i) }
@@ -231,6 +292,67 @@ class IntPredicateUtilsSpec extends Specification {
         filter(objs, predicate) == ['a', 'b']
     }
 
+    def 'int between passing constant values returns expected value'() {
+        expect:
+        def predicate = intBetween(2, 4)
+        def ints = [1, 2, 3, 4, 5] as int[]
+        intFilter(ints, predicate) == [2, 3, 4] as int[]
+    }
+
+    def 'int between passing min greater than max throws an exception'() {
+        when:
+        intBetween(4, 2)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'to int between passing function and constant values returns expected value'() {
+        expect:
+        def function = { t -> [a: 1, b: 2, c: 3].get(t) } as ToIntFunction<String>
+        def predicate = toIntBetween(function, 2, 3)
+        def objs = ['a', 'b', 'c', null]
+        filter(objs, predicate) == ['b', 'c']
+    }
+
+    @Unroll
+    def 'int in ranges passing value #value returns #expected'() {
+        expect:
+        intInRanges([[30, 39], [10, 19], [15, 22], [23, 25], [-5, -5]] as int[][]).test(value) == expected
+        toIntInRanges({ Integer i -> i } as ToIntFunction<Integer>, [[10, 25], [30, 39], [-5, -5]] as int[][])
+                .test(value) == expected
+
+        where:
+        value             || expected
+        Integer.MIN_VALUE || false
+        -5                || true
+        9                 || false
+        10                || true
+        21                || true
+        25                || true
+        26                || false
+        39                || true
+        40                || false
+        Integer.MAX_VALUE || false
+    }
+
+    def 'int in ranges passing no ranges returns false'() {
+        expect:
+        !intInRanges([] as int[][]).test(0)
+    }
+
+    @Unroll
+    def 'int in ranges passing invalid range #range throws an exception'() {
+        when:
+        intInRanges([[0, 1], range] as int[][])
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        range << [[2, 1] as int[], [1] as int[], [1, 2, 3] as int[], null]
+    }
+
     def 'is int collection empty passing function returns expected value'() {
         expect:
         def predicate = isIntCollEmpty { i -> i == 2 ? [] : [String.valueOf(i)] }
@@ -3,6 +3,8 @@ package org.perro.functions.predicate
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.LongPredicate
+
 import static java.util.stream.Collectors.toList
 import static LongFilterUtils.*
 import static LongPredicateUtils.*
@@ -26,6 +28,91 @@ class LongFilterUtilsSpec extends Specification {
         'null'   | null as long[] || [] as long[]
     }
 
+    def 'long filter into copies matching values to the start of the destination and returns their count'() {
+        given:
+        def dst = new long[6]
+
+        when:
+        def first = longFilterInto([1L, 4L, 2L, 5L, 3L] as long[], longGt(2L), dst)
+
+        then:
+        first == 3
+        dst[0..2] == [4L, 5L, 3L]
+
+        when:
+        def second = longFilterInto([3L, 1L] as long[], longGt(2L), dst)
+
+        then:
+        second == 1
+        dst[0] == 3L
+    }
+
+    def 'long filter into returns zero for null source'() {
+        expect:
+        longFilterInto(null, longConstant(true), new long[0]) == 0
+    }
+
+    def 'long filter into throws exception for destination shorter than source'() {
+        when:
+        longFilterInto([1L, 4L] as long[], longConstant(true), new long[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def 'long filter two pass returns #expected for #scenario parameter'() {
+
+        expect:
+        longFilterTwoPass(longs, longGt(2L)) == expected as long[]
+
+        where:
+        scenario   | longs                          || expected
+        'matching' | [1L, 4L, 2L, 5L, 3L] as long[] || [4L, 5L, 3L]
+        'empty'    | [] as long[]                   || []
+        'null'     | null as long[]                 || []
+    }
+
+    def 'long filter two pass returns fewer values when the predicate passes fewer on the second pass'() {
+
+        given:
+        def calls = 0
+        def predicate = { long value -> value > 2 && calls++ < 4 } as LongPredicate
+
+        expect:
+        longFilterTwoPass([1L, 4L, 2L, 5L, 3L] as long[], predicate) == [4L] as long[]
+    }
+
+    @Unroll
+    def 'long filter indices returns #expected for #scenario parameter'() {
+
+        expect:
+        longFilterIndices(longs, longGt(2L)) == expected as int[]
+
+        where:
+        scenario   | longs                          || expected
+        'matching' | [1L, 4L, 2L, 5L, 3L] as long[] || [1, 3, 4]
+        'empty'    | [] as long[]                   || []
+        'null'     | null as long[]                 || []
+    }
+
+    def 'long filter indices into writes matching indices to the start of the array and returns their count'() {
+        given:
+        def indices = new int[5]
+
+        expect:
+        longFilterIndicesInto([1L, 4L, 2L, 5L, 3L] as long[], longGt(2L), indices) == 3
+        indices[0..2] == [1, 3, 4]
+    }
+
+    def 'long filter indices into throws exception for indices array shorter than source'() {
+        when:
+        longFilterIndicesInto([1L, 4L] as long[], longConstant(true), new int[1])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'long filter to set returns expected results'() {
         expect:
         longFilterToSet([1L, 2L, 3L] as long[], longGt(2L)) == [3L] as Set
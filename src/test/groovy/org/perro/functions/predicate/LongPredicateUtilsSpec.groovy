@@ -111,6 +111,25 @@ class LongPredicateUtilsSpec extends Specification {
         filter(strings, predicate) == ['2']
     }
 
+    @Unroll
+    def 'object to long contains passing #description array and value #value returns #expected'() {
+        expect:
+        objToLongContains(longs as long[], { Long l -> l }).test(value) == expected
+
+        where:
+        description | longs                                       | value          || expected
+        'small'     | [3L, 1L, 2L]                                | 2L             || true
+        'small'     | [3L, 1L, 2L]                                | 4L             || false
+        'dense'     | (0..<100).collect { it * 7L }               | 693L           || true
+        'dense'     | (0..<100).collect { it * 7L }               | 694L           || false
+        'sparse'    | (0..<100).collect { it * 10000000019L }     | 0L             || true
+        'sparse'    | (0..<100).collect { it * 10000000019L }     | 50000000095L   || true
+        'sparse'    | (0..<100).collect { it * 10000000019L }     | 50000000096L   || false
+        'extremes'  | (0..<10) + [Long.MIN_VALUE, Long.MAX_VALUE] | Long.MIN_VALUE || true
+        'extremes'  | (0..<10) + [Long.MIN_VALUE, Long.MAX_VALUE] | Long.MAX_VALUE || true
+        'extremes'  | (0..<10) + [Long.MIN_VALUE, Long.MAX_VALUE] | 10L            || false
+    }
+
     def 'object to long contains passing null long array returns expected value'() {
         expect:
         def predicate = objToLongContains(null as long[], { String s -> Long.valueOf(s) })
@@ -231,6 +250,48 @@ class LongPredicateUtilsSpec extends Specification {
         filter(objs, predicate) == ['a', 'b']
     }
 
+    def 'long between passing constant values returns expected value'() {
+        expect:
+        def predicate = longBetween(2L, 4L)
+        def longs = [1L, 2L, 3L, 4L, 5L] as long[]
+        longFilter(longs, predicate) == [2L, 3L, 4L] as long[]
+    }
+
+    def 'to long between passing function and constant values returns expected value'() {
+        expect:
+        def function = { t -> [a: 1L, b: 2L, c: 3L].get(t) } as ToLongFunction<String>
+        def predicate = toLongBetween(function, 2L, 3L)
+        def objs = ['a', 'b', 'c', null]
+        filter(objs, predicate) == ['b', 'c']
+    }
+
+    @Unroll
+    def 'long in ranges passing value #value returns #expected'() {
+        expect:
+        longInRanges([[Long.MIN_VALUE, -100L], [Long.MIN_VALUE, -200L], [0L, 9L], [10L, 10L]] as long[][])
+                .test(value) == expected
+        toLongInRanges({ Long l -> l } as ToLongFunction<Long>, [[Long.MIN_VALUE, -100L], [0L, 10L]] as long[][])
+                .test(value) == expected
+
+        where:
+        value          || expected
+        Long.MIN_VALUE || true
+        -100L          || true
+        -99L           || false
+        0L             || true
+        10L            || true
+        11L            || false
+        Long.MAX_VALUE || false
+    }
+
+    def 'long in ranges passing a range whose lower bound exceeds its upper bound throws an exception'() {
+        when:
+        longInRanges([[2L, 1L]] as long[][])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'is long collection empty passing function returns expected value'() {
         expect:
         def predicate = isLongCollEmpty { l -> l == 2L ? [] : [String.valueOf(l)] }
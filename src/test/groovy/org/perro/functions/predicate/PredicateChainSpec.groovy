@@ -0,0 +1,197 @@
+package org.perro.functions.predicate
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.LongSupplier
+import java.util.function.Predicate
+
+class PredicateChainSpec extends Specification {
+
+    @Unroll
+    def 'all of passing value #value with sample interval #sampleInterval returns #expected'() {
+
+        given:
+        def clauses = [{ Integer i -> i > 0 } as Predicate, { Integer i -> i % 2 == 0 } as Predicate]
+        def chain = PredicateChain.allOf(clauses, sampleInterval, 4)
+
+        expect:
+        chain.test(value) == expected
+
+        where:
+        value | sampleInterval || expected
+        2     | 1              || true
+        1     | 1              || false
+        -2    | 1              || false
+        -1    | 1              || false
+        2     | 1000           || true
+        1     | 1000           || false
+        -2    | 1000           || false
+    }
+
+    @Unroll
+    def 'any of passing value #value with sample interval #sampleInterval returns #expected'() {
+
+        given:
+        def clauses = [{ Integer i -> i > 0 } as Predicate, { Integer i -> i % 2 == 0 } as Predicate]
+        def chain = PredicateChain.anyOf(clauses, sampleInterval, 4)
+
+        expect:
+        chain.test(value) == expected
+
+        where:
+        value | sampleInterval || expected
+        2     | 1              || true
+        1     | 1              || true
+        -2    | 1              || true
+        -1    | 1              || false
+        1     | 1000           || true
+        -1    | 1000           || false
+    }
+
+    @Unroll
+    def 'sampled all of passing value "#value" to a guard and the clause it guards returns #expected'() {
+
+        given:
+        def clauses = [{ String s -> s != null } as Predicate, { String s -> s.isEmpty() } as Predicate]
+        def chain = PredicateChain.allOf(clauses, 1, 1000)
+
+        expect:
+        chain.test(value) == expected
+
+        where:
+        value || expected
+        null  || false
+        ''    || true
+        'a'   || false
+    }
+
+    def 'sampled any of counts a clause that throws after the result is settled as settling it'() {
+
+        given:
+        def clauses = [{ String s -> s == null } as Predicate, { String s -> s.isEmpty() } as Predicate]
+        def chain = PredicateChain.anyOf(clauses, 1, 1000)
+
+        when:
+        def result = chain.test(null)
+
+        then:
+        result
+        chain.getStatistics()*.getPassRate() == [1.0D, 1.0D]
+    }
+
+    def 'sampled all of rethrows an exception from a clause evaluated before the result is settled'() {
+
+        given:
+        def clauses = [{ String s -> s.isEmpty() } as Predicate, { String s -> s != null } as Predicate]
+        def chain = PredicateChain.allOf(clauses, 1, 1000)
+
+        when:
+        chain.test(null)
+
+        then:
+        thrown(NullPointerException)
+    }
+
+    def 'all of moves the clause that fails most often first'() {
+
+        given:
+        def clock = 0L
+        def clauses = [{ Integer i -> clock += 100L; true } as Predicate,
+                       { Integer i -> clock += 100L; i < 0 } as Predicate]
+        def chain = PredicateChain.of(clauses, true, 1, 10, { -> clock } as LongSupplier)
+
+        when:
+        (0..<10).each { chain.test(it) }
+
+        then:
+        chain.getOrder() == [1, 0] as int[]
+        chain.getOrderedPredicates().size() == 2
+        chain.getStatistics().collect { it.getIndex() } == [0, 1]
+    }
+
+    def 'any of moves the clause that passes most often first'() {
+
+        given:
+        def clock = 0L
+        def clauses = [{ Integer i -> clock += 100L; false } as Predicate,
+                       { Integer i -> clock += 100L; i >= 0 } as Predicate]
+        def chain = PredicateChain.of(clauses, false, 1, 10, { -> clock } as LongSupplier)
+
+        when:
+        def results = (0..<10).collect { chain.test(it) }
+
+        then:
+        results.every()
+        chain.getOrder() == [1, 0] as int[]
+    }
+
+    def 'all of moves the cheaper of two clauses that fail equally often first'() {
+
+        given:
+        def clock = 0L
+        def clauses = [{ Integer i -> clock += 1000L; i % 2 == 0 } as Predicate,
+                       { Integer i -> clock += 10L; i % 2 == 1 } as Predicate]
+        def chain = PredicateChain.of(clauses, true, 1, 10, { -> clock } as LongSupplier)
+
+        when:
+        (0..<10).each { chain.test(it) }
+
+        then:
+        chain.getOrder() == [1, 0] as int[]
+        chain.getStatistics()*.getAverageNanos() == [1000.0D, 10.0D]
+    }
+
+    def 'statistics count the samples and passes of each clause'() {
+
+        given:
+        def chain = PredicateChain.allOf([{ Integer i -> i % 4 == 0 } as Predicate, { Integer i -> true } as Predicate],
+                1, 1000)
+
+        when:
+        (0..<8).each { chain.test(it) }
+        def statistics = chain.getStatistics()
+
+        then:
+        statistics*.getSampleCount() == [8L, 8L]
+        statistics*.getPassRate() == [0.25D, 1.0D]
+        statistics.every { it.getAverageNanos() >= 0.0D }
+    }
+
+    def 'statistics of a clause that has not been sampled have no pass rate'() {
+
+        expect:
+        Double.isNaN(PredicateChain.allOf({ obj -> true } as Predicate).getStatistics()[0].getPassRate())
+    }
+
+    def 'empty chains return the identity of their operation'() {
+
+        expect:
+        PredicateChain.allOf([]).test('test')
+        !PredicateChain.anyOf([]).test('test')
+    }
+
+    @Unroll
+    def 'building a chain passing sample interval #sampleInterval and reorder interval #reorderInterval throws'() {
+
+        when:
+        PredicateChain.allOf([{ obj -> true } as Predicate], sampleInterval, reorderInterval)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        sampleInterval | reorderInterval
+        0              | 1
+        1              | 0
+    }
+
+    def 'building a chain passing a null predicate throws an exception'() {
+
+        when:
+        PredicateChain.anyOf([null])
+
+        then:
+        thrown(NullPointerException)
+    }
+}
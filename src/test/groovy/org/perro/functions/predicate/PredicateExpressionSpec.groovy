@@ -0,0 +1,123 @@
+package org.perro.functions.predicate
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.function.Function
+import java.util.function.Predicate
+
+import static org.perro.functions.predicate.PredicateExpression.allOf
+import static org.perro.functions.predicate.PredicateExpression.anyOf
+import static org.perro.functions.predicate.PredicateExpression.gt
+import static org.perro.functions.predicate.PredicateExpression.gte
+import static org.perro.functions.predicate.PredicateExpression.isEqual
+import static org.perro.functions.predicate.PredicateExpression.isNotEqual
+import static org.perro.functions.predicate.PredicateExpression.isNull
+import static org.perro.functions.predicate.PredicateExpression.lt
+import static org.perro.functions.predicate.PredicateExpression.lte
+import static org.perro.functions.predicate.PredicateExpression.mapAndFilter
+import static org.perro.functions.predicate.PredicateExpression.notNull
+
+class PredicateExpressionSpec extends Specification {
+
+    static final Function<String, Integer> LENGTH = { String s -> s.length() }
+    static final Function<String, String> UPPER = { String s -> s.toUpperCase() }
+    static final Function<String, String> NOTHING = { String s -> null }
+
+    @Unroll
+    def 'expression #name passing "#value" returns the same as the equivalent predicate when interpreted and compiled'() {
+
+        expect:
+        expression.test(value) == predicate.test(value)
+        expression.compile().test(value) == predicate.test(value)
+
+        where:
+        [name, expression, predicate, value] << [
+                [
+                        ['isEqual', isEqual(LENGTH, 3), PredicateUtils.isEqual(LENGTH, 3)],
+                        ['isNotEqual', isNotEqual(LENGTH, 3), PredicateUtils.isNotEqual(LENGTH, 3)],
+                        ['isNull', isNull(NOTHING), PredicateUtils.isNull(NOTHING)],
+                        ['notNull', notNull(UPPER), PredicateUtils.notNull(UPPER)],
+                        ['gt', gt(LENGTH, 3), PredicateUtils.gt(LENGTH, 3)],
+                        ['gte', gte(LENGTH, 3), PredicateUtils.gte(LENGTH, 3)],
+                        ['lt', lt(LENGTH, 3), PredicateUtils.lt(LENGTH, 3)],
+                        ['lte', lte(LENGTH, 3), PredicateUtils.lte(LENGTH, 3)],
+                        ['mapAndFilter', mapAndFilter(UPPER, isEqual({ String s -> s } as Function, 'ABC')),
+                         PredicateUtils.mapAndFilter(UPPER, PredicateUtils.isEqual({ String s -> s } as Function, 'ABC'))],
+                        ['negate', isEqual(UPPER, 'AB').negate(), PredicateUtils.isEqual(UPPER, 'AB').negate()],
+                        ['of', PredicateExpression.of({ String s -> s == null || s.isEmpty() } as Predicate),
+                         { String s -> s == null || s.isEmpty() } as Predicate]
+                ],
+                [null, '', 'ab', 'abc', 'abcd']
+        ].combinations().collect { pair, v -> pair + [v] }
+    }
+
+    @Unroll
+    def 'all of and any of passing "#value" return #expectedAll and #expectedAny'() {
+
+        given:
+        def startsWithA = PredicateExpression.of({ String s -> s.startsWith('a') } as Predicate)
+        def shortString = lte(LENGTH, 3)
+        def notUpper = mapAndFilter(UPPER, isEqual(LENGTH, 0)).negate()
+
+        expect:
+        allOf(startsWithA, shortString, notUpper).test(value) == expectedAll
+        allOf(startsWithA, shortString, notUpper).compile().test(value) == expectedAll
+        startsWithA.and(shortString).and(notUpper).compile().test(value) == expectedAll
+        anyOf(startsWithA, shortString).test(value) == expectedAny
+        anyOf(startsWithA, shortString).compile().test(value) == expectedAny
+        startsWithA.or(shortString).compile().test(value) == expectedAny
+
+        where:
+        value    || expectedAll | expectedAny
+        'ab'     || true        | true
+        'abcd'   || false       | true
+        'bc'     || false       | true
+        'bcde'   || false       | false
+    }
+
+    def 'empty all of and any of return the identity of their operation'() {
+
+        expect:
+        allOf().test('a')
+        allOf().compile().test('a')
+        !anyOf().test('a')
+        !anyOf().compile().test('a')
+    }
+
+    def 'compiling an expression returns a predicate that is not an expression'() {
+
+        expect:
+        !(isEqual(LENGTH, 3).compile() instanceof PredicateExpression)
+    }
+
+    def 'negating a negated expression returns the original expression'() {
+
+        given:
+        def expression = isEqual(LENGTH, 3)
+
+        expect:
+        expression.negate().negate().is(expression)
+    }
+
+    def 'a compiled expression rethrows an exception thrown by a clause'() {
+
+        given:
+        def compiled = PredicateExpression.of({ String s -> throw new IllegalStateException() } as Predicate).compile()
+
+        when:
+        compiled.test('a')
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def 'building an expression passing a null clause throws an exception'() {
+
+        when:
+        allOf(isEqual(LENGTH, 3), null)
+
+        then:
+        thrown(NullPointerException)
+    }
+}
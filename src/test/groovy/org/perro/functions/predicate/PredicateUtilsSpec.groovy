@@ -244,6 +244,51 @@ class PredicateUtilsSpec extends Specification {
         null       | 'test' | false
     }
 
+    @Unroll
+    def 'contains indexed passing collection "#collection" and target "#target" returns "#expected"'() {
+
+        expect:
+        def predicate = containsIndexed(collection, { String s -> s.toString() })
+        predicate.test(target) == expected
+
+        where:
+        collection | target | expected
+        ['test']   | null   | false
+        ['test']   | ''     | false
+        ['test']   | 'test' | true
+        [null]     | 'test' | false
+        [null]     | null   | false
+        ['']       | 'test' | false
+        []         | 'test' | false
+        null       | 'test' | false
+    }
+
+    @Unroll
+    def 'contains indexed passing #description collection and target #target returns #expected'() {
+
+        expect:
+        def predicate = containsIndexed(collection, { obj -> obj })
+        predicate.test(target) == expected
+
+        where:
+        description   | collection                               | target  || expected
+        'small'       | [1, 5, 9]                                | 5       || true
+        'small'       | [1, 5, 9]                                | 6       || false
+        'dense int'   | (0..<100).collect { it * 3 }             | 99      || true
+        'dense int'   | (0..<100).collect { it * 3 }             | 100     || false
+        'dense int'   | (0..<100).collect { it * 3 }             | -3      || false
+        'dense int'   | (0..<100).collect { it * 3 }             | 99L     || false
+        'sparse int'  | (0..<100).collect { it * 1000 }          | 5000    || true
+        'sparse int'  | (0..<100).collect { it * 1000 }          | 5001    || false
+        'extreme int' | (0..<20) + [Integer.MIN_VALUE]           | 19      || true
+        'extreme int' | (0..<20) + [Integer.MAX_VALUE]           | 21      || false
+        'string'      | (0..<100).collect { "id$it".toString() } | 'id42'  || true
+        'string'      | (0..<100).collect { "id$it".toString() } | 'id142' || false
+        'mixed'       | (0..<20) + [null]                        | 5       || true
+        'mixed'       | (0..<20) + ['20']                        | '20'    || true
+        'mixed'       | (0..<20) + ['20']                        | 20      || false
+    }
+
     @Unroll
     def 'inverse contains passing collection "#collection" and target "#target" returns "#expected"'() {
 
@@ -283,6 +328,29 @@ class PredicateUtilsSpec extends Specification {
         null               | ['test1']      | false
     }
 
+    @Unroll
+    def 'contains all indexed passing collection #collection and function result #functionResult returns #expected'() {
+
+        expect:
+        def predicate = containsAllIndexed(collection, { obj -> functionResult })
+        predicate.test(new Object()) == expected
+
+        where:
+        collection         | functionResult | expected
+        ['test1', 'test2'] | [null]         | false
+        ['test1', 'test2'] | ['']           | false
+        ['test1', 'test2'] | []             | true
+        ['test1', 'test2'] | ['test1']      | true
+        [null]             | ['test1']      | false
+        [null]             | [null]         | true
+        ['']               | ['test1']      | false
+        []                 | ['test1']      | false
+        null               | ['test1']      | false
+        (0..<100)          | [5, 50, 99]    | true
+        (0..<100)          | [5, 50, 100]   | false
+        (0..<100)          | null           | false
+    }
+
     @Unroll
     def 'inverse contains all passing function result #functionResult and collection #collection returns #expected'() {
 
@@ -319,6 +387,36 @@ class PredicateUtilsSpec extends Specification {
         TestValue.makeNameToValueMap() | TestValue.TWO | true
     }
 
+    @Unroll
+    def 'contains key indexed for map #map passing #enumValue returns #expected'() {
+
+        expect:
+        def predicate = containsKeyIndexed(map, { TestValue t -> t.name() })
+        predicate.test(enumValue) == expected
+
+        where:
+        map                            | enumValue     | expected
+        null                           | TestValue.ONE | false
+        [:]                            | TestValue.ONE | false
+        TestValue.makeNameToValueMap() | null          | false
+        TestValue.makeNameToValueMap() | TestValue.ONE | true
+        TestValue.makeNameToValueMap() | TestValue.TWO | true
+    }
+
+    def 'contains indexed does not see changes made to the collection after it is built'() {
+
+        given:
+        def ids = [1, 2, 3]
+        def predicate = containsIndexed(ids, { Integer i -> i })
+
+        when:
+        ids.add(4)
+
+        then:
+        !predicate.test(4)
+        predicate.test(3)
+    }
+
     @Unroll
     def 'contains value for map #map passing #enumValue returns #expected'() {
 
@@ -401,6 +499,42 @@ class PredicateUtilsSpec extends Specification {
         'TEST'          | 'ES'      | true
     }
 
+    @Unroll
+    def 'contains any and all seqs passing value "#extractedString" and #searchSeqs returns #expectedAny and #expectedAll'() {
+
+        expect:
+        containsAnySeq({ String s -> s }, searchSeqs).test(extractedString) == expectedAny
+        containsAllSeqs({ String s -> s }, searchSeqs).test(extractedString) == expectedAll
+        containsAnySeqIgnoreCase({ String s -> s }, searchSeqs).test(extractedString?.toUpperCase()) == expectedAny
+        containsAllSeqsIgnoreCase({ String s -> s }, searchSeqs).test(extractedString?.toUpperCase()) == expectedAll
+
+        where:
+        extractedString | searchSeqs                 || expectedAny | expectedAll
+        'ushers'        | ['she', 'he', 'hers']      || true        | true
+        'ushers'        | ['she', 'his']             || true        | false
+        'ushers'        | ['his', 'hex']             || false       | false
+        'abcd'          | ['bcd', 'abce', 'c']       || true        | false
+        'abcd'          | ['', 'zz']                 || true        | false
+        'abcd'          | []                         || false       | true
+        'abcd'          | [null, 'ab']               || true        | true
+        null            | ['ab']                     || false       | false
+    }
+
+    def 'contains any and all seqs agree with testing each seq separately'() {
+
+        given:
+        def random = new Random(7)
+        def randomString = { int length -> (0..<length).collect { 'abc'[random.nextInt(3)] }.join('') }
+
+        expect:
+        (0..<300).every {
+            def target = randomString(random.nextInt(30))
+            def searchSeqs = (0..<random.nextInt(6)).collect { randomString(1 + random.nextInt(4)) }
+            containsAnySeq({ String s -> s }, searchSeqs).test(target) == searchSeqs.any { target.contains(it) } &&
+                    containsAllSeqs({ String s -> s }, searchSeqs).test(target) == searchSeqs.every { target.contains(it) }
+        }
+    }
+
     @Unroll
     def 'is alpha passing value "#extractedString" returns "#expected"'() {
 
@@ -792,6 +926,74 @@ class PredicateUtilsSpec extends Specification {
                 .collect(toList()) as Collection
     }
 
+    def 'distinct by key parallel with expected keys filters objects with unique key values'() {
+        expect:
+        (0..<RAW_LIST_SIZE).parallelStream()
+                .map({ i -> makeKeyValuePair(i) })
+                .filter(distinctByKeyParallel(keyExtractor, DISTINCT_KEY_SIZE))
+                .count() == DISTINCT_KEY_SIZE
+    }
+
+    def 'distinct by key parallel allows a null key once'() {
+        expect:
+        ['a', null, 'b', null].parallelStream()
+                .filter(distinctByKeyParallel({ key -> key }))
+                .count() == 3
+    }
+
+    @Unroll
+    def 'distinct by key windowed with window size #windowSize returns #expected'() {
+        expect:
+        [1, 2, 1, 3, 1, 4, 2].stream()
+                .filter(distinctByKeyWindowed({ key -> key }, windowSize))
+                .collect(toList()) == expected
+
+        where:
+        windowSize | expected
+        1          | [1, 2, 1, 3, 1, 4, 2]
+        2          | [1, 2, 3, 4, 2]
+        3          | [1, 2, 3, 4, 2]
+        4          | [1, 2, 3, 4]
+    }
+
+    def 'distinct by key windowed throws for a window size of zero'() {
+        when:
+        distinctByKeyWindowed({ key -> key }, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'distinct by key approximate filters repeated keys and keeps nearly all unique ones'() {
+        given:
+        def keyCount = 10000
+        def predicate = distinctByKeyApproximate({ i -> "key$i" as String }, keyCount, 0.01D)
+
+        when:
+        def firstPass = (0..<keyCount).count { i -> predicate.test(i) }
+        def secondPass = (0..<keyCount).count { i -> predicate.test(i) }
+
+        then:
+        firstPass > keyCount * 0.98
+        secondPass == 0
+    }
+
+    @Unroll
+    def 'distinct by key approximate throws for expected keys #expectedKeys and false positive rate #falsePositiveRate'() {
+        when:
+        distinctByKeyApproximate({ key -> key }, expectedKeys, falsePositiveRate)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        expectedKeys   | falsePositiveRate
+        0              | 0.01D
+        100            | 0.0D
+        100            | 1.0D
+        Long.MAX_VALUE | 0.01D
+    }
+
     @Unroll
     def 'map and filter passing input "#input"'() {
 
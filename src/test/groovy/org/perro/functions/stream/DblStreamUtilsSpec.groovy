@@ -3,6 +3,8 @@ package org.perro.functions.stream
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.DoublePredicate
+
 import static java.util.stream.Collectors.toList
 import static DblStreamUtils.*
 
@@ -64,6 +66,19 @@ class DblStreamUtilsSpec extends Specification {
         null as double[]               | 0L
     }
 
+    @Unroll
+    def 'double count within delta passing doubles #doubles returns #expected'() {
+
+        expect:
+        dblCountWithinDelta(doubles, 2.0D, 0.5D) == expected
+
+        where:
+        doubles                                                 | expected
+        [1.0D, 1.5D, 2.0D, 2.5D, 2.51D, Double.NaN] as double[] | 3L
+        [] as double[]                                          | 0L
+        null as double[]                                        | 0L
+    }
+
     @Unroll
     def 'double max default passing doubles #doubles returns #expected'() {
 
@@ -213,6 +228,29 @@ class DblStreamUtilsSpec extends Specification {
         3.0D         | -1
     }
 
+    @Unroll
+    @SuppressWarnings("GroovyAssignabilityCheck")
+    def 'double index of last returns #last and indices of returns #indices for compareValue #compareValue'() {
+
+        expect:
+        def predicate = { v -> v > compareValue }
+        indexOfLastDbl([1.0D, 2.0D, 3.0D, 1.0D] as double[], predicate) == last
+        indicesOfDbl([1.0D, 2.0D, 3.0D, 1.0D] as double[], predicate) == indices as int[]
+
+        where:
+        compareValue | last | indices
+        1.0D         | 2    | [1, 2]
+        3.0D         | -1   | []
+    }
+
+    def 'double index of first, last and indices of handle null input'() {
+
+        expect:
+        indexOfFirstDbl(null, { true }) == -1
+        indexOfLastDbl(null, { true }) == -1
+        indicesOfDbl(null, { true }) == [] as int[]
+    }
+
     @Unroll
     @SuppressWarnings("GroovyAssignabilityCheck")
     def 'double any match returns #expected for compareValue #compareValue'() {
@@ -272,4 +310,72 @@ class DblStreamUtilsSpec extends Specification {
         'empty list'      | [] as double[]                                   || []
         'null collection' | null                                             || []
     }
+
+    @Unroll
+    def 'to partitioned double slices returns #expectedPartitions for #scenario'() {
+
+        when:
+        def slices = toPartitionedDblSlices(inputArray, 2)
+
+        then:
+        slices*.toArray() == expectedPartitions
+        toPartitionedDblSliceStream(inputArray, 2).collect(toList()) == slices
+
+        where:
+        scenario          | inputArray                                 || expectedPartitions
+        'populated list'  | [1.0D, 2.0D, 3.0D, 4.0D, 5.0D] as double[] || [[1.0D, 2.0D] as double[], [3.0D, 4.0D] as double[], [5.0D] as double[]]
+        'empty list'      | [] as double[]                             || []
+        'null collection' | null                                       || []
+    }
+
+    def 'double slices view the partitioned array without copying it'() {
+
+        given:
+        def doubles = [1.0D, 2.0D, 3.0D] as double[]
+
+        when:
+        def slices = toPartitionedDblSlices(doubles, 2)
+        doubles[2] = 4.0D
+
+        then:
+        slices[0].length() == 2
+        slices[1].get(0) == 4.0D
+        slices[1].stream().toArray() == [4.0D] as double[]
+    }
+
+    @Unroll
+    def 'to partitioned double list throws for partition size #partitionSize'() {
+
+        when:
+        toPartitionedDblList([1.0D] as double[], partitionSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        partitionSize << [0, -1]
+    }
+
+    @Unroll
+    def 'double array queries agree with a DoubleStream for #scenario'() {
+
+        given:
+        def predicate = { d -> d != 1.0D } as DoublePredicate
+
+        expect:
+        dblAllMatch(doubles, predicate) == Arrays.stream(doubles).allMatch(predicate)
+        dblAnyMatch(doubles, predicate) == Arrays.stream(doubles).anyMatch(predicate)
+        dblNoneMatch(doubles, predicate) == Arrays.stream(doubles).noneMatch(predicate)
+        dblCount(doubles, predicate) == Arrays.stream(doubles).filter(predicate).count()
+        Double.compare(dblMaxDefault(doubles, findDblDefault(predicate, -1.0D)), Arrays.stream(doubles).filter(predicate).max().orElse(-1.0D)) == 0
+        Double.compare(dblMinDefault(doubles, findDblDefault(predicate, -1.0D)), Arrays.stream(doubles).filter(predicate).min().orElse(-1.0D)) == 0
+        Double.compare(findFirstDblDefault(doubles, findDblDefault(predicate, -1.0D)), Arrays.stream(doubles).filter(predicate).findFirst().orElse(-1.0D)) == 0
+
+        where:
+        scenario                 | doubles
+        'signed zeros'           | [0.0D, -0.0D, 1.0D] as double[]
+        'NaN before other value' | [Double.NaN, 2.0D, -3.0D] as double[]
+        'NaN after other values' | [2.0D, -3.0D, Double.NaN] as double[]
+        'array above threshold'  | (0..<5000).collect { (it * 7.0D) % 11.0D } as double[]
+    }
 }
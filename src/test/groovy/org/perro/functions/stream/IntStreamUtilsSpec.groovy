@@ -3,6 +3,8 @@ package org.perro.functions.stream
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.IntPredicate
+
 import static java.util.stream.Collectors.toList
 import static IntStreamUtils.*
 
@@ -213,6 +215,29 @@ class IntStreamUtilsSpec extends Specification {
         3            | -1
     }
 
+    @Unroll
+    @SuppressWarnings("GroovyAssignabilityCheck")
+    def 'int index of last returns #last and indices of returns #indices for compareValue #compareValue'() {
+
+        expect:
+        def predicate = { v -> v > compareValue }
+        indexOfLastInt([1, 2, 3, 1] as int[], predicate) == last
+        indicesOfInt([1, 2, 3, 1] as int[], predicate) == indices as int[]
+
+        where:
+        compareValue | last | indices
+        1            | 2    | [1, 2]
+        3            | -1   | []
+    }
+
+    def 'int index of first, last and indices of handle null input'() {
+
+        expect:
+        indexOfFirstInt(null, { true }) == -1
+        indexOfLastInt(null, { true }) == -1
+        indicesOfInt(null, { true }) == [] as int[]
+    }
+
     @Unroll
     @SuppressWarnings("GroovyAssignabilityCheck")
     def 'int any match returns #expected for compareValue #compareValue'() {
@@ -272,4 +297,69 @@ class IntStreamUtilsSpec extends Specification {
         'empty list'      | [] as int[]                 || []
         'null collection' | null                        || []
     }
+
+    @Unroll
+    def 'to partitioned int slices returns #expectedPartitions for #scenario'() {
+
+        when:
+        def slices = toPartitionedIntSlices(inputArray, 2)
+
+        then:
+        slices*.toArray() == expectedPartitions
+        toPartitionedIntSliceStream(inputArray, 2).collect(toList()) == slices
+
+        where:
+        scenario          | inputArray               || expectedPartitions
+        'populated list'  | [1, 2, 3, 4, 5] as int[] || [[1, 2] as int[], [3, 4] as int[], [5] as int[]]
+        'empty list'      | [] as int[]              || []
+        'null collection' | null                     || []
+    }
+
+    def 'int slices view the partitioned array without copying it'() {
+
+        given:
+        def ints = [1, 2, 3] as int[]
+
+        when:
+        def slices = toPartitionedIntSlices(ints, 2)
+        ints[2] = 4
+
+        then:
+        slices[0].length() == 2
+        slices[1].get(0) == 4
+        slices[1].stream().toArray() == [4] as int[]
+    }
+
+    @Unroll
+    def 'to partitioned int list throws for partition size #partitionSize'() {
+
+        when:
+        toPartitionedIntList([1] as int[], partitionSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        partitionSize << [0, -1]
+    }
+
+    @Unroll
+    def 'int array queries agree with an IntStream for #length ints'() {
+
+        given:
+        def ints = (0..<length).collect { (it * 7) % 11 } as int[]
+        def predicate = { i -> i > 5 } as IntPredicate
+
+        expect:
+        intAllMatch(ints, predicate) == Arrays.stream(ints).allMatch(predicate)
+        intAnyMatch(ints, predicate) == Arrays.stream(ints).anyMatch(predicate)
+        intNoneMatch(ints, predicate) == Arrays.stream(ints).noneMatch(predicate)
+        intCount(ints, predicate) == Arrays.stream(ints).filter(predicate).count()
+        intMaxDefault(ints, findIntDefault(predicate, -1)) == Arrays.stream(ints).filter(predicate).max().orElse(-1)
+        intMinDefault(ints, findIntDefault(predicate, -1)) == Arrays.stream(ints).filter(predicate).min().orElse(-1)
+        findFirstIntDefault(ints, findIntDefault(predicate, -1)) == Arrays.stream(ints).filter(predicate).findFirst().orElse(-1)
+
+        where:
+        length << [3, 5000]
+    }
 }
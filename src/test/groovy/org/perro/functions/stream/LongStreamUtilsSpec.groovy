@@ -3,6 +3,8 @@ package org.perro.functions.stream
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.LongPredicate
+
 import static java.util.stream.Collectors.toList
 import static LongStreamUtils.*
 
@@ -213,6 +215,29 @@ class LongStreamUtilsSpec extends Specification {
         3L           | -1
     }
 
+    @Unroll
+    @SuppressWarnings("GroovyAssignabilityCheck")
+    def 'long index of last returns #last and indices of returns #indices for compareValue #compareValue'() {
+
+        expect:
+        def predicate = { v -> v > compareValue }
+        indexOfLastLong([1L, 2L, 3L, 1L] as long[], predicate) == last
+        indicesOfLong([1L, 2L, 3L, 1L] as long[], predicate) == indices as int[]
+
+        where:
+        compareValue | last | indices
+        1L           | 2    | [1, 2]
+        3L           | -1   | []
+    }
+
+    def 'long index of first, last and indices of handle null input'() {
+
+        expect:
+        indexOfFirstLong(null, { true }) == -1
+        indexOfLastLong(null, { true }) == -1
+        indicesOfLong(null, { true }) == [] as int[]
+    }
+
     @Unroll
     @SuppressWarnings("GroovyAssignabilityCheck")
     def 'long any match returns #expected for compareValue #compareValue'() {
@@ -272,4 +297,69 @@ class LongStreamUtilsSpec extends Specification {
         'empty list'      | [] as long[]                       || []
         'null collection' | null                               || []
     }
+
+    @Unroll
+    def 'to partitioned long slices returns #expectedPartitions for #scenario'() {
+
+        when:
+        def slices = toPartitionedLongSlices(inputArray, 2)
+
+        then:
+        slices*.toArray() == expectedPartitions
+        toPartitionedLongSliceStream(inputArray, 2).collect(toList()) == slices
+
+        where:
+        scenario          | inputArray                     || expectedPartitions
+        'populated list'  | [1L, 2L, 3L, 4L, 5L] as long[] || [[1L, 2L] as long[], [3L, 4L] as long[], [5L] as long[]]
+        'empty list'      | [] as long[]                   || []
+        'null collection' | null                           || []
+    }
+
+    def 'long slices view the partitioned array without copying it'() {
+
+        given:
+        def longs = [1L, 2L, 3L] as long[]
+
+        when:
+        def slices = toPartitionedLongSlices(longs, 2)
+        longs[2] = 4L
+
+        then:
+        slices[0].length() == 2
+        slices[1].get(0) == 4L
+        slices[1].stream().toArray() == [4L] as long[]
+    }
+
+    @Unroll
+    def 'to partitioned long list throws for partition size #partitionSize'() {
+
+        when:
+        toPartitionedLongList([1L] as long[], partitionSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        partitionSize << [0, -1]
+    }
+
+    @Unroll
+    def 'long array queries agree with a LongStream for #length longs'() {
+
+        given:
+        def longs = (0..<length).collect { (it * 7L) % 11L } as long[]
+        def predicate = { l -> l > 5L } as LongPredicate
+
+        expect:
+        longAllMatch(longs, predicate) == Arrays.stream(longs).allMatch(predicate)
+        longAnyMatch(longs, predicate) == Arrays.stream(longs).anyMatch(predicate)
+        longNoneMatch(longs, predicate) == Arrays.stream(longs).noneMatch(predicate)
+        longCount(longs, predicate) == Arrays.stream(longs).filter(predicate).count()
+        longMaxDefault(longs, findLongDefault(predicate, -1L)) == Arrays.stream(longs).filter(predicate).max().orElse(-1L)
+        longMinDefault(longs, findLongDefault(predicate, -1L)) == Arrays.stream(longs).filter(predicate).min().orElse(-1L)
+        findFirstLongDefault(longs, findLongDefault(predicate, -1L)) == Arrays.stream(longs).filter(predicate).findFirst().orElse(-1L)
+
+        where:
+        length << [3, 5000]
+    }
 }
@@ -1,12 +1,16 @@
 package org.perro.functions.stream
 
+import org.perro.functions.mapper.ObjectIndexPair
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.Spliterator
 import java.util.function.Function
 import java.util.function.Predicate
 import java.util.function.Supplier
+import java.util.stream.Stream
 
+import static java.util.Spliterator.*
 import static java.util.stream.Collectors.joining
 import static java.util.stream.Collectors.toList
 import static org.perro.functions.predicate.PredicateUtils.constant
@@ -259,6 +263,42 @@ class StreamUtilsSpec extends Specification {
         4      | 2
     }
 
+    @Unroll
+    @SuppressWarnings("GroovyAssignabilityCheck")
+    def 'index of first, last and indices of return expected values for #collection.class.simpleName and string length "#length"'() {
+
+        expect:
+        def predicate = isEqual({ String s -> s.length() }, length)
+        indexOfFirst(collection, predicate) == first
+        indexOfLast(collection, predicate) == last
+        indicesOf(collection, predicate) == indices as int[]
+        indexOfFirst(collection as String[], predicate) == first
+        indexOfLast(collection as String[], predicate) == last
+        indicesOf(collection as String[], predicate) == indices as int[]
+
+        where:
+        collection                                      | length | first | last | indices
+        [null, '', 'test', '']                          | 0      | 1     | 3    | [1, 3]
+        [null, '', 'test', ''] as LinkedList            | 0      | 1     | 3    | [1, 3]
+        [null, '', 'test', ''] as LinkedHashSet         | 0      | 1     | 1    | [1]
+        [null, '', 'test', '']                          | 4      | 2     | 2    | [2]
+        [null, '', 'test', ''] as LinkedList            | 4      | 2     | 2    | [2]
+        [null, '', 'test', '']                          | 1      | -1    | -1   | []
+        [null, '', 'test', ''] as LinkedList            | 1      | -1    | -1   | []
+        [null, '', 'test', ''] as LinkedHashSet         | 1      | -1    | -1   | []
+    }
+
+    def 'index of first, last and indices of handle null input'() {
+
+        expect:
+        indexOfFirst((Collection<String>) null, { true }) == -1
+        indexOfLast((Collection<String>) null, { true }) == -1
+        indicesOf((Collection<String>) null, { true }) == [] as int[]
+        indexOfFirst((String[]) null, { true }) == -1
+        indexOfLast((String[]) null, { true }) == -1
+        indicesOf((String[]) null, { true }) == [] as int[]
+    }
+
     @Unroll
     @SuppressWarnings("GroovyAssignabilityCheck")
     def 'any match returns expected value for string length "#length"'() {
@@ -391,6 +431,61 @@ class StreamUtilsSpec extends Specification {
         'null collection' | null               || []
     }
 
+    @Unroll
+    def 'to partitioned stream returns exact partitions for a #type of #count elements processed in parallel'() {
+
+        given:
+        def elements = (0..<count).collect()
+        def collection = elements.asType(type)
+
+        when:
+        def partitions = toPartitionedStream(collection, 7).parallel().collect(toList())
+
+        then:
+        partitions.flatten() == elements
+        partitions.init().every { List partition -> partition.size() == 7 }
+
+        where:
+        type       | count
+        ArrayList  | 1
+        ArrayList  | 10000
+        LinkedList | 10000
+    }
+
+    def 'to partitioned stream pulls elements lazily'() {
+
+        given:
+        def pulled = 0
+        def elements = (0..<100).collect()
+        def iterator = [hasNext: { pulled < elements.size() }, next: { elements[pulled++] }] as Iterator
+
+        when:
+        def firstPartition = partition(iterator, 3).findFirst().get()
+
+        then:
+        firstPartition == [0, 1, 2]
+        pulled == 3
+    }
+
+    def 'partition splits an unbounded stream'() {
+
+        expect:
+        partition(Stream.iterate(0, { i -> i + 1 }), 2).limit(3).collect(toList()) == [[0, 1], [2, 3], [4, 5]]
+    }
+
+    def 'partition closes the given stream'() {
+
+        given:
+        def closed = false
+        def stream = [1, 2, 3].stream().onClose({ closed = true })
+
+        when:
+        partition(stream, 2).close()
+
+        then:
+        closed
+    }
+
     @Unroll
     def 'from iterator returns empty stream for #scenario iterator'() {
 
@@ -403,4 +498,129 @@ class StreamUtilsSpec extends Specification {
         'null'      | null                 || []
         'populated' | [1, 2, 3].iterator() || [1, 2, 3]
     }
+
+    @Unroll
+    def 'from iterator with size hint returns #expectedList for #scenario iterator'() {
+
+        expect:
+        fromIterator(iterator, 3, Spliterator.ORDERED).collect(toList()) == expectedList
+
+        where:
+        scenario    | iterator             || expectedList
+        'empty'     | [].iterator()        || []
+        'null'      | null                 || []
+        'populated' | [1, 2, 3].iterator() || [1, 2, 3]
+    }
+
+    @Unroll
+    def 'from iterator with size hint reports estimated size #estimatedSize and characteristics #characteristics'() {
+
+        when:
+        def spliterator = fromIterator([1, 2, 3].iterator(), estimatedSize, characteristics).spliterator()
+
+        then:
+        spliterator.estimateSize() == estimatedSize
+        spliterator.hasCharacteristics(Spliterator.ORDERED)
+        spliterator.hasCharacteristics(Spliterator.SIZED) == sized
+        spliterator.hasCharacteristics(Spliterator.SUBSIZED) == sized
+
+        where:
+        estimatedSize << [3, 10, Long.MAX_VALUE]
+        characteristics << [ORDERED | SIZED, ORDERED | SUBSIZED, ORDERED | NONNULL]
+        sized << [true, false, false]
+    }
+
+    @Unroll
+    def 'from iterator with batch size #batchSize processes #count elements in parallel'() {
+
+        given:
+        def elements = (0..<count).collect()
+
+        when:
+        def spliterator = fromIterator(elements.iterator(), count, Spliterator.ORDERED, batchSize).spliterator()
+        def firstBatch = spliterator.trySplit()
+        def secondBatch = spliterator.trySplit()
+
+        then:
+        firstBatch.estimateSize() == batchSize
+        secondBatch.estimateSize() == 2 * batchSize
+        fromIterator(elements.iterator(), count, Spliterator.ORDERED, batchSize).parallel().collect(toList()) == elements
+
+        where:
+        batchSize | count
+        1         | 100
+        16        | 10000
+    }
+
+    @Unroll
+    def 'from iterator with size hint throws for estimated size #estimatedSize and batch size #batchSize'() {
+
+        when:
+        fromIterator([1].iterator(), estimatedSize, Spliterator.ORDERED, batchSize)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        estimatedSize | batchSize
+        -1            | 1
+        1             | 0
+    }
+
+    @Unroll
+    def 'indexed passing #scenario list returns elements paired with their indices'() {
+
+        expect:
+        indexed(list).collect(toList()) == expected
+
+        where:
+        scenario | list                            || expected
+        'array'  | ['a', 'b', 'c']                 || [ObjectIndexPair.of('a', 0), ObjectIndexPair.of('b', 1), ObjectIndexPair.of('c', 2)]
+        'linked' | new LinkedList(['a', 'b', 'c']) || [ObjectIndexPair.of('a', 0), ObjectIndexPair.of('b', 1), ObjectIndexPair.of('c', 2)]
+        'empty'  | []                              || []
+        'null'   | null                            || []
+    }
+
+    @Unroll
+    def 'indexed stream passing array #array returns elements paired with their indices'() {
+
+        expect:
+        indexedStream(array).collect(toList()) == expected
+
+        where:
+        array                  || expected
+        ['a', 'b'] as String[] || [ObjectIndexPair.of('a', 0), ObjectIndexPair.of('b', 1)]
+        [] as String[]         || []
+        null as String[]       || []
+    }
+
+    def 'indexed gives each element the index of its position when the stream is parallel'() {
+
+        given:
+        def list = (0..<100000).collect { it * 2 }
+
+        when:
+        def pairs = indexed(list)
+                .parallel()
+                .filter { it.getIndex() % 3 == 0 }
+                .collect(toList())
+
+        then:
+        pairs.every { it.getObject() == it.getIndex() * 2 }
+        pairs*.getIndex() == (0..<100000).findAll { it % 3 == 0 }
+    }
+
+    def 'indexed stream splits evenly by index range'() {
+
+        given:
+        def spliterator = indexedStream((0..<1000) as Integer[]).parallel().spliterator()
+
+        when:
+        def prefix = spliterator.trySplit()
+
+        then:
+        spliterator.hasCharacteristics(Spliterator.SUBSIZED)
+        prefix.estimateSize() == 500L
+        spliterator.estimateSize() == 500L
+    }
 }